@@ -4,7 +4,10 @@
 
 package com.sportradar.mts.sdk.api;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 /**
@@ -45,4 +48,14 @@ public interface SdkTicket extends Serializable {
      * @return the associated ticket in the required MTS JSON format
      */
     String getJsonValue();
+
+    /**
+     * Returns the associated ticket in the required MTS JSON format as UTF-8 encoded bytes
+     *
+     * @return the associated ticket in the required MTS JSON format as UTF-8 encoded bytes
+     */
+    @JsonIgnore
+    default byte[] getJsonBytes() {
+        return getJsonValue().getBytes(StandardCharsets.UTF_8);
+    }
 }
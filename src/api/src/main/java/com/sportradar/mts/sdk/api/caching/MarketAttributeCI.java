@@ -11,6 +11,11 @@ public class MarketAttributeCI {
     private final String name;
     private final String description;
 
+    public MarketAttributeCI(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
     public MarketAttributeCI(MarketAttributeDTO a) {
         Preconditions.checkNotNull(a);
 
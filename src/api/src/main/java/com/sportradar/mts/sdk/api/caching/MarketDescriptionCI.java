@@ -51,6 +51,28 @@ public class MarketDescriptionCI {
         fetchedLocales.add(locale);
     }
 
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    MarketDescriptionCI(long id,
+                        Map<Locale, String> names,
+                        Map<Locale, String> descriptions,
+                        List<MarketMappingCI> mappings,
+                        List<MarketOutcomeCI> outcomes,
+                        List<MarketSpecifierCI> specifiers,
+                        List<MarketAttributeCI> attributes,
+                        String variant,
+                        List<Locale> fetchedLocales)
+    {
+        this.id = id;
+        this.names = names;
+        this.descriptions = descriptions;
+        this.variant = variant;
+        this.mappings = mappings;
+        this.outcomes = outcomes;
+        this.specifiers = specifiers;
+        this.attributes = attributes;
+        this.fetchedLocales = new ArrayList<>(fetchedLocales);
+    }
+
     public MarketDescriptionCI(MarketDescriptionDTO market, Locale locale) {
         Preconditions.checkNotNull(market);
         Preconditions.checkNotNull(locale);
@@ -93,28 +115,50 @@ public class MarketDescriptionCI {
         Preconditions.checkNotNull(market);
         Preconditions.checkNotNull(locale);
 
-        names.put(locale, market.getName());
-        variant = market.getVariant();
-        if (!Strings.isNullOrEmpty(market.getDescription())) {
-            descriptions.put(locale, market.getDescription());
+        List<MarketOutcomeCI> marketOutcomes = market.getOutcomes() == null ? null :
+                market.getOutcomes().stream()
+                        .map(o -> new MarketOutcomeCI(o, locale)).collect(Collectors.toList());
+        List<MarketMappingCI> marketMappings = market.getMappings() == null ? null :
+                market.getMappings().stream()
+                        .map(MarketMappingCI::new).collect(Collectors.toList());
+        merge(locale, market.getName(), market.getDescription(), market.getVariant(), marketOutcomes, marketMappings);
+    }
+
+    public void merge(MarketDescriptionCI market, Locale locale) {
+        Preconditions.checkNotNull(market);
+        Preconditions.checkNotNull(locale);
+
+        merge(locale, market.getName(locale), market.getDescription(locale), market.getVariant(), market.getOutcomes(), market.getMappings());
+    }
+
+    private void merge(Locale locale,
+                       String name,
+                       String description,
+                       String marketVariant,
+                       List<MarketOutcomeCI> marketOutcomes,
+                       List<MarketMappingCI> marketMappings) {
+        names.put(locale, name);
+        variant = marketVariant;
+        if (!Strings.isNullOrEmpty(description)) {
+            descriptions.put(locale, description);
         }
 
-        if (market.getOutcomes() != null) {
-            market.getOutcomes().forEach(o -> {
-                Optional<MarketOutcomeCI> existingOutcome = outcomes.stream()
+        if (marketOutcomes != null) {
+            marketOutcomes.forEach(o -> {
+                Optional<MarketOutcomeCI> existingOutcome = outcomes == null ? Optional.empty() : outcomes.stream()
                         .filter(exo -> exo.getId().equals(o.getId())).findFirst();
                 if (existingOutcome.isPresent()) {
                     existingOutcome.get().merge(o, locale);
                 } else {
                     logger.warn("Could not merge outcome[Id={}] on marketDescription[Id={}] because the specified" +
-                            " outcome does not exist on stored market description", o.getId(), market.getId());
+                            " outcome does not exist on stored market description", o.getId(), id);
                 }
             });
         }
 
-        if (market.getMappings() != null) {
-            market.getMappings().forEach(o -> {
-                Optional<MarketMappingCI> existingMapping = mappings.stream()
+        if (marketMappings != null) {
+            marketMappings.forEach(o -> {
+                Optional<MarketMappingCI> existingMapping = mappings == null ? Optional.empty() : mappings.stream()
                         .filter(
                                 exm -> o.getMarketTypeId() == exm.getMarketTypeId()
                                         && Objects.equals(o.getMarketSubTypeId(), exm.getMarketSubTypeId()))
@@ -124,10 +168,13 @@ public class MarketDescriptionCI {
                 } else {
                     logger.warn("Could not merge mapping[MarketId={}:{}] on marketDescription[Id={}] because " +
                                     "the specified mapping does not exist on stored market description",
-                            o.getMarketTypeId(), o. getMarketSubTypeId(), market.getId());
+                            o.getMarketTypeId(), o.getMarketSubTypeId(), id);
                 }
             });
+        }
 
+        // the locale is fetched even if the market has no mappings
+        if (!fetchedLocales.contains(locale)) {
             fetchedLocales.add(locale);
         }
     }
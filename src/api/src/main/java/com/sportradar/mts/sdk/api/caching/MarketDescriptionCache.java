@@ -15,4 +15,9 @@ public interface MarketDescriptionCache {
      * @return {@link MarketDescriptionCI} for specific marketId
      */
     MarketDescriptionCI getMarketDescription(int marketId);
+
+    /**
+     * Stops the background refresh of the market descriptions; must be called before the http client is closed
+     */
+    void close();
 }
@@ -5,116 +5,236 @@
 package com.sportradar.mts.sdk.api.caching;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
 import com.sportradar.mts.api.rest.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.mts.sdk.api.rest.DataProvider;
-import com.sportradar.mts.sdk.api.rest.dto.MarketDescriptionDTO;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.*;
-
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Market description cache which serves the descriptions from an immutable snapshot. The first snapshot is fetched
+ * by the first caller; after that a new snapshot is built in the background every 4 hours and swapped in at once,
+ * so the callers never wait for the API and never see a partially merged snapshot. When a snapshot file is
+ * configured, every fetched snapshot is also written to it and after a restart the file is served at once while
+ * a fresh snapshot is fetched in the background, so the startup does not depend on the API being available
+ */
 public class MarketDescriptionCacheImpl implements MarketDescriptionCache {
     private static final Logger logger = LoggerFactory.getLogger(MarketDescriptionCacheImpl.class);
 
-    private final Cache<String, MarketDescriptionCI> cache;
     private final DataProvider<MarketDescriptions> dataProvider;
     private final List<Locale> prefetchLocales;
+    private final ScheduledExecutorService refreshScheduler;
+    private final MarketDescriptionsSnapshotFile snapshotFile;
     private final Object lock = new Object();
     private final boolean accessTokenProvided;
     private final Duration duration;
-    private Date timeOfLastFetch;
+    private volatile Map<Long, MarketDescriptionCI> snapshot;
+    private long nextFetchNanos;
     private static final Duration minIntervalTimeout = Duration.ofSeconds(30);
 
-    public MarketDescriptionCacheImpl(Cache<String, MarketDescriptionCI> cache,
-                                       DataProvider<MarketDescriptions> dataProvider,
-                                       List<Locale> prefetchLocales,
-                                       String accessToken) {
-        this.cache = cache;
+    public MarketDescriptionCacheImpl(DataProvider<MarketDescriptions> dataProvider,
+                                      List<Locale> prefetchLocales,
+                                      String accessToken,
+                                      ScheduledExecutorService refreshScheduler) {
+        this(dataProvider, prefetchLocales, accessToken, refreshScheduler, null);
+    }
+
+    /**
+     * Creates a cache which persists its snapshots to the provided file
+     *
+     * @param dataProvider the provider of the market descriptions
+     * @param prefetchLocales the locales of the market descriptions
+     * @param accessToken the access token of the API
+     * @param refreshScheduler the scheduler of the background refresh and of the writes of the snapshot file
+     * @param snapshotFile the file the snapshots are persisted to or null if they should not be persisted
+     */
+    public MarketDescriptionCacheImpl(DataProvider<MarketDescriptions> dataProvider,
+                                      List<Locale> prefetchLocales,
+                                      String accessToken,
+                                      ScheduledExecutorService refreshScheduler,
+                                      Path snapshotFile) {
+        Preconditions.checkNotNull(dataProvider);
+        Preconditions.checkNotNull(prefetchLocales);
+        Preconditions.checkArgument(!prefetchLocales.isEmpty());
+        Preconditions.checkNotNull(refreshScheduler);
+
         this.dataProvider = dataProvider;
         this.prefetchLocales = prefetchLocales;
+        this.refreshScheduler = refreshScheduler;
+        this.snapshotFile = snapshotFile == null ? null : new MarketDescriptionsSnapshotFile(snapshotFile);
 
         duration = Duration.ofHours(4);
-        timeOfLastFetch = new Date(0);
+        nextFetchNanos = System.nanoTime();
 
         accessTokenProvided = !StringUtils.isNullOrEmpty(accessToken);
 
         logger.debug("AccessToken for API is provided: {}. It is required only when creating selections for UF markets via method ISelectionBuilder.SetIdUof(). There is no need for it when legacy feeds are used.", accessTokenProvided);
     }
 
-    private void getAllMarketDescriptions(List<Locale> locales) {
-        Preconditions.checkNotNull(locales);
-        Preconditions.checkArgument(!locales.isEmpty());
-
+    private Map<Long, MarketDescriptionCI> getFirstSnapshot() {
         if(!accessTokenProvided)
         {
             throw new IllegalArgumentException("Missing AccessToken.");
         }
 
-        try {
-            synchronized (lock) {
-                for (Locale locale : locales) {
-                    logger.debug("Fetching market descriptions from API for locale: {}", locale);
-                    MarketDescriptions marketDescriptions = dataProvider.getData(locale);
-                    if(marketDescriptions == null)
-                    {
-                        logger.warn("No market descriptions fetched from API for locale: {}", locale);
+        synchronized (lock) {
+            if (snapshot == null && snapshotFile != null && loadSnapshot()) {
+                scheduleRefresh(Duration.ZERO);
+            }
+            if (snapshot == null && System.nanoTime() - nextFetchNanos >= 0) {
+                try {
+                    if (fetchSnapshot()) {
+                        scheduleRefresh(duration);
+                    } else {
                         pauseFetching();
-                        return;
                     }
+                } catch (Exception ex) {
+                    pauseFetching();
+                    throw new IllegalStateException("An error occurred while fetching market descriptions data", ex);
+                }
+            }
+            return snapshot == null ? Collections.emptyMap() : snapshot;
+        }
+    }
 
-                    List<MarketDescriptionDTO> marketDescriptionDTOs = new ArrayList<>();
-                    marketDescriptions.getMarket().forEach(market -> marketDescriptionDTOs.add(new MarketDescriptionDTO(market)));
+    /**
+     * Publishes the snapshot persisted in the snapshot file, if there is a usable one
+     *
+     * @return true if the snapshot was published
+     */
+    private boolean loadSnapshot() {
+        try {
+            MarketDescriptionsSnapshotFile.Content content = snapshotFile.read(prefetchLocales);
+            if (content == null) {
+                logger.debug("No usable market descriptions snapshot in {}", snapshotFile.getPath());
+                return false;
+            }
+            snapshot = content.getMarkets();
+            logger.info("Serving {} market descriptions from snapshot {} created {}s ago, refreshing from API in the background.",
+                        content.getMarkets().size(),
+                        snapshotFile.getPath(),
+                        (System.currentTimeMillis() - content.getCreatedMillis()) / 1000);
+            return true;
+        } catch (IOException ex) {
+            logger.warn("Market descriptions snapshot could not be read, fetching from API.", ex);
+            return false;
+        }
+    }
 
-                    for(MarketDescriptionDTO dto : marketDescriptionDTOs) {
-                        merge(locale, dto);
-                    }
+    /**
+     * Fetches the market descriptions for all the locales into a new map and publishes it as the current snapshot;
+     * the current snapshot is kept if any of the locales could not be fetched
+     *
+     * @return true if a new snapshot was published
+     */
+    private boolean fetchSnapshot() {
+        Map<Long, MarketDescriptionCI> markets = new HashMap<>();
+        for (Locale locale : prefetchLocales) {
+            logger.debug("Fetching market descriptions from API for locale: {}", locale);
+            Integer marketCount = dataProvider.readData(locale, content ->
+                    MarketDescriptionsReader.read(content, locale, market -> merge(markets, locale, market)));
+            if(marketCount == null)
+            {
+                logger.warn("No market descriptions fetched from API for locale: {}", locale);
+                return false;
+            }
+            logger.debug("Fetched {} market descriptions from API for locale: {}", marketCount, locale);
+        }
+        Map<Long, MarketDescriptionCI> fetched = Collections.unmodifiableMap(markets);
+        snapshot = fetched;
+        if (snapshotFile != null) {
+            persistSnapshot(fetched, System.currentTimeMillis());
+        }
+        return true;
+    }
+
+    private void persistSnapshot(Map<Long, MarketDescriptionCI> markets, long createdMillis) {
+        try {
+            refreshScheduler.execute(() -> {
+                try {
+                    snapshotFile.write(markets, prefetchLocales, createdMillis);
+                    logger.debug("Market descriptions snapshot written to {}", snapshotFile.getPath());
+                } catch (IOException ex) {
+                    logger.warn("Market descriptions snapshot could not be written to " + snapshotFile.getPath(), ex);
                 }
+            });
+        } catch (RejectedExecutionException ex) {
+            logger.debug("Market descriptions snapshot not written, the scheduler is shut down.");
+        }
+    }
+
+    private void refreshSnapshot() {
+        boolean refreshed = false;
+        try {
+            synchronized (lock) {
+                refreshed = fetchSnapshot();
             }
-            timeOfLastFetch = new Date();
         } catch (Exception ex) {
-            pauseFetching();
-            throw new IllegalStateException("An error occurred while fetching market descriptions data", ex);
+            logger.warn("An error occurred while refreshing market descriptions data", ex);
+        }
+
+        if (refreshed) {
+            scheduleRefresh(duration);
+        } else {
+            logger.debug("Refreshing market descriptions retried in {}s.", minIntervalTimeout.getSeconds());
+            scheduleRefresh(minIntervalTimeout);
+        }
+    }
+
+    private void scheduleRefresh(Duration delay) {
+        try {
+            refreshScheduler.schedule(this::refreshSnapshot, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            logger.debug("Refreshing market descriptions not scheduled, the scheduler is shut down.");
         }
     }
 
     private void pauseFetching()
     {
-        Calendar cal = Calendar.getInstance();
-        cal.add(Calendar.SECOND, -(int)duration.getSeconds());
-        cal.add(Calendar.SECOND, (int)minIntervalTimeout.getSeconds());
-        timeOfLastFetch = cal.getTime();
+        nextFetchNanos = System.nanoTime() + minIntervalTimeout.toNanos();
         logger.debug("Fetching paused for {}s.", minIntervalTimeout.getSeconds());
     }
 
-    private void merge(Locale locale, MarketDescriptionDTO dto) {
+    private static void merge(Map<Long, MarketDescriptionCI> markets, Locale locale, MarketDescriptionCI market) {
         Preconditions.checkNotNull(locale);
-        Preconditions.checkNotNull(dto);
+        Preconditions.checkNotNull(market);
 
-        String processingCacheItemId = String.valueOf(dto.getId());
-        MarketDescriptionCI cachedItem = cache.getIfPresent(processingCacheItemId);
+        MarketDescriptionCI cachedItem = markets.get(market.getId());
         if (cachedItem == null) {
-            try {
-                cachedItem = new MarketDescriptionCI(dto, locale);
-            }
-            catch (Exception ex)
-            {
-                logger.error("Error during creating MarketDescriptionCI", ex);
-                cachedItem = new MarketDescriptionCI(dto, locale);
-            }
-            cache.put(processingCacheItemId, cachedItem);
+            markets.put(market.getId(), market);
         } else {
-            cachedItem.merge(dto, locale);
+            cachedItem.merge(market, locale);
         }
     }
 
-    private MarketDescriptionCI getMarketDescriptionInternal(int marketId) {
+    /**
+     * Stops the refresh scheduler; a pending refresh or snapshot write is cancelled and a refresh already running
+     * is not scheduled again, so the scheduler thread and the snapshot it references are released
+     */
+    @Override
+    public void close() {
+        refreshScheduler.shutdownNow();
+        logger.debug("Market description cache closed.");
+    }
+
+    @Override
+    public MarketDescriptionCI getMarketDescription(int marketId) {
         Preconditions.checkArgument(marketId > 0);
 
-        MarketDescriptionCI cachedItem = cache.getIfPresent(String.valueOf(marketId));
+        Map<Long, MarketDescriptionCI> markets = snapshot;
+        if (markets == null) {
+            markets = getFirstSnapshot();
+        }
+
+        MarketDescriptionCI cachedItem = markets.get((long) marketId);
 
         if (cachedItem == null) {
             logger.error("The requested market id was not found");
@@ -123,12 +243,4 @@ public class MarketDescriptionCacheImpl implements MarketDescriptionCache {
 
         return cachedItem;
     }
-
-    public MarketDescriptionCI getMarketDescription(int marketId) {
-        if (Duration.between(timeOfLastFetch.toInstant(), Instant.now()).toMillis() > duration.toMillis())
-        {
-            getAllMarketDescriptions(prefetchLocales);
-        }
-        return getMarketDescriptionInternal(marketId);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.sportradar.mts.sdk.api.rest.URN;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader of the market descriptions document (/descriptions/{locale}/markets.xml); each market element is
+ * turned into a {@link MarketDescriptionCI} as soon as it is read, so the whole document is never held in memory
+ */
+final class MarketDescriptionsReader {
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private MarketDescriptionsReader() {
+    }
+
+    /**
+     * Reads the market descriptions from the stream and hands them to the consumer one by one
+     *
+     * @param inputStream the stream containing the market descriptions document
+     * @param locale the locale of the document
+     * @param consumer the consumer of the read market descriptions
+     * @return the number of read market descriptions
+     * @throws IOException if the document could not be read or is not valid
+     */
+    static int read(InputStream inputStream, Locale locale, Consumer<MarketDescriptionCI> consumer) throws IOException {
+        Preconditions.checkNotNull(inputStream);
+        Preconditions.checkNotNull(locale);
+        Preconditions.checkNotNull(consumer);
+
+        XMLStreamReader reader = null;
+        try {
+            reader = INPUT_FACTORY.createXMLStreamReader(inputStream);
+            int count = 0;
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "market".equals(reader.getLocalName())) {
+                    consumer.accept(readMarket(reader, locale));
+                    count++;
+                }
+            }
+            return count;
+        } catch (XMLStreamException | IllegalArgumentException e) {
+            throw new IOException("Market descriptions document is not valid", e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // the stream is closed by the caller
+                }
+            }
+        }
+    }
+
+    private static MarketDescriptionCI readMarket(XMLStreamReader reader, Locale locale) throws XMLStreamException {
+        long id = Integer.parseInt(requiredAttribute(reader, "id"));
+        Map<Locale, String> names = new ConcurrentHashMap<>();
+        names.put(locale, requiredAttribute(reader, "name"));
+        Map<Locale, String> descriptions = new ConcurrentHashMap<>();
+        String description = reader.getAttributeValue(null, "description");
+        if (!Strings.isNullOrEmpty(description)) {
+            descriptions.put(locale, description);
+        }
+        String variant = reader.getAttributeValue(null, "variant");
+
+        List<MarketOutcomeCI> outcomes = null;
+        List<MarketSpecifierCI> specifiers = null;
+        List<MarketMappingCI> mappings = null;
+        List<MarketAttributeCI> attributes = null;
+        MappingBuilder mapping = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("market".equals(name)) {
+                    break;
+                }
+                if ("mapping".equals(name) && mapping != null) {
+                    mappings.add(mapping.build());
+                    mapping = null;
+                }
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "outcomes":
+                        outcomes = new ArrayList<>();
+                        break;
+                    case "outcome":
+                        if (outcomes != null) {
+                            outcomes.add(new MarketOutcomeCI(requiredAttribute(reader, "id"),
+                                                             requiredAttribute(reader, "name"),
+                                                             reader.getAttributeValue(null, "description"),
+                                                             locale));
+                        }
+                        break;
+                    case "specifiers":
+                        specifiers = new ArrayList<>();
+                        break;
+                    case "specifier":
+                        if (specifiers != null) {
+                            specifiers.add(new MarketSpecifierCI(requiredAttribute(reader, "name"),
+                                                                 requiredAttribute(reader, "type")));
+                        }
+                        break;
+                    case "mappings":
+                        mappings = new ArrayList<>();
+                        break;
+                    case "mapping":
+                        if (mappings != null) {
+                            mapping = new MappingBuilder(reader);
+                        }
+                        break;
+                    case "mapping_outcome":
+                        if (mapping != null) {
+                            mapping.outcomeMappings.add(new OutcomeMappingCI(reader.getAttributeValue(null, "outcome_id"),
+                                                                             reader.getAttributeValue(null, "product_outcome_id"),
+                                                                             reader.getAttributeValue(null, "product_outcome_name")));
+                        }
+                        break;
+                    case "attributes":
+                        attributes = new ArrayList<>();
+                        break;
+                    case "attribute":
+                        if (attributes != null) {
+                            attributes.add(new MarketAttributeCI(reader.getAttributeValue(null, "name"),
+                                                                 reader.getAttributeValue(null, "description")));
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        return new MarketDescriptionCI(id, names, descriptions, mappings, outcomes, specifiers, attributes, variant, locale);
+    }
+
+    private static String requiredAttribute(XMLStreamReader reader, String name) {
+        String value = reader.getAttributeValue(null, name);
+        Preconditions.checkArgument(value != null, "Attribute '%s' of element '%s' is missing", name, reader.getLocalName());
+        return value;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Collects the attributes and the outcome mappings of a mapping element until its end is reached
+     */
+    private static final class MappingBuilder {
+        private final int producerId;
+        private final URN sportId;
+        private final int marketTypeId;
+        private final Integer marketSubTypeId;
+        private final String sovTemplate;
+        private final String validFor;
+        private final List<OutcomeMappingCI> outcomeMappings = new ArrayList<>();
+
+        MappingBuilder(XMLStreamReader reader) {
+            String sport = requiredAttribute(reader, "sport_id");
+            String marketId = requiredAttribute(reader, "market_id");
+            Preconditions.checkArgument(!sport.isEmpty());
+            Preconditions.checkArgument(!marketId.isEmpty());
+
+            producerId = Integer.parseInt(requiredAttribute(reader, "product_id"));
+            sportId = sport.equals("all") ? null : URN.parse(sport);
+            int separator = marketId.indexOf(':');
+            if (separator < 0) {
+                marketTypeId = Integer.parseInt(marketId);
+                marketSubTypeId = null;
+            } else {
+                marketTypeId = Integer.parseInt(marketId.substring(0, separator));
+                marketSubTypeId = Integer.valueOf(marketId.substring(separator + 1));
+            }
+            sovTemplate = reader.getAttributeValue(null, "sov_template");
+            validFor = reader.getAttributeValue(null, "valid_for");
+        }
+
+        MarketMappingCI build() {
+            return new MarketMappingCI(producerId, sportId, marketTypeId, marketSubTypeId, sovTemplate, validFor, outcomeMappings);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.mts.sdk.api.rest.URN;
+import com.sportradar.mts.sdk.api.utils.SdkInfo;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local binary copy of a market descriptions snapshot, used to serve the market descriptions right after a restart.
+ * The file starts with a header (magic, format version, SDK version, creation time and locales) followed by the
+ * markets; strings are stored as length-prefixed UTF-8 and the file is memory-mapped when read. The file is replaced
+ * atomically, so a reader never sees a partially written snapshot. Every count read from the file is checked against
+ * the bytes left before anything is allocated for it, so a corrupted file fails the read instead of the heap. A file
+ * older than {@link #MAX_AGE_MILLIS} is not used: the cache refreshes a snapshot served from the file right away, so an
+ * old file is served only while the API is unreachable, and after a week it is more likely outdated than helpful
+ */
+final class MarketDescriptionsSnapshotFile {
+
+    private static final int MAGIC = 0x4D54534D;
+    private static final int FORMAT_VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+    static final long MAX_AGE_MILLIS = TimeUnit.DAYS.toMillis(7);
+    // the min number of bytes a single record takes in the file, used to check the counts read from the file
+    private static final int MIN_STRING_BYTES = 4;
+    private static final int MIN_TRANSLATION_BYTES = 4 + MIN_STRING_BYTES;
+    private static final int MIN_MARKET_BYTES = 8 + 4 + 4 + MIN_STRING_BYTES + 5 * 4;
+    private static final int MIN_OUTCOME_BYTES = MIN_STRING_BYTES + 4 + 4;
+    private static final int MIN_SPECIFIER_BYTES = 2 * MIN_STRING_BYTES;
+    private static final int MIN_MAPPING_BYTES = 4 + MIN_STRING_BYTES + 4 + 1 + 4 + 2 * MIN_STRING_BYTES + 4;
+    private static final int MIN_OUTCOME_MAPPING_BYTES = 3 * MIN_STRING_BYTES;
+    private static final int MIN_ATTRIBUTE_BYTES = 2 * MIN_STRING_BYTES;
+    private static final int MIN_LOCALE_INDEX_BYTES = 4;
+
+    private final Path path;
+
+    MarketDescriptionsSnapshotFile(Path path) {
+        Preconditions.checkNotNull(path);
+
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Market descriptions read from the file together with the time they were fetched from the API
+     */
+    static final class Content {
+        private final long createdMillis;
+        private final Map<Long, MarketDescriptionCI> markets;
+
+        private Content(long createdMillis, Map<Long, MarketDescriptionCI> markets) {
+            this.createdMillis = createdMillis;
+            this.markets = markets;
+        }
+
+        long getCreatedMillis() {
+            return createdMillis;
+        }
+
+        Map<Long, MarketDescriptionCI> getMarkets() {
+            return markets;
+        }
+    }
+
+    /**
+     * Writes the snapshot into a temporary file next to the target and moves it over the target
+     *
+     * @param markets the snapshot to be written
+     * @param locales the locales of the snapshot
+     * @param createdMillis the time the snapshot was fetched from the API
+     * @throws IOException if the file could not be written
+     */
+    void write(Map<Long, MarketDescriptionCI> markets, List<Locale> locales, long createdMillis) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, SdkInfo.getVersion());
+                out.writeLong(createdMillis);
+                out.writeInt(locales.size());
+                for (Locale locale : locales) {
+                    writeString(out, locale.toLanguageTag());
+                }
+                out.writeInt(markets.size());
+                for (MarketDescriptionCI market : markets.values()) {
+                    writeMarket(out, market, locales);
+                }
+            }
+            try {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Reads the snapshot if the file exists, is not older than {@link #MAX_AGE_MILLIS} and was written for all the
+     * requested locales
+     *
+     * @param locales the locales the snapshot must contain
+     * @return the read snapshot or null if there is no usable file
+     * @throws IOException if the file exists but could not be read or is corrupted
+     */
+    Content read(List<Locale> locales) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            readString(buffer); // SDK version which wrote the file, informative only
+            long createdMillis = buffer.getLong();
+            long ageMillis = System.currentTimeMillis() - createdMillis;
+            if (ageMillis < 0 || ageMillis > MAX_AGE_MILLIS) {
+                return null;
+            }
+            List<Locale> fileLocales = new ArrayList<>();
+            for (int i = readCount(buffer, MIN_STRING_BYTES); i > 0; i--) {
+                fileLocales.add(Locale.forLanguageTag(readString(buffer)));
+            }
+            if (!fileLocales.containsAll(locales)) {
+                return null;
+            }
+
+            int marketCount = readCount(buffer, MIN_MARKET_BYTES);
+            Map<Long, MarketDescriptionCI> markets = new HashMap<>(marketCount * 2);
+            for (int i = 0; i < marketCount; i++) {
+                MarketDescriptionCI market = readMarket(buffer, fileLocales);
+                markets.put(market.getId(), market);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Unexpected data at the end of the market descriptions snapshot " + path);
+            }
+            return new Content(createdMillis, Collections.unmodifiableMap(markets));
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Market descriptions snapshot " + path + " is corrupted", e);
+        }
+    }
+
+    private static void writeMarket(DataOutputStream out, MarketDescriptionCI market, List<Locale> locales) throws IOException {
+        out.writeLong(market.getId());
+        writeTranslations(out, locales, market::getName);
+        writeTranslations(out, locales, market::getDescription);
+        writeString(out, market.getVariant());
+
+        List<MarketOutcomeCI> outcomes = market.getOutcomes();
+        out.writeInt(outcomes == null ? NULL_LENGTH : outcomes.size());
+        if (outcomes != null) {
+            for (MarketOutcomeCI outcome : outcomes) {
+                writeString(out, outcome.getId());
+                writeTranslations(out, locales, outcome::getName);
+                writeTranslations(out, locales, outcome::getDescription);
+            }
+        }
+
+        List<MarketSpecifierCI> specifiers = market.getSpecifiers();
+        out.writeInt(specifiers == null ? NULL_LENGTH : specifiers.size());
+        if (specifiers != null) {
+            for (MarketSpecifierCI specifier : specifiers) {
+                writeString(out, specifier.getName());
+                writeString(out, specifier.getType());
+            }
+        }
+
+        List<MarketMappingCI> mappings = market.getMappings();
+        out.writeInt(mappings == null ? NULL_LENGTH : mappings.size());
+        if (mappings != null) {
+            for (MarketMappingCI mapping : mappings) {
+                out.writeInt(mapping.getProducerId());
+                writeString(out, mapping.getSportId() == null ? null : mapping.getSportId().toString());
+                out.writeInt(mapping.getMarketTypeId());
+                out.writeBoolean(mapping.getMarketSubTypeId() != null);
+                out.writeInt(mapping.getMarketSubTypeId() == null ? 0 : mapping.getMarketSubTypeId());
+                writeString(out, mapping.getSovTemplate());
+                writeString(out, mapping.getValidFor());
+                List<OutcomeMappingCI> outcomeMappings = mapping.getOutcomeMappings();
+                out.writeInt(outcomeMappings == null ? NULL_LENGTH : outcomeMappings.size());
+                if (outcomeMappings != null) {
+                    for (OutcomeMappingCI outcomeMapping : outcomeMappings) {
+                        writeString(out, outcomeMapping.getOutcomeId());
+                        writeString(out, outcomeMapping.getProducerOutcomeId());
+                        writeString(out, outcomeMapping.getProducerOutcomeName());
+                    }
+                }
+            }
+        }
+
+        List<MarketAttributeCI> attributes = market.getAttributes();
+        out.writeInt(attributes == null ? NULL_LENGTH : attributes.size());
+        if (attributes != null) {
+            for (MarketAttributeCI attribute : attributes) {
+                writeString(out, attribute.getName());
+                writeString(out, attribute.getDescription());
+            }
+        }
+
+        List<Locale> cachedLocales = market.getCachedLocales();
+        out.writeInt(cachedLocales.size());
+        for (Locale locale : cachedLocales) {
+            out.writeInt(locales.indexOf(locale));
+        }
+    }
+
+    private static MarketDescriptionCI readMarket(ByteBuffer buffer, List<Locale> locales) {
+        long id = buffer.getLong();
+        Map<Locale, String> names = readTranslations(buffer, locales);
+        Map<Locale, String> descriptions = readTranslations(buffer, locales);
+        String variant = readString(buffer);
+
+        List<MarketOutcomeCI> outcomes = null;
+        int count = readNullableCount(buffer, MIN_OUTCOME_BYTES);
+        if (count != NULL_LENGTH) {
+            outcomes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                outcomes.add(new MarketOutcomeCI(readString(buffer), readTranslations(buffer, locales), readTranslations(buffer, locales)));
+            }
+        }
+
+        List<MarketSpecifierCI> specifiers = null;
+        count = readNullableCount(buffer, MIN_SPECIFIER_BYTES);
+        if (count != NULL_LENGTH) {
+            specifiers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                specifiers.add(new MarketSpecifierCI(readString(buffer), readString(buffer)));
+            }
+        }
+
+        List<MarketMappingCI> mappings = null;
+        count = readNullableCount(buffer, MIN_MAPPING_BYTES);
+        if (count != NULL_LENGTH) {
+            mappings = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int producerId = buffer.getInt();
+                String sportId = readString(buffer);
+                int marketTypeId = buffer.getInt();
+                boolean hasMarketSubTypeId = buffer.get() != 0;
+                int marketSubTypeId = buffer.getInt();
+                String sovTemplate = readString(buffer);
+                String validFor = readString(buffer);
+                List<OutcomeMappingCI> outcomeMappings = null;
+                int outcomeMappingCount = readNullableCount(buffer, MIN_OUTCOME_MAPPING_BYTES);
+                if (outcomeMappingCount != NULL_LENGTH) {
+                    outcomeMappings = new ArrayList<>(outcomeMappingCount);
+                    for (int j = 0; j < outcomeMappingCount; j++) {
+                        outcomeMappings.add(new OutcomeMappingCI(readString(buffer), readString(buffer), readString(buffer)));
+                    }
+                }
+                mappings.add(new MarketMappingCI(producerId,
+                                                 sportId == null ? null : URN.parse(sportId),
+                                                 marketTypeId,
+                                                 hasMarketSubTypeId ? marketSubTypeId : null,
+                                                 sovTemplate,
+                                                 validFor,
+                                                 outcomeMappings));
+            }
+        }
+
+        List<MarketAttributeCI> attributes = null;
+        count = readNullableCount(buffer, MIN_ATTRIBUTE_BYTES);
+        if (count != NULL_LENGTH) {
+            attributes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                attributes.add(new MarketAttributeCI(readString(buffer), readString(buffer)));
+            }
+        }
+
+        List<Locale> fetchedLocales = new ArrayList<>();
+        for (int i = readCount(buffer, MIN_LOCALE_INDEX_BYTES); i > 0; i--) {
+            fetchedLocales.add(locales.get(buffer.getInt()));
+        }
+
+        return new MarketDescriptionCI(id, names, descriptions, mappings, outcomes, specifiers, attributes, variant, fetchedLocales);
+    }
+
+    private interface Translation {
+        String get(Locale locale);
+    }
+
+    private static void writeTranslations(DataOutputStream out, List<Locale> locales, Translation translation) throws IOException {
+        int count = 0;
+        for (Locale locale : locales) {
+            if (translation.get(locale) != null) {
+                count++;
+            }
+        }
+        out.writeInt(count);
+        for (int i = 0; i < locales.size(); i++) {
+            String value = translation.get(locales.get(i));
+            if (value != null) {
+                out.writeInt(i);
+                writeString(out, value);
+            }
+        }
+    }
+
+    private static Map<Locale, String> readTranslations(ByteBuffer buffer, List<Locale> locales) {
+        Map<Locale, String> translations = new ConcurrentHashMap<>();
+        for (int i = readCount(buffer, MIN_TRANSLATION_BYTES); i > 0; i--) {
+            Locale locale = locales.get(buffer.getInt());
+            translations.put(locale, readString(buffer));
+        }
+        return translations;
+    }
+
+    /**
+     * Reads the number of the records which follow and checks the file still holds that many of them
+     *
+     * @param buffer the content of the file
+     * @param minRecordBytes the min number of bytes a single record takes
+     * @return the number of the records
+     */
+    private static int readCount(ByteBuffer buffer, int minRecordBytes) {
+        return checkCount(buffer, buffer.getInt(), minRecordBytes);
+    }
+
+    private static int readNullableCount(ByteBuffer buffer, int minRecordBytes) {
+        int count = buffer.getInt();
+        return count == NULL_LENGTH ? count : checkCount(buffer, count, minRecordBytes);
+    }
+
+    private static int checkCount(ByteBuffer buffer, int count, int minRecordBytes) {
+        Preconditions.checkArgument(count >= 0 && count <= buffer.remaining() / minRecordBytes, "invalid count");
+        return count;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        Preconditions.checkArgument(length >= 0 && length <= buffer.remaining(), "invalid string length");
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -20,6 +20,26 @@ public class MarketMappingCI {
     private final String validFor;
     private final List<OutcomeMappingCI> outcomeMappings;
 
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public MarketMappingCI(int producerId,
+                           URN sportId,
+                           int marketTypeId,
+                           Integer marketSubTypeId,
+                           String sovTemplate,
+                           String validFor,
+                           List<OutcomeMappingCI> outcomeMappings) {
+        Preconditions.checkArgument(producerId > 0);
+        Preconditions.checkArgument(marketTypeId > 0);
+
+        this.producerId = producerId;
+        this.sportId = sportId;
+        this.marketTypeId = marketTypeId;
+        this.marketSubTypeId = marketSubTypeId;
+        this.sovTemplate = sovTemplate;
+        this.validFor = validFor;
+        this.outcomeMappings = outcomeMappings;
+    }
+
     public MarketMappingCI(MarketMappingDTO mm) {
         Preconditions.checkNotNull(mm);
         Preconditions.checkArgument(mm.getProducerId() > 0);
@@ -67,4 +87,11 @@ public class MarketMappingCI {
         // this type has no translatable properties for now, so merge is not required
         // and the method is only defined for consistency
     }
+
+    @SuppressWarnings("EmptyMethod")
+    public void merge(MarketMappingCI mm)
+    {
+        // this type has no translatable properties for now, so merge is not required
+        // and the method is only defined for consistency
+    }
 }
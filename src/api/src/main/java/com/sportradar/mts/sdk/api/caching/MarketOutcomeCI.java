@@ -17,6 +17,24 @@ public class MarketOutcomeCI {
     private final Map<Locale, String> names;
     private final Map<Locale, String> descriptions;
 
+    public MarketOutcomeCI(String id, String name, String description, Locale locale) {
+        Preconditions.checkNotNull(locale);
+
+        this.id = id;
+        names = new ConcurrentHashMap<>();
+        names.put(locale, name);
+        descriptions = new ConcurrentHashMap<>();
+        if (!Strings.isNullOrEmpty(description)) {
+            descriptions.put(locale, description);
+        }
+    }
+
+    MarketOutcomeCI(String id, Map<Locale, String> names, Map<Locale, String> descriptions) {
+        this.id = id;
+        this.names = names;
+        this.descriptions = descriptions;
+    }
+
     public MarketOutcomeCI(OutcomeDescriptionDTO o, Locale locale) {
         Preconditions.checkNotNull(o);
         Preconditions.checkNotNull(locale);
@@ -52,10 +70,20 @@ public class MarketOutcomeCI {
         Preconditions.checkNotNull(o);
         Preconditions.checkNotNull(locale);
 
-        names.put(locale, o.getName());
-        if (!Strings.isNullOrEmpty(o.getDescription())) {
-            descriptions.put(locale, o.getDescription());
+        merge(locale, o.getName(), o.getDescription());
+    }
+
+    public void merge(MarketOutcomeCI o, Locale locale) {
+        Preconditions.checkNotNull(o);
+        Preconditions.checkNotNull(locale);
+
+        merge(locale, o.getName(locale), o.getDescription(locale));
+    }
+
+    private void merge(Locale locale, String name, String description) {
+        names.put(locale, name);
+        if (!Strings.isNullOrEmpty(description)) {
+            descriptions.put(locale, description);
         }
     }
 }
-
@@ -0,0 +1,18 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.exceptions;
+
+/**
+ * Exception to be thrown when a message is not admitted by the send rate limiter within the configured timeout; the
+ * message was not sent and can be sent again later
+ */
+public class RateLimitExceededException extends MtsSdkProcessException {
+
+    private static final long serialVersionUID = 3920178354401983512L;
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
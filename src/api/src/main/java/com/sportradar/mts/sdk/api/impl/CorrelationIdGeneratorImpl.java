@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.impl;
+
+import com.sportradar.mts.sdk.api.interfaces.CorrelationIdGenerator;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default {@link CorrelationIdGenerator}. The id is made of a prefix unique to the generator instance (its creation
+ * time and a random node id, taken once from {@link SecureRandom}) and a sequence number. Each thread reserves a block
+ * of sequence numbers from the shared counter, so generating an id is lock-free, does not touch shared state most of
+ * the time and allocates only the resulting string
+ */
+public final class CorrelationIdGeneratorImpl implements CorrelationIdGenerator {
+
+    private static final int SEQUENCE_BLOCK_SIZE = 1024;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final char[] prefix;
+    private final AtomicLong nextBlock = new AtomicLong();
+    private final ThreadLocal<long[]> sequence = ThreadLocal.withInitial(() -> new long[2]);
+
+    public CorrelationIdGeneratorImpl() {
+        this(System.currentTimeMillis(), new SecureRandom().nextLong());
+    }
+
+    /**
+     * Initializes a new instance of the {@link CorrelationIdGeneratorImpl}
+     *
+     * @param startMillis - the creation time of the generator
+     * @param nodeId - the id distinguishing the generators created at the same time; only the lower 48 bits are used
+     */
+    public CorrelationIdGeneratorImpl(long startMillis, long nodeId) {
+        // j + 11 hex digits of the time (till year 2527) + 12 hex digits of the node id + separator
+        char[] chars = new char[25];
+        chars[0] = 'j';
+        writeHex(chars, 1, startMillis, 11);
+        writeHex(chars, 12, nodeId, 12);
+        chars[24] = '-';
+        this.prefix = chars;
+    }
+
+    @Override
+    public String generate() {
+        long[] block = sequence.get();
+        if (block[0] == block[1]) {
+            block[0] = nextBlock.getAndAdd(SEQUENCE_BLOCK_SIZE);
+            block[1] = block[0] + SEQUENCE_BLOCK_SIZE;
+        }
+        long value = block[0]++;
+
+        int digits = Math.max(1, (64 - Long.numberOfLeadingZeros(value) + 3) >> 2);
+        char[] chars = new char[prefix.length + digits];
+        System.arraycopy(prefix, 0, chars, 0, prefix.length);
+        writeHex(chars, prefix.length, value, digits);
+        return new String(chars);
+    }
+
+    private static void writeHex(char[] chars, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX_DIGITS[(int) value & 0xf];
+            value >>>= 4;
+        }
+    }
+}
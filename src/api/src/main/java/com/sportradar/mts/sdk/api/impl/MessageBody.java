@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.impl;
+
+import com.google.common.base.Preconditions;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The raw JSON body of a received message; the body is kept as received (bytes of the delivery or the string it was
+ * created from) and converted to the other form only when it is requested
+ */
+final class MessageBody {
+
+    private volatile byte[] bytes;
+    private volatile String value;
+
+    private MessageBody(byte[] bytes, String value) {
+        this.bytes = bytes;
+        this.value = value;
+    }
+
+    static MessageBody of(byte[] bytes) {
+        Preconditions.checkNotNull(bytes);
+        return new MessageBody(bytes, null);
+    }
+
+    static MessageBody of(String value) {
+        Preconditions.checkNotNull(value);
+        return new MessageBody(null, value);
+    }
+
+    byte[] getBytes() {
+        byte[] result = bytes;
+        if (result == null) {
+            result = value.getBytes(StandardCharsets.UTF_8);
+            bytes = result;
+        }
+        return result;
+    }
+
+    String getValue() {
+        String result = value;
+        if (result == null) {
+            result = new String(bytes, StandardCharsets.UTF_8);
+            value = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.impl;
+
+import com.sportradar.mts.sdk.api.SdkTicket;
+
+/**
+ * Message which keeps its JSON body as UTF-8 encoded bytes; the SDK publishes and logs the shared bytes, while
+ * {@link SdkTicket#getJsonBytes()} hands out a copy, so a caller can not change the body of the later sends
+ */
+public interface SerializedMessage {
+
+    /**
+     * Gets the JSON body of the message as UTF-8 encoded bytes; the returned array is shared and must not be modified
+     *
+     * @return the JSON body of the message as UTF-8 encoded bytes
+     */
+    byte[] getSharedJsonBytes();
+
+    /**
+     * Gets the JSON body of the message without copying it, if the message keeps it
+     *
+     * @param message the message
+     * @return the JSON body of the message as UTF-8 encoded bytes, which must not be modified
+     */
+    static byte[] jsonBytesOf(SdkTicket message) {
+        return message instanceof SerializedMessage
+                ? ((SerializedMessage) message).getSharedJsonBytes()
+                : message.getJsonBytes();
+    }
+}
@@ -5,22 +5,21 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.TicketAck;
 import com.sportradar.mts.sdk.api.enums.TicketAckStatus;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
-import com.sportradar.mts.sdk.api.utils.JsonUtils;
-import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
+import com.sportradar.mts.sdk.api.utils.MtsJsonSerializer;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
 /**
  * Implementation of TicketAck
  */
-public class TicketAckImpl implements TicketAck {
+public class TicketAckImpl implements TicketAck, SerializedMessage {
 
     private final String ticketId;
     private final Date timestampUtc;
@@ -31,6 +30,8 @@ public class TicketAckImpl implements TicketAck {
     private final TicketAckStatus status;
     private final String correlationId;
 
+    private transient volatile byte[] jsonBytes;
+
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public TicketAckImpl(@JsonProperty("ticketId") String ticketId,
                          @JsonProperty("bookmakerId") int bookmakerId,
@@ -102,14 +103,30 @@ public class TicketAckImpl implements TicketAck {
      */
     @Override
     public String getJsonValue() {
-        com.sportradar.mts.sdk.api.impl.mtsdto.ticketack.TicketAckSchema dto = MtsDtoMapper.map(this);
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(dto);
-        }
-        catch (JsonProcessingException ex)
-        {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
+        return new String(getSharedJsonBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the associated ticket in the required MTS JSON format as UTF-8 encoded bytes; the returned array is a
+     * copy of the bytes serialized once and shared by the SDK
+     *
+     * @return the associated ticket in the required MTS JSON format as UTF-8 encoded bytes
+     */
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return getSharedJsonBytes().clone();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getSharedJsonBytes() {
+        byte[] bytes = jsonBytes;
+        if (bytes == null) {
+            bytes = MtsJsonSerializer.serialize(this);
+            jsonBytes = bytes;
         }
+        return bytes;
     }
 
     @Override
@@ -7,23 +7,21 @@ package com.sportradar.mts.sdk.api.impl;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.BetCancel;
 import com.sportradar.mts.sdk.api.TicketCancel;
 import com.sportradar.mts.sdk.api.enums.TicketCancellationReason;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
-import com.sportradar.mts.sdk.api.utils.JsonUtils;
-import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
+import com.sportradar.mts.sdk.api.utils.MtsJsonSerializer;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 
 /**
  * Implementation of TicketCancel
  */
-public class TicketCancelImpl implements TicketCancel {
+public class TicketCancelImpl implements TicketCancel, SerializedMessage {
     private final String ticketId;
     private final Date timestampUtc;
     private final String version;
@@ -33,6 +31,8 @@ public class TicketCancelImpl implements TicketCancel {
     private final Integer cancelPercent;
     private final List<BetCancel> betCancels;
 
+    private transient volatile byte[] jsonBytes;
+
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public TicketCancelImpl(@JsonProperty("ticketId") String ticketId,
                             @JsonProperty("bookmakerId") int bookmakerId,
@@ -121,14 +121,30 @@ public class TicketCancelImpl implements TicketCancel {
     @JsonIgnore
     @Override
     public String getJsonValue() {
-        com.sportradar.mts.sdk.api.impl.mtsdto.ticketcancel.TicketCancelSchema dto = MtsDtoMapper.map(this);
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(dto.getCancel());
-        }
-        catch (JsonProcessingException ex)
-        {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
+        return new String(getSharedJsonBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the associated ticket in the required MTS JSON format as UTF-8 encoded bytes; the returned array is a
+     * copy of the bytes serialized once and shared by the SDK
+     *
+     * @return the associated ticket in the required MTS JSON format as UTF-8 encoded bytes
+     */
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return getSharedJsonBytes().clone();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getSharedJsonBytes() {
+        byte[] bytes = jsonBytes;
+        if (bytes == null) {
+            bytes = MtsJsonSerializer.serialize(this);
+            jsonBytes = bytes;
         }
+        return bytes;
     }
 
     @Override
@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.ResponseReason;
@@ -18,7 +19,7 @@ import java.util.Map;
 /**
  * Implementation of TicketCancelResponse
  */
-public class TicketCancelResponseImpl implements TicketCancelResponse {
+public class TicketCancelResponseImpl implements TicketCancelResponse, SerializedMessage {
 
     private final String ticketId;
     private final Date timestampUtc;
@@ -28,7 +29,7 @@ public class TicketCancelResponseImpl implements TicketCancelResponse {
     private final String signature;
     private final String correlationId;
     private final Map<String, String> additionalInfo;
-    private final String msgBody;
+    private final MessageBody msgBody;
 
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public TicketCancelResponseImpl(@JsonProperty("ticketId") String ticketId,
@@ -39,7 +40,34 @@ public class TicketCancelResponseImpl implements TicketCancelResponse {
                                     @JsonProperty("version") String version,
                                     @JsonProperty("correlationId") String correlationId,
                                     @JsonProperty("additionalInfo") Map<String, String> additionalInfo,
-                                    @JsonProperty("msgBody") String msgBody)
+                                    @JsonProperty("msgBody") String msgBody) {
+        this(ticketId, reason, status, signature, timestampUtc, version, correlationId, additionalInfo, MessageBody.of(msgBody));
+    }
+
+    /**
+     * Initializes a new instance of the {@link TicketCancelResponseImpl} from the body of the received message
+     */
+    public TicketCancelResponseImpl(String ticketId,
+                                    ResponseReason reason,
+                                    TicketCancelAcceptance status,
+                                    String signature,
+                                    Date timestampUtc,
+                                    String version,
+                                    String correlationId,
+                                    Map<String, String> additionalInfo,
+                                    byte[] msgBody) {
+        this(ticketId, reason, status, signature, timestampUtc, version, correlationId, additionalInfo, MessageBody.of(msgBody));
+    }
+
+    private TicketCancelResponseImpl(String ticketId,
+                                     ResponseReason reason,
+                                     TicketCancelAcceptance status,
+                                     String signature,
+                                     Date timestampUtc,
+                                     String version,
+                                     String correlationId,
+                                     Map<String, String> additionalInfo,
+                                     MessageBody msgBody)
     {
         Preconditions.checkNotNull(ticketId, "ticketId cannot be null");
         Preconditions.checkArgument(MtsTicketHelper.validateTicketId(ticketId), "ticketId is not valid");
@@ -47,7 +75,6 @@ public class TicketCancelResponseImpl implements TicketCancelResponse {
         Preconditions.checkArgument(MtsTicketHelper.validateTimestamp(timestampUtc), "timestampUtc is not valid");
         Preconditions.checkNotNull(version, "version cannot be null");
         Preconditions.checkArgument(version.length() == 3, "version is not valid");
-        Preconditions.checkNotNull(msgBody);
 
         this.ticketId = ticketId;
         this.reason = reason;
@@ -105,7 +132,19 @@ public class TicketCancelResponseImpl implements TicketCancelResponse {
      */
     @Override
     public String getJsonValue() {
-        return msgBody;
+        return msgBody.getValue();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return msgBody.getBytes().clone();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getSharedJsonBytes() {
+        return msgBody.getBytes();
     }
 
     @Override
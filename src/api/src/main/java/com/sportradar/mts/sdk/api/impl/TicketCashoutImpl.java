@@ -7,22 +7,20 @@ package com.sportradar.mts.sdk.api.impl;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.BetCashout;
 import com.sportradar.mts.sdk.api.TicketCashout;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
-import com.sportradar.mts.sdk.api.utils.JsonUtils;
-import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
+import com.sportradar.mts.sdk.api.utils.MtsJsonSerializer;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 
 /**
  * Implementation of the user exposed entity {@link TicketCashout}
  */
-public class TicketCashoutImpl implements TicketCashout {
+public class TicketCashoutImpl implements TicketCashout, SerializedMessage {
     /**
      * The assigned ticket id
      */
@@ -60,6 +58,8 @@ public class TicketCashoutImpl implements TicketCashout {
 
     private final String correlationId;
 
+    private transient volatile byte[] jsonBytes;
+
     /**
      * Initializes a new instance of the {@link TicketCashoutImpl}
      *
@@ -190,11 +190,30 @@ public class TicketCashoutImpl implements TicketCashout {
     @JsonIgnore
     @Override
     public String getJsonValue() {
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(MtsDtoMapper.map(this));
-        } catch (JsonProcessingException ex) {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
+        return new String(getSharedJsonBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the associated ticket in the required MTS JSON format as UTF-8 encoded bytes; the returned array is a
+     * copy of the bytes serialized once and shared by the SDK
+     *
+     * @return the associated ticket in the required MTS JSON format as UTF-8 encoded bytes
+     */
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return getSharedJsonBytes().clone();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getSharedJsonBytes() {
+        byte[] bytes = jsonBytes;
+        if (bytes == null) {
+            bytes = MtsJsonSerializer.serialize(this);
+            jsonBytes = bytes;
         }
+        return bytes;
     }
 
     /**
@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.ResponseReason;
@@ -18,7 +19,7 @@ import java.util.Map;
 /**
  * Implementation of the user exposed entity {@link TicketCashoutResponse}
  */
-public class TicketCashoutResponseImpl implements TicketCashoutResponse {
+public class TicketCashoutResponseImpl implements TicketCashoutResponse, SerializedMessage {
     /**
      * The assigned ticket id
      */
@@ -59,7 +60,7 @@ public class TicketCashoutResponseImpl implements TicketCashoutResponse {
     /**
      * the raw JSON payload received from MTS
      */
-    private final String msgBody;
+    private final MessageBody msgBody;
 
     /**
      * Initializes a new instance of the {@link TicketCashoutResponseImpl}
@@ -84,6 +85,33 @@ public class TicketCashoutResponseImpl implements TicketCashoutResponse {
                                      @JsonProperty("correlationId") String correlationId,
                                      @JsonProperty("additionalInfo") Map<String, String> additionalInfo,
                                      @JsonProperty("msgBody") String msgBody) {
+        this(ticketId, timestampUtc, reason, status, signature, version, correlationId, additionalInfo, MessageBody.of(msgBody));
+    }
+
+    /**
+     * Initializes a new instance of the {@link TicketCashoutResponseImpl} from the body of the received message
+     */
+    public TicketCashoutResponseImpl(String ticketId,
+                                     Date timestampUtc,
+                                     ResponseReason reason,
+                                     TicketAcceptance status,
+                                     String signature,
+                                     String version,
+                                     String correlationId,
+                                     Map<String, String> additionalInfo,
+                                     byte[] msgBody) {
+        this(ticketId, timestampUtc, reason, status, signature, version, correlationId, additionalInfo, MessageBody.of(msgBody));
+    }
+
+    private TicketCashoutResponseImpl(String ticketId,
+                                      Date timestampUtc,
+                                      ResponseReason reason,
+                                      TicketAcceptance status,
+                                      String signature,
+                                      String version,
+                                      String correlationId,
+                                      Map<String, String> additionalInfo,
+                                      MessageBody msgBody) {
         Preconditions.checkNotNull(ticketId, "ticketId cannot be null");
         Preconditions.checkArgument(MtsTicketHelper.validateTicketId(ticketId), "ticketId is not valid");
         Preconditions.checkNotNull(timestampUtc, "timestamp cannot be null");
@@ -92,7 +120,6 @@ public class TicketCashoutResponseImpl implements TicketCashoutResponse {
         Preconditions.checkArgument(version.length() == 3, "version is not valid");
         Preconditions.checkNotNull(status, "status cannot be null");
         Preconditions.checkNotNull(signature, "signature can not be null");
-        Preconditions.checkNotNull(msgBody);
 
         this.ticketId = ticketId;
         this.timestampUtc = timestampUtc;
@@ -189,6 +216,18 @@ public class TicketCashoutResponseImpl implements TicketCashoutResponse {
      */
     @Override
     public String getJsonValue() {
-        return msgBody;
+        return msgBody.getValue();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return msgBody.getBytes().clone();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getSharedJsonBytes() {
+        return msgBody.getBytes();
     }
 }
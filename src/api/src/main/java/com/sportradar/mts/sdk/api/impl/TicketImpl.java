@@ -7,7 +7,6 @@ package com.sportradar.mts.sdk.api.impl;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.sportradar.mts.sdk.api.Bet;
@@ -15,12 +14,11 @@ import com.sportradar.mts.sdk.api.Selection;
 import com.sportradar.mts.sdk.api.Sender;
 import com.sportradar.mts.sdk.api.Ticket;
 import com.sportradar.mts.sdk.api.enums.OddsChangeType;
-import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
-import com.sportradar.mts.sdk.api.utils.JsonUtils;
-import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
+import com.sportradar.mts.sdk.api.utils.MtsJsonSerializer;
 import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -28,7 +26,7 @@ import java.util.stream.Collectors;
 /**
  * Implementation of Ticket
  */
-public class TicketImpl implements Ticket {
+public class TicketImpl implements Ticket, SerializedMessage {
 
     private final String ticketId;
     private final Date timestampUtc;
@@ -45,6 +43,8 @@ public class TicketImpl implements Ticket {
     private final Date lastMatchEndTime;
     private final Long payCap;
 
+    private transient volatile byte[] jsonBytes;
+
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public TicketImpl(@JsonProperty("ticketId") String ticketId,
                       @JsonProperty("bets") List<Bet> bets,
@@ -176,14 +176,30 @@ public class TicketImpl implements Ticket {
     @Override
     @JsonIgnore
     public String getJsonValue() {
-        com.sportradar.mts.sdk.api.impl.mtsdto.ticket.TicketSchema dto = MtsDtoMapper.map(this);
-        try {
-            return JsonUtils.OBJECT_MAPPER.writeValueAsString(dto.getTicket());
-        }
-        catch (JsonProcessingException ex)
-        {
-            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
+        return new String(getSharedJsonBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the associated ticket in the required MTS JSON format as UTF-8 encoded bytes; the returned array is a
+     * copy of the bytes serialized once and shared by the SDK
+     *
+     * @return the associated ticket in the required MTS JSON format as UTF-8 encoded bytes
+     */
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return getSharedJsonBytes().clone();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getSharedJsonBytes() {
+        byte[] bytes = jsonBytes;
+        if (bytes == null) {
+            bytes = MtsJsonSerializer.serialize(this);
+            jsonBytes = bytes;
         }
+        return bytes;
     }
 
     @Override
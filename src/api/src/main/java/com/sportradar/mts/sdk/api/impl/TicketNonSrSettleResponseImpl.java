@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.ResponseReason;
@@ -18,7 +19,7 @@ import java.util.Map;
 /**
  * Implementation of the user exposed entity {@link TicketNonSrSettleResponse}
  */
-public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse {
+public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse, SerializedMessage {
 
     /**
      * The assigned ticket id
@@ -60,7 +61,7 @@ public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse
     /**
      * the raw JSON payload received from MTS
      */
-    private final String msgBody;
+    private final MessageBody msgBody;
 
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public TicketNonSrSettleResponseImpl(@JsonProperty("ticketId") String ticketId,
@@ -72,6 +73,33 @@ public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse
                                          @JsonProperty("correlationId") String correlationId,
                                          @JsonProperty("additionalInfo") Map<String, String> additionalInfo,
                                          @JsonProperty("msgBody") String msgBody) {
+        this(ticketId, timestampUtc, version, reason, status, signature, correlationId, additionalInfo, MessageBody.of(msgBody));
+    }
+
+    /**
+     * Initializes a new instance of the {@link TicketNonSrSettleResponseImpl} from the body of the received message
+     */
+    public TicketNonSrSettleResponseImpl(String ticketId,
+                                         Date timestampUtc,
+                                         String version,
+                                         ResponseReason reason,
+                                         TicketAcceptance status,
+                                         String signature,
+                                         String correlationId,
+                                         Map<String, String> additionalInfo,
+                                         byte[] msgBody) {
+        this(ticketId, timestampUtc, version, reason, status, signature, correlationId, additionalInfo, MessageBody.of(msgBody));
+    }
+
+    private TicketNonSrSettleResponseImpl(String ticketId,
+                                          Date timestampUtc,
+                                          String version,
+                                          ResponseReason reason,
+                                          TicketAcceptance status,
+                                          String signature,
+                                          String correlationId,
+                                          Map<String, String> additionalInfo,
+                                          MessageBody msgBody) {
         Preconditions.checkNotNull(ticketId, "ticketId cannot be null");
         Preconditions.checkArgument(MtsTicketHelper.validateTicketId(ticketId), "ticketId is not valid");
         Preconditions.checkNotNull(timestampUtc, "timestamp cannot be null");
@@ -80,7 +108,6 @@ public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse
         Preconditions.checkArgument(version.length() == 3, "version is not valid");
         Preconditions.checkNotNull(status, "status cannot be null");
         Preconditions.checkNotNull(signature, "signature can not be null");
-        Preconditions.checkNotNull(msgBody);
 
         this.ticketId = ticketId;
         this.timestampUtc = timestampUtc;
@@ -177,6 +204,18 @@ public class TicketNonSrSettleResponseImpl implements TicketNonSrSettleResponse
      */
     @Override
     public String getJsonValue() {
-        return msgBody;
+        return msgBody.getValue();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return msgBody.getBytes().clone();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getSharedJsonBytes() {
+        return msgBody.getBytes();
     }
 }
@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.api.impl;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
@@ -25,7 +26,7 @@ import java.util.Map;
 /**
  * Implementation of TicketResponse
  */
-public class TicketResponseImpl implements TicketResponse {
+public class TicketResponseImpl implements TicketResponse, SerializedMessage {
 
     private final String ticketId;
     private final Date timestampUtc;
@@ -38,7 +39,7 @@ public class TicketResponseImpl implements TicketResponse {
     private final String correlationId;
     private final Map<String, String> additionalInfo;
     private final List<AutoAcceptedOdds> autoAcceptedOddsList;
-    private final String msgBody;
+    private final MessageBody msgBody;
     private final List<BetDetail> sdkBetDetails;
 
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
@@ -53,7 +54,40 @@ public class TicketResponseImpl implements TicketResponse {
                               @JsonProperty("correlationId") String correlationId,
                               @JsonProperty("additionalInfo") Map<String, String> additionalInfo,
                               @JsonProperty("autoAcceptedOdds") List<AutoAcceptedOdd> autoAcceptedOdds,
-                              @JsonProperty("msgBody") String msgBody)
+                              @JsonProperty("msgBody") String msgBody) {
+        this(ticketId, reason, status, betDetails, signature, exchangeRate, timestampUtc, version, correlationId, additionalInfo, autoAcceptedOdds, MessageBody.of(msgBody));
+    }
+
+    /**
+     * Initializes a new instance of the {@link TicketResponseImpl} from the body of the received message
+     */
+    public TicketResponseImpl(String ticketId,
+                              ResponseReason reason,
+                              TicketAcceptance status,
+                              List<BetDetail> betDetails,
+                              String signature,
+                              long exchangeRate,
+                              Date timestampUtc,
+                              String version,
+                              String correlationId,
+                              Map<String, String> additionalInfo,
+                              List<AutoAcceptedOdd> autoAcceptedOdds,
+                              byte[] msgBody) {
+        this(ticketId, reason, status, betDetails, signature, exchangeRate, timestampUtc, version, correlationId, additionalInfo, autoAcceptedOdds, MessageBody.of(msgBody));
+    }
+
+    private TicketResponseImpl(String ticketId,
+                               ResponseReason reason,
+                               TicketAcceptance status,
+                               List<BetDetail> betDetails,
+                               String signature,
+                               long exchangeRate,
+                               Date timestampUtc,
+                               String version,
+                               String correlationId,
+                               Map<String, String> additionalInfo,
+                               List<AutoAcceptedOdd> autoAcceptedOdds,
+                               MessageBody msgBody)
     {
         Preconditions.checkNotNull(ticketId, "ticketId cannot be null");
         Preconditions.checkArgument(MtsTicketHelper.validateTicketId(ticketId), "ticketId is not valid");
@@ -61,7 +95,6 @@ public class TicketResponseImpl implements TicketResponse {
         Preconditions.checkArgument(MtsTicketHelper.validateTimestamp(timestampUtc), "timestampUtc is not valid");
         Preconditions.checkNotNull(version, "version cannot be null");
         Preconditions.checkArgument(version.length() == 3, "version is not valid");
-        Preconditions.checkNotNull(msgBody);
 
         this.ticketId = ticketId;
         this.reason = reason;
@@ -178,7 +211,19 @@ public class TicketResponseImpl implements TicketResponse {
      */
     @Override
     public String getJsonValue() {
-        return msgBody;
+        return msgBody.getValue();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getJsonBytes() {
+        return msgBody.getBytes().clone();
+    }
+
+    @JsonIgnore
+    @Override
+    public byte[] getSharedJsonBytes() {
+        return msgBody.getBytes();
     }
 
     @Override
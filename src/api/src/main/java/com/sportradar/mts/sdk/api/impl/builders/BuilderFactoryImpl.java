@@ -14,6 +14,7 @@ public class BuilderFactoryImpl extends SimpleBuilderFactoryImpl implements Buil
 
     private final SdkConfiguration config;
     private MarketDescriptionProvider marketDescriptionProvider;
+    private final SelectionIdEncoder selectionIdEncoder;
 
     public BuilderFactoryImpl(SdkConfiguration config, MarketDescriptionProvider marketDescriptionProvider)
     {
@@ -22,6 +23,7 @@ public class BuilderFactoryImpl extends SimpleBuilderFactoryImpl implements Buil
 
         this.config = config;
         this.marketDescriptionProvider = marketDescriptionProvider;
+        this.selectionIdEncoder = new SelectionIdEncoder(config.getSelectionIdCacheSize());
     }
 
     @Override
@@ -43,10 +45,10 @@ public class BuilderFactoryImpl extends SimpleBuilderFactoryImpl implements Buil
     }
 
     @Override
-    public SelectionBuilder createSelectionBuilder() { return new SelectionBuilderImpl(marketDescriptionProvider, config, false); }
+    public SelectionBuilder createSelectionBuilder() { return new SelectionBuilderImpl(marketDescriptionProvider, config, false, selectionIdEncoder); }
 
     @Override
-    public SelectionBuilder createSelectionBuilder(boolean isCustomBet) { return new SelectionBuilderImpl(marketDescriptionProvider, config, isCustomBet); }
+    public SelectionBuilder createSelectionBuilder(boolean isCustomBet) { return new SelectionBuilderImpl(marketDescriptionProvider, config, isCustomBet, selectionIdEncoder); }
 
     @Override
     public TicketAckBuilder createTicketAckBuilder() { return new TicketAckBuilderImpl(config); }
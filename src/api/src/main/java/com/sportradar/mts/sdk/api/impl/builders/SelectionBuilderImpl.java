@@ -31,6 +31,7 @@ public class SelectionBuilderImpl implements SelectionBuilder {
 
     private final MarketDescriptionProvider marketDescriptionProvider;
     private final SdkConfiguration config;
+    private final SelectionIdEncoder selectionIdEncoder;
     private String eventId;
     private String selectionId;
     private Integer odds;
@@ -39,11 +40,17 @@ public class SelectionBuilderImpl implements SelectionBuilder {
     private final boolean isCustomBet;
 
     public SelectionBuilderImpl(MarketDescriptionProvider marketDescriptionProvider, SdkConfiguration config, boolean isCustomBet) {
+        this(marketDescriptionProvider, config, isCustomBet, new SelectionIdEncoder(0));
+    }
+
+    SelectionBuilderImpl(MarketDescriptionProvider marketDescriptionProvider, SdkConfiguration config, boolean isCustomBet, SelectionIdEncoder selectionIdEncoder) {
         Preconditions.checkNotNull(marketDescriptionProvider);
         Preconditions.checkNotNull(config);
+        Preconditions.checkNotNull(selectionIdEncoder);
 
         this.marketDescriptionProvider = marketDescriptionProvider;
         this.config = config;
+        this.selectionIdEncoder = selectionIdEncoder;
         this.isCustomBet = isCustomBet;
     }
 
@@ -68,15 +75,7 @@ public class SelectionBuilderImpl implements SelectionBuilder {
         {
             subType = 0;
         }
-        if (StringUtils.isNullOrEmpty(sov))
-        {
-            sov = "*";
-        }
-        selectionId = String.format("live:%s/%s/%s", type, subType, sov);
-        if (!StringUtils.isNullOrEmpty(selectionIds))
-        {
-            selectionId += "/" + selectionIds;
-        }
+        selectionId = selectionIdEncoder.encodeLo(type, subType, sov, selectionIds);
         validateData(true, false, false);
         return this;
     }
@@ -85,16 +84,7 @@ public class SelectionBuilderImpl implements SelectionBuilder {
     public SelectionBuilder setIdLcoo(int type, int sportId, String sov, String selectionIds) {
         Preconditions.checkArgument(type > 0, "type is missing");
         Preconditions.checkArgument(sportId > 0, SPORT_ID_MISSING);
-
-        if (StringUtils.isNullOrEmpty(sov))
-        {
-            sov = "*";
-        }
-        selectionId = String.format("lcoo:%s/%s/%s", type, sportId, sov);
-        if (!StringUtils.isNullOrEmpty(selectionIds))
-        {
-            selectionId += "/" + selectionIds;
-        }
+        selectionId = selectionIdEncoder.encodeLcoo(type, sportId, sov, selectionIds);
         validateData(true, false, false);
         return this;
     }
@@ -104,16 +94,7 @@ public class SelectionBuilderImpl implements SelectionBuilder {
         Preconditions.checkArgument(!StringUtils.isNullOrEmpty(sportId), SPORT_ID_MISSING);
         Preconditions.checkArgument(marketId > 0, "marketId is missing");
 
-        Map<String, String> specs = new HashMap<>();
-        if(!StringUtils.isNullOrEmpty(specifiers))
-        {
-            for (String spec : specifiers.split("\\|"))
-            {
-                String[] s = spec.split("=");
-                specs.putIfAbsent(s[0], s[1]);
-            }
-        }
-        return setIdUof(product, sportId, marketId, selectionIds, specs, sportEventStatus);
+        return setIdUof(product, sportId, marketId, selectionIds, SelectionIdEncoder.parseSpecifiers(specifiers), sportEventStatus);
     }
 
     @Override
@@ -130,21 +111,8 @@ public class SelectionBuilderImpl implements SelectionBuilder {
             throw new IllegalArgumentException("Product is not valid.");
         }
 
-        selectionId = String.format("uof:%s/%s/%s", product, sportId, marketId);
-        if (!StringUtils.isNullOrEmpty(selectionIds))
-        {
-            selectionId += "/" + selectionIds;
-        }
         Map<String, String> newSpecifiers = handleMarketDescription(product, sportId, marketId, specifiers, sportEventStatus);
-        if (newSpecifiers != null && !newSpecifiers.isEmpty())
-        {
-            StringBuilder sb = new StringBuilder();
-            newSpecifiers.forEach((key, value) -> sb.append("&")
-                    .append(key)
-                    .append("=")
-                    .append(value));
-            selectionId += "?" + sb.substring(1);
-        }
+        selectionId = selectionIdEncoder.encodeUof(product, sportId, marketId, selectionIds, newSpecifiers);
         validateData(true, false, false);
         return this;
     }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.impl.builders;
+
+import com.google.common.base.Preconditions;
+import com.sportradar.mts.sdk.api.utils.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the selection ids for the lo, lcoo and uof selections. The ids are written into a per-thread buffer which is
+ * reused between the calls; recurring ids can be served from a bounded cache, so the same market/outcome id is not
+ * allocated again for every selection. Instances are thread-safe
+ */
+final class SelectionIdEncoder {
+
+    private static final int MAX_CACHED_ID_LENGTH = 256;
+    private static final int MAX_REUSED_BUFFER_CAPACITY = 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private final String[] cache;
+    private final int mask;
+
+    /**
+     * Creates a new encoder
+     *
+     * @param cacheSize the number of ids kept for reuse (rounded up to a power of two); 0 disables the cache
+     */
+    SelectionIdEncoder(int cacheSize) {
+        Preconditions.checkArgument(cacheSize >= 0, "cacheSize must not be negative");
+        Preconditions.checkArgument(cacheSize <= (1 << 30), "cacheSize is too big");
+
+        if (cacheSize == 0) {
+            this.cache = null;
+            this.mask = 0;
+        } else {
+            int capacity = Integer.highestOneBit(cacheSize);
+            if (capacity < cacheSize) {
+                capacity <<= 1;
+            }
+            this.cache = new String[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+
+    String encodeLo(int type, int subType, String sov, String selectionIds) {
+        StringBuilder sb = buffer().append("live:").append(type).append('/').append(subType).append('/');
+        appendSovAndSelectionIds(sb, sov, selectionIds);
+        return toId(sb);
+    }
+
+    String encodeLcoo(int type, int sportId, String sov, String selectionIds) {
+        StringBuilder sb = buffer().append("lcoo:").append(type).append('/').append(sportId).append('/');
+        appendSovAndSelectionIds(sb, sov, selectionIds);
+        return toId(sb);
+    }
+
+    String encodeUof(int product, String sportId, int marketId, String selectionIds, Map<String, String> specifiers) {
+        StringBuilder sb = buffer().append("uof:").append(product).append('/').append(sportId).append('/').append(marketId);
+        if (!StringUtils.isNullOrEmpty(selectionIds)) {
+            sb.append('/').append(selectionIds);
+        }
+        if (specifiers != null) {
+            boolean first = true;
+            for (Map.Entry<String, String> specifier : specifiers.entrySet()) {
+                sb.append(first ? '?' : '&').append(specifier.getKey()).append('=').append(specifier.getValue());
+                first = false;
+            }
+        }
+        return toId(sb);
+    }
+
+    /**
+     * Parses the specifiers in the format "key1=value1|key2=value2" in a single pass; when a key is repeated the
+     * first value is kept
+     *
+     * @param specifiers the specifiers to be parsed
+     * @return the map of the specifiers, empty if there are none
+     * @throws IllegalArgumentException if a specifier has no key or no value
+     */
+    static Map<String, String> parseSpecifiers(String specifiers) {
+        Map<String, String> result = new HashMap<>();
+        if (StringUtils.isNullOrEmpty(specifiers)) {
+            return result;
+        }
+
+        final int length = specifiers.length();
+        int start = 0;
+        while (start < length) {
+            int end = specifiers.indexOf('|', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                int separator = specifiers.indexOf('=', start);
+                if (separator <= start || separator >= end - 1) {
+                    throw new IllegalArgumentException("Specifier '" + specifiers.substring(start, end) + "' is not valid.");
+                }
+                result.putIfAbsent(specifiers.substring(start, separator), specifiers.substring(separator + 1, end));
+            }
+            start = end + 1;
+        }
+        return result;
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        return sb;
+    }
+
+    private static void appendSovAndSelectionIds(StringBuilder sb, String sov, String selectionIds) {
+        sb.append(StringUtils.isNullOrEmpty(sov) ? "*" : sov);
+        if (!StringUtils.isNullOrEmpty(selectionIds)) {
+            sb.append('/').append(selectionIds);
+        }
+    }
+
+    private String toId(StringBuilder sb) {
+        final int length = sb.length();
+        if (sb.capacity() > MAX_REUSED_BUFFER_CAPACITY) {
+            BUFFER.remove();
+        }
+        if (cache == null || length > MAX_CACHED_ID_LENGTH) {
+            return sb.toString();
+        }
+
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + sb.charAt(i);
+        }
+        final int index = (hash ^ (hash >>> 16)) & mask;
+        // racy reads and writes are fine, strings are immutable and a lost update only costs a miss
+        String cached = cache[index];
+        if (cached != null && cached.contentEquals(sb)) {
+            return cached;
+        }
+        String id = sb.toString();
+        cache[index] = id;
+        return id;
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.interfaces;
+
+/**
+ * Generates the correlation ids of the messages sent to the MTS. The generator is called from the constructors of the
+ * messages, possibly from many threads at once, so it must be thread-safe and fast. A custom generator is registered
+ * with {@link com.sportradar.mts.sdk.api.utils.MtsTicketHelper#setCorrelationIdGenerator(CorrelationIdGenerator)} or
+ * as a {@link java.util.ServiceLoader} provider
+ */
+public interface CorrelationIdGenerator {
+
+    /**
+     * Generates a new correlation id; the ids must be unique across all the SDK instances and their restarts, must
+     * not be empty and must not be longer than 255 bytes in UTF-8, otherwise the message creation fails
+     *
+     * @return a new correlation id
+     */
+    String generate();
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.interfaces;
+
+/**
+ * The messages of a sender which still wait for their publish result or response
+ */
+public interface InFlightStatus {
+
+    /**
+     * Gets the name of the sender
+     * @return the name of the sender
+     */
+    String getName();
+
+    /**
+     * Gets the number of messages in flight
+     * @return the number of messages in flight
+     */
+    int getSize();
+
+    /**
+     * Gets the max number of messages in flight; new messages are rejected once it is reached
+     * @return the max number of messages in flight
+     */
+    int getCapacity();
+
+    /**
+     * Gets the number of messages removed because their response timeout was reached
+     * @return the number of messages removed because their response timeout was reached
+     */
+    long getEvictions();
+
+    /**
+     * Gets the number of messages rejected because the capacity was reached or their correlationId was in flight
+     * @return the number of rejected messages
+     */
+    long getRejections();
+
+    /**
+     * Gets the age of the oldest message in flight in milliseconds
+     * @return the age of the oldest message in flight or 0 if there are none
+     */
+    long getOldestAgeMillis();
+}
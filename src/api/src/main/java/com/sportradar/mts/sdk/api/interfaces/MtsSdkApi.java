@@ -115,4 +115,10 @@ public interface MtsSdkApi extends Openable {
      * @return the connection status
      */
     ConnectionStatus getConnectionStatus(ConnectionChangeListener connectionChangeListener);
+
+    /**
+     * Get the metrics of the SDK, i.e. the callback queue depths, the messages in flight and the consumer prefetch
+     * @return the {@link SdkMetrics}
+     */
+    SdkMetrics getMetrics();
 }
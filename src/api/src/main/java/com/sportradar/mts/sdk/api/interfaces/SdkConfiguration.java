@@ -175,4 +175,124 @@ public interface SdkConfiguration {
      * @return the Client API host
      */
     String getMtsClientApiHost();
+
+    /**
+     * Gets the max number of messages the producers publish back-to-back in a single batch before the confirmations are resolved
+     * @return the publish batch size
+     */
+    int getPublishBatchSize();
+
+    /**
+     * Gets the max time(us) a producer waits for the publish batch to fill up (only used when {@link #getPublishBatchSize()} is greater than 1)
+     * @return the publish batch timeout in microseconds
+     */
+    int getPublishBatchTimeoutMicros();
+
+    /**
+     * Gets the number of channels (shards) the tickets are published through; tickets are assigned to the shards by the hash of the ticket id
+     * @return the ticket producer shard count
+     */
+    int getTicketProducerShardCount();
+
+    /**
+     * Gets the value indicating whether each ticket producer shard publishes through its own connection
+     * @return true if each shard uses its own connection, false if the shards share one connection
+     */
+    boolean getTicketProducerConnectionPerShard();
+
+    /**
+     * Gets the max number of messages waiting to be published per producer shard; messages over the limit are rejected
+     * @return the producer buffer size
+     */
+    int getProducerBufferSize();
+
+    /**
+     * Gets the tick duration(ms) of the timer detecting ticket response timeouts; a timeout fires at most one tick late
+     * @return the response timeout timer tick in milliseconds
+     */
+    int getResponseTimeoutTimerTick();
+
+    /**
+     * Gets the max number of messages per sender waiting for the publish result or response; further messages are rejected
+     * @return the max number of messages in flight per sender
+     */
+    int getMaxInFlightRequests();
+
+    /**
+     * Gets the number of threads processing the received responses of each consumer; responses for the same ticket are always processed in order
+     * @return the number of threads processing the received responses of each consumer
+     */
+    int getConsumerWorkerCount();
+
+    /**
+     * Gets the value indicating whether the received responses are acknowledged (in batches) only after they are handed to the listener; otherwise they are acknowledged on delivery
+     * @return true if the received responses are acknowledged after they are processed
+     */
+    boolean getConsumerManualAck();
+
+    /**
+     * Gets the min (and initial) number of unacknowledged responses the broker sends to each consumer
+     * @return the min prefetch count of the consumers
+     */
+    int getConsumerMinPrefetch();
+
+    /**
+     * Gets the max number of unacknowledged responses the broker sends to each consumer; with manual ack the prefetch is adjusted between the min and max from the observed delivery rate and handler latency
+     * @return the max prefetch count of the consumers
+     */
+    int getConsumerMaxPrefetch();
+
+    /**
+     * Gets the number of threads dispatching the responses to the listeners; responses for the same ticket are dispatched in order
+     * @return the number of threads dispatching the responses
+     */
+    int getResponseDispatcherThreads();
+
+    /**
+     * Gets the number of threads dispatching the publish results to the listeners
+     * @return the number of threads dispatching the publish results
+     */
+    int getPublishResultDispatcherThreads();
+
+    /**
+     * Gets the number of threads dispatching the response timeouts to the listeners
+     * @return the number of threads dispatching the response timeouts
+     */
+    int getTimeoutDispatcherThreads();
+
+    /**
+     * Gets how long (in ms) a message waits for the send rate limiter before it is rejected; cancels, cashouts and acknowledgments are admitted before new tickets
+     * @return the max time in ms a message waits for the send rate limiter
+     */
+    int getRateLimitTimeout();
+
+    /**
+     * Gets the number of selection ids built by the selection builders which are cached and reused, so recurring ids share one instance
+     * @return the number of cached selection ids
+     */
+    int getSelectionIdCacheSize();
+
+    /**
+     * Gets the max number of pooled connections used by the REST clients
+     * @return the max number of pooled connections used by the REST clients
+     */
+    int getHttpClientMaxConnTotal();
+
+    /**
+     * Gets the max number of pooled connections to a single host used by the REST clients
+     * @return the max number of pooled connections to a single host
+     */
+    int getHttpClientMaxConnPerRoute();
+
+    /**
+     * Gets the timeout (in ms) of the REST clients for connecting, waiting for a pooled connection and waiting for data
+     * @return the timeout in ms of the REST clients
+     */
+    int getHttpClientTimeout();
+
+    /**
+     * Gets the path of the local file the market descriptions are persisted to and served from after a restart
+     * @return the path of the market descriptions snapshot file or null if not set
+     */
+    String getMarketDescriptionsSnapshotFile();
 }
\ No newline at end of file
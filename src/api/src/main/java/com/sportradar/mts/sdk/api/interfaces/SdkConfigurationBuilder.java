@@ -214,6 +214,166 @@ public interface SdkConfigurationBuilder {
      */
     SdkConfigurationBuilder setMtsClientApiHost(String mtsClientApiHost);
 
+    /**
+     * Sets the max number of messages the producers publish back-to-back in a single batch (default: 1 - no batching)
+     *
+     * @param publishBatchSize the publish batch size to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setPublishBatchSize(int publishBatchSize);
+
+    /**
+     * Sets the max time(us) a producer waits for the publish batch to fill up (default: 0 - publish what is already queued)
+     *
+     * @param publishBatchTimeoutMicros the publish batch timeout to be set(us)
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setPublishBatchTimeoutMicros(int publishBatchTimeoutMicros);
+
+    /**
+     * Sets the number of channels (shards) the tickets are published through (default: 1)
+     *
+     * @param ticketProducerShardCount the ticket producer shard count to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setTicketProducerShardCount(int ticketProducerShardCount);
+
+    /**
+     * Sets the value indicating whether each ticket producer shard publishes through its own connection (default: false)
+     *
+     * @param ticketProducerConnectionPerShard value to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setTicketProducerConnectionPerShard(boolean ticketProducerConnectionPerShard);
+
+    /**
+     * Sets the max number of messages waiting to be published per producer shard (default: 64)
+     *
+     * @param producerBufferSize the producer buffer size to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setProducerBufferSize(int producerBufferSize);
+
+    /**
+     * Sets the tick duration(ms) of the timer detecting ticket response timeouts (default: 10ms)
+     *
+     * @param responseTimeoutTimerTick the response timeout timer tick to be set(ms)
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setResponseTimeoutTimerTick(int responseTimeoutTimerTick);
+
+    /**
+     * Sets the max number of messages per sender waiting for the publish result or response (default: 100000)
+     *
+     * @param maxInFlightRequests the max number of messages in flight per sender to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setMaxInFlightRequests(int maxInFlightRequests);
+
+    /**
+     * Sets the number of threads processing the received responses of each consumer (default: 4)
+     *
+     * @param consumerWorkerCount the number of threads processing the received responses of each consumer to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setConsumerWorkerCount(int consumerWorkerCount);
+
+    /**
+     * Sets the value indicating whether the received responses are acknowledged (in batches) only after they are handed to the listener (default: false)
+     *
+     * @param consumerManualAck the value to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setConsumerManualAck(boolean consumerManualAck);
+
+    /**
+     * Sets the min (and initial) number of unacknowledged responses the broker sends to each consumer (default: 10)
+     *
+     * @param consumerMinPrefetch the min prefetch count of the consumers to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setConsumerMinPrefetch(int consumerMinPrefetch);
+
+    /**
+     * Sets the max number of unacknowledged responses the broker sends to each consumer (default: 200)
+     *
+     * @param consumerMaxPrefetch the max prefetch count of the consumers to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setConsumerMaxPrefetch(int consumerMaxPrefetch);
+
+    /**
+     * Sets the number of threads dispatching the responses to the listeners (default: 4)
+     *
+     * @param responseDispatcherThreads the number of threads dispatching the responses to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setResponseDispatcherThreads(int responseDispatcherThreads);
+
+    /**
+     * Sets the number of threads dispatching the publish results to the listeners (default: 1)
+     *
+     * @param publishResultDispatcherThreads the number of threads dispatching the publish results to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setPublishResultDispatcherThreads(int publishResultDispatcherThreads);
+
+    /**
+     * Sets the number of threads dispatching the response timeouts to the listeners (default: 1)
+     *
+     * @param timeoutDispatcherThreads the number of threads dispatching the response timeouts to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setTimeoutDispatcherThreads(int timeoutDispatcherThreads);
+
+    /**
+     * Sets how long (in ms) a message waits for the send rate limiter before it is rejected with RateLimitExceededException; 0 rejects the message right away (default: 10000)
+     *
+     * @param rateLimitTimeout the max time in ms a message waits for the send rate limiter to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setRateLimitTimeout(int rateLimitTimeout);
+
+    /**
+     * Sets the number of selection ids built by the selection builders which are cached and reused; 0 disables the cache (default: 8192)
+     *
+     * @param selectionIdCacheSize the number of cached selection ids to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setSelectionIdCacheSize(int selectionIdCacheSize);
+
+    /**
+     * Sets the max number of pooled connections used by the REST clients (default: 20)
+     *
+     * @param httpClientMaxConnTotal the max number of pooled connections to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setHttpClientMaxConnTotal(int httpClientMaxConnTotal);
+
+    /**
+     * Sets the max number of pooled connections to a single host used by the REST clients (default: 10)
+     *
+     * @param httpClientMaxConnPerRoute the max number of pooled connections to a single host to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setHttpClientMaxConnPerRoute(int httpClientMaxConnPerRoute);
+
+    /**
+     * Sets the timeout (in ms) of the REST clients for connecting, waiting for a pooled connection and waiting for data; 0 waits without a limit (default: 30000)
+     *
+     * @param httpClientTimeout the timeout in ms of the REST clients to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setHttpClientTimeout(int httpClientTimeout);
+
+    /**
+     * Sets the path of the local file the market descriptions are persisted to; after a restart they are served from the file while being refreshed from the API in the background
+     *
+     * @param marketDescriptionsSnapshotFile the path of the market descriptions snapshot file to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    SdkConfigurationBuilder setMarketDescriptionsSnapshotFile(String marketDescriptionsSnapshotFile);
+
     /**
      * Build and return the {@link SdkConfiguration}
      * @return {@link SdkConfiguration}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.interfaces;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The current load of the SDK; all the values are read when the method is called
+ */
+public interface SdkMetrics {
+
+    /**
+     * Gets the number of responses waiting to be dispatched to the listeners
+     * @return the number of responses waiting to be dispatched
+     */
+    int getResponseQueueDepth();
+
+    /**
+     * Gets the number of publish results waiting to be dispatched to the listeners
+     * @return the number of publish results waiting to be dispatched
+     */
+    int getPublishResultQueueDepth();
+
+    /**
+     * Gets the number of response timeouts waiting to be dispatched to the listeners
+     * @return the number of response timeouts waiting to be dispatched
+     */
+    int getTimeoutQueueDepth();
+
+    /**
+     * Gets the messages in flight of each sender
+     * @return the {@link InFlightStatus} of each sender
+     */
+    List<InFlightStatus> getInFlightStatuses();
+
+    /**
+     * Gets the current prefetch count (the max number of unacknowledged messages) of each response consumer
+     * @return the current prefetch count keyed by the name of the response consumer
+     */
+    Map<String, Integer> getPrefetchCounts();
+}
@@ -6,6 +6,8 @@ package com.sportradar.mts.sdk.api.interfaces;
 
 import com.sportradar.mts.sdk.api.TicketAck;
 
+import java.util.Collection;
+
 /**
  * {@link TicketAck} sender
  */
@@ -17,4 +19,15 @@ public interface TicketAckSender extends MessageSender {
      * @param ticketAcknowledgment ticket acknowledgment to send
      */
     void send(TicketAck ticketAcknowledgment);
+
+    /**
+     * Sends the {@link TicketAck}s to the MTS in bulk. The call blocks the caller until every ticket acknowledgment is
+     * admitted by the rate limiter, each batch waiting at most the admission timeout for its permits.
+     * Each producer shard buffers at most {@link SdkConfiguration#getProducerBufferSize()} messages (property
+     * <code>mts.sdk.producerBufferSize</code>); the ticket acknowledgments which do not fit into it are rejected and
+     * reported as failed to the listener, so increase the buffer size when sending batches larger than that
+     *
+     * @param ticketAcknowledgments ticket acknowledgments to send
+     */
+    void sendAll(Collection<TicketAck> ticketAcknowledgments);
 }
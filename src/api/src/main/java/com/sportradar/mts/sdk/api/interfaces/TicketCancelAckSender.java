@@ -6,6 +6,8 @@ package com.sportradar.mts.sdk.api.interfaces;
 
 import com.sportradar.mts.sdk.api.TicketCancelAck;
 
+import java.util.Collection;
+
 /**
  * {@link TicketCancelAck} sender
  */
@@ -17,4 +19,15 @@ public interface TicketCancelAckSender extends MessageSender {
      * @param ticketCancelAcknowledgment ticket cancel acknowledgment to send
      */
     void send(TicketCancelAck ticketCancelAcknowledgment);
+
+    /**
+     * Sends the {@link TicketCancelAck}s to the MTS in bulk. The call blocks the caller until every ticket cancel
+     * acknowledgment is admitted by the rate limiter, each batch waiting at most the admission timeout for its permits.
+     * Each producer shard buffers at most {@link SdkConfiguration#getProducerBufferSize()} messages (property
+     * <code>mts.sdk.producerBufferSize</code>); the ticket cancel acknowledgments which do not fit into it are rejected
+     * and reported as failed to the listener, so increase the buffer size when sending batches larger than that
+     *
+     * @param ticketCancelAcknowledgments ticket cancel acknowledgments to send
+     */
+    void sendAll(Collection<TicketCancelAck> ticketCancelAcknowledgments);
 }
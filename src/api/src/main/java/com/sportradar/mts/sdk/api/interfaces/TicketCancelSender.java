@@ -6,8 +6,13 @@ package com.sportradar.mts.sdk.api.interfaces;
 
 import com.sportradar.mts.sdk.api.TicketCancel;
 import com.sportradar.mts.sdk.api.TicketCancelResponse;
+import com.sportradar.mts.sdk.api.exceptions.RateLimitExceededException;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * {@link TicketCancel} sender
  */
@@ -28,4 +33,27 @@ public interface TicketCancelSender extends MessageSender {
      * @throws ResponseTimeoutException if no response is received in time
      */
     TicketCancelResponse sendBlocking(TicketCancel ticketCancel) throws ResponseTimeoutException;
+
+    /**
+     * Sends the {@link TicketCancel} to the MTS without blocking the caller
+     *
+     * @param ticketCancel ticketCancel to send
+     * @return future completed with the ticket cancel response, or completed exceptionally with
+     * {@link ResponseTimeoutException} if no response is received in time, or with
+     * {@link RateLimitExceededException} if the send rate limit is reached (the caller never waits for a permit)
+     */
+    CompletableFuture<TicketCancelResponse> sendAsync(TicketCancel ticketCancel);
+
+    /**
+     * Sends the {@link TicketCancel}s to the MTS in bulk. The call blocks the caller until every ticket cancel is
+     * admitted by the rate limiter, each batch waiting at most the admission timeout for its permits.
+     * Each producer shard buffers at most {@link SdkConfiguration#getProducerBufferSize()} ticket cancels (property
+     * <code>mts.sdk.producerBufferSize</code>); the ticket cancels which do not fit into it are rejected and their
+     * futures completed exceptionally, so increase the buffer size when sending batches larger than that
+     *
+     * @param ticketCancels ticket cancels to send
+     * @return futures completed with the ticket cancel responses in the order of the ticket cancels; a future is
+     * completed exceptionally if its ticket cancel was not sent or no response is received in time
+     */
+    List<CompletableFuture<TicketCancelResponse>> sendAll(Collection<TicketCancel> ticketCancels);
 }
@@ -6,8 +6,11 @@ package com.sportradar.mts.sdk.api.interfaces;
 
 import com.sportradar.mts.sdk.api.TicketCashout;
 import com.sportradar.mts.sdk.api.TicketCashoutResponse;
+import com.sportradar.mts.sdk.api.exceptions.RateLimitExceededException;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * {@link TicketCashout} sender
  */
@@ -28,4 +31,14 @@ public interface TicketCashoutSender extends MessageSender {
      * @throws ResponseTimeoutException - if the max timeout for the response has exceeded
      */
     TicketCashoutResponse sendBlocking(TicketCashout ticketCashout) throws ResponseTimeoutException;
+
+    /**
+     * Publishes a new {@link TicketCashout} message without blocking the caller
+     *
+     * @param ticketCashout - the data from which the message will be built
+     * @return - future completed with the cashout response from the MTS, or completed exceptionally with
+     * {@link ResponseTimeoutException} if the max timeout for the response has exceeded, or with
+     * {@link RateLimitExceededException} if the send rate limit is reached (the caller never waits for a permit)
+     */
+    CompletableFuture<TicketCashoutResponse> sendAsync(TicketCashout ticketCashout);
 }
@@ -6,8 +6,11 @@ package com.sportradar.mts.sdk.api.interfaces;
 
 import com.sportradar.mts.sdk.api.TicketNonSrSettle;
 import com.sportradar.mts.sdk.api.TicketNonSrSettleResponse;
+import com.sportradar.mts.sdk.api.exceptions.RateLimitExceededException;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * {@link TicketNonSrSettle} sender
  */
@@ -27,4 +30,14 @@ public interface TicketNonSrSettleSender extends MessageSender {
      * @throws ResponseTimeoutException - if the max timeout for the response has exceeded
      */
     TicketNonSrSettleResponse sendBlocking(TicketNonSrSettle ticketNonSrSettle) throws ResponseTimeoutException;
+
+    /**
+     * Publishes a new {@link TicketNonSrSettle} message without blocking the caller
+     *
+     * @param ticketNonSrSettle - the data from which the message will be built
+     * @return - future completed with the non-Sportradar settle response from the MTS, or completed exceptionally
+     * with {@link ResponseTimeoutException} if the max timeout for the response has exceeded, or with
+     * {@link RateLimitExceededException} if the send rate limit is reached (the caller never waits for a permit)
+     */
+    CompletableFuture<TicketNonSrSettleResponse> sendAsync(TicketNonSrSettle ticketNonSrSettle);
 }
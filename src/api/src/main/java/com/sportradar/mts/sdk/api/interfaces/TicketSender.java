@@ -6,8 +6,13 @@ package com.sportradar.mts.sdk.api.interfaces;
 
 import com.sportradar.mts.sdk.api.Ticket;
 import com.sportradar.mts.sdk.api.TicketResponse;
+import com.sportradar.mts.sdk.api.exceptions.RateLimitExceededException;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * {@link Ticket} sender
  */
@@ -28,4 +33,28 @@ public interface TicketSender extends MessageSender {
      * @throws ResponseTimeoutException if no response is received in time
      */
     TicketResponse sendBlocking(Ticket ticket) throws ResponseTimeoutException;
+
+    /**
+     * Sends the {@link Ticket} to the MTS without blocking the caller
+     *
+     * @param ticket ticket to send
+     * @return future completed with the ticket response, or completed exceptionally with
+     * {@link ResponseTimeoutException} if no response is received in time, or with
+     * {@link RateLimitExceededException} if the send rate limit is reached (the caller never waits for a permit)
+     */
+    CompletableFuture<TicketResponse> sendAsync(Ticket ticket);
+
+    /**
+     * Sends the {@link Ticket}s to the MTS in bulk; the tickets are serialized in parallel and admitted by the rate
+     * limiter in batches. The call blocks the caller until every ticket is admitted by the rate limiter, each batch
+     * waiting at most the admission timeout for its permits.
+     * Each producer shard buffers at most {@link SdkConfiguration#getProducerBufferSize()} tickets (property
+     * <code>mts.sdk.producerBufferSize</code>); the tickets which do not fit into it are rejected and their futures
+     * completed exceptionally, so increase the buffer size when sending batches larger than that
+     *
+     * @param tickets tickets to send
+     * @return futures completed with the ticket responses in the order of the tickets; a future is completed
+     * exceptionally if its ticket was not sent or no response is received in time
+     */
+    List<CompletableFuture<TicketResponse>> sendAll(Collection<Ticket> tickets);
 }
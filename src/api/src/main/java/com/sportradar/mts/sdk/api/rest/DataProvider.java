@@ -5,10 +5,12 @@
 package com.sportradar.mts.sdk.api.rest;
 
 
+import com.google.common.io.ByteStreams;
 import com.sportradar.mts.sdk.api.AccessToken;
 import org.apache.http.HttpEntity;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Locale;
 
@@ -20,6 +22,16 @@ import java.util.Locale;
 @SuppressWarnings("FieldCanBeLocal")
 public class DataProvider <T>{
 
+    /**
+     * Reads the content of a successful response while the connection is still open
+     *
+     * @param <R> - the type of the result
+     */
+    @FunctionalInterface
+    public interface ContentReader<R> {
+        R read(InputStream content) throws IOException;
+    }
+
     private final String uriFormat;
     private final HttpDataFetcher logHttpDataFetcher;
     private final Deserializer deserializer;
@@ -164,6 +176,28 @@ public class DataProvider <T>{
      * @return - the requested API endpoint object or null
      */
     public T sendData(AccessToken token, HttpEntity content, Locale locale, String... args) {
+        return execute(token, content, formatPath(locale, args), this::deserialize);
+    }
+
+    /**
+     * If successful returns the result of the reader which consumed the response content as it was received,
+     * else null; used when the content is too big to be deserialized into an object at once
+     *
+     * @param locale - the locale that is used with the supplied URI format
+     * @param contentReader - the reader consuming the response content
+     * @param args - that are used with the supplied URI format
+     * @param <R> - the type of the result
+     * @return - the result of the reader or null
+     */
+    public <R> R readData(Locale locale, ContentReader<R> contentReader, String... args) {
+        return execute(null, null, formatPath(locale, args), entity -> {
+            try (InputStream inputStream = entity.getContent()) {
+                return contentReader.read(inputStream);
+            }
+        });
+    }
+
+    private String formatPath(Locale locale, String... args) {
         int fwArgSize = (args != null) ? (args.length + 1) : 1;
 
         String[] forwardArgs = new String[fwArgSize];
@@ -173,24 +207,39 @@ public class DataProvider <T>{
             System.arraycopy(args, 0, forwardArgs, 1, args.length);
         }
 
-        String formattedPath = String.format(uriFormat, (Object[]) forwardArgs);
-
-        String fetchedContent = content == null ?
-                logHttpDataFetcher.get(token, formattedPath) :
-                logHttpDataFetcher.post(token, content, formattedPath);
-
-        if (fetchedContent.equals("")) {
-            return null;
-        }
+        return String.format(uriFormat, (Object[]) forwardArgs);
+    }
 
-        try (InputStream inputStream = new ByteArrayInputStream(fetchedContent.getBytes())) {
-            return deserializer.deserialize(inputStream, clazz);
+    private <R> R execute(AccessToken token, HttpEntity content, String formattedPath, HttpDataFetcher.EntityHandler<R> entityHandler) {
+        try {
+            return content == null ?
+                    logHttpDataFetcher.get(token, formattedPath, entityHandler) :
+                    logHttpDataFetcher.post(token, content, formattedPath, entityHandler);
         } catch (Exception e) {
             e.printStackTrace();
             return null;
         }
     }
 
+    /**
+     * Deserializes the response entity straight from the connection stream
+     *
+     * @param entity - the response entity
+     * @return - the deserialized object or null
+     * @throws IOException if the entity could not be read
+     */
+    @SuppressWarnings("unchecked")
+    private T deserialize(HttpEntity entity) throws IOException {
+        try (InputStream inputStream = entity.getContent()) {
+            T result = deserializer.deserialize(inputStream, clazz);
+            if (result == inputStream) {
+                // the stream itself is the result, it has to outlive the connection
+                return (T) new ByteArrayInputStream(ByteStreams.toByteArray(inputStream));
+            }
+            return result;
+        }
+    }
+
     @Override
     public String toString() {
         return "DataProvider{" +
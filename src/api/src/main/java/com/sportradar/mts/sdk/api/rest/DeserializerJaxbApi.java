@@ -4,49 +4,103 @@
 
 package com.sportradar.mts.sdk.api.rest;
 
+import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.JAXBIntrospector;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import java.io.InputStream;
 import java.io.StringWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * An implementation of the {@link Deserializer} used to deserialize/unmarshall the content of the Unified API
- * endpoint request
+ * endpoint request. Unmarshallers and marshallers are not thread-safe, so each call borrows one from a pool; when
+ * created from a {@link JAXBContext} the pool grows with the number of concurrent callers
  */
 public class DeserializerJaxbApi implements Deserializer {
     private static final Logger logger = LoggerFactory.getLogger(DeserializerJaxbApi.class);
-    private final Unmarshaller unmarshaller;
-    private final Marshaller marshaller;
+    private static final int MAX_IDLE_INSTANCES = 16;
+    private final JAXBContext context;
+    private final BlockingQueue<Unmarshaller> unmarshallers;
+    private final BlockingQueue<Marshaller> marshallers;
 
+    /**
+     * Creates a deserializer which uses only the provided instances; concurrent callers wait for each other
+     *
+     * @param unmarshaller the unmarshaller to be used
+     * @param marshaller the marshaller to be used
+     */
     public DeserializerJaxbApi(Unmarshaller unmarshaller, Marshaller marshaller) {
-        this.unmarshaller = unmarshaller;
-        this.marshaller = marshaller;
+        this.context = null;
+        this.unmarshallers = new ArrayBlockingQueue<>(1);
+        this.unmarshallers.add(unmarshaller);
+        this.marshallers = new ArrayBlockingQueue<>(1);
+        this.marshallers.add(marshaller);
+    }
+
+    /**
+     * Creates a deserializer which creates unmarshallers and marshallers from the context as needed and keeps
+     * up to 16 idle instances of each for reuse
+     *
+     * @param context the context used to create the unmarshallers and marshallers
+     */
+    public DeserializerJaxbApi(JAXBContext context) {
+        Preconditions.checkNotNull(context);
+
+        this.context = context;
+        this.unmarshallers = new ArrayBlockingQueue<>(MAX_IDLE_INSTANCES);
+        this.marshallers = new ArrayBlockingQueue<>(MAX_IDLE_INSTANCES);
     }
 
     @SuppressWarnings("unchecked")
     @Override
-    public synchronized <T> T deserialize(InputStream inStr, Class<T> clazz){
+    public <T> T deserialize(InputStream inStr, Class<T> clazz){
+        Unmarshaller unmarshaller = null;
         try {
+            unmarshaller = unmarshallers.poll();
+            if (unmarshaller == null) {
+                unmarshaller = context == null ? unmarshallers.take() : context.createUnmarshaller();
+            }
             return (T) JAXBIntrospector.getValue(unmarshaller.unmarshal(inStr));
         } catch (JAXBException e) {
             logger.warn("There was a problem unmarshalling an object, ex: ", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for an unmarshaller");
+        } finally {
+            if (unmarshaller != null) {
+                unmarshallers.offer(unmarshaller);
+            }
         }
         return null;
     }
 
     @Override
-    public synchronized <T> String serialize(T inObj) {
+    public <T> String serialize(T inObj) {
+        Marshaller marshaller = null;
         try {
+            marshaller = marshallers.poll();
+            if (marshaller == null) {
+                marshaller = context == null ? marshallers.take() : context.createMarshaller();
+            }
             StringWriter writer = new StringWriter();
             marshaller.marshal(inObj, writer);
             return  writer.toString();
         } catch (JAXBException e) {
             logger.warn("There was a problem marshaling the provided data, ex: ", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for a marshaller");
+        } finally {
+            if (marshaller != null) {
+                marshallers.offer(marshaller);
+            }
         }
         return null;
     }
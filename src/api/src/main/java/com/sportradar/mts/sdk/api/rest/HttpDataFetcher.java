@@ -26,6 +26,18 @@ import java.io.IOException;
  * used in combination with a {@link Deserializer} to get a valid useful Java object.
  */
 class HttpDataFetcher {
+
+    /**
+     * Reads the entity of a successful response; the entity content must be consumed before returning since
+     * the connection is released to the pool afterwards
+     *
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    interface EntityHandler<R> {
+        R handle(HttpEntity entity) throws IOException;
+    }
+
     private final SdkConfiguration config;
     private final CloseableHttpClient httpClient;
     private int statusCode;
@@ -82,7 +94,41 @@ class HttpDataFetcher {
         return send(token, httpPost);
     }
 
+    /**
+     * Gets the content on the given path trough a GET request and hands the response entity to the handler
+     *
+     * @param token - a {@link AccessToken} used to access protected resources
+     * @param path - a valid HTTP GET request path
+     * @param entityHandler - the handler reading the response entity
+     * @param <R> - the type of the result
+     * @return - if successful the result of the handler, else null
+     */
+    <R> R get(AccessToken token, String path, EntityHandler<R> entityHandler) {
+        return send(token, new HttpGet(path), entityHandler);
+    }
+
+    /**
+     * Gets the content on the given path trough a POST request and hands the response entity to the handler
+     *
+     * @param token - a {@link AccessToken} used to access protected resources
+     * @param content - a content to be sent
+     * @param path - a valid HTTP GET request path
+     * @param entityHandler - the handler reading the response entity
+     * @param <R> - the type of the result
+     * @return - if successful the result of the handler, else null
+     */
+    <R> R post(AccessToken token, HttpEntity content, String path, EntityHandler<R> entityHandler) {
+        HttpPost httpPost = new HttpPost(path);
+        httpPost.setEntity(content);
+        return send(token, httpPost, entityHandler);
+    }
+
     protected String send(AccessToken token, HttpUriRequest request) {
+        String resp = send(token, request, EntityUtils::toString);
+        return resp == null ? "" : resp;
+    }
+
+    protected <R> R send(AccessToken token, HttpUriRequest request, EntityHandler<R> entityHandler) {
         String path = request.getURI().toString();
         try {
             if (config != null) {
@@ -94,26 +140,24 @@ class HttpDataFetcher {
             if (token != null && !StringUtils.isNullOrEmpty(token.getAccessToken()))
                 request.addHeader("Authorization", "Bearer " + token.getAccessToken());
 
-            ResponseHandler<String> handler = resp -> {
+            ResponseHandler<R> handler = resp -> {
                 statusCode = resp.getStatusLine().getStatusCode();
                 // the whoami endpoint is a special case since we are interested in the response even if the response code is forbidden
                 boolean isWhoAmI = path.endsWith("whoami.xml");
                 if (statusCode == HttpStatus.SC_OK || (isWhoAmI && statusCode == HttpStatus.SC_FORBIDDEN)) {
-                    return EntityUtils.toString(resp.getEntity());
+                    HttpEntity entity = resp.getEntity();
+                    return entity == null || entity.getContentLength() == 0 ? null : entityHandler.handle(entity);
                 } else {
                     logger.warn("Non OK API response: {} {} {}", resp.getStatusLine(), statusCode, path);
-                    return "";
+                    return null;
                 }
             };
 
-            String resp = httpClient.execute(request, handler);
-            if (!resp.equals("")) {
-                return resp;
-            }
+            return httpClient.execute(request, handler);
         } catch (IOException e) {
             logger.warn("Problems reading: " + path + " " + e.getMessage(), e);
         }
-        return "";
+        return null;
     }
 
     public int getStatusCode() {
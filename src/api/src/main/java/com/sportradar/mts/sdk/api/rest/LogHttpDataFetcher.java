@@ -4,17 +4,27 @@
 
 package com.sportradar.mts.sdk.api.rest;
 
-import com.google.common.base.Strings;
 import com.google.inject.Inject;
 import com.sportradar.mts.sdk.api.AccessToken;
 import com.sportradar.mts.sdk.api.interfaces.SdkConfiguration;
+import com.sportradar.mts.sdk.api.utils.SdkInfo;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.HttpEntityWrapper;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
- * Wrapper class for the {@link HttpDataFetcher} with the sole purpose of API request logging
+ * Wrapper class for the {@link HttpDataFetcher} with the sole purpose of API request logging; the response body is
+ * still streamed to the handler, only its first {@link SdkInfo#REST_LOG_BODY_PREFIX_BYTES} bytes are logged at info
+ * level and the whole body only at debug level
  */
 public class LogHttpDataFetcher extends HttpDataFetcher{
     private static final Logger logger = LoggerFactory.getLogger("com.sportradar.mts.rest");
@@ -25,16 +35,76 @@ public class LogHttpDataFetcher extends HttpDataFetcher{
     }
 
     @Override
-    protected String send(AccessToken token, HttpUriRequest request) {
+    protected <R> R send(AccessToken token, HttpUriRequest request, EntityHandler<R> entityHandler) {
         String path = request.getURI().toString();
 
         logger.info("Fetching data from: {}", path);
 
-        String result = super.send(token, request);
+        if (!logger.isInfoEnabled()) {
+            return super.send(token, request, entityHandler);
+        }
+
+        int limit = logger.isDebugEnabled() ? Integer.MAX_VALUE : SdkInfo.REST_LOG_BODY_PREFIX_BYTES;
+        LoggedEntity[] loggedEntity = {null};
+        R result = super.send(token, request, entity -> {
+            loggedEntity[0] = new LoggedEntity(entity, limit);
+            return entityHandler.handle(loggedEntity[0]);
+        });
 
-        String cleanResult = result.replace("\n", "");
-        logger.info("Request: {}, response - {}: {}", path, !Strings.isNullOrEmpty(result) ? "OK" : "FAILED", cleanResult);
+        String cleanResult = loggedEntity[0] == null ? "" : loggedEntity[0].getLoggedBody().replace("\n", "");
+        logger.info("Request: {}, response - {}: {}", path, result != null ? "OK" : "FAILED", cleanResult);
 
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * The response entity which keeps a copy of the first bytes read by the handler from its content
+     */
+    private static final class LoggedEntity extends HttpEntityWrapper {
+
+        private final int limit;
+        private final ByteArrayOutputStream logged = new ByteArrayOutputStream();
+        private long readCount;
+
+        LoggedEntity(HttpEntity wrappedEntity, int limit) {
+            super(wrappedEntity);
+            this.limit = limit;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) {
+                        log(new byte[]{(byte) b}, 0, 1);
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int count = super.read(b, off, len);
+                    if (count > 0) {
+                        log(b, off, count);
+                    }
+                    return count;
+                }
+            };
+        }
+
+        private void log(byte[] b, int off, int len) {
+            int remaining = limit - logged.size();
+            if (remaining > 0) {
+                logged.write(b, off, Math.min(remaining, len));
+            }
+            readCount += len;
+        }
+
+        String getLoggedBody() {
+            String body = new String(logged.toByteArray(), StandardCharsets.UTF_8);
+            return readCount > logged.size() ? body + "... (" + readCount + " bytes)" : body;
+        }
+    }
+}
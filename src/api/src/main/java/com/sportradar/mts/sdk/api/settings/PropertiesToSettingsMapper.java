@@ -54,6 +54,27 @@ public final class PropertiesToSettingsMapper {
         String keycloakSecret = properties.getProperty(SettingsKeys.KEYCLOAK_SECRET);
         String mtsClientApiHost = properties.getProperty(SettingsKeys.MTS_CLIENT_API_HOST);
 
+        String publishBatchSizeString = properties.getProperty(SettingsKeys.PUBLISH_BATCH_SIZE);
+        String publishBatchTimeoutMicrosString = properties.getProperty(SettingsKeys.PUBLISH_BATCH_TIMEOUT_MICROS);
+        String ticketProducerShardCountString = properties.getProperty(SettingsKeys.TICKET_PRODUCER_SHARD_COUNT);
+        String ticketProducerConnectionPerShardString = properties.getProperty(SettingsKeys.TICKET_PRODUCER_CONNECTION_PER_SHARD);
+        String producerBufferSizeString = properties.getProperty(SettingsKeys.PRODUCER_BUFFER_SIZE);
+        String responseTimeoutTimerTickString = properties.getProperty(SettingsKeys.RESPONSE_TIMEOUT_TIMER_TICK);
+        String maxInFlightRequestsString = properties.getProperty(SettingsKeys.MAX_IN_FLIGHT_REQUESTS);
+        String consumerWorkerCountString = properties.getProperty(SettingsKeys.CONSUMER_WORKER_COUNT);
+        String consumerManualAckString = properties.getProperty(SettingsKeys.CONSUMER_MANUAL_ACK);
+        String consumerMinPrefetchString = properties.getProperty(SettingsKeys.CONSUMER_MIN_PREFETCH);
+        String consumerMaxPrefetchString = properties.getProperty(SettingsKeys.CONSUMER_MAX_PREFETCH);
+        String responseDispatcherThreadsString = properties.getProperty(SettingsKeys.RESPONSE_DISPATCHER_THREADS);
+        String publishResultDispatcherThreadsString = properties.getProperty(SettingsKeys.PUBLISH_RESULT_DISPATCHER_THREADS);
+        String timeoutDispatcherThreadsString = properties.getProperty(SettingsKeys.TIMEOUT_DISPATCHER_THREADS);
+        String rateLimitTimeoutString = properties.getProperty(SettingsKeys.RATE_LIMIT_TIMEOUT);
+        String selectionIdCacheSizeString = properties.getProperty(SettingsKeys.SELECTION_ID_CACHE_SIZE);
+        String httpClientMaxConnTotalString = properties.getProperty(SettingsKeys.HTTP_CLIENT_MAX_CONN_TOTAL);
+        String httpClientMaxConnPerRouteString = properties.getProperty(SettingsKeys.HTTP_CLIENT_MAX_CONN_PER_ROUTE);
+        String httpClientTimeoutString = properties.getProperty(SettingsKeys.HTTP_CLIENT_TIMEOUT);
+        String marketDescriptionsSnapshotFileString = properties.getProperty(SettingsKeys.MARKET_DESCRIPTIONS_SNAPSHOT_FILE);
+
         Preconditions.checkNotNull(username, StringUtils.format(MISSING_PROPERTY, SettingsKeys.USERNAME));
         Preconditions.checkArgument(!username.isEmpty());
         Preconditions.checkNotNull(password, StringUtils.format(MISSING_PROPERTY, SettingsKeys.PASSWORD));
@@ -206,6 +227,171 @@ public final class PropertiesToSettingsMapper {
             Preconditions.checkNotNull(keycloakSecret, StringUtils.format(MISSING_PROPERTY, SettingsKeys.KEYCLOAK_SECRET));
         }
 
+        int publishBatchSize = SdkInfo.PUBLISH_BATCH_SIZE_DEFAULT;
+        if (publishBatchSizeString != null) {
+            Preconditions.checkArgument(isDecimal(publishBatchSizeString), "publishBatchSize should be a number");
+            publishBatchSize = Integer.valueOf(publishBatchSizeString);
+
+            Preconditions.checkArgument(publishBatchSize >= 1, "publishBatchSize must be at least 1");
+            Preconditions.checkArgument(publishBatchSize <= SdkInfo.PUBLISH_BATCH_SIZE_MAX, "publishBatchSize must be less than " + SdkInfo.PUBLISH_BATCH_SIZE_MAX);
+        }
+
+        int publishBatchTimeoutMicros = SdkInfo.PUBLISH_BATCH_TIMEOUT_MICROS_DEFAULT;
+        if (publishBatchTimeoutMicrosString != null) {
+            Preconditions.checkArgument(isDecimal(publishBatchTimeoutMicrosString), "publishBatchTimeoutMicros should be a number");
+            publishBatchTimeoutMicros = Integer.valueOf(publishBatchTimeoutMicrosString);
+
+            Preconditions.checkArgument(publishBatchTimeoutMicros <= SdkInfo.PUBLISH_BATCH_TIMEOUT_MICROS_MAX, "publishBatchTimeoutMicros must be less than " + SdkInfo.PUBLISH_BATCH_TIMEOUT_MICROS_MAX + "us");
+        }
+
+        int ticketProducerShardCount = SdkInfo.PRODUCER_SHARD_COUNT_DEFAULT;
+        if (ticketProducerShardCountString != null) {
+            Preconditions.checkArgument(isDecimal(ticketProducerShardCountString), "ticketProducerShardCount should be a number");
+            ticketProducerShardCount = Integer.valueOf(ticketProducerShardCountString);
+
+            Preconditions.checkArgument(ticketProducerShardCount >= 1, "ticketProducerShardCount must be at least 1");
+            Preconditions.checkArgument(ticketProducerShardCount <= SdkInfo.PRODUCER_SHARD_COUNT_MAX, "ticketProducerShardCount must be less than " + SdkInfo.PRODUCER_SHARD_COUNT_MAX);
+        }
+
+        boolean ticketProducerConnectionPerShard = false;
+        if (ticketProducerConnectionPerShardString != null) {
+            Preconditions.checkArgument(isBoolean(ticketProducerConnectionPerShardString), "ticketProducerConnectionPerShard should be boolean");
+            ticketProducerConnectionPerShard = Boolean.valueOf(ticketProducerConnectionPerShardString);
+        }
+
+        int producerBufferSize = SdkInfo.PRODUCER_BUFFER_SIZE_DEFAULT;
+        if (producerBufferSizeString != null) {
+            Preconditions.checkArgument(isDecimal(producerBufferSizeString), "producerBufferSize should be a number");
+            producerBufferSize = Integer.valueOf(producerBufferSizeString);
+
+            Preconditions.checkArgument(producerBufferSize >= 1, "producerBufferSize must be at least 1");
+            Preconditions.checkArgument(producerBufferSize <= SdkInfo.PRODUCER_BUFFER_SIZE_MAX, "producerBufferSize must be less than " + SdkInfo.PRODUCER_BUFFER_SIZE_MAX);
+        }
+
+        int responseTimeoutTimerTick = SdkInfo.RESPONSE_TIMEOUT_TIMER_TICK_DEFAULT;
+        if (responseTimeoutTimerTickString != null) {
+            Preconditions.checkArgument(isDecimal(responseTimeoutTimerTickString), "responseTimeoutTimerTick should be a number");
+            responseTimeoutTimerTick = Integer.valueOf(responseTimeoutTimerTickString);
+
+            Preconditions.checkArgument(responseTimeoutTimerTick >= 1, "responseTimeoutTimerTick must be at least 1ms");
+            Preconditions.checkArgument(responseTimeoutTimerTick <= SdkInfo.RESPONSE_TIMEOUT_TIMER_TICK_MAX, "responseTimeoutTimerTick must be less than " + SdkInfo.RESPONSE_TIMEOUT_TIMER_TICK_MAX + "ms");
+        }
+
+        int maxInFlightRequests = SdkInfo.MAX_IN_FLIGHT_REQUESTS_DEFAULT;
+        if (maxInFlightRequestsString != null) {
+            Preconditions.checkArgument(isDecimal(maxInFlightRequestsString), "maxInFlightRequests should be a number");
+            maxInFlightRequests = Integer.valueOf(maxInFlightRequestsString);
+
+            Preconditions.checkArgument(maxInFlightRequests >= 1, "maxInFlightRequests must be at least 1");
+            Preconditions.checkArgument(maxInFlightRequests <= SdkInfo.MAX_IN_FLIGHT_REQUESTS_MAX, "maxInFlightRequests must be less than " + SdkInfo.MAX_IN_FLIGHT_REQUESTS_MAX);
+        }
+
+        int consumerWorkerCount = SdkInfo.CONSUMER_WORKER_COUNT_DEFAULT;
+        if (consumerWorkerCountString != null) {
+            Preconditions.checkArgument(isDecimal(consumerWorkerCountString), "consumerWorkerCount should be a number");
+            consumerWorkerCount = Integer.valueOf(consumerWorkerCountString);
+
+            Preconditions.checkArgument(consumerWorkerCount >= 1, "consumerWorkerCount must be at least 1");
+            Preconditions.checkArgument(consumerWorkerCount <= SdkInfo.CONSUMER_WORKER_COUNT_MAX, "consumerWorkerCount must be less than " + SdkInfo.CONSUMER_WORKER_COUNT_MAX);
+        }
+
+        boolean consumerManualAck = false;
+        if (consumerManualAckString != null) {
+            Preconditions.checkArgument(isBoolean(consumerManualAckString), "consumerManualAck should be boolean");
+            consumerManualAck = Boolean.valueOf(consumerManualAckString);
+        }
+
+        int consumerMinPrefetch = SdkInfo.RABBIT_PREFETCH_COUNT;
+        if (consumerMinPrefetchString != null) {
+            Preconditions.checkArgument(isDecimal(consumerMinPrefetchString), "consumerMinPrefetch should be a number");
+            consumerMinPrefetch = Integer.valueOf(consumerMinPrefetchString);
+
+            Preconditions.checkArgument(consumerMinPrefetch >= 1, "consumerMinPrefetch must be at least 1");
+            Preconditions.checkArgument(consumerMinPrefetch <= SdkInfo.CONSUMER_PREFETCH_MAX, "consumerMinPrefetch must be less than " + SdkInfo.CONSUMER_PREFETCH_MAX);
+        }
+
+        int consumerMaxPrefetch = Math.max(SdkInfo.CONSUMER_MAX_PREFETCH_DEFAULT, consumerMinPrefetch);
+        if (consumerMaxPrefetchString != null) {
+            Preconditions.checkArgument(isDecimal(consumerMaxPrefetchString), "consumerMaxPrefetch should be a number");
+            consumerMaxPrefetch = Integer.valueOf(consumerMaxPrefetchString);
+
+            Preconditions.checkArgument(consumerMaxPrefetch >= consumerMinPrefetch, "consumerMaxPrefetch must be at least consumerMinPrefetch");
+            Preconditions.checkArgument(consumerMaxPrefetch <= SdkInfo.CONSUMER_PREFETCH_MAX, "consumerMaxPrefetch must be less than " + SdkInfo.CONSUMER_PREFETCH_MAX);
+        }
+
+        int responseDispatcherThreads = SdkInfo.RESPONSE_DISPATCHER_THREADS_DEFAULT;
+        if (responseDispatcherThreadsString != null) {
+            Preconditions.checkArgument(isDecimal(responseDispatcherThreadsString), "responseDispatcherThreads should be a number");
+            responseDispatcherThreads = Integer.valueOf(responseDispatcherThreadsString);
+
+            Preconditions.checkArgument(responseDispatcherThreads >= 1, "responseDispatcherThreads must be at least 1");
+            Preconditions.checkArgument(responseDispatcherThreads <= SdkInfo.DISPATCHER_THREADS_MAX, "responseDispatcherThreads must be less than " + SdkInfo.DISPATCHER_THREADS_MAX);
+        }
+
+        int publishResultDispatcherThreads = SdkInfo.PUBLISH_RESULT_DISPATCHER_THREADS_DEFAULT;
+        if (publishResultDispatcherThreadsString != null) {
+            Preconditions.checkArgument(isDecimal(publishResultDispatcherThreadsString), "publishResultDispatcherThreads should be a number");
+            publishResultDispatcherThreads = Integer.valueOf(publishResultDispatcherThreadsString);
+
+            Preconditions.checkArgument(publishResultDispatcherThreads >= 1, "publishResultDispatcherThreads must be at least 1");
+            Preconditions.checkArgument(publishResultDispatcherThreads <= SdkInfo.DISPATCHER_THREADS_MAX, "publishResultDispatcherThreads must be less than " + SdkInfo.DISPATCHER_THREADS_MAX);
+        }
+
+        int timeoutDispatcherThreads = SdkInfo.TIMEOUT_DISPATCHER_THREADS_DEFAULT;
+        if (timeoutDispatcherThreadsString != null) {
+            Preconditions.checkArgument(isDecimal(timeoutDispatcherThreadsString), "timeoutDispatcherThreads should be a number");
+            timeoutDispatcherThreads = Integer.valueOf(timeoutDispatcherThreadsString);
+
+            Preconditions.checkArgument(timeoutDispatcherThreads >= 1, "timeoutDispatcherThreads must be at least 1");
+            Preconditions.checkArgument(timeoutDispatcherThreads <= SdkInfo.DISPATCHER_THREADS_MAX, "timeoutDispatcherThreads must be less than " + SdkInfo.DISPATCHER_THREADS_MAX);
+        }
+
+        int rateLimitTimeout = SdkInfo.RATE_LIMIT_TIMEOUT_DEFAULT;
+        if (rateLimitTimeoutString != null) {
+            Preconditions.checkArgument(isDecimal(rateLimitTimeoutString), "rateLimitTimeout should be a number");
+            rateLimitTimeout = Integer.valueOf(rateLimitTimeoutString);
+
+            Preconditions.checkArgument(rateLimitTimeout >= 0, "rateLimitTimeout must not be negative");
+        }
+
+        int selectionIdCacheSize = SdkInfo.SELECTION_ID_CACHE_SIZE_DEFAULT;
+        if (selectionIdCacheSizeString != null) {
+            Preconditions.checkArgument(isDecimal(selectionIdCacheSizeString), "selectionIdCacheSize should be a number");
+            selectionIdCacheSize = Integer.valueOf(selectionIdCacheSizeString);
+
+            Preconditions.checkArgument(selectionIdCacheSize >= 0, "selectionIdCacheSize must not be negative");
+        }
+
+        int httpClientMaxConnTotal = SdkInfo.HTTP_CLIENT_MAX_CONN_TOTAL_DEFAULT;
+        if (httpClientMaxConnTotalString != null) {
+            Preconditions.checkArgument(isDecimal(httpClientMaxConnTotalString), "httpClientMaxConnTotal should be a number");
+            httpClientMaxConnTotal = Integer.valueOf(httpClientMaxConnTotalString);
+
+            Preconditions.checkArgument(httpClientMaxConnTotal >= 1, "httpClientMaxConnTotal must be at least 1");
+        }
+
+        int httpClientMaxConnPerRoute = SdkInfo.HTTP_CLIENT_MAX_CONN_PER_ROUTE_DEFAULT;
+        if (httpClientMaxConnPerRouteString != null) {
+            Preconditions.checkArgument(isDecimal(httpClientMaxConnPerRouteString), "httpClientMaxConnPerRoute should be a number");
+            httpClientMaxConnPerRoute = Integer.valueOf(httpClientMaxConnPerRouteString);
+
+            Preconditions.checkArgument(httpClientMaxConnPerRoute >= 1, "httpClientMaxConnPerRoute must be at least 1");
+        }
+
+        int httpClientTimeout = SdkInfo.HTTP_CLIENT_TIMEOUT_DEFAULT;
+        if (httpClientTimeoutString != null) {
+            Preconditions.checkArgument(isDecimal(httpClientTimeoutString), "httpClientTimeout should be a number");
+            httpClientTimeout = Integer.valueOf(httpClientTimeoutString);
+
+            Preconditions.checkArgument(httpClientTimeout >= 0, "httpClientTimeout must not be negative");
+        }
+
+        String marketDescriptionsSnapshotFile = null;
+        if(!StringUtils.isNullOrEmpty(marketDescriptionsSnapshotFileString))
+        {
+            marketDescriptionsSnapshotFile = marketDescriptionsSnapshotFileString.trim();
+        }
+
         return new SdkConfigurationImpl(username,
                 password,
                 host,
@@ -232,7 +418,27 @@ public final class PropertiesToSettingsMapper {
                 keycloakUsername,
                 keycloakPassword,
                 keycloakSecret,
-                mtsClientApiHost);
+                mtsClientApiHost,
+                publishBatchSize,
+                publishBatchTimeoutMicros,
+                ticketProducerShardCount,
+                ticketProducerConnectionPerShard,
+                producerBufferSize,
+                responseTimeoutTimerTick,
+                maxInFlightRequests,
+                consumerWorkerCount,
+                consumerManualAck,
+                consumerMinPrefetch,
+                consumerMaxPrefetch,
+                responseDispatcherThreads,
+                publishResultDispatcherThreads,
+                timeoutDispatcherThreads,
+                rateLimitTimeout,
+                selectionIdCacheSize,
+                httpClientMaxConnTotal,
+                httpClientMaxConnPerRoute,
+                httpClientTimeout,
+                marketDescriptionsSnapshotFile);
     }
 
     private static boolean isBoolean(String input) {
@@ -412,6 +412,318 @@ public class SdkConfigurationBuilderImpl implements SdkConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Sets the max number of messages the producers publish back-to-back in a single batch (default: 1 - no batching)
+     *
+     * @param publishBatchSize the publish batch size to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setPublishBatchSize(int publishBatchSize) {
+        if(publishBatchSize < 1 || publishBatchSize > SdkInfo.PUBLISH_BATCH_SIZE_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.PUBLISH_BATCH_SIZE_MAX);
+        }
+        properties.setProperty(SettingsKeys.PUBLISH_BATCH_SIZE, String.valueOf(publishBatchSize));
+        return this;
+    }
+
+    /**
+     * Sets the max time(us) a producer waits for the publish batch to fill up (default: 0 - publish what is already queued)
+     *
+     * @param publishBatchTimeoutMicros the publish batch timeout to be set(us)
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setPublishBatchTimeoutMicros(int publishBatchTimeoutMicros) {
+        if(publishBatchTimeoutMicros < 0 || publishBatchTimeoutMicros > SdkInfo.PUBLISH_BATCH_TIMEOUT_MICROS_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 0 and " + SdkInfo.PUBLISH_BATCH_TIMEOUT_MICROS_MAX);
+        }
+        properties.setProperty(SettingsKeys.PUBLISH_BATCH_TIMEOUT_MICROS, String.valueOf(publishBatchTimeoutMicros));
+        return this;
+    }
+
+    /**
+     * Sets the number of channels (shards) the tickets are published through (default: 1)
+     *
+     * @param ticketProducerShardCount the ticket producer shard count to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setTicketProducerShardCount(int ticketProducerShardCount) {
+        if(ticketProducerShardCount < 1 || ticketProducerShardCount > SdkInfo.PRODUCER_SHARD_COUNT_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.PRODUCER_SHARD_COUNT_MAX);
+        }
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_SHARD_COUNT, String.valueOf(ticketProducerShardCount));
+        return this;
+    }
+
+    /**
+     * Sets the value indicating whether each ticket producer shard publishes through its own connection (default: false)
+     *
+     * @param ticketProducerConnectionPerShard value to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setTicketProducerConnectionPerShard(boolean ticketProducerConnectionPerShard) {
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_CONNECTION_PER_SHARD, String.valueOf(ticketProducerConnectionPerShard));
+        return this;
+    }
+
+    /**
+     * Sets the max number of messages waiting to be published per producer shard (default: 64)
+     *
+     * @param producerBufferSize the producer buffer size to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setProducerBufferSize(int producerBufferSize) {
+        if(producerBufferSize < 1 || producerBufferSize > SdkInfo.PRODUCER_BUFFER_SIZE_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.PRODUCER_BUFFER_SIZE_MAX);
+        }
+        properties.setProperty(SettingsKeys.PRODUCER_BUFFER_SIZE, String.valueOf(producerBufferSize));
+        return this;
+    }
+
+    /**
+     * Sets the tick duration(ms) of the timer detecting ticket response timeouts (default: 10ms)
+     *
+     * @param responseTimeoutTimerTick the response timeout timer tick to be set(ms)
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setResponseTimeoutTimerTick(int responseTimeoutTimerTick) {
+        if(responseTimeoutTimerTick < 1 || responseTimeoutTimerTick > SdkInfo.RESPONSE_TIMEOUT_TIMER_TICK_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.RESPONSE_TIMEOUT_TIMER_TICK_MAX);
+        }
+        properties.setProperty(SettingsKeys.RESPONSE_TIMEOUT_TIMER_TICK, String.valueOf(responseTimeoutTimerTick));
+        return this;
+    }
+
+    /**
+     * Sets the max number of messages per sender waiting for the publish result or response (default: 100000)
+     *
+     * @param maxInFlightRequests the max number of messages in flight per sender to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setMaxInFlightRequests(int maxInFlightRequests) {
+        if(maxInFlightRequests < 1 || maxInFlightRequests > SdkInfo.MAX_IN_FLIGHT_REQUESTS_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.MAX_IN_FLIGHT_REQUESTS_MAX);
+        }
+        properties.setProperty(SettingsKeys.MAX_IN_FLIGHT_REQUESTS, String.valueOf(maxInFlightRequests));
+        return this;
+    }
+
+    /**
+     * Sets the number of threads processing the received responses of each consumer (default: 4)
+     *
+     * @param consumerWorkerCount the number of threads processing the received responses of each consumer to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setConsumerWorkerCount(int consumerWorkerCount) {
+        if(consumerWorkerCount < 1 || consumerWorkerCount > SdkInfo.CONSUMER_WORKER_COUNT_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.CONSUMER_WORKER_COUNT_MAX);
+        }
+        properties.setProperty(SettingsKeys.CONSUMER_WORKER_COUNT, String.valueOf(consumerWorkerCount));
+        return this;
+    }
+
+    /**
+     * Sets the value indicating whether the received responses are acknowledged (in batches) only after they are handed to the listener (default: false)
+     *
+     * @param consumerManualAck the value to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setConsumerManualAck(boolean consumerManualAck) {
+        properties.setProperty(SettingsKeys.CONSUMER_MANUAL_ACK, String.valueOf(consumerManualAck));
+        return this;
+    }
+
+    /**
+     * Sets the min (and initial) number of unacknowledged responses the broker sends to each consumer (default: 10)
+     *
+     * @param consumerMinPrefetch the min prefetch count of the consumers to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setConsumerMinPrefetch(int consumerMinPrefetch) {
+        if(consumerMinPrefetch < 1 || consumerMinPrefetch > SdkInfo.CONSUMER_PREFETCH_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.CONSUMER_PREFETCH_MAX);
+        }
+        properties.setProperty(SettingsKeys.CONSUMER_MIN_PREFETCH, String.valueOf(consumerMinPrefetch));
+        return this;
+    }
+
+    /**
+     * Sets the max number of unacknowledged responses the broker sends to each consumer (default: 200)
+     *
+     * @param consumerMaxPrefetch the max prefetch count of the consumers to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setConsumerMaxPrefetch(int consumerMaxPrefetch) {
+        if(consumerMaxPrefetch < 1 || consumerMaxPrefetch > SdkInfo.CONSUMER_PREFETCH_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.CONSUMER_PREFETCH_MAX);
+        }
+        properties.setProperty(SettingsKeys.CONSUMER_MAX_PREFETCH, String.valueOf(consumerMaxPrefetch));
+        return this;
+    }
+
+    /**
+     * Sets the number of threads dispatching the responses to the listeners (default: 4)
+     *
+     * @param responseDispatcherThreads the number of threads dispatching the responses to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setResponseDispatcherThreads(int responseDispatcherThreads) {
+        if(responseDispatcherThreads < 1 || responseDispatcherThreads > SdkInfo.DISPATCHER_THREADS_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.DISPATCHER_THREADS_MAX);
+        }
+        properties.setProperty(SettingsKeys.RESPONSE_DISPATCHER_THREADS, String.valueOf(responseDispatcherThreads));
+        return this;
+    }
+
+    /**
+     * Sets the number of threads dispatching the publish results to the listeners (default: 1)
+     *
+     * @param publishResultDispatcherThreads the number of threads dispatching the publish results to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setPublishResultDispatcherThreads(int publishResultDispatcherThreads) {
+        if(publishResultDispatcherThreads < 1 || publishResultDispatcherThreads > SdkInfo.DISPATCHER_THREADS_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.DISPATCHER_THREADS_MAX);
+        }
+        properties.setProperty(SettingsKeys.PUBLISH_RESULT_DISPATCHER_THREADS, String.valueOf(publishResultDispatcherThreads));
+        return this;
+    }
+
+    /**
+     * Sets the number of threads dispatching the response timeouts to the listeners (default: 1)
+     *
+     * @param timeoutDispatcherThreads the number of threads dispatching the response timeouts to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setTimeoutDispatcherThreads(int timeoutDispatcherThreads) {
+        if(timeoutDispatcherThreads < 1 || timeoutDispatcherThreads > SdkInfo.DISPATCHER_THREADS_MAX)
+        {
+            throw new IllegalArgumentException("Value must be between 1 and " + SdkInfo.DISPATCHER_THREADS_MAX);
+        }
+        properties.setProperty(SettingsKeys.TIMEOUT_DISPATCHER_THREADS, String.valueOf(timeoutDispatcherThreads));
+        return this;
+    }
+
+    /**
+     * Sets how long (in ms) a message waits for the send rate limiter before it is rejected with RateLimitExceededException; 0 rejects the message right away (default: 10000)
+     *
+     * @param rateLimitTimeout the max time in ms a message waits for the send rate limiter to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setRateLimitTimeout(int rateLimitTimeout) {
+        if(rateLimitTimeout < 0)
+        {
+            throw new IllegalArgumentException("Value must not be negative");
+        }
+        properties.setProperty(SettingsKeys.RATE_LIMIT_TIMEOUT, String.valueOf(rateLimitTimeout));
+        return this;
+    }
+
+    /**
+     * Sets the number of selection ids built by the selection builders which are cached and reused; 0 disables the cache (default: 8192)
+     *
+     * @param selectionIdCacheSize the number of cached selection ids to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setSelectionIdCacheSize(int selectionIdCacheSize) {
+        if(selectionIdCacheSize < 0)
+        {
+            throw new IllegalArgumentException("Value must not be negative");
+        }
+        properties.setProperty(SettingsKeys.SELECTION_ID_CACHE_SIZE, String.valueOf(selectionIdCacheSize));
+        return this;
+    }
+
+    /**
+     * Sets the max number of pooled connections used by the REST clients (default: 20)
+     *
+     * @param httpClientMaxConnTotal the max number of pooled connections to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setHttpClientMaxConnTotal(int httpClientMaxConnTotal) {
+        if(httpClientMaxConnTotal < 1)
+        {
+            throw new IllegalArgumentException("Value must be at least 1");
+        }
+        properties.setProperty(SettingsKeys.HTTP_CLIENT_MAX_CONN_TOTAL, String.valueOf(httpClientMaxConnTotal));
+        return this;
+    }
+
+    /**
+     * Sets the max number of pooled connections to a single host used by the REST clients (default: 10)
+     *
+     * @param httpClientMaxConnPerRoute the max number of pooled connections to a single host to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setHttpClientMaxConnPerRoute(int httpClientMaxConnPerRoute) {
+        if(httpClientMaxConnPerRoute < 1)
+        {
+            throw new IllegalArgumentException("Value must be at least 1");
+        }
+        properties.setProperty(SettingsKeys.HTTP_CLIENT_MAX_CONN_PER_ROUTE, String.valueOf(httpClientMaxConnPerRoute));
+        return this;
+    }
+
+    /**
+     * Sets the timeout (in ms) of the REST clients for connecting, waiting for a pooled connection and waiting for data; 0 waits without a limit (default: 30000)
+     *
+     * @param httpClientTimeout the timeout in ms of the REST clients to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setHttpClientTimeout(int httpClientTimeout) {
+        if(httpClientTimeout < 0)
+        {
+            throw new IllegalArgumentException("Value must not be negative");
+        }
+        properties.setProperty(SettingsKeys.HTTP_CLIENT_TIMEOUT, String.valueOf(httpClientTimeout));
+        return this;
+    }
+
+    /**
+     * Sets the path of the local file the market descriptions are persisted to; after a restart they are served from the file while being refreshed from the API in the background
+     *
+     * @param marketDescriptionsSnapshotFile the path of the market descriptions snapshot file to be set
+     * @return {@link SdkConfigurationBuilder}
+     */
+    @Override
+    public SdkConfigurationBuilder setMarketDescriptionsSnapshotFile(String marketDescriptionsSnapshotFile) {
+        if(StringUtils.isNullOrEmpty(marketDescriptionsSnapshotFile))
+        {
+            throw new IllegalArgumentException("Value must be set");
+        }
+        properties.setProperty(SettingsKeys.MARKET_DESCRIPTIONS_SNAPSHOT_FILE, String.valueOf(marketDescriptionsSnapshotFile));
+        return this;
+    }
+
     /**
      * Build and return the {@link SdkConfiguration}
      *
@@ -46,6 +46,26 @@ public class SdkConfigurationImpl implements SdkConfiguration {
     private final String keycloakSecret;
     private final String mtsClientApiHost;
     private final UfEnvironment ufEnvironment;
+    private final int publishBatchSize;
+    private final int publishBatchTimeoutMicros;
+    private final int ticketProducerShardCount;
+    private final boolean ticketProducerConnectionPerShard;
+    private final int producerBufferSize;
+    private final int responseTimeoutTimerTick;
+    private final int maxInFlightRequests;
+    private final int consumerWorkerCount;
+    private final boolean consumerManualAck;
+    private final int consumerMinPrefetch;
+    private final int consumerMaxPrefetch;
+    private final int responseDispatcherThreads;
+    private final int publishResultDispatcherThreads;
+    private final int timeoutDispatcherThreads;
+    private final int rateLimitTimeout;
+    private final int selectionIdCacheSize;
+    private final int httpClientMaxConnTotal;
+    private final int httpClientMaxConnPerRoute;
+    private final int httpClientTimeout;
+    private final String marketDescriptionsSnapshotFile;
 
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     protected SdkConfigurationImpl(String username,
@@ -74,7 +94,27 @@ public class SdkConfigurationImpl implements SdkConfiguration {
                                    String keycloakUsername,
                                    String keycloakPassword,
                                    String keycloakSecret,
-                                   String mtsClientApiHost)
+                                   String mtsClientApiHost,
+                                   int publishBatchSize,
+                                   int publishBatchTimeoutMicros,
+                                   int ticketProducerShardCount,
+                                   boolean ticketProducerConnectionPerShard,
+                                   int producerBufferSize,
+                                   int responseTimeoutTimerTick,
+                                   int maxInFlightRequests,
+                                   int consumerWorkerCount,
+                                   boolean consumerManualAck,
+                                   int consumerMinPrefetch,
+                                   int consumerMaxPrefetch,
+                                   int responseDispatcherThreads,
+                                   int publishResultDispatcherThreads,
+                                   int timeoutDispatcherThreads,
+                                   int rateLimitTimeout,
+                                   int selectionIdCacheSize,
+                                   int httpClientMaxConnTotal,
+                                   int httpClientMaxConnPerRoute,
+                                   int httpClientTimeout,
+                                   String marketDescriptionsSnapshotFile)
     {
         this.username = username;
         this.password = password;
@@ -112,6 +152,26 @@ public class SdkConfigurationImpl implements SdkConfiguration {
         this.keycloakPassword = keycloakPassword;
         this.keycloakSecret = keycloakSecret;
         this.mtsClientApiHost = mtsClientApiHost;
+        this.publishBatchSize = publishBatchSize;
+        this.publishBatchTimeoutMicros = publishBatchTimeoutMicros;
+        this.ticketProducerShardCount = ticketProducerShardCount;
+        this.ticketProducerConnectionPerShard = ticketProducerConnectionPerShard;
+        this.producerBufferSize = producerBufferSize;
+        this.responseTimeoutTimerTick = responseTimeoutTimerTick;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.consumerWorkerCount = consumerWorkerCount;
+        this.consumerManualAck = consumerManualAck;
+        this.consumerMinPrefetch = consumerMinPrefetch;
+        this.consumerMaxPrefetch = consumerMaxPrefetch;
+        this.responseDispatcherThreads = responseDispatcherThreads;
+        this.publishResultDispatcherThreads = publishResultDispatcherThreads;
+        this.timeoutDispatcherThreads = timeoutDispatcherThreads;
+        this.rateLimitTimeout = rateLimitTimeout;
+        this.selectionIdCacheSize = selectionIdCacheSize;
+        this.httpClientMaxConnTotal = httpClientMaxConnTotal;
+        this.httpClientMaxConnPerRoute = httpClientMaxConnPerRoute;
+        this.httpClientTimeout = httpClientTimeout;
+        this.marketDescriptionsSnapshotFile = marketDescriptionsSnapshotFile;
     }
 
     protected SdkConfigurationImpl(Properties properties)
@@ -155,6 +215,26 @@ public class SdkConfigurationImpl implements SdkConfiguration {
         this.keycloakPassword = config.getKeycloakPassword();
         this.keycloakSecret = config.getKeycloakSecret();
         this.mtsClientApiHost = config.getMtsClientApiHost();
+        this.publishBatchSize = config.getPublishBatchSize();
+        this.publishBatchTimeoutMicros = config.getPublishBatchTimeoutMicros();
+        this.ticketProducerShardCount = config.getTicketProducerShardCount();
+        this.ticketProducerConnectionPerShard = config.getTicketProducerConnectionPerShard();
+        this.producerBufferSize = config.getProducerBufferSize();
+        this.responseTimeoutTimerTick = config.getResponseTimeoutTimerTick();
+        this.maxInFlightRequests = config.getMaxInFlightRequests();
+        this.consumerWorkerCount = config.getConsumerWorkerCount();
+        this.consumerManualAck = config.getConsumerManualAck();
+        this.consumerMinPrefetch = config.getConsumerMinPrefetch();
+        this.consumerMaxPrefetch = config.getConsumerMaxPrefetch();
+        this.responseDispatcherThreads = config.getResponseDispatcherThreads();
+        this.publishResultDispatcherThreads = config.getPublishResultDispatcherThreads();
+        this.timeoutDispatcherThreads = config.getTimeoutDispatcherThreads();
+        this.rateLimitTimeout = config.getRateLimitTimeout();
+        this.selectionIdCacheSize = config.getSelectionIdCacheSize();
+        this.httpClientMaxConnTotal = config.getHttpClientMaxConnTotal();
+        this.httpClientMaxConnPerRoute = config.getHttpClientMaxConnPerRoute();
+        this.httpClientTimeout = config.getHttpClientTimeout();
+        this.marketDescriptionsSnapshotFile = config.getMarketDescriptionsSnapshotFile();
     }
 
     @Override
@@ -258,6 +338,106 @@ public class SdkConfigurationImpl implements SdkConfiguration {
         return mtsClientApiHost;
     }
 
+    @Override
+    public int getPublishBatchSize() {
+        return publishBatchSize;
+    }
+
+    @Override
+    public int getPublishBatchTimeoutMicros() {
+        return publishBatchTimeoutMicros;
+    }
+
+    @Override
+    public int getTicketProducerShardCount() {
+        return ticketProducerShardCount;
+    }
+
+    @Override
+    public boolean getTicketProducerConnectionPerShard() {
+        return ticketProducerConnectionPerShard;
+    }
+
+    @Override
+    public int getProducerBufferSize() {
+        return producerBufferSize;
+    }
+
+    @Override
+    public int getResponseTimeoutTimerTick() {
+        return responseTimeoutTimerTick;
+    }
+
+    @Override
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    @Override
+    public int getConsumerWorkerCount() {
+        return consumerWorkerCount;
+    }
+
+    @Override
+    public boolean getConsumerManualAck() {
+        return consumerManualAck;
+    }
+
+    @Override
+    public int getConsumerMinPrefetch() {
+        return consumerMinPrefetch;
+    }
+
+    @Override
+    public int getConsumerMaxPrefetch() {
+        return consumerMaxPrefetch;
+    }
+
+    @Override
+    public int getResponseDispatcherThreads() {
+        return responseDispatcherThreads;
+    }
+
+    @Override
+    public int getPublishResultDispatcherThreads() {
+        return publishResultDispatcherThreads;
+    }
+
+    @Override
+    public int getTimeoutDispatcherThreads() {
+        return timeoutDispatcherThreads;
+    }
+
+    @Override
+    public int getRateLimitTimeout() {
+        return rateLimitTimeout;
+    }
+
+    @Override
+    public int getSelectionIdCacheSize() {
+        return selectionIdCacheSize;
+    }
+
+    @Override
+    public int getHttpClientMaxConnTotal() {
+        return httpClientMaxConnTotal;
+    }
+
+    @Override
+    public int getHttpClientMaxConnPerRoute() {
+        return httpClientMaxConnPerRoute;
+    }
+
+    @Override
+    public int getHttpClientTimeout() {
+        return httpClientTimeout;
+    }
+
+    @Override
+    public String getMarketDescriptionsSnapshotFile() {
+        return marketDescriptionsSnapshotFile;
+    }
+
     @Override
     public String toString() {
         return "SdkConfiguration{" +
@@ -287,6 +467,26 @@ public class SdkConfigurationImpl implements SdkConfiguration {
                 ", keycloakPassword='" + "*" + '\'' +
                 ", keycloakSecret='" + "*" + '\'' +
                 ", mtsClientApiHost='" + mtsClientApiHost + '\'' +
+                ", publishBatchSize=" + publishBatchSize +
+                ", publishBatchTimeoutMicros=" + publishBatchTimeoutMicros +
+                ", ticketProducerShardCount=" + ticketProducerShardCount +
+                ", ticketProducerConnectionPerShard=" + ticketProducerConnectionPerShard +
+                ", producerBufferSize=" + producerBufferSize +
+                ", responseTimeoutTimerTick=" + responseTimeoutTimerTick +
+                ", maxInFlightRequests=" + maxInFlightRequests +
+                ", consumerWorkerCount=" + consumerWorkerCount +
+                ", consumerManualAck=" + consumerManualAck +
+                ", consumerMinPrefetch=" + consumerMinPrefetch +
+                ", consumerMaxPrefetch=" + consumerMaxPrefetch +
+                ", responseDispatcherThreads=" + responseDispatcherThreads +
+                ", publishResultDispatcherThreads=" + publishResultDispatcherThreads +
+                ", timeoutDispatcherThreads=" + timeoutDispatcherThreads +
+                ", rateLimitTimeout=" + rateLimitTimeout +
+                ", selectionIdCacheSize=" + selectionIdCacheSize +
+                ", httpClientMaxConnTotal=" + httpClientMaxConnTotal +
+                ", httpClientMaxConnPerRoute=" + httpClientMaxConnPerRoute +
+                ", httpClientTimeout=" + httpClientTimeout +
+                ", marketDescriptionsSnapshotFile=" + marketDescriptionsSnapshotFile +
                 '}';
     }
 
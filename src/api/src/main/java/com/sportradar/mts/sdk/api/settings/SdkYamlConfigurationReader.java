@@ -133,6 +133,26 @@ class SdkYamlConfigurationReader {
         handlePossibleProperty(result, sdkConfiguration, "keycloakPassword", SettingsKeys.KEYCLOAK_PASSWORD);
         handlePossibleProperty(result, sdkConfiguration, "keycloakSecret", SettingsKeys.KEYCLOAK_SECRET);
         handlePossibleProperty(result, sdkConfiguration, "mtsClientApiHost", SettingsKeys.MTS_CLIENT_API_HOST);
+        handlePossibleProperty(result, sdkConfiguration, "publishBatchSize", SettingsKeys.PUBLISH_BATCH_SIZE);
+        handlePossibleProperty(result, sdkConfiguration, "publishBatchTimeoutMicros", SettingsKeys.PUBLISH_BATCH_TIMEOUT_MICROS);
+        handlePossibleProperty(result, sdkConfiguration, "ticketProducerShardCount", SettingsKeys.TICKET_PRODUCER_SHARD_COUNT);
+        handlePossibleProperty(result, sdkConfiguration, "ticketProducerConnectionPerShard", SettingsKeys.TICKET_PRODUCER_CONNECTION_PER_SHARD);
+        handlePossibleProperty(result, sdkConfiguration, "producerBufferSize", SettingsKeys.PRODUCER_BUFFER_SIZE);
+        handlePossibleProperty(result, sdkConfiguration, "responseTimeoutTimerTick", SettingsKeys.RESPONSE_TIMEOUT_TIMER_TICK);
+        handlePossibleProperty(result, sdkConfiguration, "maxInFlightRequests", SettingsKeys.MAX_IN_FLIGHT_REQUESTS);
+        handlePossibleProperty(result, sdkConfiguration, "consumerWorkerCount", SettingsKeys.CONSUMER_WORKER_COUNT);
+        handlePossibleProperty(result, sdkConfiguration, "consumerManualAck", SettingsKeys.CONSUMER_MANUAL_ACK);
+        handlePossibleProperty(result, sdkConfiguration, "consumerMinPrefetch", SettingsKeys.CONSUMER_MIN_PREFETCH);
+        handlePossibleProperty(result, sdkConfiguration, "consumerMaxPrefetch", SettingsKeys.CONSUMER_MAX_PREFETCH);
+        handlePossibleProperty(result, sdkConfiguration, "responseDispatcherThreads", SettingsKeys.RESPONSE_DISPATCHER_THREADS);
+        handlePossibleProperty(result, sdkConfiguration, "publishResultDispatcherThreads", SettingsKeys.PUBLISH_RESULT_DISPATCHER_THREADS);
+        handlePossibleProperty(result, sdkConfiguration, "timeoutDispatcherThreads", SettingsKeys.TIMEOUT_DISPATCHER_THREADS);
+        handlePossibleProperty(result, sdkConfiguration, "rateLimitTimeout", SettingsKeys.RATE_LIMIT_TIMEOUT);
+        handlePossibleProperty(result, sdkConfiguration, "selectionIdCacheSize", SettingsKeys.SELECTION_ID_CACHE_SIZE);
+        handlePossibleProperty(result, sdkConfiguration, "httpClientMaxConnTotal", SettingsKeys.HTTP_CLIENT_MAX_CONN_TOTAL);
+        handlePossibleProperty(result, sdkConfiguration, "httpClientMaxConnPerRoute", SettingsKeys.HTTP_CLIENT_MAX_CONN_PER_ROUTE);
+        handlePossibleProperty(result, sdkConfiguration, "httpClientTimeout", SettingsKeys.HTTP_CLIENT_TIMEOUT);
+        handlePossibleProperty(result, sdkConfiguration, "marketDescriptionsSnapshotFile", SettingsKeys.MARKET_DESCRIPTIONS_SNAPSHOT_FILE);
 
         return result;
     }
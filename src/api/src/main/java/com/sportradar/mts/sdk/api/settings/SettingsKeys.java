@@ -123,4 +123,84 @@ public final class SettingsKeys {
      * Gets the Client API host
      */
     public static final String MTS_CLIENT_API_HOST = PREFIX + "mtsClientApiHost";
+    /**
+     * Max number of messages published by a producer in a single batch. Default 1 (no batching)
+     */
+    public static final String PUBLISH_BATCH_SIZE = PREFIX + "publishBatchSize";
+    /**
+     * Max time(us) a producer waits for the publish batch to fill up. Default 0
+     */
+    public static final String PUBLISH_BATCH_TIMEOUT_MICROS = PREFIX + "publishBatchTimeoutMicros";
+    /**
+     * Number of channels (shards) the tickets are published through. Default 1
+     */
+    public static final String TICKET_PRODUCER_SHARD_COUNT = PREFIX + "ticketProducerShardCount";
+    /**
+     * Should each ticket producer shard use its own connection. Default false
+     */
+    public static final String TICKET_PRODUCER_CONNECTION_PER_SHARD = PREFIX + "ticketProducerConnectionPerShard";
+    /**
+     * Max number of messages waiting to be published per producer shard. Default 64
+     */
+    public static final String PRODUCER_BUFFER_SIZE = PREFIX + "producerBufferSize";
+    /**
+     * Tick duration(ms) of the timer detecting ticket response timeouts. Default 10
+     */
+    public static final String RESPONSE_TIMEOUT_TIMER_TICK = PREFIX + "responseTimeoutTimerTick";
+    /**
+     * Max number of messages per sender waiting for the publish result or response. Default 100000
+     */
+    public static final String MAX_IN_FLIGHT_REQUESTS = PREFIX + "maxInFlightRequests";
+    /**
+     * Number of threads processing the received responses of each consumer. Default 4
+     */
+    public static final String CONSUMER_WORKER_COUNT = PREFIX + "consumerWorkerCount";
+    /**
+     * Should the received responses be acknowledged only after they are processed. Default false
+     */
+    public static final String CONSUMER_MANUAL_ACK = PREFIX + "consumerManualAck";
+    /**
+     * Min (and initial) number of unacknowledged responses per consumer. Default 10
+     */
+    public static final String CONSUMER_MIN_PREFETCH = PREFIX + "consumerMinPrefetch";
+    /**
+     * Max number of unacknowledged responses per consumer. Default 200
+     */
+    public static final String CONSUMER_MAX_PREFETCH = PREFIX + "consumerMaxPrefetch";
+    /**
+     * Number of threads dispatching the responses to the listeners. Default 4
+     */
+    public static final String RESPONSE_DISPATCHER_THREADS = PREFIX + "responseDispatcherThreads";
+    /**
+     * Number of threads dispatching the publish results to the listeners. Default 1
+     */
+    public static final String PUBLISH_RESULT_DISPATCHER_THREADS = PREFIX + "publishResultDispatcherThreads";
+    /**
+     * Number of threads dispatching the response timeouts to the listeners. Default 1
+     */
+    public static final String TIMEOUT_DISPATCHER_THREADS = PREFIX + "timeoutDispatcherThreads";
+    /**
+     * How long (in ms) a message waits for the send rate limiter before it is rejected. Default 10000
+     */
+    public static final String RATE_LIMIT_TIMEOUT = PREFIX + "rateLimitTimeout";
+    /**
+     * Number of selection ids built by the selection builders which are cached and reused. Default 8192, 0 disables the cache
+     */
+    public static final String SELECTION_ID_CACHE_SIZE = PREFIX + "selectionIdCacheSize";
+    /**
+     * Max number of pooled connections used by the REST clients (market descriptions, client api, custom bets, reports). Default 20
+     */
+    public static final String HTTP_CLIENT_MAX_CONN_TOTAL = PREFIX + "httpClientMaxConnTotal";
+    /**
+     * Max number of pooled connections to a single host used by the REST clients. Default 10
+     */
+    public static final String HTTP_CLIENT_MAX_CONN_PER_ROUTE = PREFIX + "httpClientMaxConnPerRoute";
+    /**
+     * Timeout (in ms) of the REST clients for connecting, waiting for a pooled connection and waiting for data. Default 30000
+     */
+    public static final String HTTP_CLIENT_TIMEOUT = PREFIX + "httpClientTimeout";
+    /**
+     * Path of the local file the market descriptions are persisted to and served from after a restart. Not used if not set
+     */
+    public static final String MARKET_DESCRIPTIONS_SNAPSHOT_FILE = PREFIX + "marketDescriptionsSnapshotFile";
 }
@@ -93,6 +93,20 @@ public final class JsonUtils {
         }
     }
 
+    /**
+     * Serializes the MTS dto to UTF-8 encoded JSON
+     *
+     * @param dto the dto to be serialized
+     * @return the UTF-8 encoded JSON
+     */
+    public static byte[] serializeDto(Object dto) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(dto);
+        } catch (JsonProcessingException ex) {
+            throw new MtsSdkProcessException("Exception during dto mapping: " + ex.getMessage(), ex.getCause());
+        }
+    }
+
     public static <T> String serializeAsString(T item) {
         if (item == null) {
             return "";
@@ -34,6 +34,7 @@ import com.sportradar.mts.sdk.api.impl.mtsdto.ticketresponse.RejectionInfo;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticketresponse.Reoffer;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticketresponse.TicketResponseSchema;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -303,6 +304,11 @@ public class MtsDtoMapper {
 
 
     public static TicketResponse map(TicketResponseSchema response, String correlationId, Map<String, Object> messageHeaders, String msgBody)
+    {
+        return map(response, correlationId, messageHeaders, msgBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketResponse map(TicketResponseSchema response, String correlationId, Map<String, Object> messageHeaders, byte[] msgBody)
     {
         return new TicketResponseImpl(response.getResult().getTicketId(),
                                       map(response.getResult().getReason()),
@@ -324,6 +330,11 @@ public class MtsDtoMapper {
     }
 
     public static TicketCancelResponse map(TicketCancelResponseSchema response, String correlationId, Map<String, Object> messageHeaders, String msgBody)
+    {
+        return map(response, correlationId, messageHeaders, msgBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketCancelResponse map(TicketCancelResponseSchema response, String correlationId, Map<String, Object> messageHeaders, byte[] msgBody)
     {
         return new TicketCancelResponseImpl(
                 response.getResult().getTicketId(),
@@ -343,6 +354,10 @@ public class MtsDtoMapper {
     }
 
     public static TicketCashoutResponse map(com.sportradar.mts.sdk.api.impl.mtsdto.ticketcashoutresponse.TicketCashoutResponseSchema schema, String correlationId, Map<String, Object> messageHeaders, String msgBody) {
+        return map(schema, correlationId, messageHeaders, msgBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketCashoutResponse map(com.sportradar.mts.sdk.api.impl.mtsdto.ticketcashoutresponse.TicketCashoutResponseSchema schema, String correlationId, Map<String, Object> messageHeaders, byte[] msgBody) {
 
         return new TicketCashoutResponseImpl(
                 schema.getResult().getTicketId(),
@@ -357,6 +372,10 @@ public class MtsDtoMapper {
     }
 
     public static TicketNonSrSettleResponse map(com.sportradar.mts.sdk.api.impl.mtsdto.ticketnonsrsettle.TicketNonSrSettleResponseSchema schema, String correlationId, Map<String, Object> messageHeaders, String msgBody) {
+        return map(schema, correlationId, messageHeaders, msgBody.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketNonSrSettleResponse map(com.sportradar.mts.sdk.api.impl.mtsdto.ticketnonsrsettle.TicketNonSrSettleResponseSchema schema, String correlationId, Map<String, Object> messageHeaders, byte[] msgBody) {
 
         return new TicketNonSrSettleResponseImpl(
                 schema.getResult().getTicketId(),
@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.sportradar.mts.sdk.api.*;
+import com.sportradar.mts.sdk.api.enums.TicketAckStatus;
+import com.sportradar.mts.sdk.api.enums.TicketCancelAckStatus;
+import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes the MTS wire JSON of the tickets directly from the SDK model, without building the intermediate DTOs. The
+ * output is byte-identical to serializing the DTOs created by {@link MtsDtoMapper} with {@link JsonUtils#OBJECT_MAPPER}:
+ * the properties are written in the order of the DTO schemas and <code>null</code> values are omitted
+ */
+public final class MtsJsonSerializer {
+
+    private MtsJsonSerializer() { throw new IllegalStateException("MtsJsonSerializer class"); }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(JsonGenerator gen) throws IOException;
+    }
+
+    public static byte[] serialize(Ticket ticket) {
+        return write(gen -> writeTicket(gen, ticket));
+    }
+
+    public static byte[] serialize(TicketCancel ticketCancel) {
+        return write(gen -> writeTicketCancel(gen, ticketCancel));
+    }
+
+    public static byte[] serialize(TicketAck ticketAck) {
+        return write(gen -> {
+            gen.writeStartObject();
+            writeSender(gen, ticketAck.getBookmakerId());
+            writeString(gen, "ticketId", ticketAck.getTicketId());
+            gen.writeStringField("ticketStatus", ticketAck.getAckStatus() == TicketAckStatus.ACCEPTED ? "accepted" : "rejected");
+            writeNumber(gen, "code", ticketAck.getCode());
+            writeString(gen, "message", ticketAck.getMessage());
+            gen.writeNumberField("timestampUtc", MtsDateFormatter.dateTimeToUnixTime(ticketAck.getTimestampUtc()));
+            writeString(gen, "version", ticketAck.getVersion());
+            gen.writeEndObject();
+        });
+    }
+
+    public static byte[] serialize(TicketCancelAck ticketCancelAck) {
+        return write(gen -> {
+            gen.writeStartObject();
+            writeSender(gen, ticketCancelAck.getBookmakerId());
+            writeString(gen, "ticketId", ticketCancelAck.getTicketId());
+            gen.writeStringField("ticketCancelStatus", ticketCancelAck.getAckStatus() == TicketCancelAckStatus.CANCELLED ? "cancelled" : "not_cancelled");
+            writeNumber(gen, "code", ticketCancelAck.getCode());
+            writeString(gen, "message", ticketCancelAck.getMessage());
+            gen.writeNumberField("timestampUtc", MtsDateFormatter.dateTimeToUnixTime(ticketCancelAck.getTimestampUtc()));
+            writeString(gen, "version", ticketCancelAck.getVersion());
+            gen.writeEndObject();
+        });
+    }
+
+    public static byte[] serialize(TicketReofferCancel ticketReofferCancel) {
+        return write(gen -> {
+            gen.writeStartObject();
+            gen.writeNumberField("timestampUtc", MtsDateFormatter.dateTimeToUnixTime(ticketReofferCancel.getTimestampUtc()));
+            writeString(gen, "ticketId", ticketReofferCancel.getTicketId());
+            writeSender(gen, ticketReofferCancel.getBookmakerId());
+            writeString(gen, "version", ticketReofferCancel.getVersion());
+            gen.writeEndObject();
+        });
+    }
+
+    public static byte[] serialize(TicketCashout ticketCashout) {
+        return write(gen -> {
+            gen.writeStartObject();
+            gen.writeNumberField("timestampUtc", MtsDateFormatter.dateTimeToUnixTime(ticketCashout.getTimestampUtc()));
+            writeString(gen, "ticketId", ticketCashout.getTicketId());
+            writeSender(gen, ticketCashout.getBookmakerId());
+            writeNumber(gen, "cashoutStake", ticketCashout.getCashoutStake());
+            writeNumber(gen, "cashoutPercent", ticketCashout.getCashoutPercent());
+            if (ticketCashout.getBetCashouts() != null) {
+                gen.writeArrayFieldStart("betCashout");
+                for (BetCashout betCashout : ticketCashout.getBetCashouts()) {
+                    gen.writeStartObject();
+                    writeString(gen, "id", betCashout.getBetId());
+                    gen.writeNumberField("cashoutStake", betCashout.getCashoutStake());
+                    writeNumber(gen, "cashoutPercent", betCashout.getCashoutPercent());
+                    gen.writeEndObject();
+                }
+                gen.writeEndArray();
+            }
+            writeString(gen, "version", ticketCashout.getVersion());
+            gen.writeEndObject();
+        });
+    }
+
+    public static byte[] serialize(TicketNonSrSettle ticketNonSrSettle) {
+        return write(gen -> {
+            gen.writeStartObject();
+            gen.writeNumberField("timestampUtc", MtsDateFormatter.dateTimeToUnixTime(ticketNonSrSettle.getTimestampUtc()));
+            writeString(gen, "ticketId", ticketNonSrSettle.getTicketId());
+            writeSender(gen, ticketNonSrSettle.getBookmakerId());
+            writeNumber(gen, "nonSrSettleStake", ticketNonSrSettle.getNonSrSettleStake());
+            writeString(gen, "version", ticketNonSrSettle.getVersion());
+            gen.writeEndObject();
+        });
+    }
+
+    private static byte[] write(Writer writer) {
+        ByteArrayBuilder builder = new ByteArrayBuilder(JsonUtils.OBJECT_MAPPER.getFactory()._getBufferRecycler());
+        try (JsonGenerator gen = JsonUtils.OBJECT_MAPPER.getFactory().createGenerator(builder, JsonEncoding.UTF8)) {
+            writer.write(gen);
+        } catch (IOException ex) {
+            throw new MtsSdkProcessException("Exception during ticket serialization: " + ex.getMessage(), ex);
+        }
+        byte[] result = builder.toByteArray();
+        builder.release();
+        return result;
+    }
+
+    private static void writeTicket(JsonGenerator gen, Ticket ticket) throws IOException {
+        // the selections are deduplicated by (eventId, id, odds); the index is what the bets refer to
+        Map<SelectionKey, Integer> selectionIndexes = new HashMap<>();
+        List<Selection> selections = new ArrayList<>();
+        boolean hasBanker = false;
+        for (Selection selection : ticket.getSelections()) {
+            // only the last selection is considered, as done by MtsDtoMapper
+            hasBanker = selection.getIsBanker();
+            if (selectionIndexes.putIfAbsent(new SelectionKey(selection), selections.size()) == null) {
+                selections.add(selection);
+            }
+        }
+
+        gen.writeStartObject();
+        gen.writeNumberField("timestampUtc", MtsDateFormatter.dateTimeToUnixTime(ticket.getTimestampUtc()));
+        gen.writeArrayFieldStart("bets");
+        for (Bet bet : ticket.getBets()) {
+            writeBet(gen, bet, selectionIndexes, hasBanker);
+        }
+        gen.writeEndArray();
+        writeString(gen, "ticketId", ticket.getTicketId());
+        gen.writeArrayFieldStart("selections");
+        for (Selection selection : selections) {
+            gen.writeStartObject();
+            writeString(gen, "eventId", selection.getEventId());
+            writeString(gen, "id", selection.getId());
+            writeNumber(gen, "odds", selection.getOdds());
+            writeNumber(gen, "boostedOdds", selection.getBoostedOdds());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        writeSender(gen, ticket.getSender());
+        writeString(gen, "reofferRefId", ticket.getReofferId());
+        writeString(gen, "altStakeRefId", ticket.getAltStakeRefId());
+        writeString(gen, "version", ticket.getVersion());
+        gen.writeBooleanField("testSource", ticket.getTestSource());
+        gen.writeStringField("oddsChange", MtsTicketHelper.convert(ticket.getOddsChange()).toString());
+        writeNumber(gen, "totalCombinations", ticket.getTotalCombinations());
+        if (ticket.getLastMatchEndTime() != null) {
+            gen.writeNumberField("lastMatchEndTime", ticket.getLastMatchEndTime().getTime());
+        }
+        writeNumber(gen, "payCap", ticket.getPayCap());
+        gen.writeEndObject();
+    }
+
+    private static void writeBet(JsonGenerator gen, Bet bet, Map<SelectionKey, Integer> selectionIndexes, boolean hasBanker) throws IOException {
+        gen.writeStartObject();
+        BetBonus bonus = bet.getBetBonus();
+        if (bonus != null) {
+            gen.writeObjectFieldStart("bonus");
+            gen.writeNumberField("value", bonus.getValue());
+            writeEnum(gen, "type", MtsTicketHelper.convert(bonus.getType()));
+            writeEnum(gen, "mode", MtsTicketHelper.convert(bonus.getMode()));
+            writeEnum(gen, "description", MtsTicketHelper.convert(bonus.getDescription()));
+            writeEnum(gen, "paidAs", MtsTicketHelper.convert(bonus.getPaidAs()));
+            gen.writeEndObject();
+        }
+        BetFreeStake freeStake = bet.getBetFreeStake();
+        if (freeStake != null) {
+            gen.writeObjectFieldStart("freeStake");
+            gen.writeNumberField("value", freeStake.getValue());
+            writeEnum(gen, "type", MtsTicketHelper.convert(freeStake.getType()));
+            writeEnum(gen, "description", MtsTicketHelper.convert(freeStake.getDescription()));
+            writeEnum(gen, "paidAs", MtsTicketHelper.convert(freeStake.getPaidAs()));
+            gen.writeEndObject();
+        }
+        if (bet.getCustomBet() != null) {
+            gen.writeBooleanField("customBet", bet.getCustomBet());
+        }
+        writeNumber(gen, "calculationOdds", bet.getCalculationOdds());
+        gen.writeObjectFieldStart("stake");
+        gen.writeNumberField("value", bet.getStake().getValue());
+        gen.writeStringField("type", MtsTicketHelper.convertStakeType(bet.getStake().getType()).toString());
+        gen.writeEndObject();
+        if (bet.getEntireStake() != null) {
+            gen.writeObjectFieldStart("entireStake");
+            gen.writeNumberField("value", bet.getEntireStake().getValue());
+            gen.writeStringField("type", MtsTicketHelper.convertEntireStakeType(bet.getEntireStake().getType()).toString());
+            gen.writeEndObject();
+        }
+        writeString(gen, "id", bet.getId());
+        if (bet.getSelectedSystems() != null) {
+            gen.writeArrayFieldStart("selectedSystems");
+            for (Integer system : bet.getSelectedSystems()) {
+                gen.writeNumber(system);
+            }
+            gen.writeEndArray();
+        }
+        writeSelectionRefs(gen, bet, selectionIndexes, hasBanker);
+        writeString(gen, "reofferRefId", bet.getReofferRefId());
+        writeNumber(gen, "sumOfWins", bet.getSumOfWins());
+        gen.writeEndObject();
+    }
+
+    private static void writeSelectionRefs(JsonGenerator gen, Bet bet, Map<SelectionKey, Integer> selectionIndexes, boolean hasBanker) throws IOException {
+        List<Selection> selections = bet.getSelections();
+        if (selections.isEmpty()
+                || (selections.size() == selectionIndexes.size() && !hasBanker && selections.stream().noneMatch(Selection::getIsBanker))) {
+            return;
+        }
+        gen.writeArrayFieldStart("selectionRefs");
+        for (Selection selection : selections) {
+            Integer index = selectionIndexes.get(new SelectionKey(selection));
+            gen.writeStartObject();
+            gen.writeNumberField("selectionIndex", index == null ? -1 : index);
+            gen.writeBooleanField("banker", selection.getIsBanker());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeTicketCancel(JsonGenerator gen, TicketCancel ticketCancel) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("timestampUtc", MtsDateFormatter.dateTimeToUnixTime(ticketCancel.getTimestampUtc()));
+        writeString(gen, "ticketId", ticketCancel.getTicketId());
+        writeSender(gen, ticketCancel.getBookmakerId());
+        gen.writeNumberField("code", ticketCancel.getCode().getId());
+        writeNumber(gen, "cancelPercent", ticketCancel.getCancelPercent());
+        if (ticketCancel.getBetCancels() != null) {
+            gen.writeArrayFieldStart("betCancel");
+            for (BetCancel betCancel : ticketCancel.getBetCancels()) {
+                gen.writeStartObject();
+                writeString(gen, "id", betCancel.getBetId());
+                writeNumber(gen, "cancelPercent", betCancel.getCancelPercent());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        writeString(gen, "version", ticketCancel.getVersion());
+        gen.writeEndObject();
+    }
+
+    private static void writeSender(JsonGenerator gen, Sender sender) throws IOException {
+        gen.writeObjectFieldStart("sender");
+        writeString(gen, "currency", sender.getCurrency());
+        writeString(gen, "terminalId", sender.getTerminalId());
+        gen.writeStringField("channel", MtsTicketHelper.convert(sender.getChannel()).toString());
+        writeString(gen, "shopId", sender.getShopId());
+        gen.writeNumberField("bookmakerId", sender.getBookmakerId());
+        EndCustomer endCustomer = sender.getEndCustomer();
+        if (endCustomer != null) {
+            gen.writeObjectFieldStart("endCustomer");
+            writeString(gen, "ip", endCustomer.getEndCustomerIp());
+            writeString(gen, "languageId", endCustomer.getLanguageId());
+            writeString(gen, "deviceId", endCustomer.getDeviceId());
+            writeString(gen, "id", endCustomer.getId());
+            writeNumber(gen, "confidence", endCustomer.getConfidence());
+            gen.writeEndObject();
+        }
+        gen.writeNumberField("limitId", sender.getLimitId());
+        gen.writeEndObject();
+    }
+
+    private static void writeSender(JsonGenerator gen, int bookmakerId) throws IOException {
+        gen.writeObjectFieldStart("sender");
+        gen.writeNumberField("bookmakerId", bookmakerId);
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, String name, String value) throws IOException {
+        if (value != null) {
+            gen.writeStringField(name, value);
+        }
+    }
+
+    private static void writeEnum(JsonGenerator gen, String name, Enum<?> value) throws IOException {
+        if (value != null) {
+            // the dto enums return their wire value
+            gen.writeStringField(name, value.toString());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, String name, Integer value) throws IOException {
+        if (value != null) {
+            gen.writeNumberField(name, value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, String name, Long value) throws IOException {
+        if (value != null) {
+            gen.writeNumberField(name, value);
+        }
+    }
+
+    /**
+     * The identity of a ticket selection, used to deduplicate the selections and resolve the selection references
+     */
+    private static final class SelectionKey {
+        private final String eventId;
+        private final String id;
+        private final Integer odds;
+        private final int hash;
+
+        SelectionKey(Selection selection) {
+            this.eventId = selection.getEventId();
+            this.id = selection.getId();
+            this.odds = selection.getOdds();
+            this.hash = Objects.hash(eventId, id, odds);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SelectionKey)) {
+                return false;
+            }
+            SelectionKey other = (SelectionKey) o;
+            return Objects.equals(eventId, other.eventId) && Objects.equals(id, other.id) && Objects.equals(odds, other.odds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
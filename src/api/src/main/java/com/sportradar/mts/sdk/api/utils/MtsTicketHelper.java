@@ -4,28 +4,75 @@
 
 package com.sportradar.mts.sdk.api.utils;
 
+import com.google.common.base.Preconditions;
 import com.sportradar.mts.sdk.api.enums.*;
+import com.sportradar.mts.sdk.api.impl.CorrelationIdGeneratorImpl;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticket.*;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticketresponse.Reoffer;
 import com.sportradar.mts.sdk.api.impl.mtsdto.ticketresponse.Result;
+import com.sportradar.mts.sdk.api.interfaces.CorrelationIdGenerator;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.GregorianCalendar;
-import java.util.UUID;
+import java.util.Iterator;
+import java.util.ServiceLoader;
 
 /**
  * Implements methods for converting between DTOs
  */
 public final class MtsTicketHelper {
-    private static final String BET_ID_PATTERN = "^[0-9A-Za-z:_-]*";
-    private static final String USER_ID_PATTERN = "^[0-9A-Za-z#_-]*";
+    // the characters allowed by the id patterns [0-9A-Za-z:_-] and [0-9A-Za-z#_-], indexed by the ascii code
+    private static final boolean[] BET_ID_CHARS = idChars(":_-");
+    private static final boolean[] USER_ID_CHARS = idChars("#_-");
+    private static final long MIN_TIMESTAMP_MILLIS = new GregorianCalendar(2017, 1, 1).getTimeInMillis();
     private static final String INVALID_STATUS = "Invalid response Status value: %s";
+    // the correlationId is sent as an AMQP short string, which holds at most 255 bytes
+    private static final int MAX_CORRELATION_ID_BYTES = 255;
+
+    private static volatile CorrelationIdGenerator correlationIdGenerator = loadCorrelationIdGenerator();
 
     private MtsTicketHelper() { throw new IllegalStateException("MtsTicketHelper class"); }
 
+    /**
+     * Generates a new correlation id with the configured {@link CorrelationIdGenerator}
+     *
+     * @return a new correlation id
+     * @throws IllegalStateException if the generator returned an empty or too long correlation id
+     */
     public static String generateTicketCorrelationId()
     {
-        return "j" + UUID.randomUUID().toString();
+        CorrelationIdGenerator generator = correlationIdGenerator;
+        String correlationId = generator.generate();
+        if (correlationId == null || correlationId.isEmpty())
+        {
+            throw new IllegalStateException(String.format("%s generated an empty correlationId", generator.getClass().getName()));
+        }
+        if (correlationId.length() > MAX_CORRELATION_ID_BYTES / 3
+                && correlationId.getBytes(StandardCharsets.UTF_8).length > MAX_CORRELATION_ID_BYTES)
+        {
+            throw new IllegalStateException(String.format("%s generated a correlationId longer than %s bytes: %s",
+                                                          generator.getClass().getName(), MAX_CORRELATION_ID_BYTES, correlationId));
+        }
+        return correlationId;
+    }
+
+    /**
+     * Replaces the generator of the correlation ids; by default the first {@link CorrelationIdGenerator} found by the
+     * {@link ServiceLoader} is used or {@link CorrelationIdGeneratorImpl} if there is none
+     *
+     * @param generator the generator to be used
+     */
+    public static void setCorrelationIdGenerator(CorrelationIdGenerator generator)
+    {
+        Preconditions.checkNotNull(generator, "generator cannot be null");
+        correlationIdGenerator = generator;
+    }
+
+    private static CorrelationIdGenerator loadCorrelationIdGenerator()
+    {
+        Iterator<CorrelationIdGenerator> providers = ServiceLoader.load(CorrelationIdGenerator.class).iterator();
+        return providers.hasNext() ? providers.next() : new CorrelationIdGeneratorImpl();
     }
 
     public static Ticket.OddsChange convert(OddsChangeType type)
@@ -307,12 +354,10 @@ public final class MtsTicketHelper {
      */
     public static boolean validateId(String id, boolean useUserIdPattern)
     {
-        String idPattern = useUserIdPattern ? USER_ID_PATTERN : BET_ID_PATTERN;
         return id != null
                 && !id.isEmpty()
-                && id.length() > 0
                 && id.length() <= 128
-                && id.matches(idPattern);
+                && matchesIdPattern(id, useUserIdPattern);
     }
 
     public static boolean validateId(String id, boolean checkIdPattern, boolean useUserIdPattern)
@@ -330,8 +375,7 @@ public final class MtsTicketHelper {
         boolean valid = true;
         if(checkIdPattern)
         {
-            String idPattern = useUserIdPattern ? USER_ID_PATTERN : BET_ID_PATTERN;
-            valid = id.matches(idPattern);
+            valid = matchesIdPattern(id, useUserIdPattern);
         }
         if(valid && minLength >= 0)
         {
@@ -346,6 +390,45 @@ public final class MtsTicketHelper {
 
     public static boolean validateTimestamp(Date date)
     {
-        return date.after(new GregorianCalendar(2017, 1, 1).getTime());
+        return date.getTime() > MIN_TIMESTAMP_MILLIS;
+    }
+
+    /**
+     * Checks the id against the id pattern by scanning its characters, so no regex is compiled or run
+     * @param id to be checked
+     * @param useUserIdPattern should use the user id characters
+     * @return bool if all the characters of the id are allowed
+     */
+    private static boolean matchesIdPattern(String id, boolean useUserIdPattern)
+    {
+        boolean[] allowed = useUserIdPattern ? USER_ID_CHARS : BET_ID_CHARS;
+        for (int i = 0; i < id.length(); i++)
+        {
+            char c = id.charAt(i);
+            if (c >= allowed.length || !allowed[c])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean[] idChars(String specialChars)
+    {
+        boolean[] chars = new boolean[128];
+        for (char c = '0'; c <= '9'; c++)
+        {
+            chars[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++)
+        {
+            chars[c] = true;
+            chars[Character.toLowerCase(c)] = true;
+        }
+        for (char c : specialChars.toCharArray())
+        {
+            chars[c] = true;
+        }
+        return chars;
     }
 }
@@ -12,6 +12,36 @@ import java.util.Properties;
 public final class SdkInfo {
     public static final String MTS_TICKET_VERSION = "2.4";
     public static final int RABBIT_PREFETCH_COUNT = 10;
+    public static final int PUBLISH_BATCH_SIZE_DEFAULT = 1;
+    public static final int PUBLISH_BATCH_SIZE_MAX = 1000;
+    public static final int PUBLISH_BATCH_TIMEOUT_MICROS_DEFAULT = 0;
+    public static final int PUBLISH_BATCH_TIMEOUT_MICROS_MAX = 100000;
+    public static final int PRODUCER_SHARD_COUNT_DEFAULT = 1;
+    public static final int PRODUCER_SHARD_COUNT_MAX = 64;
+    public static final int PRODUCER_BUFFER_SIZE_DEFAULT = 64;
+    public static final int PRODUCER_BUFFER_SIZE_MAX = 100000;
+    public static final int RESPONSE_TIMEOUT_TIMER_TICK_DEFAULT = 10;
+    public static final int RESPONSE_TIMEOUT_TIMER_TICK_MAX = 1000;
+    public static final int MAX_IN_FLIGHT_REQUESTS_DEFAULT = 100000;
+    public static final int MAX_IN_FLIGHT_REQUESTS_MAX = 1000000;
+    public static final int CONSUMER_WORKER_COUNT_DEFAULT = 4;
+    public static final int CONSUMER_WORKER_COUNT_MAX = 64;
+    public static final int CONSUMER_ACK_BATCH_SIZE = 5;
+    public static final long CONSUMER_ACK_INTERVAL_MILLIS = 100L;
+    public static final int CONSUMER_MAX_PREFETCH_DEFAULT = 200;
+    public static final int CONSUMER_PREFETCH_MAX = 65535;
+    public static final long CONSUMER_PREFETCH_WINDOW_MILLIS = 1000L;
+    public static final int RESPONSE_DISPATCHER_THREADS_DEFAULT = 4;
+    public static final int PUBLISH_RESULT_DISPATCHER_THREADS_DEFAULT = 1;
+    public static final int TIMEOUT_DISPATCHER_THREADS_DEFAULT = 1;
+    public static final int DISPATCHER_THREADS_MAX = 64;
+    public static final int RATE_LIMIT_TIMEOUT_DEFAULT = 10000;
+    public static final int SELECTION_ID_CACHE_SIZE_DEFAULT = 8192;
+    public static final int HTTP_CLIENT_MAX_CONN_TOTAL_DEFAULT = 20;
+    public static final int HTTP_CLIENT_MAX_CONN_PER_ROUTE_DEFAULT = 10;
+    public static final int HTTP_CLIENT_TIMEOUT_DEFAULT = 30000;
+    public static final int HTTP_CLIENT_KEEP_ALIVE_MAX = 30000;
+    public static final int REST_LOG_BODY_PREFIX_BYTES = 1024;
     public static final int TICKET_RESPONSE_TIMEOUT_LIVE_DEFAULT = 17000;
     public static final int TICKET_RESPONSE_TIMEOUT_PREMATCH_DEFAULT = 5000;
     public static final int TICKET_CANCELLATION_RESPONSE_TIMEOUT_DEFAULT = 600000;
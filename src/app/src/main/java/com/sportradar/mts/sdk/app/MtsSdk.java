@@ -7,7 +7,10 @@ package com.sportradar.mts.sdk.app;
 import com.google.common.base.Preconditions;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
 import com.sportradar.mts.sdk.api.builders.BuilderFactory;
+import com.sportradar.mts.sdk.api.caching.MarketDescriptionCache;
 import com.sportradar.mts.sdk.api.exceptions.MtsPropertiesException;
 import com.sportradar.mts.sdk.api.impl.ConnectionStatusImpl;
 import com.sportradar.mts.sdk.api.interfaces.*;
@@ -17,9 +20,11 @@ import com.sportradar.mts.sdk.api.settings.SdkConfigurationImpl;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.di.SdkInjectionModule;
 import com.sportradar.mts.sdk.impl.libs.root.SdkRoot;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.Properties;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -41,6 +46,9 @@ public class MtsSdk implements MtsSdkApi {
     private CustomBetManager customBetManager;
     private ReportManager reportManager;
     private ConnectionStatusImpl connectionStatus;
+    private SdkMetrics metrics;
+    private MarketDescriptionCache marketDescriptionCache;
+    private CloseableHttpClient httpClient;
 
     /**
      * Creates new MTS SDK instance
@@ -56,7 +64,10 @@ public class MtsSdk implements MtsSdkApi {
         customBetManager = injector.getInstance(CustomBetManager.class);
         reportManager = injector.getInstance(ReportManager.class);
         connectionStatus = (ConnectionStatusImpl) injector.getInstance(ConnectionStatus.class);
+        metrics = injector.getInstance(SdkMetrics.class);
         sdkRoot = injector.getInstance(SdkRoot.class);
+        marketDescriptionCache = injector.getInstance(Key.get(MarketDescriptionCache.class, Names.named("MarketDescriptionCache")));
+        httpClient = injector.getInstance(CloseableHttpClient.class);
         logInit();
     }
 
@@ -83,6 +94,13 @@ public class MtsSdk implements MtsSdkApi {
                 opened = false;
                 closed = true;
                 sdkRoot.close();
+                // the background refresh must be stopped before it is left with a closed http client
+                marketDescriptionCache.close();
+                try {
+                    httpClient.close();
+                } catch (IOException e) {
+                    logger.warn("Closing the http client failed", e);
+                }
                 logger.info("MTS SDK closed");
             }
         }
@@ -192,6 +210,11 @@ public class MtsSdk implements MtsSdkApi {
         return connectionStatus;
     }
 
+    @Override
+    public SdkMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     public boolean isOpen() {
         return opened;
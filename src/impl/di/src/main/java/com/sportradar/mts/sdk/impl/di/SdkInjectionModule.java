@@ -5,7 +5,6 @@
 package com.sportradar.mts.sdk.impl.di;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -19,7 +18,6 @@ import com.sportradar.mts.api.rest.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.mts.sdk.api.AccessToken;
 import com.sportradar.mts.sdk.api.SdkTicket;
 import com.sportradar.mts.sdk.api.builders.BuilderFactory;
-import com.sportradar.mts.sdk.api.caching.MarketDescriptionCI;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionCache;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionCacheImpl;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionProvider;
@@ -44,13 +42,20 @@ import com.sportradar.mts.sdk.impl.libs.handlers.*;
 import com.sportradar.mts.sdk.impl.libs.logging.FileSdkLoggerImpl;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import com.sportradar.mts.sdk.impl.libs.receivers.*;
+import com.sportradar.mts.sdk.impl.libs.root.SdkMetricsImpl;
 import com.sportradar.mts.sdk.impl.libs.root.SdkRoot;
 import com.sportradar.mts.sdk.impl.libs.root.SdkRootImpl;
+import com.sportradar.mts.sdk.impl.libs.threading.CallbackExecutors;
+import com.sportradar.mts.sdk.impl.libs.threading.HashedWheelTimer;
 import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,10 +64,14 @@ import javax.inject.Singleton;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -104,7 +113,8 @@ public class SdkInjectionModule extends AbstractModule {
     @Provides
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     public SdkRoot provideSdkRoot(SdkLogger sdkLogger,
-                                  ScheduledExecutorService executorService,
+                                  CallbackExecutors callbackExecutors,
+                                  HashedWheelTimer responseTimeoutTimer,
                                   ChannelFactoryProvider channelFactoryProvider,
                                   TicketHandler ticketHandler,
                                   @TicketResponseMessageReceiverBinding AmqpMessageReceiver ticketAmqpMessageReceiver,
@@ -119,7 +129,8 @@ public class SdkInjectionModule extends AbstractModule {
                                   @TicketNonSrSettleResponseMessageReceiverBinding AmqpMessageReceiver ticketNonSrSettleAmpqMessageReceiver
     ) {
         return new SdkRootImpl(sdkLogger,
-                executorService,
+                callbackExecutors,
+                responseTimeoutTimer,
                 channelFactoryProvider,
                 ticketHandler,
                 ticketAmqpMessageReceiver,
@@ -134,6 +145,38 @@ public class SdkInjectionModule extends AbstractModule {
                 ticketNonSrSettleAmpqMessageReceiver);
     }
 
+    @Singleton
+    @Provides
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public SdkMetrics provideSdkMetrics(CallbackExecutors callbackExecutors,
+                                        TicketHandler ticketHandler,
+                                        TicketCancelHandler ticketCancelHandler,
+                                        TicketAckHandler ticketAckHandler,
+                                        TicketCancelAckHandler ticketCancelAckHandler,
+                                        TicketReofferCancelHandler ticketReofferCancelHandler,
+                                        TicketCashoutHandler ticketCashoutHandler,
+                                        TicketNonSrSettleHandler ticketNonSrSettleHandler,
+                                        @TicketResponseConsumerBinding AmqpConsumer ticketResponseConsumer,
+                                        @TicketCancelResponseConsumerBinding AmqpConsumer ticketCancelResponseConsumer,
+                                        @TicketCashoutResponseConsumerBinding AmqpConsumer ticketCashoutResponseConsumer,
+                                        @TicketNonSrSettleResponseConsumerBinding AmqpConsumer ticketNonSrSettleResponseConsumer
+    ) {
+        Map<String, AmqpConsumer> consumers = new LinkedHashMap<>();
+        consumers.put("ticket-response-consumer", ticketResponseConsumer);
+        consumers.put("ticket-cancel-response-consumer", ticketCancelResponseConsumer);
+        consumers.put("ticket-cashout-response-consumer", ticketCashoutResponseConsumer);
+        consumers.put("ticket-nonsrsettle-response-consumer", ticketNonSrSettleResponseConsumer);
+        return new SdkMetricsImpl(callbackExecutors,
+                Arrays.asList(ticketHandler,
+                        ticketCancelHandler,
+                        ticketAckHandler,
+                        ticketCancelAckHandler,
+                        ticketReofferCancelHandler,
+                        ticketCashoutHandler,
+                        ticketNonSrSettleHandler),
+                consumers);
+    }
+
     @Singleton
     @Provides
     public SdkLogger provideSdkLogger() {
@@ -143,24 +186,28 @@ public class SdkInjectionModule extends AbstractModule {
     @Singleton
     @Provides
     public TicketHandler provideTicketHandler(@TicketPublisherBinding AmqpPublisher amqpPublisher,
-                                              ScheduledExecutorService executorService,
+                                              CallbackExecutors callbackExecutors,
+                                              SendRateLimiter sendRateLimiter,
+                                              HashedWheelTimer responseTimeoutTimer,
                                               SdkLogger sdkLogger
     ) {
         String routingKey = "node" + sdkConfiguration.getNode() + ".ticket.confirm";
         return new TicketHandlerImpl(amqpPublisher,
                 routingKey,
-                executorService,
-                getTimeoutHandler(executorService, sdkConfiguration.getTicketResponseTimeoutLive(), sdkConfiguration.getTicketResponseTimeoutPrematch()),
-                sdkConfiguration.getTicketResponseTimeoutLive(),
-                sdkConfiguration.getTicketResponseTimeoutPrematch(),
-                sdkConfiguration.getMessagesPerSecond(),
+                callbackExecutors.getResponseExecutor(),
+                callbackExecutors.getPublishResultExecutor(),
+                getTimeoutHandler(responseTimeoutTimer, callbackExecutors.getTimeoutExecutor(), sdkConfiguration.getTicketResponseTimeoutLive(), sdkConfiguration.getTicketResponseTimeoutPrematch()),
+                sdkConfiguration.getMaxInFlightRequests(),
+                sendRateLimiter,
                 sdkLogger);
     }
 
     @Singleton
     @Provides
     public TicketCancelHandler provideTicketSender(@TicketCancelPublisherBinding AmqpPublisher amqpPublisher,
-                                                   ScheduledExecutorService executorService,
+                                                   CallbackExecutors callbackExecutors,
+                                                   SendRateLimiter sendRateLimiter,
+                                                   HashedWheelTimer responseTimeoutTimer,
                                                    SdkLogger sdkLogger
     ) {
         String routingKey = "cancel";
@@ -168,86 +215,99 @@ public class SdkInjectionModule extends AbstractModule {
         return new TicketCancelHandlerImpl(amqpPublisher,
                 routingKey,
                 replyRoutingKey,
-                executorService,
-                getTimeoutHandler(executorService, sdkConfiguration.getTicketCancellationResponseTimeout(), sdkConfiguration.getTicketCancellationResponseTimeout()),
-                sdkConfiguration.getTicketCancellationResponseTimeout(),
-                sdkConfiguration.getMessagesPerSecond(),
+                callbackExecutors.getResponseExecutor(),
+                callbackExecutors.getPublishResultExecutor(),
+                getTimeoutHandler(responseTimeoutTimer, callbackExecutors.getTimeoutExecutor(), sdkConfiguration.getTicketCancellationResponseTimeout(), sdkConfiguration.getTicketCancellationResponseTimeout()),
+                sdkConfiguration.getMaxInFlightRequests(),
+                sendRateLimiter,
                 sdkLogger);
     }
 
     @Singleton
     @Provides
     public TicketReofferCancelHandler provideTicketReofferSender(@TicketReofferCancelPublisherBinding AmqpPublisher amqpPublisher,
-                                                                 ExecutorService executorService,
+                                                                 CallbackExecutors callbackExecutors,
+                                                                 SendRateLimiter sendRateLimiter,
                                                                  SdkLogger sdkLogger
     ) {
         String routingKey = "cancel.reoffer";
         return new TicketReofferCancelHandlerImpl(amqpPublisher,
                 routingKey,
-                executorService,
-                sdkConfiguration.getMessagesPerSecond(),
+                callbackExecutors.getPublishResultExecutor(),
+                sdkConfiguration.getMaxInFlightRequests(),
+                sendRateLimiter,
                 sdkLogger);
     }
 
     @Singleton
     @Provides
     public TicketAckHandler provideTicketAcknowledgmentHandler(@TicketAcknowledgmentPublisherBinding AmqpPublisher amqpPublisher,
-                                                               ExecutorService executorService,
+                                                               CallbackExecutors callbackExecutors,
+                                                               SendRateLimiter sendRateLimiter,
                                                                SdkLogger sdkLogger
     ) {
         String routingKey = "ack.ticket";
         return new TicketAckHandlerImpl(amqpPublisher,
                 routingKey,
-                executorService,
-                sdkConfiguration.getMessagesPerSecond(),
+                callbackExecutors.getPublishResultExecutor(),
+                sdkConfiguration.getMaxInFlightRequests(),
+                sendRateLimiter,
                 sdkLogger);
     }
 
     @Singleton
     @Provides
     public TicketCancelAckHandler provideTicketCancelAcknowledgmentHandler(@TicketCancelAcknowledgmentPublisherBinding AmqpPublisher amqpPublisher,
-                                                                           ExecutorService executorService,
+                                                                           CallbackExecutors callbackExecutors,
+                                                                           SendRateLimiter sendRateLimiter,
                                                                            SdkLogger sdkLogger
     ) {
         String routingKey = "ack.cancel";
         return new TicketCancelAckHandlerImpl(amqpPublisher,
                 routingKey,
-                executorService,
-                sdkConfiguration.getMessagesPerSecond(),
+                callbackExecutors.getPublishResultExecutor(),
+                sdkConfiguration.getMaxInFlightRequests(),
+                sendRateLimiter,
                 sdkLogger);
     }
 
     @Singleton
     @Provides
     public TicketCashoutHandler provideTicketCashoutHandler(@TicketCashoutPublisherBinding AmqpPublisher amqpPublisher,
-                                                            ScheduledExecutorService executorService,
+                                                            CallbackExecutors callbackExecutors,
+                                                            SendRateLimiter sendRateLimiter,
+                                                            HashedWheelTimer responseTimeoutTimer,
                                                             SdkLogger sdkLogger) {
         String routingKey = "ticket.cashout";
         String replyRoutingKey = "node" + sdkConfiguration.getNode() + ".ticket.cashout";
         return new TicketCashoutHandlerImpl(amqpPublisher,
                 routingKey,
                 replyRoutingKey,
-                executorService,
-                getTimeoutHandler(executorService, sdkConfiguration.getTicketCashoutResponseTimeout(), sdkConfiguration.getTicketCashoutResponseTimeout()),
-                sdkConfiguration.getTicketCashoutResponseTimeout(),
-                sdkConfiguration.getMessagesPerSecond(),
+                callbackExecutors.getResponseExecutor(),
+                callbackExecutors.getPublishResultExecutor(),
+                getTimeoutHandler(responseTimeoutTimer, callbackExecutors.getTimeoutExecutor(), sdkConfiguration.getTicketCashoutResponseTimeout(), sdkConfiguration.getTicketCashoutResponseTimeout()),
+                sdkConfiguration.getMaxInFlightRequests(),
+                sendRateLimiter,
                 sdkLogger);
     }
 
     @Singleton
     @Provides
     public TicketNonSrSettleHandler provideTicketNonSrSettleHandler(@TicketNonSrSettlePublisherBinding AmqpPublisher amqpPublisher,
-                                                                    ScheduledExecutorService executorService,
+                                                                    CallbackExecutors callbackExecutors,
+                                                                    SendRateLimiter sendRateLimiter,
+                                                                    HashedWheelTimer responseTimeoutTimer,
                                                                     SdkLogger sdkLogger) {
         String routingKey = "ticket.nonsrsettle";
         String replyRoutingKey = "node" + sdkConfiguration.getNode() + ".ticket.nonsrsettle";
         return new TicketNonSrSettleHandlerImpl(amqpPublisher,
                 routingKey,
                 replyRoutingKey,
-                executorService,
-                getTimeoutHandler(executorService, sdkConfiguration.getTicketNonSrSettleResponseTimeout(), sdkConfiguration.getTicketNonSrSettleResponseTimeout()),
-                sdkConfiguration.getTicketNonSrSettleResponseTimeout(),
-                sdkConfiguration.getMessagesPerSecond(),
+                callbackExecutors.getResponseExecutor(),
+                callbackExecutors.getPublishResultExecutor(),
+                getTimeoutHandler(responseTimeoutTimer, callbackExecutors.getTimeoutExecutor(), sdkConfiguration.getTicketNonSrSettleResponseTimeout(), sdkConfiguration.getTicketNonSrSettleResponseTimeout()),
+                sdkConfiguration.getMaxInFlightRequests(),
+                sendRateLimiter,
                 sdkLogger);
     }
 
@@ -264,11 +324,14 @@ public class SdkInjectionModule extends AbstractModule {
                 exchangeName,
                 ExchangeType.FANOUT,
                 1,
-                64,
-                1,
+                sdkConfiguration.getProducerBufferSize(),
+                sdkConfiguration.getTicketProducerShardCount(),
                 true,
                 true,
-                true);
+                true,
+                sdkConfiguration.getPublishBatchSize(),
+                sdkConfiguration.getPublishBatchTimeoutMicros(),
+                sdkConfiguration.getTicketProducerConnectionPerShard());
     }
 
     @Singleton
@@ -284,11 +347,14 @@ public class SdkInjectionModule extends AbstractModule {
                 exchangeName,
                 ExchangeType.TOPIC,
                 1,
-                64,
+                sdkConfiguration.getProducerBufferSize(),
                 1,
                 true,
                 true,
-                true);
+                true,
+                sdkConfiguration.getPublishBatchSize(),
+                sdkConfiguration.getPublishBatchTimeoutMicros(),
+                false);
     }
 
     @Singleton
@@ -304,11 +370,14 @@ public class SdkInjectionModule extends AbstractModule {
                 exchangeName,
                 ExchangeType.TOPIC,
                 1,
-                64,
+                sdkConfiguration.getProducerBufferSize(),
                 1,
                 true,
                 true,
-                true);
+                true,
+                sdkConfiguration.getPublishBatchSize(),
+                sdkConfiguration.getPublishBatchTimeoutMicros(),
+                false);
     }
 
     @Singleton
@@ -324,11 +393,14 @@ public class SdkInjectionModule extends AbstractModule {
                 exchangeName,
                 ExchangeType.TOPIC,
                 1,
-                64,
+                sdkConfiguration.getProducerBufferSize(),
                 1,
                 true,
                 true,
-                true);
+                true,
+                sdkConfiguration.getPublishBatchSize(),
+                sdkConfiguration.getPublishBatchTimeoutMicros(),
+                false);
     }
 
     @Singleton
@@ -344,11 +416,14 @@ public class SdkInjectionModule extends AbstractModule {
                 exchangeName,
                 ExchangeType.TOPIC,
                 1,
-                64,
+                sdkConfiguration.getProducerBufferSize(),
                 1,
                 true,
                 true,
-                true);
+                true,
+                sdkConfiguration.getPublishBatchSize(),
+                sdkConfiguration.getPublishBatchTimeoutMicros(),
+                false);
     }
 
     @Singleton
@@ -364,11 +439,14 @@ public class SdkInjectionModule extends AbstractModule {
                 exchangeName,
                 ExchangeType.TOPIC,
                 1,
-                64,
+                sdkConfiguration.getProducerBufferSize(),
                 1,
                 true,
                 true,
-                true);
+                true,
+                sdkConfiguration.getPublishBatchSize(),
+                sdkConfiguration.getPublishBatchTimeoutMicros(),
+                false);
     }
 
     @Singleton
@@ -388,8 +466,11 @@ public class SdkInjectionModule extends AbstractModule {
                 ExchangeType.TOPIC,
                 queueName,
                 1,
-                                    SdkInfo.RABBIT_PREFETCH_COUNT,
+                sdkConfiguration.getConsumerMinPrefetch(),
+                sdkConfiguration.getConsumerMaxPrefetch(),
                 1,
+                sdkConfiguration.getConsumerWorkerCount(),
+                sdkConfiguration.getConsumerManualAck(),
                 false,
                 sdkConfiguration.getExclusiveConsumer());
     }
@@ -412,8 +493,11 @@ public class SdkInjectionModule extends AbstractModule {
                 ExchangeType.TOPIC,
                 queueName,
                 1,
-                                    SdkInfo.RABBIT_PREFETCH_COUNT,
+                sdkConfiguration.getConsumerMinPrefetch(),
+                sdkConfiguration.getConsumerMaxPrefetch(),
                 1,
+                sdkConfiguration.getConsumerWorkerCount(),
+                sdkConfiguration.getConsumerManualAck(),
                 false,
                 sdkConfiguration.getExclusiveConsumer());
     }
@@ -435,8 +519,11 @@ public class SdkInjectionModule extends AbstractModule {
                 ExchangeType.TOPIC,
                 queueName,
                 1,
-                                    SdkInfo.RABBIT_PREFETCH_COUNT,
+                sdkConfiguration.getConsumerMinPrefetch(),
+                sdkConfiguration.getConsumerMaxPrefetch(),
                 1,
+                sdkConfiguration.getConsumerWorkerCount(),
+                sdkConfiguration.getConsumerManualAck(),
                 false,
                 sdkConfiguration.getExclusiveConsumer());
     }
@@ -458,8 +545,11 @@ public class SdkInjectionModule extends AbstractModule {
                 ExchangeType.TOPIC,
                 queueName,
                 1,
-                                    SdkInfo.RABBIT_PREFETCH_COUNT,
+                sdkConfiguration.getConsumerMinPrefetch(),
+                sdkConfiguration.getConsumerMaxPrefetch(),
                 1,
+                sdkConfiguration.getConsumerWorkerCount(),
+                sdkConfiguration.getConsumerManualAck(),
                 false,
                 sdkConfiguration.getExclusiveConsumer());
     }
@@ -543,14 +633,25 @@ public class SdkInjectionModule extends AbstractModule {
 
     @Singleton
     @Provides
-    public ExecutorService provideExecutorService(ScheduledExecutorService service) {
-        return service;
+    public CallbackExecutors provideCallbackExecutors() {
+        return new CallbackExecutors(sdkConfiguration.getResponseDispatcherThreads(),
+                                     sdkConfiguration.getPublishResultDispatcherThreads(),
+                                     sdkConfiguration.getTimeoutDispatcherThreads());
+    }
+
+    @Singleton
+    @Provides
+    public SendRateLimiter provideSendRateLimiter() {
+        return new SendRateLimiter(sdkConfiguration.getMessagesPerSecond(), sdkConfiguration.getRateLimitTimeout());
     }
 
     @Singleton
     @Provides
-    public ScheduledExecutorService provideScheduledExecutorService() {
-        return Executors.newScheduledThreadPool(1);
+    public HashedWheelTimer provideResponseTimeoutTimer() {
+        return new HashedWheelTimer("MtsSdkResponseTimeoutTimer",
+                                    sdkConfiguration.getResponseTimeoutTimerTick(),
+                                    TimeUnit.MILLISECONDS,
+                                    512);
     }
 
     @Singleton
@@ -567,8 +668,8 @@ public class SdkInjectionModule extends AbstractModule {
     @Singleton
     @Provides
     public ChannelFactoryProvider provideChannelFactoryProvider(ConnectionStatus connectionStatus) {
-        // 3 producers + 2 receivers + 1 extra
-        return new ChannelFactoryProviderImpl(6, connectionStatus);
+        // 3 producers + 2 receivers + 1 extra, each additional ticket producer shard gets its own worker
+        return new ChannelFactoryProviderImpl(5 + sdkConfiguration.getTicketProducerShardCount(), connectionStatus);
     }
 
     @Singleton
@@ -675,12 +776,36 @@ public class SdkInjectionModule extends AbstractModule {
 
 
     /**
-     * Provides the http client used to fetch data from the API
+     * Provides the http client used to fetch data from the API; the connections are pooled and kept alive
+     * for at most {@link SdkInfo#HTTP_CLIENT_KEEP_ALIVE_MAX} ms
      */
     @Provides
     @Singleton
     private CloseableHttpClient provideHttpClient() {
-        return HttpClientBuilder.create().setRedirectStrategy(new LaxRedirectStrategy()).build();
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(sdkConfiguration.getHttpClientMaxConnTotal());
+        connectionManager.setDefaultMaxPerRoute(sdkConfiguration.getHttpClientMaxConnPerRoute());
+
+        int timeout = sdkConfiguration.getHttpClientTimeout();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(timeout)
+                .setConnectionRequestTimeout(timeout)
+                .setSocketTimeout(timeout)
+                .build();
+
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAlive > 0 && keepAlive < SdkInfo.HTTP_CLIENT_KEEP_ALIVE_MAX ? keepAlive : SdkInfo.HTTP_CLIENT_KEEP_ALIVE_MAX;
+        };
+
+        return HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .evictExpiredConnections()
+                .evictIdleConnections((long) SdkInfo.HTTP_CLIENT_KEEP_ALIVE_MAX, TimeUnit.MILLISECONDS)
+                .setRedirectStrategy(new LaxRedirectStrategy())
+                .build();
     }
 
     /**
@@ -689,13 +814,10 @@ public class SdkInjectionModule extends AbstractModule {
      * @return The {@link Deserializer} instance to be registered with the DI container
      */
     @Provides
+    @Singleton
     @Named("ApiJaxbDeserializer")
     private Deserializer provideApiJaxbDeserializer() {
-        try {
-            return new DeserializerJaxbApi(apiJaxbContext.createUnmarshaller(), apiJaxbContext.createMarshaller());
-        } catch (JAXBException e) {
-            throw new IllegalStateException("Failed to create unmarshaller for 'api', ex: ", e);
-        }
+        return new DeserializerJaxbApi(apiJaxbContext);
     }
 
     /**
@@ -704,13 +826,10 @@ public class SdkInjectionModule extends AbstractModule {
      * @return The {@link Deserializer} instance to be registered with the DI container
      */
     @Provides
+    @Singleton
     @Named("CustomBetApiJaxbDeserializer")
     private Deserializer provideCustomBetApiJaxbDeserializer() {
-        try {
-            return new DeserializerJaxbApi(customBetJaxbContext.createUnmarshaller(), customBetJaxbContext.createMarshaller());
-        } catch (JAXBException e) {
-            throw new IllegalStateException("Failed to create unmarshaller for 'customBet api', ex: ", e);
-        }
+        return new DeserializerJaxbApi(customBetJaxbContext);
     }
 
     /**
@@ -747,8 +866,15 @@ public class SdkInjectionModule extends AbstractModule {
 
         DataProvider<MarketDescriptions> dataProvider = new DataProvider<>(uriFormat, logHttpDataFetcher, deserializer, MarketDescriptions.class);
 
-        Cache<String, MarketDescriptionCI> invariantMarketCache = CacheBuilder.newBuilder().build();
-        return new MarketDescriptionCacheImpl(invariantMarketCache, dataProvider, locales, sdkConfiguration.getAccessToken());
+        ScheduledExecutorService refreshScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "MtsSdkMarketDescriptionRefresh");
+            t.setDaemon(true);
+            return t;
+        });
+        Path snapshotFile = StringUtils.isNullOrEmpty(cfg.getMarketDescriptionsSnapshotFile())
+                ? null
+                : Paths.get(cfg.getMarketDescriptionsSnapshotFile());
+        return new MarketDescriptionCacheImpl(dataProvider, locales, sdkConfiguration.getAccessToken(), refreshScheduler, snapshotFile);
     }
 
     @Singleton
@@ -820,10 +946,12 @@ public class SdkInjectionModule extends AbstractModule {
                 CAPICalculationResponse.class);
     }
 
-    private <T extends SdkTicket> ResponseTimeoutHandlerImpl<T> getTimeoutHandler(ScheduledExecutorService executorService, int responseTimeout1, int responseTimeout2) {
+    private <T extends SdkTicket> ResponseTimeoutHandlerImpl<T> getTimeoutHandler(HashedWheelTimer responseTimeoutTimer, ExecutorService executorService, int responseTimeout1, int responseTimeout2) {
+        Preconditions.checkNotNull(responseTimeoutTimer);
         Preconditions.checkNotNull(executorService);
 
         return new ResponseTimeoutHandlerImpl<>(
+                responseTimeoutTimer,
                 executorService,
                 responseTimeout1,
                 responseTimeout2,
@@ -9,4 +9,11 @@ import com.sportradar.mts.sdk.api.interfaces.Openable;
 public interface AmqpConsumer extends Openable {
 
     void setMessageReceivedHandler(AmqpMessageReceiver msgHandler);
+
+    /**
+     * Gets the current prefetch count (the max number of unacknowledged messages on the channel)
+     *
+     * @return the current prefetch count
+     */
+    int getPrefetchCount();
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A message of a batch sent with {@link AmqpProducer#sendAllAsync(java.util.List, String, java.util.Map)}
+ */
+public final class AmqpMessage {
+
+    private final String correlationId;
+    private final String shardKey;
+    private final byte[] content;
+
+    /**
+     * Initializes a new instance of the {@link AmqpMessage}
+     *
+     * @param correlationId - the correlation id of the message
+     * @param shardKey - the key selecting the channel the message is published through (the ticket id)
+     * @param content - the body of the message
+     */
+    public AmqpMessage(String correlationId, String shardKey, byte[] content) {
+        checkNotNull(content, "content cannot be null");
+
+        this.correlationId = correlationId;
+        this.shardKey = shardKey;
+        this.content = content;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public String getShardKey() {
+        return shardKey;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+}
@@ -7,7 +7,9 @@ package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
 import com.rabbitmq.client.ReturnListener;
 import com.sportradar.mts.sdk.api.interfaces.Openable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -29,6 +31,35 @@ public interface AmqpProducer extends Openable {
 
     AmqpSendResult sendAsync(String correlationId, byte[] msg, String routingKey, Map<String, Object> messageHeaders);
 
+    /**
+     * Sends the message asynchronously; messages with the same <code>shardKey</code> are published through the same
+     * channel, so their relative order is kept when the producer publishes through more than one channel
+     */
+    default AmqpSendResult sendAsync(String correlationId,
+                                     String shardKey,
+                                     byte[] msg,
+                                     String routingKey,
+                                     Map<String, Object> messageHeaders) {
+        return sendAsync(correlationId, msg, routingKey, messageHeaders);
+    }
+
+    /**
+     * Sends the batch of messages asynchronously; all of them share the routing key and the headers, and each is
+     * published through the channel selected by its shard key
+     *
+     * @param messages the messages to be sent
+     * @param routingKey the routing key of the messages
+     * @param messageHeaders the headers of the messages
+     * @return the send results in the order of the messages
+     */
+    default List<AmqpSendResult> sendAllAsync(List<AmqpMessage> messages, String routingKey, Map<String, Object> messageHeaders) {
+        List<AmqpSendResult> results = new ArrayList<>(messages.size());
+        for (AmqpMessage message : messages) {
+            results.add(sendAsync(message.getCorrelationId(), message.getShardKey(), message.getContent(), routingKey, messageHeaders));
+        }
+        return results;
+    }
+
     default boolean sendAsync(String correlationId, byte[] msg, Consumer<AmqpSendResult> doneCallback) {
         return sendAsync(correlationId, msg, DEFAULT_ROUTING_KEY, new HashMap<>(), doneCallback);
     }
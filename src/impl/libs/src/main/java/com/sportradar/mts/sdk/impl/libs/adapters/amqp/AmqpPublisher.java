@@ -6,6 +6,8 @@ package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
 
 import com.sportradar.mts.sdk.api.interfaces.Openable;
 
+import java.util.List;
+
 public interface AmqpPublisher extends Openable {
 
     void publishAsync(String ticketId,
@@ -14,5 +16,16 @@ public interface AmqpPublisher extends Openable {
                       String routingKey,
                       String replyRoutingKey);
 
+    /**
+     * Publishes the batch of messages sharing the routing keys; the shard key of each message is its ticket id
+     *
+     * @param messages - the messages to be published
+     * @param routingKey - the routing key used to publish the messages
+     * @param replyRoutingKey - the routing key sent in the message headers
+     */
+    void publishAllAsync(List<AmqpMessage> messages,
+                         String routingKey,
+                         String replyRoutingKey);
+
     void setListener(AmqpPublishResultListener listener);
 }
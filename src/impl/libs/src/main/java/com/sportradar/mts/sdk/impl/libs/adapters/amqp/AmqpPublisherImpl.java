@@ -7,7 +7,9 @@ package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
 import com.sportradar.mts.sdk.api.impl.ConnectionStatusImpl;
 import com.sportradar.mts.sdk.api.interfaces.ConnectionStatus;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -40,13 +42,25 @@ public class AmqpPublisherImpl implements AmqpPublisher {
                              String routingKey,
                              String replyRoutingKey) {
         checkState(isOpen(), "sender is not open");
-        HashMap<String, Object> messageHeaders = new HashMap<>();
-        messageHeaders.put("replyRoutingKey", replyRoutingKey);
-        AmqpSendResult sendResult = messageSender.sendAsync(correlationId, msg, routingKey, messageHeaders);
+        Map<String, Object> messageHeaders = Collections.singletonMap("replyRoutingKey", replyRoutingKey);
+        AmqpSendResult sendResult = messageSender.sendAsync(correlationId, ticketId, msg, routingKey, messageHeaders);
         connectionStatus.ticketSend(ticketId);
         messageHandler.handleSendResult(sendResult);
     }
 
+    @Override
+    public void publishAllAsync(List<AmqpMessage> messages,
+                                String routingKey,
+                                String replyRoutingKey) {
+        checkState(isOpen(), "sender is not open");
+        Map<String, Object> messageHeaders = Collections.singletonMap("replyRoutingKey", replyRoutingKey);
+        List<AmqpSendResult> sendResults = messageSender.sendAllAsync(messages, routingKey, messageHeaders);
+        for (int i = 0; i < sendResults.size(); i++) {
+            connectionStatus.ticketSend(messages.get(i).getShardKey());
+            messageHandler.handleSendResult(sendResults.get(i));
+        }
+    }
+
     @Override
     public void setListener(AmqpPublishResultListener listener) {
         this.messageSender.setReturnListener((replyCode, replyText, exchange, routingKey, properties, body) ->
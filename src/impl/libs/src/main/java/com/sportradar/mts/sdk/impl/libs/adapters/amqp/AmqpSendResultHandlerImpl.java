@@ -8,30 +8,36 @@ import com.sportradar.mts.sdk.api.utils.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
+/**
+ * Dispatches the publish results to the {@link AmqpPublishResultListener} as soon as they are completed. Results
+ * created by {@link RabbitMqProducer} push their completion (from the confirm listener), other results are awaited
+ * on a thread owned by the handler, started with the first such result. Results completed after the handler was
+ * closed are not dispatched
+ */
 public class AmqpSendResultHandlerImpl implements AmqpSendResultHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(AmqpSendResultHandlerImpl.class);
     private final Object stateLock = new Object();
-    private boolean opened;
-    private boolean closed;
-    private final List<AmqpSendResult> sendResults;
-    private AmqpPublishResultListener amqpSendResultListener;
-    private final Thread runThread;
+    private final String name;
+    private volatile boolean opened;
+    private volatile AmqpPublishResultListener amqpSendResultListener;
+    private ExecutorService waitExecutor;
 
     public AmqpSendResultHandlerImpl(String name) {
-        sendResults = new ArrayList<>();
-        runThread = new Thread(this::run, StringUtils.format("{}-send-result-handler-run-thread", name));
+        this.name = name;
     }
 
     @Override
     public void handleSendResult(AmqpSendResult sendResult) {
-        synchronized (this) {
-            this.sendResults.add(sendResult);
-            this.notifyAll();
+        if (sendResult instanceof NotifyingSendResult) {
+            ((NotifyingSendResult) sendResult).whenDone(this::handleCompletedMessage);
+        } else {
+            awaitCompletion(sendResult);
         }
     }
 
@@ -43,20 +49,20 @@ public class AmqpSendResultHandlerImpl implements AmqpSendResultHandler {
     @Override
     public void open() {
         synchronized (stateLock) {
-            if (!opened) {
-                runThread.start();
-                opened = true;
-            }
+            opened = true;
         }
     }
 
     @Override
     public void close() {
         synchronized (stateLock) {
+            if (waitExecutor != null) {
+                waitExecutor.shutdown();
+                waitExecutor = null;
+            }
             if (opened) {
-                closed = true;
-                runThread.interrupt();
                 opened = false;
+                logger.info("{} send result handler closed", name);
             }
         }
     }
@@ -66,88 +72,59 @@ public class AmqpSendResultHandlerImpl implements AmqpSendResultHandler {
         return opened;
     }
 
-    private void run() {
-        while (!closed && !Thread.interrupted()) {
-            synchronized (this) {
-                if (sendResults.isEmpty()) {
-                    try {
-                        this.wait();
-                    } catch (InterruptedException e) {
-                        if (!closed) {
-                            logger.error("interrupted while waiting for messages", e);
-                        }
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
+    private void awaitCompletion(AmqpSendResult sendResult) {
+        synchronized (stateLock) {
+            if (opened && waitExecutor == null) {
+                // the results of RabbitMqProducer notify on completion, so the thread is started only if it is needed
+                waitExecutor = Executors.newSingleThreadExecutor(r -> {
+                    Thread t = new Thread(r, StringUtils.format("{}-send-result-handler-wait-thread", name));
+                    t.setDaemon(true);
+                    return t;
+                });
             }
-            if (!handleCompletedMessages()) {
+            if (waitExecutor != null) {
                 try {
-                    // wait for message put
-                    synchronized (this) {
-                        if (sendResults.isEmpty()) {
-                            this.wait();
-                        }
-                    }
-                } catch (InterruptedException e) {
-                    if (!closed) {
-                        logger.error("interrupted while sleeping");
-                    }
-                    Thread.currentThread().interrupt();
-                    break;
+                    waitExecutor.execute(() -> handleCompletedMessage(sendResult));
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // handled below, as if the handler was closed
                 }
             }
         }
-
-        Thread.currentThread().interrupt();
-        boolean moreMessages;
-        do {
-            handleCompletedMessages();
-            synchronized (this) {
-                moreMessages = !sendResults.isEmpty();
-            }
-
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException e) {
-                if (!closed) {
-                    logger.error("interrupted while sleeping");
-                }
-                Thread.currentThread().interrupt();
-            }
-        } while (moreMessages);
-        logger.info("closed");
+        logger.warn("{} send result handler is closed, result of {} not dispatched", name, sendResult.getCorrelationId());
     }
 
-    private boolean handleCompletedMessages() {
-        synchronized (this) {
-            List<AmqpSendResult> completed = AmqpSendResultHelper.filterCompleted(sendResults);
-            if (completed == null || completed.isEmpty()) {
-                return sendResults.isEmpty();
-            }
-            for (AmqpSendResult result : completed) {
-                String correlationId = result.getCorrelationId();
-                try {
-                    result.get();
-                    if (result.isRejected()) {
-                        logger.warn("publishing of {} was rejected", correlationId);
-                        amqpSendResultListener.publishFailure(correlationId);
-                    } else {
-                        logger.info("successfully published: {}", correlationId);
-                        amqpSendResultListener.publishSuccess(correlationId);
-                    }
-                } catch (InterruptedException e) {
-                    logger.error("interrupted while getting sendBlocking result for {}", correlationId, e);
-                    Thread.currentThread().interrupt();
-                    return false;
-                } catch (ExecutionException e) {
-                    logger.error("exception while getting sendBlocking result for {}", correlationId, e);
-                    return false;
-                } catch (Exception e) {
-                    logger.error("uncaught exception while processing completed sendBlocking result", e);
+    private void handleCompletedMessage(AmqpSendResult result) {
+        String correlationId = result.getCorrelationId();
+        if (!opened) {
+            logger.debug("{} send result handler is closed, result of {} not dispatched", name, correlationId);
+            return;
+        }
+        AmqpPublishResultListener listener = amqpSendResultListener;
+        try {
+            result.get();
+            if (result.isRejected()) {
+                logger.warn("publishing of {} was rejected", correlationId);
+                if (listener != null) {
+                    listener.publishFailure(correlationId);
+                }
+            } else {
+                logger.info("successfully published: {}", correlationId);
+                if (listener != null) {
+                    listener.publishSuccess(correlationId);
                 }
             }
-            return true;
+        } catch (InterruptedException e) {
+            logger.error("interrupted while getting sendBlocking result for {}", correlationId, e);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("exception while getting sendBlocking result for {}", correlationId, e);
+            // reported as failure, so the sender stops tracking the message
+            if (listener != null) {
+                listener.publishFailure(correlationId);
+            }
+        } catch (Exception e) {
+            logger.error("uncaught exception while processing completed sendBlocking result", e);
         }
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import com.rabbitmq.client.Channel;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Acknowledges the deliveries of a channel in batches. The deliveries are settled out of order by the lanes, so a
+ * single <code>basicAck(tag, multiple=true)</code> is sent only up to the highest tag below which all deliveries are
+ * settled; negative acknowledgements are sent immediately, and the batched ack is sent for the highest acknowledged
+ * (never a rejected) tag, as the broker closes the channel on an ack for a delivery which is already rejected
+ */
+final class BatchedAcknowledger {
+
+    private final Channel channel;
+    private final int batchSize;
+    private final long maxDelayMillis;
+    // settled deliveries above the watermark, indexed by (deliveryTag - watermark - 1)
+    private BitSet settledAhead = new BitSet();
+    // acknowledged (not rejected) deliveries above the watermark, indexed the same way
+    private BitSet ackedAhead = new BitSet();
+    // all deliveries up to (including) this tag are settled
+    private long watermark;
+    // the highest acknowledged (not rejected) delivery up to (including) the watermark
+    private long lastAcked;
+    // all deliveries up to (including) this tag are acknowledged or rejected on the channel
+    private long acknowledged;
+    private long firstUnacknowledgedAt;
+
+    /**
+     * Initializes a new instance of the {@link BatchedAcknowledger}
+     *
+     * @param channel - the channel the deliveries were received on
+     * @param batchSize - the number of settled deliveries acknowledged with one ack
+     * @param maxDelayMillis - how long a settled delivery can wait for the ack
+     */
+    BatchedAcknowledger(Channel channel, int batchSize, long maxDelayMillis) {
+        checkNotNull(channel, "channel cannot be null");
+        checkArgument(batchSize > 0, "batchSize must be greater than 0");
+        checkArgument(maxDelayMillis > 0, "maxDelayMillis must be greater than 0");
+
+        this.channel = channel;
+        this.batchSize = batchSize;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Marks the delivery as processed; the ack is sent once the batch is full
+     *
+     * @param deliveryTag - the tag of the processed delivery
+     * @throws IOException if the ack could not be sent
+     */
+    synchronized void ack(long deliveryTag) throws IOException {
+        settle(deliveryTag, true);
+        if (watermark - acknowledged >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Rejects the delivery immediately
+     *
+     * @param deliveryTag - the tag of the rejected delivery
+     * @param requeue - whether the broker should redeliver the message
+     * @throws IOException if the nack could not be sent
+     */
+    synchronized void nack(long deliveryTag, boolean requeue) throws IOException {
+        channel.basicNack(deliveryTag, false, requeue);
+        settle(deliveryTag, false);
+    }
+
+    /**
+     * Sends the ack if the oldest unacknowledged settled delivery waits longer than the max delay
+     *
+     * @throws IOException if the ack could not be sent
+     */
+    synchronized void flushIfDue() throws IOException {
+        if (watermark > acknowledged && System.currentTimeMillis() - firstUnacknowledgedAt >= maxDelayMillis) {
+            flush();
+        }
+    }
+
+    /**
+     * Sends the ack for all settled deliveries
+     *
+     * @throws IOException if the ack could not be sent
+     */
+    synchronized void flush() throws IOException {
+        if (watermark > acknowledged) {
+            // the deliveries between lastAcked and the watermark are all rejected already
+            if (lastAcked > acknowledged) {
+                channel.basicAck(lastAcked, true);
+            }
+            acknowledged = watermark;
+        }
+    }
+
+    synchronized long getAcknowledged() {
+        return acknowledged;
+    }
+
+    synchronized long getWatermark() {
+        return watermark;
+    }
+
+    private void settle(long deliveryTag, boolean acked) {
+        if (deliveryTag <= watermark) {
+            return;
+        }
+        int index = (int) (deliveryTag - watermark - 1);
+        settledAhead.set(index);
+        if (acked) {
+            ackedAhead.set(index);
+        }
+        int advance = settledAhead.nextClearBit(0);
+        if (advance == 0) {
+            return;
+        }
+        if (watermark == acknowledged) {
+            firstUnacknowledgedAt = System.currentTimeMillis();
+        }
+        int lastAckedIndex = ackedAhead.previousSetBit(advance - 1);
+        if (lastAckedIndex >= 0) {
+            lastAcked = watermark + lastAckedIndex + 1;
+        }
+        watermark += advance;
+        settledAhead = settledAhead.get(advance, Math.max(advance, settledAhead.length()));
+        ackedAhead = ackedAhead.get(advance, Math.max(advance, ackedAhead.length()));
+    }
+}
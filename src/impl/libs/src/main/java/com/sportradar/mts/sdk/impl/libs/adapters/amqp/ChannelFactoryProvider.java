@@ -14,5 +14,15 @@ public interface ChannelFactoryProvider {
 
     ChannelFactory getChannelFactory(AmqpCluster mqCluster);
 
+    /**
+     * Gets the channel factory with the specified index for the cluster; each index has its own connection, index 0
+     * is the factory returned by {@link #getChannelFactory(AmqpCluster)}
+     *
+     * @param mqCluster the cluster to connect to
+     * @param connectionIndex the index of the connection
+     * @return the channel factory
+     */
+    ChannelFactory getChannelFactory(AmqpCluster mqCluster, int connectionIndex);
+
     boolean isExecutorServiceOpened();
 }
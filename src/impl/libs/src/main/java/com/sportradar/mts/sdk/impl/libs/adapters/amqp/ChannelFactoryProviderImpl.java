@@ -19,7 +19,7 @@ public final class ChannelFactoryProviderImpl implements ChannelFactoryProvider
 
     private final int mqWorkerThreadCount;
     private final Object factoriesLock = new Object();
-    private final Map<AmqpCluster, ChannelFactory> factories = new HashMap<>();
+    private final Map<AmqpCluster, Map<Integer, ChannelFactory>> factories = new HashMap<>();
     private final ThreadFactory amqpThreadFactory = new AmqpThreadFactory();
 
     private final Object executorServiceLock = new Object();
@@ -63,13 +63,22 @@ public final class ChannelFactoryProviderImpl implements ChannelFactoryProvider
 
     @Override
     public ChannelFactory getChannelFactory(final AmqpCluster mqCluster) {
+        return getChannelFactory(mqCluster, 0);
+    }
+
+    @Override
+    public ChannelFactory getChannelFactory(final AmqpCluster mqCluster, final int connectionIndex) {
         Preconditions.checkNotNull(mqCluster, "rabbitMqCluster");
+        Preconditions.checkArgument(connectionIndex >= 0, "connectionIndex");
         try {
             synchronized (this.factoriesLock) {
-                if (!this.factories.containsKey(mqCluster)) {
-                    this.factories.put(mqCluster, new ChannelFactory(mqCluster, this, connectionStatus));
+                Map<Integer, ChannelFactory> clusterFactories = this.factories.computeIfAbsent(mqCluster, k -> new HashMap<>());
+                ChannelFactory factory = clusterFactories.get(connectionIndex);
+                if (factory == null) {
+                    factory = new ChannelFactory(mqCluster, this, connectionStatus);
+                    clusterFactories.put(connectionIndex, factory);
                 }
-                return this.factories.get(mqCluster);
+                return factory;
             }
         } catch (Exception exc) {
             throw new MtsSdkProcessException(exc.getMessage(), exc.getCause());
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import java.util.function.Consumer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Tracks the messages published on a channel until the broker confirms them. The messages are kept in a ring indexed
+ * by the publish sequence number, so a single ack is resolved in O(1) and a multiple ack with a linear sweep over the
+ * acknowledged range; the ring doubles when the in-flight window outgrows it
+ *
+ * @param <T> the type of the tracked messages
+ */
+final class ConfirmTracker<T> {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private Object[] slots;
+    private int mask;
+    private int size;
+    private long lowestSeqNo = 1L;
+    private long highestSeqNo = 0L;
+
+    ConfirmTracker() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    ConfirmTracker(int initialCapacity) {
+        checkArgument(initialCapacity > 0, "parameter 'initialCapacity' is zero or less");
+        int capacity = Integer.highestOneBit(initialCapacity);
+        if (capacity < initialCapacity) {
+            capacity <<= 1;
+        }
+        this.slots = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Starts tracking the message published with the specified sequence number; sequence numbers must be increasing
+     *
+     * @param seqNo the publish sequence number of the message
+     * @param message the message to be tracked
+     */
+    synchronized void put(long seqNo, T message) {
+        checkArgument(seqNo > this.highestSeqNo, "sequence number %s is not greater than %s", seqNo, this.highestSeqNo);
+        if (this.size == 0) {
+            this.lowestSeqNo = seqNo;
+        } else {
+            while (seqNo - this.lowestSeqNo >= this.slots.length) {
+                this.grow();
+            }
+        }
+        this.slots[(int) seqNo & this.mask] = message;
+        this.highestSeqNo = seqNo;
+        this.size++;
+    }
+
+    /**
+     * Stops tracking the message with the specified sequence number
+     *
+     * @param seqNo the publish sequence number of the message
+     * @return the tracked message or <code>null</code> if the message is not tracked
+     */
+    synchronized T remove(long seqNo) {
+        if (seqNo < this.lowestSeqNo || seqNo > this.highestSeqNo) {
+            return null;
+        }
+        final T message = this.take(seqNo);
+        if (seqNo == this.lowestSeqNo) {
+            this.advanceLowest();
+        }
+        return message;
+    }
+
+    /**
+     * Stops tracking all the messages with a sequence number lower than or equal to the specified one and passes
+     * them to the action in the order they were published
+     *
+     * @param seqNo the highest publish sequence number to be removed
+     * @param action the action invoked for each removed message
+     */
+    synchronized void removeUpTo(long seqNo, Consumer<? super T> action) {
+        final long last = Math.min(seqNo, this.highestSeqNo);
+        for (long current = this.lowestSeqNo; current <= last && this.size > 0; current++) {
+            final T message = this.take(current);
+            if (message != null) {
+                action.accept(message);
+            }
+        }
+        if (this.size == 0) {
+            this.lowestSeqNo = this.highestSeqNo + 1;
+        } else if (last >= this.lowestSeqNo) {
+            this.lowestSeqNo = last + 1;
+            this.advanceLowest();
+        }
+    }
+
+    /**
+     * Stops tracking all the messages and passes them to the action in the order they were published
+     *
+     * @param action the action invoked for each removed message
+     */
+    synchronized void removeAll(Consumer<? super T> action) {
+        this.removeUpTo(this.highestSeqNo, action);
+    }
+
+    synchronized int size() {
+        return this.size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T take(long seqNo) {
+        final int index = (int) seqNo & this.mask;
+        final T message = (T) this.slots[index];
+        if (message != null) {
+            this.slots[index] = null;
+            this.size--;
+        }
+        return message;
+    }
+
+    private void advanceLowest() {
+        if (this.size == 0) {
+            this.lowestSeqNo = this.highestSeqNo + 1;
+            return;
+        }
+        while (this.slots[(int) this.lowestSeqNo & this.mask] == null) {
+            this.lowestSeqNo++;
+        }
+    }
+
+    private void grow() {
+        final Object[] newSlots = new Object[this.slots.length << 1];
+        final int newMask = newSlots.length - 1;
+        for (long current = this.lowestSeqNo; current <= this.highestSeqNo; current++) {
+            newSlots[(int) current & newMask] = this.slots[(int) current & this.mask];
+        }
+        this.slots = newSlots;
+        this.mask = newMask;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Bounded lock-free queue with many producers and a single consumer. The slots are preallocated and reused; each slot
+ * carries a sequence number which tells the producers when the slot is free and the consumer when it is filled, so the
+ * hand-off does not allocate. Only one thread may call the consuming methods
+ *
+ * @param <E> the type of the queued elements
+ */
+final class MpscRingBuffer<E> {
+
+    private static final int SPIN_TRIES = 64;
+
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private volatile Thread waitingConsumer;
+
+    MpscRingBuffer(int minCapacity) {
+        checkArgument(minCapacity > 0, "parameter 'minCapacity' is zero or less");
+        checkArgument(minCapacity <= (1 << 30), "parameter 'minCapacity' is too big");
+        int capacity = Integer.highestOneBit(minCapacity);
+        if (capacity < minCapacity) {
+            capacity <<= 1;
+        }
+        this.buffer = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Inserts the element if a slot is free; safe to call from any thread
+     *
+     * @param element the element to be inserted
+     * @return <code>true</code> if the element was inserted, <code>false</code> if the buffer is full
+     */
+    boolean offer(E element) {
+        checkNotNull(element, "parameter 'element' is null");
+        while (true) {
+            final long position = this.tail.get();
+            final int index = (int) position & this.mask;
+            final long diff = this.sequences.get(index) - position;
+            if (diff == 0L) {
+                if (this.tail.compareAndSet(position, position + 1L)) {
+                    this.buffer[index] = element;
+                    this.sequences.set(index, position + 1L);
+                    final Thread consumer = this.waitingConsumer;
+                    if (consumer != null) {
+                        LockSupport.unpark(consumer);
+                    }
+                    return true;
+                }
+            } else if (diff < 0L) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Inserts the elements in order into as many consecutive free slots as there are, claiming all of them with a
+     * single update of the tail and waking the consumer once; safe to call from any thread
+     *
+     * @param elements the elements to be inserted
+     * @return the number of inserted elements, the elements after them did not fit into the buffer
+     */
+    int offerAll(List<? extends E> elements) {
+        final int count = elements.size();
+        for (int i = 0; i < count; i++) {
+            checkNotNull(elements.get(i), "parameter 'elements' contains null");
+        }
+        while (count > 0) {
+            final long position = this.tail.get();
+            int free = 0;
+            while (free < count && free < this.buffer.length
+                    && this.sequences.get((int) (position + free) & this.mask) == position + free) {
+                free++;
+            }
+            if (free == 0) {
+                if (this.sequences.get((int) position & this.mask) < position) {
+                    return 0;
+                }
+                continue;
+            }
+            if (this.tail.compareAndSet(position, position + free)) {
+                for (int i = 0; i < free; i++) {
+                    final int index = (int) (position + i) & this.mask;
+                    this.buffer[index] = elements.get(i);
+                    this.sequences.set(index, position + i + 1L);
+                }
+                final Thread consumer = this.waitingConsumer;
+                if (consumer != null) {
+                    LockSupport.unpark(consumer);
+                }
+                return free;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Removes the oldest element; consumer thread only
+     *
+     * @return the oldest element or <code>null</code> if the buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        final long position = this.head;
+        final int index = (int) position & this.mask;
+        if (this.sequences.get(index) != position + 1L) {
+            return null;
+        }
+        final E element = (E) this.buffer[index];
+        this.buffer[index] = null;
+        this.sequences.set(index, position + this.buffer.length);
+        this.head = position + 1L;
+        return element;
+    }
+
+    /**
+     * Removes the oldest element, waiting up to the specified time for one to become available; consumer thread only
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit the unit of the timeout
+     * @return the oldest element or <code>null</code> if none became available in time
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E element = this.poll();
+        for (int i = 0; element == null && i < SPIN_TRIES; i++) {
+            Thread.yield();
+            element = this.poll();
+        }
+        if (element != null) {
+            return element;
+        }
+
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        this.waitingConsumer = Thread.currentThread();
+        try {
+            while (true) {
+                element = this.poll();
+                if (element != null) {
+                    return element;
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    return null;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+        } finally {
+            this.waitingConsumer = null;
+        }
+    }
+
+    /**
+     * Removes at most the given number of elements and adds them to the collection; consumer thread only
+     *
+     * @param collection the collection to which the elements are added
+     * @param maxElements the max number of elements to be removed
+     * @return the number of removed elements
+     */
+    int drainTo(Collection<? super E> collection, int maxElements) {
+        int count = 0;
+        while (count < maxElements) {
+            final E element = this.poll();
+            if (element == null) {
+                break;
+            }
+            collection.add(element);
+            count++;
+        }
+        return count;
+    }
+
+    int size() {
+        final long currentHead = this.head;
+        final long size = this.tail.get() - currentHead;
+        return (int) Math.max(0L, Math.min(size, this.buffer.length));
+    }
+
+    boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    int capacity() {
+        return this.buffer.length;
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import java.util.function.Consumer;
+
+/**
+ * Send result which pushes its completion to a callback, so nobody has to poll {@link #isDone()}
+ */
+interface NotifyingSendResult extends AmqpSendResult {
+
+    /**
+     * Registers the callback invoked on the completing thread once the result is known; if the result is already
+     * known the callback is invoked immediately on the calling thread
+     *
+     * @param callback the callback to be invoked
+     */
+    void whenDone(Consumer<AmqpSendResult> callback);
+}
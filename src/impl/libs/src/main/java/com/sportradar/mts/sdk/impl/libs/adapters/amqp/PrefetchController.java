@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Sizes the prefetch count of a consumer from what it observes in each sampling window:
+ * <ul>
+ *     <li>if the handler can not keep up (delivery rate times handler latency exceeds the workers, or deliveries wait
+ *     in the lanes) the prefetch is halved, so the messages stay on the broker instead of the client buffers</li>
+ *     <li>if the unacknowledged deliveries reached the prefetch (the broker is holding back deliveries) it is doubled</li>
+ *     <li>if less than a quarter of the prefetch is used it shrinks to twice the deliveries held by the client</li>
+ * </ul>
+ * The result is always kept between the configured min and max
+ */
+final class PrefetchController {
+
+    private final int minPrefetch;
+    private final int maxPrefetch;
+    private final int workerCount;
+    private final long windowMillis;
+
+    private final AtomicLong deliveries = new AtomicLong();
+    private final AtomicInteger maxUnacked = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger maxQueued = new AtomicInteger();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong processingNanos = new AtomicLong();
+
+    private volatile int prefetch;
+    private long windowStart;
+    private double latencySeconds;
+
+    /**
+     * Initializes a new instance of the {@link PrefetchController} starting with the min prefetch
+     *
+     * @param minPrefetch - the min prefetch count
+     * @param maxPrefetch - the max prefetch count
+     * @param workerCount - the number of threads processing the deliveries
+     * @param windowMillis - the length of the sampling window
+     */
+    PrefetchController(int minPrefetch, int maxPrefetch, int workerCount, long windowMillis) {
+        checkArgument(minPrefetch > 0, "minPrefetch must be greater than 0");
+        checkArgument(maxPrefetch >= minPrefetch, "maxPrefetch must not be less than minPrefetch");
+        checkArgument(workerCount > 0, "workerCount must be greater than 0");
+        checkArgument(windowMillis > 0, "windowMillis must be greater than 0");
+
+        this.minPrefetch = minPrefetch;
+        this.maxPrefetch = maxPrefetch;
+        this.workerCount = workerCount;
+        this.windowMillis = windowMillis;
+        this.prefetch = minPrefetch;
+        this.windowStart = System.currentTimeMillis();
+    }
+
+    /**
+     * Records a delivery received on the channel
+     *
+     * @param unacked - the number of deliveries on the channel not yet acknowledged (including this one)
+     */
+    void delivered(int unacked) {
+        deliveries.incrementAndGet();
+        maxUnacked.accumulateAndGet(unacked, Math::max);
+    }
+
+    /**
+     * Records a delivery queued on a lane
+     */
+    void queued() {
+        maxQueued.accumulateAndGet(queued.incrementAndGet(), Math::max);
+    }
+
+    /**
+     * Records a delivery taken from the lane queue (the processing started or the lane rejected it)
+     */
+    void dequeued() {
+        queued.decrementAndGet();
+    }
+
+    /**
+     * Records the time the handler spent on a delivery
+     *
+     * @param nanos - the processing time in nanoseconds
+     */
+    void processingFinished(long nanos) {
+        processed.incrementAndGet();
+        processingNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Gets the current prefetch count
+     *
+     * @return the current prefetch count
+     */
+    int getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Closes the sampling window if it elapsed and computes the new prefetch count
+     *
+     * @return the (possibly changed) prefetch count
+     */
+    synchronized int adjust() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - windowStart;
+        if (elapsed < windowMillis) {
+            return prefetch;
+        }
+        windowStart = now;
+
+        long windowDeliveries = deliveries.getAndSet(0);
+        int windowMaxUnacked = maxUnacked.getAndSet(0);
+        int windowMaxQueued = maxQueued.getAndSet(queued.get());
+        long windowProcessed = processed.getAndSet(0);
+        long windowNanos = processingNanos.getAndSet(0);
+        if (windowProcessed > 0) {
+            latencySeconds = windowNanos / (windowProcessed * 1_000_000_000d);
+        }
+        double rate = windowDeliveries * 1000d / elapsed;
+
+        int current = prefetch;
+        int next = current;
+        if (rate * latencySeconds > workerCount || windowMaxQueued > workerCount) {
+            next = current / 2;
+        } else if (windowMaxUnacked >= current) {
+            next = current * 2;
+        } else if (windowMaxUnacked * 4 < current) {
+            next = windowMaxUnacked * 2;
+        }
+        prefetch = Math.max(minPrefetch, Math.min(maxPrefetch, next));
+        return prefetch;
+    }
+}
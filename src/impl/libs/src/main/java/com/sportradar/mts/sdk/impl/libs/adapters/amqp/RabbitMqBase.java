@@ -36,19 +36,34 @@ public abstract class RabbitMqBase implements Openable {
     private final String exchangeType;
     private final int concurrencyLevel;
     private final ChannelFactoryProvider channelFactoryProvider;
+    private final ChannelFactory[] threadChannelFactories;
 
     private volatile boolean isOpen = false;
     private RecoverableThread[] threads = null;
 
     private boolean isRegistered = false;
 
-    @SuppressWarnings("java:S1199") // Nested code blocks should not be used
     protected RabbitMqBase(final ChannelFactoryProvider channelFactoryProvider,
                            String instanceName,
                            AmqpCluster mqCluster,
                            String exchangeName,
                            ExchangeType exchangeType,
                            int concurrencyLevel) {
+        this(channelFactoryProvider, instanceName, mqCluster, exchangeName, exchangeType, concurrencyLevel, false);
+    }
+
+    /**
+     * Constructs the base for the given concurrency level; when <code>connectionPerThread</code> is set each worker
+     * thread opens its channel on its own connection instead of sharing one connection with the other threads
+     */
+    @SuppressWarnings("java:S1199") // Nested code blocks should not be used
+    protected RabbitMqBase(final ChannelFactoryProvider channelFactoryProvider,
+                           String instanceName,
+                           AmqpCluster mqCluster,
+                           String exchangeName,
+                           ExchangeType exchangeType,
+                           int concurrencyLevel,
+                           boolean connectionPerThread) {
 
         Preconditions.checkNotNull(channelFactoryProvider, "parameter 'channelFactoryProvider' is null");
         Preconditions.checkNotNull(mqCluster, "parameter 'mqCluster' is null");
@@ -73,6 +88,12 @@ public abstract class RabbitMqBase implements Openable {
         this.concurrencyLevel = concurrencyLevel;
         this.channelFactoryProvider = channelFactoryProvider;
         this.channelFactory = this.channelFactoryProvider.getChannelFactory(mqCluster);
+        this.threadChannelFactories = new ChannelFactory[concurrencyLevel];
+        for (int i = 0; i < concurrencyLevel; i++) {
+            this.threadChannelFactories[i] = connectionPerThread && i > 0
+                    ? this.channelFactoryProvider.getChannelFactory(mqCluster, i)
+                    : this.channelFactory;
+        }
     }
 
     @Override
@@ -188,7 +209,8 @@ public abstract class RabbitMqBase implements Openable {
                 }
 
                 try {
-                    try (final ChannelWrapper channelWrapper = this.parent.channelFactory.getChannel()) {
+                    final ChannelFactory threadChannelFactory = this.parent.threadChannelFactories[this.threadId - 1];
+                    try (final ChannelWrapper channelWrapper = threadChannelFactory.getChannel()) {
                         this.sleepMillis = 0L;
                         this.parent.doWork(channelWrapper.getChannel(), this.threadId);
                     }
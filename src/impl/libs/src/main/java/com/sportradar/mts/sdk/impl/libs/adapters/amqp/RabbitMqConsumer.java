@@ -5,9 +5,13 @@
 package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
 
 import com.google.common.base.Preconditions;
+import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
-import com.rabbitmq.client.QueueingConsumer;
+import com.rabbitmq.client.DefaultConsumer;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.ShutdownSignalException;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
+import com.sportradar.mts.sdk.impl.libs.threading.LaneExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,25 +19,39 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
 import java.text.Format;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+/**
+ * Consumer of a queue; the deliveries are pushed by the connection and processed on the {@link LaneExecutor}, the
+ * deliveries with the same correlationId are processed in order on the same lane. Every message sent for a ticket
+ * (e.g. the ticket and its cancel) gets its own correlationId, so the order is kept only per correlationId, the
+ * responses for different messages of the same ticket may be processed concurrently and out of order
+ */
 public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer {
 
     public static final String AMQP_HEADER_REPLY_ROUTING_KEY = "replyRoutingKey";
     private static final Logger logger = LoggerFactory.getLogger(RabbitMqConsumer.class);
     private AmqpMessageReceiver msgHandler;
+    private final String instanceName;
     private final String queueName;
     private final String origRoutingKey;
     private final Set<String> routingKeys;
     private final int maxRetryCount;
     private final int prefetchCount;
+    private final int workerCount;
+    private final PrefetchController prefetchController;
     private final AmqpCluster amqpCluster;
+    private volatile LaneExecutor lanes;
     // survive broker restart
     private boolean durable = true;
     // there can only be one client for this specific queue : false
@@ -42,8 +60,8 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
     private boolean exclusiveConsumer;
     // the exchange will get deleted as soon as there are no more queues bound to it
     private boolean autoDelete = false;
-    // indicates if the sdk should manually ack (on rabbit) each received ticket
-    private boolean autoMessageAcknowledgmentEnabled = true;
+    // indicates if the messages are acked by rabbit on delivery; otherwise the sdk acks them (in batches) once processed
+    private final boolean autoMessageAcknowledgmentEnabled;
 
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     public RabbitMqConsumer(ChannelFactoryProvider channelFactoryProvider,
@@ -58,6 +76,45 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
                             int concurrencyLevel,
                             boolean deleteQueueOnClose,
                             boolean exclusiveConsumer) {
+        this(channelFactoryProvider,
+             routingKey,
+             instanceName,
+             mqCluster,
+             exchangeName,
+             exchangeType,
+             queueName,
+             maxRetryCount,
+             prefetchCount,
+             prefetchCount,
+             concurrencyLevel,
+             1,
+             false,
+             deleteQueueOnClose,
+             exclusiveConsumer);
+    }
+
+    /**
+     * Constructs the consumer; the received messages are processed by <code>workerCount</code> threads, the messages
+     * with the same correlationId always by the same thread. With <code>manualAck</code> the messages are acknowledged
+     * only after they are processed, the acks are sent in batches; the prefetch count is then adjusted between
+     * <code>prefetchCount</code> and <code>maxPrefetchCount</code> from the observed delivery rate and handler latency
+     */
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public RabbitMqConsumer(ChannelFactoryProvider channelFactoryProvider,
+                            String routingKey,
+                            String instanceName,
+                            AmqpCluster mqCluster,
+                            String exchangeName,
+                            ExchangeType exchangeType,
+                            String queueName,
+                            int maxRetryCount,
+                            int prefetchCount,
+                            int maxPrefetchCount,
+                            int concurrencyLevel,
+                            int workerCount,
+                            boolean manualAck,
+                            boolean deleteQueueOnClose,
+                            boolean exclusiveConsumer) {
         super(channelFactoryProvider,
               instanceName,
               mqCluster,
@@ -69,14 +126,50 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
         checkNotNull(routingKey, "parameter 'routingKey' is null");
         Preconditions.checkArgument(maxRetryCount > 0, "parameter 'maxRetryCount' is zero or less");
         Preconditions.checkArgument(prefetchCount > 0, "parameter 'prefetchCount' is zero or less");
+        Preconditions.checkArgument(maxPrefetchCount >= prefetchCount, "parameter 'maxPrefetchCount' is less than 'prefetchCount'");
+        Preconditions.checkArgument(workerCount > 0, "parameter 'workerCount' is zero or less");
 
+        this.instanceName = (instanceName == null || instanceName.trim().isEmpty()) ? queueName : instanceName.trim();
         this.queueName = queueName;
         this.origRoutingKey = routingKey;
         this.routingKeys = getRoutingKeys(routingKey);
         this.maxRetryCount = maxRetryCount;
         this.prefetchCount = prefetchCount;
+        this.workerCount = workerCount;
         this.amqpCluster = mqCluster;
         this.exclusiveConsumer = exclusiveConsumer;
+        this.autoMessageAcknowledgmentEnabled = !manualAck;
+        // the prefetch limits only the deliveries which are acknowledged manually
+        this.prefetchController = manualAck && maxPrefetchCount > prefetchCount
+                ? new PrefetchController(prefetchCount, maxPrefetchCount, workerCount, SdkInfo.CONSUMER_PREFETCH_WINDOW_MILLIS)
+                : null;
+    }
+
+    @Override
+    public synchronized void open() {
+        if (!this.isOpen() && this.lanes == null) {
+            this.lanes = new LaneExecutor("rabbitmq-" + this.instanceName, this.workerCount);
+        }
+        super.open();
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        LaneExecutor currentLanes = this.lanes;
+        if (currentLanes != null) {
+            this.lanes = null;
+            currentLanes.shutdown();
+            try {
+                if (!currentLanes.awaitTermination(WAIT_FOR_TASK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    logger.warn("{} lanes did not process all deliveries before closing", this.instanceName);
+                    currentLanes.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                currentLanes.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     @Override
@@ -85,7 +178,13 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
         Map<String, Object> arguments = new HashMap<>();
         arguments.putIfAbsent("x-queue-master-locator", "min-masters");
 
-        channel.basicQos(this.prefetchCount);
+        int appliedPrefetch = getPrefetchCount();
+        if (prefetchController == null) {
+            channel.basicQos(appliedPrefetch);
+        } else {
+            // the channel limit (unlike the consumer one) can be changed while consuming
+            channel.basicQos(appliedPrefetch, true);
+        }
 
         channel.queueDeclare(this.queueName, durable, exclusiveQueue, autoDelete, arguments);
 
@@ -104,148 +203,178 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
 //        noLocal - flag set to true unless server local buffering is required
 //        exclusive - true if this is an exclusive consumer
 //        callback - an interface to the consumer object
-        QueueingConsumer consumer = new QueueingConsumer(channel);
-        String consumerName = channel.basicConsume(this.queueName, autoMessageAcknowledgmentEnabled, consumerTag, false, exclusiveConsumer, null, consumer);
-
-        final int throwSafetyDisconnectExcLimit = (this.prefetchCount * 2);
-        final int maxCountOfLocalMsgs = Math.max(1, this.prefetchCount >> 1);
-        int throwSafetyDisconnectExcCount = 0;
-        int retryQueueSize = 0;
-        Queue<DeliveryWrapper> retryQueue = new LinkedList<>();
-
+        BatchedAcknowledger acknowledger = autoMessageAcknowledgmentEnabled
+                ? null
+                : new BatchedAcknowledger(channel,
+                                          Math.min(SdkInfo.CONSUMER_ACK_BATCH_SIZE, this.prefetchCount),
+                                          SdkInfo.CONSUMER_ACK_INTERVAL_MILLIS);
+        LaneConsumer consumer = new LaneConsumer(channel, threadId, acknowledger);
+        channel.basicConsume(this.queueName, autoMessageAcknowledgmentEnabled, consumerTag, false, exclusiveConsumer, null, consumer);
+
+        // the deliveries are pushed to the consumer, this thread only watches the subscription and flushes the acks
+        long waitMillis = acknowledger == null ? WAIT_FOR_TASK_MILLIS : SdkInfo.CONSUMER_ACK_INTERVAL_MILLIS;
         while (this.isOpen()) {
             if (Thread.interrupted()) {
                 throw new InterruptedException("thread has been interrupted while actively working");
             }
-
-            if (throwSafetyDisconnectExcCount > throwSafetyDisconnectExcLimit) {
-                logger.warn("Safety sleep!!! [exName={}, qName={}, rKey={}]",
-                            this.exchangeName, this.queueName, this.origRoutingKey);
-                Thread.sleep(32000L);
-                throwSafetyDisconnectExcCount = 0;
+            boolean terminated = consumer.awaitTermination(waitMillis);
+            if (acknowledger != null && !terminated) {
+                acknowledger.flushIfDue();
             }
-
-            int retryCount = 0;
-
-            QueueingConsumer.Delivery delivery = consumer.nextDelivery(0L);
-            if (delivery == null) {
-                if (retryQueueSize > 0) {
-                    DeliveryWrapper tmp = retryQueue.poll();
-                    delivery = tmp.delivery;
-                    retryCount = tmp.retryCount;
-                    retryQueueSize--;
-                } else {
-                    delivery = consumer.nextDelivery(WAIT_FOR_TASK_MILLIS);
+            if (prefetchController != null && !terminated) {
+                int prefetch = prefetchController.adjust();
+                if (prefetch != appliedPrefetch) {
+                    logger.info("consumer={} tId={} prefetch changed from {} to {}", consumer.getConsumerTag(), threadId, appliedPrefetch, prefetch);
+                    channel.basicQos(prefetch, true);
+                    appliedPrefetch = prefetch;
                 }
             }
-            if (delivery == null) {
-                continue;
+            if (terminated) {
+                if (consumer.shutdownSignal != null) {
+                    throw consumer.shutdownSignal;
+                }
+                throw new IOException(String.format("consumer %s was cancelled by the broker [exName=%s, qName=%s, rKey=%s]",
+                                                    consumer.getConsumerTag(), this.exchangeName, this.queueName, this.origRoutingKey));
             }
+        }
+        if (acknowledger != null) {
+            // deliveries still processed by the lanes are redelivered after the channel is closed
+            acknowledger.flush();
+        }
+    }
 
-            if(logger.isTraceEnabled()) {
-                logger.trace("CONSUME START: consumer={} tId={} received msg with routingKey={}, exchange={} and deliveryTag={}",
-                             consumerName,
-                             threadId,
-                             delivery.getEnvelope().getRoutingKey(),
-                             delivery.getEnvelope().getExchange(),
-                             delivery.getEnvelope().getDeliveryTag());
-                String msg = new String(delivery.getBody());
-                logger.trace("CONSUME Message: {}", msg);
-                logger.trace("CONSUME Properties: {}", delivery.getProperties());
-            }
-            MessageStatus messageStatus;
-            try {
-                messageStatus = this.msgHandler.consume(
-                        delivery.getBody(),
-                        delivery.getEnvelope().getRoutingKey(),
-                        delivery.getProperties().getCorrelationId(),
-                        convertHeaders(delivery.getProperties().getHeaders()));
-            } catch (Exception exc) {
-                logger.error("Exception thrown by consumer (setting result to 'RetryLimited'): ", exc);
-                messageStatus = MessageStatus.RETRY_LIMITED;
-            }
+    private void processDelivery(BatchedAcknowledger acknowledger, String consumerName, int threadId, ReceivedDelivery delivery) {
+        Envelope envelope = delivery.envelope;
+        if(logger.isTraceEnabled()) {
+            logger.trace("CONSUME START: consumer={} tId={} received msg with routingKey={}, exchange={} and deliveryTag={}",
+                         consumerName,
+                         threadId,
+                         envelope.getRoutingKey(),
+                         envelope.getExchange(),
+                         envelope.getDeliveryTag());
+            logger.trace("CONSUME Message: {}", new String(delivery.body, StandardCharsets.UTF_8));
+            logger.trace("CONSUME Properties: {}", delivery.properties);
+        }
+        long start = System.nanoTime();
+        MessageStatus messageStatus;
+        try {
+            messageStatus = this.msgHandler.consume(
+                    delivery.body,
+                    envelope.getRoutingKey(),
+                    delivery.properties.getCorrelationId(),
+                    convertHeaders(delivery.properties.getHeaders()));
+        } catch (Exception exc) {
+            logger.error("Exception thrown by consumer (setting result to 'RetryLimited'): ", exc);
+            messageStatus = MessageStatus.RETRY_LIMITED;
+        }
+        if (prefetchController != null) {
+            prefetchController.processingFinished(System.nanoTime() - start);
+        }
 
-            if (MessageStatus.CONSUMED_SUCCESSFULLY.equals(messageStatus)) {
-                logger.trace("CONSUME END: consumer={} tId={} received result={}",
-                             consumerName,
-                             threadId,
-                             messageStatus);
-            } else {
-                logger.debug("END: consumer={} tId={} received result={}",
-                             consumerName,
-                             threadId,
-                             messageStatus);
-            }
+        if (MessageStatus.CONSUMED_SUCCESSFULLY.equals(messageStatus)) {
+            logger.trace("CONSUME END: consumer={} tId={} received result={}",
+                         consumerName,
+                         threadId,
+                         messageStatus);
+        } else {
+            logger.debug("END: consumer={} tId={} received result={}",
+                         consumerName,
+                         threadId,
+                         messageStatus);
+        }
 
-            if(autoMessageAcknowledgmentEnabled){
-                continue;
-            }
-            /*
-             * Msg handled
-             */
-            if (MessageStatus.CONSUMED_SUCCESSFULLY.equals(messageStatus)) {
-                channel.basicAck(delivery.getEnvelope().getDeliveryTag(), false);
-                throwSafetyDisconnectExcCount = 0;
-                logger.trace("consumer={} tId={} acked msg={}",
-                             consumerName,
-                             threadId,
-                             delivery.getEnvelope().getDeliveryTag());
-                continue;
-            }
+        if(acknowledger == null){
+            return;
+        }
+        try {
+            handleResult(acknowledger, consumerName, threadId, delivery, messageStatus);
+        } catch (IOException | ShutdownSignalException exc) {
+            // the unacknowledged message is redelivered once the consumer is subscribed again
+            logger.warn("consumer={} tId={} failed to acknowledge msg={}", consumerName, threadId, envelope.getDeliveryTag(), exc);
+        }
+    }
 
-                /*
-                 * Msg should be retried forever
-                 */
-            if (MessageStatus.RETRY_FOREVER.equals(messageStatus)) {
-                while (maxCountOfLocalMsgs <= retryQueueSize) {
-                    DeliveryWrapper tmp = retryQueue.poll();
-                    retryQueueSize--;
-                    channel.basicNack(tmp.delivery.getEnvelope().getDeliveryTag(), false, true);
-                    throwSafetyDisconnectExcCount++;
-                }
-                DeliveryWrapper dw = new DeliveryWrapper();
-                dw.delivery = delivery;
-                dw.retryCount = retryCount;
-                retryQueue.add(dw);
-                retryQueueSize++;
-                continue;
+    private void handleResult(BatchedAcknowledger acknowledger, String consumerName, int threadId, ReceivedDelivery delivery, MessageStatus messageStatus) throws IOException {
+        long deliveryTag = delivery.envelope.getDeliveryTag();
+        /*
+         * Msg handled
+         */
+        if (MessageStatus.CONSUMED_SUCCESSFULLY.equals(messageStatus)) {
+            acknowledger.ack(deliveryTag);
+            logger.trace("consumer={} tId={} processed msg={}",
+                         consumerName,
+                         threadId,
+                         deliveryTag);
+            return;
+        }
+
+        /*
+         * Msg should be retried forever
+         */
+        if (MessageStatus.RETRY_FOREVER.equals(messageStatus)) {
+            acknowledger.nack(deliveryTag, true);
+            return;
+        }
+
+        /*
+         * Msg should be retried limited times
+         */
+        delivery.retryCount++;
+        if (delivery.retryCount >= this.maxRetryCount) {
+            logger.error(
+                    "msg={}, content={} did not get consumed, retry limit reached={}, dropping msg!!! [exName={}, qName={}, rKey={}]",
+                    deliveryTag,
+                    new String(delivery.body, StandardCharsets.UTF_8),
+                    this.maxRetryCount,
+                    this.exchangeName,
+                    this.queueName,
+                    this.origRoutingKey);
+            acknowledger.ack(deliveryTag);
+            try {
+                this.msgHandler.afterLimitReached(delivery.body,
+                                                  delivery.envelope.getRoutingKey(),
+                                                  delivery.properties.getCorrelationId());
+            } catch (Exception exc) {
+                logger.error("Exception thrown by consumer after limit reached: ", exc);
             }
+            return;
+        }
+        // retried on the same lane after the messages already queued there
+        if (!dispatch(delivery, () -> processDelivery(acknowledger, consumerName, threadId, delivery))) {
+            acknowledger.nack(deliveryTag, true);
+        }
+    }
 
-            /*
-             * Msg should be retried limited times
-             */
-            retryCount++;
-            if (retryCount >= this.maxRetryCount) {
-                logger.error(
-                        "msg={}, content={} did not get consumed, retry limit reached={}, dropping msg!!! [exName={}, qName={}, rKey={}]",
-                        delivery.getEnvelope().getDeliveryTag(),
-                        new String(delivery.getBody()),
-                        this.maxRetryCount,
-                        this.exchangeName,
-                        this.queueName,
-                        this.origRoutingKey);
-                channel.basicAck(delivery.getEnvelope().getDeliveryTag(), false);
-                try {
-                    this.msgHandler.afterLimitReached(delivery.getBody(),
-                                                      delivery.getEnvelope().getRoutingKey(),
-                                                      delivery.getProperties().getCorrelationId());
-                } catch (Exception exc) {
-                    logger.error("Exception thrown by consumer after limit reached: ", exc);
-                }
-            } else {
-                while (maxCountOfLocalMsgs <= retryQueueSize) {
-                    DeliveryWrapper tmp = retryQueue.poll();
-                    retryQueueSize--;
-                    channel.basicNack(tmp.delivery.getEnvelope().getDeliveryTag(), false, true);
-                    throwSafetyDisconnectExcCount++;
-                }
-                DeliveryWrapper dw = new DeliveryWrapper();
-                dw.delivery = delivery;
-                dw.retryCount = retryCount;
-                retryQueue.add(dw);
-                retryQueueSize++;
+    private boolean dispatch(ReceivedDelivery delivery, Runnable task) {
+        LaneExecutor currentLanes = this.lanes;
+        if (currentLanes == null) {
+            return false;
+        }
+        if (prefetchController == null) {
+            try {
+                // the ticketId is only in the body, so the lanes are keyed by the correlationId of the AMQP properties
+                currentLanes.execute(delivery.properties.getCorrelationId(), task);
+                return true;
+            } catch (RejectedExecutionException exc) {
+                return false;
             }
         }
+        prefetchController.queued();
+        try {
+            currentLanes.execute(delivery.properties.getCorrelationId(), () -> {
+                prefetchController.dequeued();
+                task.run();
+            });
+            return true;
+        } catch (RejectedExecutionException exc) {
+            prefetchController.dequeued();
+            return false;
+        }
+    }
+
+    @Override
+    public int getPrefetchCount() {
+        return prefetchController == null ? prefetchCount : prefetchController.getPrefetch();
     }
 
     @Override
@@ -284,10 +413,65 @@ public final class RabbitMqConsumer extends RabbitMqBase implements AmqpConsumer
         return converted;
     }
 
-    private static final class DeliveryWrapper {
+    private static final class ReceivedDelivery {
+
+        private final Envelope envelope;
+        private final AMQP.BasicProperties properties;
+        private final byte[] body;
+        private int retryCount;
+
+        private ReceivedDelivery(Envelope envelope, AMQP.BasicProperties properties, byte[] body) {
+            this.envelope = envelope;
+            this.properties = properties;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Receives the deliveries pushed by the connection and hands them over to the lanes
+     */
+    private final class LaneConsumer extends DefaultConsumer {
+
+        private final int threadId;
+        private final BatchedAcknowledger acknowledger;
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile ShutdownSignalException shutdownSignal;
+
+        private LaneConsumer(Channel channel, int threadId, BatchedAcknowledger acknowledger) {
+            super(channel);
+            this.threadId = threadId;
+            this.acknowledger = acknowledger;
+        }
+
+        @Override
+        public void handleDelivery(String consumerTag, Envelope envelope, AMQP.BasicProperties properties, byte[] body) throws IOException {
+            ReceivedDelivery delivery = new ReceivedDelivery(envelope, properties, body);
+            if (prefetchController != null) {
+                prefetchController.delivered((int) (envelope.getDeliveryTag() - acknowledger.getAcknowledged()));
+            }
+            if (!dispatch(delivery, () -> processDelivery(acknowledger, consumerTag, threadId, delivery))) {
+                logger.warn("consumer={} tId={} is closing, msg={} not processed", consumerTag, threadId, envelope.getDeliveryTag());
+                if (acknowledger != null) {
+                    acknowledger.nack(envelope.getDeliveryTag(), true);
+                }
+            }
+        }
 
-        public QueueingConsumer.Delivery delivery;
-        public int retryCount;
+        @Override
+        public void handleCancel(String consumerTag) {
+            logger.warn("consumer={} tId={} was cancelled by the broker", consumerTag, threadId);
+            terminated.countDown();
+        }
+
+        @Override
+        public void handleShutdownSignal(String consumerTag, ShutdownSignalException sig) {
+            this.shutdownSignal = sig;
+            terminated.countDown();
+        }
+
+        private boolean awaitTermination(long timeoutMillis) throws InterruptedException {
+            return terminated.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
     private static long getPID()
@@ -9,10 +9,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
 
 import static com.google.common.base.Preconditions.*;
@@ -21,13 +24,14 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
 
     private static final Logger logger = LoggerFactory.getLogger(RabbitMqProducer.class);
 
-    private final BlockingQueue<AcceptedMessage> normalQueue = new LinkedTransferQueue<>();
-    private final BlockingQueue<AcceptedMessage> redeliveryQueue = new LinkedTransferQueue<>();
+    private final ProducerShard[] shards;
     private final int maxRetryCount;
     private final int maxBufferSize;
     private final AMQP.BasicProperties msgProperties;
     private final boolean waitForPublishConfirmations;
     private final boolean isPublishMandatory;
+    private final int publishBatchSize;
+    private final long publishBatchTimeoutNanos;
     private ReturnListener returnListener;
 
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
@@ -42,21 +46,68 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                             boolean msgMemOnly,
                             boolean waitForPublishConfirmations,
                             boolean mandatory) {
+        this(channelFactoryProvider,
+                instanceName,
+                mqCluster,
+                exchangeName,
+                exchangeType,
+                maxRetryCount,
+                maxBufferSize,
+                concurrencyLevel,
+                msgMemOnly,
+                waitForPublishConfirmations,
+                mandatory,
+                1,
+                0L,
+                false);
+    }
+
+    /**
+     * Constructs a producer which on each wake-up drains up to <code>publishBatchSize</code> messages (waiting at most
+     * <code>publishBatchTimeoutMicros</code> for the batch to fill) and publishes them back-to-back. Each of the
+     * <code>concurrencyLevel</code> threads owns a shard with its own channel (and its own connection if
+     * <code>connectionPerShard</code> is set), queue and <code>maxBufferSize</code> limit; messages are assigned to the
+     * shards by the hash of their shard key
+     */
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public RabbitMqProducer(ChannelFactoryProvider channelFactoryProvider,
+                            String instanceName,
+                            AmqpCluster mqCluster,
+                            String exchangeName,
+                            ExchangeType exchangeType,
+                            int maxRetryCount,
+                            int maxBufferSize,
+                            int concurrencyLevel,
+                            boolean msgMemOnly,
+                            boolean waitForPublishConfirmations,
+                            boolean mandatory,
+                            int publishBatchSize,
+                            long publishBatchTimeoutMicros,
+                            boolean connectionPerShard) {
         super(channelFactoryProvider,
                 instanceName,
                 mqCluster,
                 exchangeName,
                 exchangeType,
-                concurrencyLevel);
+                concurrencyLevel,
+                connectionPerShard);
 
         checkArgument(maxRetryCount > 0, "parameter 'maxRetryCount' is zero or less");
         checkArgument(maxBufferSize > 0, "parameter 'maxBufferSize' is zero or less");
+        checkArgument(publishBatchSize > 0, "parameter 'publishBatchSize' is zero or less");
+        checkArgument(publishBatchTimeoutMicros >= 0, "parameter 'publishBatchTimeoutMicros' is less than zero");
 
         this.maxRetryCount = maxRetryCount;
         this.maxBufferSize = maxBufferSize;
         this.msgProperties = msgMemOnly ? MessageProperties.BASIC : MessageProperties.PERSISTENT_BASIC;
         this.waitForPublishConfirmations = waitForPublishConfirmations;
         this.isPublishMandatory = mandatory;
+        this.publishBatchSize = publishBatchSize;
+        this.publishBatchTimeoutNanos = TimeUnit.MICROSECONDS.toNanos(publishBatchTimeoutMicros);
+        this.shards = new ProducerShard[concurrencyLevel];
+        for (int i = 0; i < concurrencyLevel; i++) {
+            this.shards[i] = new ProducerShard(maxBufferSize);
+        }
     }
 
 
@@ -65,12 +116,79 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                                     byte[] msg,
                                     String routingKey,
                                     Map<String, Object> messageHeaders) {
-        return this.sendAsyncInternal(correlationId, msg, routingKey, messageHeaders, null);
+        return this.sendAsyncInternal(correlationId, correlationId, msg, routingKey, messageHeaders, null);
+    }
+
+    @Override
+    public AmqpSendResult sendAsync(String correlationId,
+                                    String shardKey,
+                                    byte[] msg,
+                                    String routingKey,
+                                    Map<String, Object> messageHeaders) {
+        return this.sendAsyncInternal(correlationId, shardKey, msg, routingKey, messageHeaders, null);
+    }
+
+    /**
+     * Sends the batch of messages asynchronously; the messages of each shard are inserted into its queue at once, so
+     * the publishing thread is woken up once and publishes them back-to-back. There is no backpressure, messages which
+     * do not fit into the buffer of their shard (the producer buffer size, see
+     * {@link com.sportradar.mts.sdk.api.interfaces.SdkConfiguration#getProducerBufferSize()}) are rejected right away
+     */
+    @Override
+    public List<AmqpSendResult> sendAllAsync(List<AmqpMessage> messages, String routingKey, Map<String, Object> messageHeaders) {
+        checkNotNull(messages, "parameter 'messages' is null");
+        checkNotNull(routingKey, "parameter 'routingKey' is null");
+        checkNotNull(messageHeaders, "parameter 'messageHeaders' is null");
+        for (AmqpMessage message : messages) {
+            checkArgument(message.getContent().length != 0, "parameter 'msg' is empty");
+        }
+        checkState(this.isOpen(), "connector is closed");
+
+        final List<List<Integer>> shardIndexes = new ArrayList<>(this.shards.length);
+        for (int i = 0; i < this.shards.length; i++) {
+            shardIndexes.add(new ArrayList<>());
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            shardIndexes.get(this.getShardIndex(messages.get(i).getShardKey())).add(i);
+        }
+
+        final AmqpSendResult[] results = new AmqpSendResult[messages.size()];
+        for (int s = 0; s < this.shards.length; s++) {
+            final List<Integer> indexes = shardIndexes.get(s);
+            if (indexes.isEmpty()) {
+                continue;
+            }
+            final ProducerShard shard = this.shards[s];
+            final int accepted = Math.min(indexes.size(), Math.max(0, this.maxBufferSize + 1 - shard.normalQueue.size()));
+            final List<AcceptedMessage> tasks = new ArrayList<>(accepted);
+            for (int i = 0; i < accepted; i++) {
+                AmqpMessage message = messages.get(indexes.get(i));
+                tasks.add(this.waitForPublishConfirmations
+                        ? new AcceptedMessage(message.getCorrelationId(), message.getContent(), routingKey, messageHeaders, null, this)
+                        : new AcceptedMessageNoConfirm(message.getCorrelationId(), message.getContent(), routingKey, messageHeaders, null, this));
+            }
+            final int offered = shard.normalQueue.offerAll(tasks);
+            if (offered < indexes.size()) {
+                logger.warn("buffer size limit reached, {} of {} messages rejected [limit={}, exName={}]",
+                        indexes.size() - offered, indexes.size(), this.maxBufferSize, this.exchangeName);
+            }
+            for (int i = 0; i < indexes.size(); i++) {
+                final int index = indexes.get(i);
+                if (i < offered) {
+                    results[index] = tasks.get(i);
+                } else {
+                    AmqpMessage message = messages.get(index);
+                    results[index] = new RejectedMessage(message.getCorrelationId(), message.getContent(), routingKey, messageHeaders, this);
+                }
+            }
+        }
+        return Arrays.asList(results);
     }
 
     @Override
     public boolean sendAsync(String correlationId, byte[] msg, Consumer<AmqpSendResult> doneCallback) {
         final AmqpSendResult result = this.sendAsyncInternal(correlationId,
+                correlationId,
                 msg,
                 DEFAULT_ROUTING_KEY,
                 new HashMap<>(),
@@ -84,6 +202,7 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                              Map<String, Object> messageHeaders,
                              Consumer<AmqpSendResult> doneCallback) {
         final AmqpSendResult result = this.sendAsyncInternal(correlationId,
+                correlationId,
                 msg,
                 DEFAULT_ROUTING_KEY,
                 messageHeaders,
@@ -97,6 +216,7 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                              String routingKey,
                              Consumer<AmqpSendResult> doneCallback) {
         final AmqpSendResult result = this.sendAsyncInternal(correlationId,
+                correlationId,
                 msg,
                 routingKey,
                 new HashMap<>(),
@@ -111,6 +231,7 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                              Map<String, Object> messageHeaders,
                              Consumer<AmqpSendResult> doneCallback) {
         final AmqpSendResult result = this.sendAsyncInternal(correlationId,
+                correlationId,
                 msg,
                 routingKey,
                 messageHeaders,
@@ -122,7 +243,7 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
     @Override
     public boolean send(String correlationId, byte[] msg, String routingKey, Map<String, Object> messageHeaders) {
         try {
-            return this.sendAsyncInternal(correlationId, msg, routingKey, messageHeaders, null).get();
+            return this.sendAsyncInternal(correlationId, correlationId, msg, routingKey, messageHeaders, null).get();
         } catch (Exception exc) {
             logger.error("error in sending data", exc);
             Thread.currentThread().interrupt();
@@ -139,14 +260,16 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
     protected void doWork(Channel channel, int threadId) throws
             InterruptedException,
             IOException {
+        final ProducerShard shard = this.shards[threadId - 1];
         if (this.waitForPublishConfirmations) {
-            this.sendAndWaitForConfirm(channel);
+            this.sendAndWaitForConfirm(channel, shard);
         } else {
-            this.sendAndForget(channel);
+            this.sendAndForget(channel, shard);
         }
     }
 
     private AmqpSendResult sendAsyncInternal(String correlationId,
+                                             String shardKey,
                                              byte[] msg,
                                              String routingKey,
                                              Map<String, Object> messageHeaders,
@@ -156,7 +279,8 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         checkArgument(msg.length != 0, "parameter 'msg' is empty");
         checkNotNull(messageHeaders, "parameter 'messageHeaders' is null");
 
-        int currentSize = this.normalQueue.size();
+        final ProducerShard shard = this.getShard(shardKey);
+        int currentSize = shard.normalQueue.size();
         if (currentSize > this.maxBufferSize) {
             logger.warn("buffer size limit reached [size={}, limit={}, exName={}]", currentSize, this.maxBufferSize, this.exchangeName);
             return new RejectedMessage(correlationId, msg, routingKey, messageHeaders, this);
@@ -170,7 +294,7 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         } else {
             task = new AcceptedMessageNoConfirm(correlationId, msg, routingKey, messageHeaders, null, this);
         }
-        if (this.normalQueue.offer(task)) {
+        if (shard.normalQueue.offer(task)) {
             if ((!this.waitForPublishConfirmations) && (doneCallback != null)) {
                 doneCallback.accept(task);
             }
@@ -181,62 +305,68 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         }
     }
 
-    private void sendAndWaitForConfirm(Channel channel) throws
+    private ProducerShard getShard(String shardKey) {
+        return this.shards[this.getShardIndex(shardKey)];
+    }
+
+    private int getShardIndex(String shardKey) {
+        if (this.shards.length == 1 || shardKey == null) {
+            return 0;
+        }
+        final int hash = shardKey.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), this.shards.length);
+    }
+
+    private void sendAndWaitForConfirm(Channel channel, ProducerShard shard) throws
             InterruptedException,
             IOException {
 
-        final ConcurrentSkipListMap<Long, AcceptedMessage> msgWaitingForConfirm = new ConcurrentSkipListMap<>();
+        final ConfirmTracker<AcceptedMessage> msgWaitingForConfirm = new ConfirmTracker<>(this.maxBufferSize);
+        final Consumer<AcceptedMessage> confirmAction = m -> m.setResult(true);
+        final Consumer<AcceptedMessage> rejectAction = m -> {
+            m.retryCount++;
+            if (m.retryCount == maxRetryCount) {
+                m.setResult(false);
+            } else {
+                if (!shard.redeliveryQueue.offer(m)) {
+                    m.setResult(false);
+                }
+            }
+        };
         final ConfirmListener msgConfirmedListener = new ConfirmListener() {
             @Override
             public void handleAck(final long tag, final boolean multiple) throws IOException {
                 if (multiple) {
-                    Map<Long, AcceptedMessage> confirmed = new HashMap<>(msgWaitingForConfirm.headMap(tag, true));
-                    for (Map.Entry<Long, AcceptedMessage> entry : confirmed.entrySet()) {
-                        entry.getValue().setResult(true);
-                        msgWaitingForConfirm.remove(entry.getKey());
-                    }
+                    msgWaitingForConfirm.removeUpTo(tag, confirmAction);
                 } else {
                     AcceptedMessage m = msgWaitingForConfirm.remove(tag);
-                    m.setResult(true);
+                    if (m != null) {
+                        confirmAction.accept(m);
+                    }
                 }
             }
 
             @Override
             public void handleNack(final long tag, final boolean multiple) throws IOException {
                 if (multiple) {
-                    Map<Long, AcceptedMessage> confirmed = new HashMap<>(msgWaitingForConfirm.headMap(tag, true));
-                    for (Map.Entry<Long, AcceptedMessage> entry : confirmed.entrySet()) {
-                        entry.getValue().retryCount++;
-                        if (entry.getValue().retryCount == maxRetryCount) {
-                            entry.getValue().setResult(false);
-                        } else {
-                            if (!redeliveryQueue.offer(entry.getValue())) {
-                                entry.getValue().setResult(false);
-                            }
-                        }
-                        msgWaitingForConfirm.remove(entry.getKey());
-                    }
+                    msgWaitingForConfirm.removeUpTo(tag, rejectAction);
                 } else {
                     AcceptedMessage m = msgWaitingForConfirm.remove(tag);
-                    m.retryCount++;
-                    if (m.retryCount == maxRetryCount) {
-                        m.setResult(false);
-                    } else {
-                        if (!redeliveryQueue.offer(m)) {
-                            m.setResult(false);
-                        }
+                    if (m != null) {
+                        rejectAction.accept(m);
                     }
                 }
             }
         };
 
-        AcceptedMessage currentMsg = null;
+        final List<AcceptedMessage> batch = new ArrayList<>(this.publishBatchSize);
+        int published = 0;
         try {
             channel.confirmSelect();
             channel.addConfirmListener(msgConfirmedListener);
             channel.addReturnListener(returnListener);
 
-            while (this.isOpen() || (!(this.redeliveryQueue.isEmpty() && this.normalQueue.isEmpty()))) {
+            while (this.isOpen() || (!(shard.redeliveryQueue.isEmpty() && shard.normalQueue.isEmpty()))) {
 
                 if (Thread.interrupted()) {
                     throw new InterruptedException("thread has been interrupted while actively working");
@@ -245,54 +375,51 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                     throw channel.getCloseReason();
                 }
 
-                currentMsg = this.redeliveryQueue.poll();
-                if (currentMsg == null) {
-                    currentMsg = this.normalQueue.poll(WAIT_FOR_TASK_MILLIS, TimeUnit.MILLISECONDS);
-                }
-
-                if (currentMsg == null) {
-                    continue;
-                }
-                if ((currentMsg.content == null) || (currentMsg.content.length == 0)) {
-                    currentMsg.setResult(false);
-                    currentMsg = null;
+                batch.clear();
+                published = 0;
+                if (!this.pollBatch(shard, batch)) {
                     continue;
                 }
 
-                long tag = channel.getNextPublishSeqNo();
-                msgWaitingForConfirm.put(tag, currentMsg);
-                channel.basicPublish(this.exchangeName,
-                        currentMsg.routingKey,
-                        this.isPublishMandatory,
-                        createProperties(currentMsg.messageHeaders, currentMsg.getCorrelationId()),
-                        currentMsg.content);
-                currentMsg = null;
+                for (AcceptedMessage currentMsg : batch) {
+                    if ((currentMsg.content == null) || (currentMsg.content.length == 0)) {
+                        currentMsg.setResult(false);
+                        published++;
+                        continue;
+                    }
+
+                    long tag = channel.getNextPublishSeqNo();
+                    msgWaitingForConfirm.put(tag, currentMsg);
+                    // from now on the message is owned by msgWaitingForConfirm
+                    published++;
+                    channel.basicPublish(this.exchangeName,
+                            currentMsg.routingKey,
+                            this.isPublishMandatory,
+                            createProperties(currentMsg.messageHeaders, currentMsg.getCorrelationId()),
+                            currentMsg.content);
+                }
+                batch.clear();
             }
         } finally {
-            boolean cancelCurrentMsg = (currentMsg != null);
-            for (AcceptedMessage unconfirmedMsg : msgWaitingForConfirm.values()) {
-                if (cancelCurrentMsg && (unconfirmedMsg == currentMsg)) {
-                    cancelCurrentMsg = false;
-                }
-                if ((!this.isOpen()) || (!redeliveryQueue.offer(unconfirmedMsg))) {
+            msgWaitingForConfirm.removeAll(unconfirmedMsg -> {
+                if ((!this.isOpen()) || (!shard.redeliveryQueue.offer(unconfirmedMsg))) {
                     unconfirmedMsg.setResult(false);
                 }
-            }
-            if (cancelCurrentMsg && ((!this.isOpen()) || (!redeliveryQueue.offer(currentMsg)))) {
-                currentMsg.setResult(false);
-            }
+            });
+            this.requeueUnpublished(shard, batch, published);
         }
     }
 
-    private void sendAndForget(Channel channel) throws
+    private void sendAndForget(Channel channel, ProducerShard shard) throws
             InterruptedException,
             IOException {
 
-        AcceptedMessage currentMsg = null;
+        final List<AcceptedMessage> batch = new ArrayList<>(this.publishBatchSize);
+        int published = 0;
         try {
             channel.addReturnListener(returnListener);
 
-            while (this.isOpen() || (!(this.redeliveryQueue.isEmpty() && this.normalQueue.isEmpty()))) {
+            while (this.isOpen() || (!(shard.redeliveryQueue.isEmpty() && shard.normalQueue.isEmpty()))) {
 
                 if (Thread.interrupted()) {
                     throw new InterruptedException("thread has been interrupted while actively working");
@@ -301,31 +428,81 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
                     throw channel.getCloseReason();
                 }
 
-                currentMsg = this.redeliveryQueue.poll();
-                if (currentMsg == null) {
-                    currentMsg = this.normalQueue.poll(WAIT_FOR_TASK_MILLIS, TimeUnit.MILLISECONDS);
-                }
-
-                if (currentMsg == null) {
-                    continue;
-                }
-                if ((currentMsg.content == null) || (currentMsg.content.length == 0)) {
-                    currentMsg.setResult(false);
-                    currentMsg = null;
+                batch.clear();
+                published = 0;
+                if (!this.pollBatch(shard, batch)) {
                     continue;
                 }
 
-                channel.basicPublish(this.exchangeName,
-                        currentMsg.routingKey,
-                        this.isPublishMandatory,
-                        createProperties(currentMsg.messageHeaders, currentMsg.getCorrelationId()),
-                        currentMsg.content);
-                currentMsg = null;
+                for (AcceptedMessage currentMsg : batch) {
+                    if ((currentMsg.content == null) || (currentMsg.content.length == 0)) {
+                        currentMsg.setResult(false);
+                        published++;
+                        continue;
+                    }
+
+                    channel.basicPublish(this.exchangeName,
+                            currentMsg.routingKey,
+                            this.isPublishMandatory,
+                            createProperties(currentMsg.messageHeaders, currentMsg.getCorrelationId()),
+                            currentMsg.content);
+                    published++;
+                    currentMsg.setResult(true);
+                }
+                batch.clear();
             }
         } finally {
-            if ((currentMsg != null)
-                    && ((!this.isOpen()) || (!redeliveryQueue.offer(currentMsg)))) {
-                currentMsg.setResult(false);
+            this.requeueUnpublished(shard, batch, published);
+        }
+    }
+
+    /**
+     * Collects the next batch of messages to be published; messages waiting for redelivery are taken first. Blocks
+     * for at most {@link #WAIT_FOR_TASK_MILLIS} for the first message and at most the configured batch timeout for
+     * the batch to fill up
+     *
+     * @param shard the shard whose queues are polled
+     * @param batch the list to which the polled messages are added
+     * @return <code>true</code> if at least one message was polled, otherwise <code>false</code>
+     * @throws InterruptedException if the thread was interrupted while waiting for messages
+     */
+    private boolean pollBatch(ProducerShard shard, List<AcceptedMessage> batch) throws InterruptedException {
+        shard.redeliveryQueue.drainTo(batch, this.publishBatchSize);
+        if (batch.isEmpty()) {
+            AcceptedMessage firstMsg = shard.normalQueue.poll(WAIT_FOR_TASK_MILLIS, TimeUnit.MILLISECONDS);
+            if (firstMsg == null) {
+                return false;
+            }
+            batch.add(firstMsg);
+        }
+        if (batch.size() >= this.publishBatchSize) {
+            return true;
+        }
+
+        shard.normalQueue.drainTo(batch, this.publishBatchSize - batch.size());
+        if (this.publishBatchTimeoutNanos > 0L) {
+            final long deadline = System.nanoTime() + this.publishBatchTimeoutNanos;
+            while (batch.size() < this.publishBatchSize) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    break;
+                }
+                AcceptedMessage nextMsg = shard.normalQueue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (nextMsg == null) {
+                    break;
+                }
+                batch.add(nextMsg);
+                shard.normalQueue.drainTo(batch, this.publishBatchSize - batch.size());
+            }
+        }
+        return true;
+    }
+
+    private void requeueUnpublished(ProducerShard shard, List<AcceptedMessage> batch, int published) {
+        for (int i = published; i < batch.size(); i++) {
+            AcceptedMessage unpublishedMsg = batch.get(i);
+            if ((!this.isOpen()) || (!shard.redeliveryQueue.offer(unpublishedMsg))) {
+                unpublishedMsg.setResult(false);
             }
         }
     }
@@ -353,7 +530,18 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         return builder.build();
     }
 
-    private static final class RejectedMessage implements AmqpSendResult {
+    private static final class ProducerShard {
+
+        private final MpscRingBuffer<AcceptedMessage> normalQueue;
+        private final BlockingQueue<AcceptedMessage> redeliveryQueue = new LinkedTransferQueue<>();
+
+        ProducerShard(int maxBufferSize) {
+            // the buffer size check lets one message over the limit through
+            this.normalQueue = new MpscRingBuffer<>(maxBufferSize + 1);
+        }
+    }
+
+    private static final class RejectedMessage implements NotifyingSendResult {
 
         public final byte[] content;
         public final String routingKey;
@@ -378,6 +566,11 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
             return true;
         }
 
+        @Override
+        public void whenDone(Consumer<AmqpSendResult> callback) {
+            callback.accept(this);
+        }
+
         @Override
         public boolean cancel(boolean b) {
             return false;
@@ -459,10 +652,13 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         }
     }
 
-    private static class AcceptedMessage implements AmqpSendResult {
+    private static class AcceptedMessage implements NotifyingSendResult {
+
+        private static final AtomicReferenceFieldUpdater<AcceptedMessage, Boolean> RESULT_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(AcceptedMessage.class, Boolean.class, "result");
 
         public volatile int retryCount = 0;
-        private final AtomicReference<Boolean> result = new AtomicReference<>(null);
+        private volatile Boolean result = null;
         private final byte[] content;
         private final String routingKey;
         private final String correlationId;
@@ -470,6 +666,7 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         private final Map<String, Object> messageHeaders;
         private final CountDownLatch latch;
         private final Consumer<AmqpSendResult> doneCallback;
+        private Consumer<AmqpSendResult> completionCallback;
 
         public AcceptedMessage(String correlationId,
                                byte[] content,
@@ -487,12 +684,32 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         }
 
         public void setResult(boolean res) {
-            if (this.result.compareAndSet(null, res)) {
+            if (RESULT_UPDATER.compareAndSet(this, null, res)) {
                 this.latch.countDown();
                 if (this.doneCallback != null) {
                     this.mqProducer.execute(new DoneCallbackRunnable(this.doneCallback, this));
                 }
+                final Consumer<AmqpSendResult> callback;
+                synchronized (this) {
+                    callback = this.completionCallback;
+                    this.completionCallback = null;
+                }
+                if (callback != null) {
+                    callback.accept(this);
+                }
+            }
+        }
+
+        @Override
+        public void whenDone(Consumer<AmqpSendResult> callback) {
+            synchronized (this) {
+                if (this.result == null) {
+                    checkState(this.completionCallback == null, "completion callback already registered");
+                    this.completionCallback = callback;
+                    return;
+                }
             }
+            callback.accept(this);
         }
 
         @Override
@@ -543,7 +760,7 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
         @Override
         public Boolean get() throws InterruptedException, ExecutionException {
             this.latch.await();
-            return this.result.get();
+            return this.result;
         }
 
         @Override
@@ -551,7 +768,7 @@ public final class RabbitMqProducer extends RabbitMqBase implements AmqpProducer
             if (!this.latch.await(l, timeUnit)) {
                 throw new TimeoutException();
             }
-            final Boolean isGet = this.result.get();
+            final Boolean isGet = this.result;
             if (isGet == null) {
                 throw new TimeoutException();
             }
@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.handlers;
+
+import com.sportradar.mts.sdk.api.SdkTicket;
+import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
+import com.sportradar.mts.sdk.api.interfaces.InFlightStatus;
+import com.sportradar.mts.sdk.api.utils.StringUtils;
+import com.sportradar.mts.sdk.impl.libs.threading.HashedWheelTimer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The messages published by a sender which still wait for their publish result or response, keyed by correlationId.
+ * Each message is held by a single entry, which also carries the caller waiting for the response and the response
+ * timeout; the number of entries is bounded and new messages are rejected once the capacity is reached
+ *
+ * @param <T> the type of the published messages
+ */
+public class InFlightRegistry<T extends SdkTicket> implements InFlightStatus {
+
+    private final String name;
+    private final int capacity;
+    private final ConcurrentMap<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+
+    /**
+     * Initializes a new instance of the {@link InFlightRegistry}
+     *
+     * @param name - the name of the sender, used in the error messages
+     * @param capacity - the max number of messages in flight
+     */
+    public InFlightRegistry(String name, int capacity) {
+        checkNotNull(name, "name cannot be null");
+        checkArgument(capacity > 0, "capacity must be greater than 0");
+
+        this.name = name;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Registers the message before it is published; a message with the correlationId of a message still in flight
+     * is rejected, since its response or publish result could not be told apart from the one of the first message
+     *
+     * @param message - the message to be published
+     * @param waiter - the future completed with the response or <code>null</code> if nobody waits for it
+     * @param awaitingResponse - if the entry is kept until the response is received, otherwise until the publish result
+     * @return - the registered entry
+     * @throws MtsSdkProcessException if the message has no correlationId, the max number of messages in flight was
+     * reached or a message with the same correlationId is in flight
+     */
+    public Entry<T> register(T message, CompletableFuture<?> waiter, boolean awaitingResponse) {
+        checkNotNull(message, "message cannot be null");
+
+        Entry<T> entry = new Entry<>(message, waiter, awaitingResponse);
+        String correlationId = message.getCorrelationId();
+        if (StringUtils.isNullOrEmpty(correlationId)) {
+            // nothing could be correlated with it, so neither its response nor its timeout would ever complete it
+            rejections.incrementAndGet();
+            throw new MtsSdkProcessException(String.format("%s can not track a message without correlationId, ticketId=%s rejected",
+                                                           name, message.getTicketId()));
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            rejections.incrementAndGet();
+            throw new MtsSdkProcessException(String.format("%s has reached the limit of %s messages in flight, ticketId=%s rejected",
+                                                           name, capacity, message.getTicketId()));
+        }
+        if (entries.putIfAbsent(correlationId, entry) != null) {
+            size.decrementAndGet();
+            rejections.incrementAndGet();
+            throw new MtsSdkProcessException(String.format("%s already has a message with correlationId=%s in flight, ticketId=%s rejected",
+                                                           name, correlationId, message.getTicketId()));
+        }
+        return entry;
+    }
+
+    public Entry<T> get(String correlationId) {
+        return correlationId == null ? null : entries.get(correlationId);
+    }
+
+    /**
+     * Removes the entry of the message with the given correlationId and cancels its response timeout
+     *
+     * @param correlationId - the correlationId of the message
+     * @return - the removed entry or <code>null</code> if there was none
+     */
+    public Entry<T> remove(String correlationId) {
+        if (correlationId == null) {
+            return null;
+        }
+        Entry<T> entry = entries.remove(correlationId);
+        if (entry != null) {
+            size.decrementAndGet();
+            entry.cancelTimeout();
+        }
+        return entry;
+    }
+
+    /**
+     * Removes the given entry if it is still registered and cancels its response timeout
+     *
+     * @param entry - the entry to be removed
+     * @return - <code>true</code> if the entry was removed
+     */
+    public boolean remove(Entry<T> entry) {
+        String correlationId = entry.getMessage().getCorrelationId();
+        if (correlationId == null || !entries.remove(correlationId, entry)) {
+            return false;
+        }
+        size.decrementAndGet();
+        entry.cancelTimeout();
+        return true;
+    }
+
+    /**
+     * Removes the given entry because its response timeout was reached
+     *
+     * @param entry - the entry to be evicted
+     * @return - <code>true</code> if the entry was evicted, <code>false</code> if it was already removed
+     */
+    public boolean evict(Entry<T> entry) {
+        if (!remove(entry)) {
+            return false;
+        }
+        evictions.incrementAndGet();
+        return true;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getSize() {
+        return size();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of entries evicted because their response timeout was reached
+     *
+     * @return - the number of evicted entries
+     */
+    @Override
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets the number of messages rejected because the capacity was reached or their correlationId was in flight
+     *
+     * @return - the number of rejected messages
+     */
+    @Override
+    public long getRejections() {
+        return rejections.get();
+    }
+
+    /**
+     * Gets the number of callers still waiting for a response
+     *
+     * @return - the number of waiting callers
+     */
+    public int getWaitingCount() {
+        int count = 0;
+        for (Entry<T> entry : entries.values()) {
+            if (entry.waiter != null && !entry.waiter.isDone()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the age of the oldest entry in milliseconds
+     *
+     * @return - the age of the oldest entry or 0 if there are no entries
+     */
+    @Override
+    public long getOldestAgeMillis() {
+        long now = System.nanoTime();
+        long oldest = 0L;
+        for (Entry<T> entry : entries.values()) {
+            oldest = Math.max(oldest, now - entry.registeredNanos);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(oldest);
+    }
+
+    @Override
+    public String toString() {
+        return "InFlightRegistry{" +
+                "name='" + name + '\'' +
+                ", size=" + size() +
+                ", capacity=" + capacity +
+                ", oldestAgeMillis=" + getOldestAgeMillis() +
+                ", evictions=" + getEvictions() +
+                ", rejections=" + getRejections() +
+                '}';
+    }
+
+    /**
+     * The in-flight state of a single message
+     *
+     * @param <T> the type of the message
+     */
+    public static final class Entry<T extends SdkTicket> {
+
+        private final T message;
+        private final CompletableFuture<?> waiter;
+        private final boolean awaitingResponse;
+        private final long registeredNanos;
+        private volatile HashedWheelTimer.Timeout timeout;
+
+        private Entry(T message, CompletableFuture<?> waiter, boolean awaitingResponse) {
+            this.message = message;
+            this.waiter = waiter;
+            this.awaitingResponse = awaitingResponse;
+            this.registeredNanos = System.nanoTime();
+        }
+
+        public T getMessage() {
+            return message;
+        }
+
+        public boolean hasWaiter() {
+            return waiter != null;
+        }
+
+        public boolean isAwaitingResponse() {
+            return awaitingResponse;
+        }
+
+        /**
+         * Completes the waiter with the response; the waiter was created for the response type of the sender
+         *
+         * @param response - the received response
+         * @param <R> - the type of the response
+         */
+        @SuppressWarnings("unchecked")
+        public <R> void complete(R response) {
+            if (waiter != null) {
+                ((CompletableFuture<R>) waiter).complete(response);
+            }
+        }
+
+        public void completeExceptionally(Throwable throwable) {
+            if (waiter != null) {
+                waiter.completeExceptionally(throwable);
+            }
+        }
+
+        /**
+         * Sets the response timeout, which is cancelled once the entry is removed
+         *
+         * @param timeout - the scheduled response timeout
+         */
+        public void setTimeout(HashedWheelTimer.Timeout timeout) {
+            this.timeout = timeout;
+        }
+
+        private void cancelTimeout() {
+            HashedWheelTimer.Timeout currentTimeout = timeout;
+            if (currentTimeout != null) {
+                currentTimeout.cancel();
+            }
+        }
+    }
+}
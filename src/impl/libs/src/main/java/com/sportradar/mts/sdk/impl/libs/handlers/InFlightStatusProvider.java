@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.handlers;
+
+import com.sportradar.mts.sdk.api.interfaces.InFlightStatus;
+
+/**
+ * A sender which tracks the messages waiting for their publish result or response
+ */
+public interface InFlightStatusProvider {
+
+    /**
+     * Gets the messages of the sender which are in flight
+     *
+     * @return the {@link InFlightStatus} of the sender
+     */
+    InFlightStatus getInFlightStatus();
+}
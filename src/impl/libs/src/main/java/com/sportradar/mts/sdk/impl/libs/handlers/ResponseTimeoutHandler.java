@@ -5,6 +5,7 @@
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.sportradar.mts.sdk.api.SdkTicket;
+import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 import com.sportradar.mts.sdk.api.interfaces.TicketResponseTimeoutListener;
 
 /**
@@ -13,9 +14,14 @@ import com.sportradar.mts.sdk.api.interfaces.TicketResponseTimeoutListener;
 public interface ResponseTimeoutHandler<T extends SdkTicket> {
     void setResponseTimeoutListener(TicketResponseTimeoutListener<T> responseTimeoutListener);
 
-    void onAsyncTicketSent(T ticket);
-
-    void onAsyncTicketResponseReceived(String correlationId);
-
-    void onAsyncPublishFailure(String correlationId);
+    /**
+     * Schedules the response timeout of the registered message; once it is reached the entry is evicted from the
+     * registry and its waiter is completed exceptionally with a {@link ResponseTimeoutException} or, if there is no
+     * waiter, the timeout listener is notified. The timeout is cancelled when the entry is removed from the registry.
+     * The waiter is completed on the timer thread, so only cheap stages may be attached to it directly
+     *
+     * @param registry the registry holding the entry
+     * @param entry the entry of the sent message
+     */
+    void scheduleTimeout(InFlightRegistry<T> registry, InFlightRegistry.Entry<T> entry);
 }
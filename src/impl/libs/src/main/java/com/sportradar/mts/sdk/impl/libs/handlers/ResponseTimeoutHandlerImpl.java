@@ -5,52 +5,46 @@
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.*;
 import com.sportradar.mts.sdk.api.SdkTicket;
-import com.sportradar.mts.sdk.api.Ticket;
+import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 import com.sportradar.mts.sdk.api.interfaces.TicketResponseTimeoutListener;
+import com.sportradar.mts.sdk.impl.libs.threading.HashedWheelTimer;
+import com.sportradar.mts.sdk.impl.libs.threading.LaneExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
- * An utility class used to handle ticket response time-outs if they are enabled
+ * An utility class used to handle ticket response time-outs; the time-outs of the {@link InFlightRegistry} entries are
+ * scheduled on a {@link HashedWheelTimer} and cancelled when the entry is removed, the expired ones are dispatched on
+ * the executor
  */
-public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements RemovalListener<String, T>, ResponseTimeoutHandler<T> {
+public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements ResponseTimeoutHandler<T> {
     private static final Logger logger = LoggerFactory.getLogger(ResponseTimeoutHandlerImpl.class);
 
-    private final ScheduledExecutorService executorService;
-    private final Cache<String, T> responseTimeoutMonitoringCache1;
-    private final Cache<String, T> responseTimeoutMonitoringCache2;
+    private final HashedWheelTimer timer;
+    private final ExecutorService executorService;
     private final boolean ticketTimeOutCallbackEnabled;
+    private final int responseTimeout1;
+    private final int responseTimeout2;
 
     private TicketResponseTimeoutListener<T> responseTimeoutListener;
 
-    public ResponseTimeoutHandlerImpl(ScheduledExecutorService executorService,
+    public ResponseTimeoutHandlerImpl(HashedWheelTimer timer,
+                                      ExecutorService executorService,
                                       int responseTimeout1,
                                       int responseTimeout2,
                                       boolean ticketTimeOutCallbackEnabled) {
+        Preconditions.checkNotNull(timer);
         Preconditions.checkNotNull(executorService);
 
-        this.ticketTimeOutCallbackEnabled = ticketTimeOutCallbackEnabled;
-
+        this.timer = timer;
         this.executorService = executorService;
-
-        responseTimeoutMonitoringCache1 = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout1, TimeUnit.MILLISECONDS)
-                .removalListener(this)
-                .build();
-        responseTimeoutMonitoringCache2 = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout2, TimeUnit.MILLISECONDS)
-                .removalListener(this)
-                .build();
-
-        if (this.ticketTimeOutCallbackEnabled) {
-            executorService.scheduleAtFixedRate(responseTimeoutMonitoringCache1::cleanUp, 500, 500, TimeUnit.MILLISECONDS);
-            executorService.scheduleAtFixedRate(responseTimeoutMonitoringCache2::cleanUp, 500, 500, TimeUnit.MILLISECONDS);
-        }
+        this.ticketTimeOutCallbackEnabled = ticketTimeOutCallbackEnabled;
+        this.responseTimeout1 = responseTimeout1;
+        this.responseTimeout2 = responseTimeout2;
     }
 
     @Override
@@ -65,58 +59,33 @@ public class ResponseTimeoutHandlerImpl<T extends SdkTicket> implements RemovalL
     }
 
     @Override
-    public void onAsyncTicketSent(T ticket) {
-        Preconditions.checkNotNull(ticket);
-
-        if (!ticketTimeOutCallbackEnabled) {
-            return;
-        }
-
-        if(ticket instanceof Ticket && ((Ticket) ticket).getSelections().stream().anyMatch(a->a.getId().contains("lcoo"))){
-            responseTimeoutMonitoringCache2.put(ticket.getCorrelationId(), ticket);
-            return;
-        }
-        responseTimeoutMonitoringCache1.put(ticket.getCorrelationId(), ticket);
+    public void scheduleTimeout(InFlightRegistry<T> registry, InFlightRegistry.Entry<T> entry) {
+        Preconditions.checkNotNull(registry);
+        Preconditions.checkNotNull(entry);
+
+        T ticket = entry.getMessage();
+        entry.setTimeout(timer.newTimeout(() -> {
+            if (!registry.evict(entry)) {
+                return;
+            }
+            if (entry.hasWaiter()) {
+                String error = String.format("Timeout reached. Missing response for ticket %s with correlationId=%s", ticket.getTicketId(), ticket.getCorrelationId());
+                entry.completeExceptionally(new ResponseTimeoutException(error));
+            } else if (ticketTimeOutCallbackEnabled) {
+                handleTicketResponseTimedOut(ticket);
+            }
+        }, getResponseTimeout(ticket), TimeUnit.MILLISECONDS));
     }
 
-    @Override
-    public void onAsyncTicketResponseReceived(String correlationId) {
-        Preconditions.checkNotNull(correlationId);
-
-        if (!ticketTimeOutCallbackEnabled) {
-            return;
-        }
-
-        responseTimeoutMonitoringCache1.invalidate(correlationId);
-        responseTimeoutMonitoringCache2.invalidate(correlationId);
-    }
-
-    @Override
-    public void onAsyncPublishFailure(String correlationId) {
-        if (!ticketTimeOutCallbackEnabled) {
-            return;
-        }
-
-        responseTimeoutMonitoringCache1.invalidate(correlationId);
-        responseTimeoutMonitoringCache2.invalidate(correlationId);
-    }
-
-    @Override
-    public void onRemoval(RemovalNotification<String, T> notification) {
-        if (notification.getCause() == RemovalCause.EXPIRED) {
-            handleTicketResponseTimedOut(notification.getValue());
-        }
+    private int getResponseTimeout(T ticket) {
+        return TicketHandlerImpl.isTicketPrematch(ticket) ? responseTimeout2 : responseTimeout1;
     }
 
     private void handleTicketResponseTimedOut(T ticket) {
-        if (!ticketTimeOutCallbackEnabled) {
-            return;
-        }
-
         logger.info("Ticket[{}] response timed-out - dispatching onTicketResponseTimedOut. ticketId: {}, correlationId: {}", ticket.getClass().getSimpleName(), ticket.getTicketId(), ticket.getCorrelationId());
 
         if (responseTimeoutListener != null) {
-            executorService.submit(() -> {
+            LaneExecutor.submit(executorService, ticket.getTicketId(), () -> {
                 try {
                     responseTimeoutListener.onTicketResponseTimedOut(ticket);
                 } catch (Exception e) {
@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.handlers;
+
+/**
+ * The priority of the messages when the {@link SendRateLimiter} is saturated; waiting messages with a higher priority
+ * are admitted first
+ */
+public enum SendPriority {
+    /**
+     * Messages changing the state of already accepted tickets (cancels, cashouts, acknowledgments)
+     */
+    HIGH,
+    /**
+     * New tickets and other messages
+     */
+    NORMAL
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.handlers;
+
+import com.sportradar.mts.sdk.api.exceptions.RateLimitExceededException;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Token bucket limiting the rate of the messages sent by all the senders; up to one second of unused permits is
+ * stored for bursts. When there are no permits, the callers wait ordered by their {@link SendPriority} (a waiting
+ * caller with a higher priority is always admitted first) and are rejected if no permit is available before their
+ * deadline
+ */
+public class SendRateLimiter {
+
+    private final double permitsPerNano;
+    private final double maxPermits;
+    private final long admissionTimeoutMillis;
+    private final int[] waiting = new int[SendPriority.values().length];
+    private double storedPermits;
+    private long lastRefillNanos;
+
+    /**
+     * Initializes a new instance of the {@link SendRateLimiter} waiting for a permit without a limit
+     *
+     * @param permitsPerSecond - the number of messages per second
+     */
+    public SendRateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, Long.MAX_VALUE);
+    }
+
+    /**
+     * Initializes a new instance of the {@link SendRateLimiter}
+     *
+     * @param permitsPerSecond - the number of messages per second
+     * @param admissionTimeoutMillis - how long {@link #acquire(SendPriority)} waits for a permit
+     */
+    public SendRateLimiter(double permitsPerSecond, long admissionTimeoutMillis) {
+        checkArgument(permitsPerSecond > 0, "permitsPerSecond must be greater than 0");
+        checkArgument(admissionTimeoutMillis >= 0, "admissionTimeoutMillis must not be negative");
+
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.maxPermits = Math.max(1d, permitsPerSecond);
+        this.admissionTimeoutMillis = admissionTimeoutMillis;
+        this.storedPermits = maxPermits;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Waits for a permit at most the configured admission timeout
+     *
+     * @param priority - the priority of the message
+     * @throws RateLimitExceededException if the permit was not acquired in time
+     */
+    public void acquire(SendPriority priority) {
+        if (!tryAcquire(priority, admissionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new RateLimitExceededException("Send rate limit exceeded, message not admitted within " + admissionTimeoutMillis + " ms");
+        }
+    }
+
+    /**
+     * Acquires a permit if one is available without waiting
+     *
+     * @param priority - the priority of the message
+     * @return true if the permit was acquired
+     */
+    public boolean tryAcquire(SendPriority priority) {
+        return tryAcquire(priority, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Waits for a permit till the timeout elapses; the caller is rejected right away if no permit can become
+     * available before the timeout
+     *
+     * @param priority - the priority of the message
+     * @param timeout - the max time to wait
+     * @param unit - the unit of the timeout
+     * @return true if the permit was acquired
+     */
+    public boolean tryAcquire(SendPriority priority, long timeout, TimeUnit unit) {
+        return tryAcquireUpTo(priority, 1, timeout, unit) == 1;
+    }
+
+    /**
+     * Waits at most the configured admission timeout for at least one permit and takes as many of the available
+     * permits as requested, so a batch of messages is admitted with a single reservation
+     *
+     * @param priority - the priority of the messages
+     * @param maxPermits - the max number of permits to be acquired
+     * @return the number of acquired permits, at least 1
+     * @throws RateLimitExceededException if no permit was acquired in time
+     */
+    public int acquireUpTo(SendPriority priority, int maxPermits) {
+        int acquired = tryAcquireUpTo(priority, maxPermits, admissionTimeoutMillis, TimeUnit.MILLISECONDS);
+        if (acquired == 0) {
+            throw new RateLimitExceededException("Send rate limit exceeded, messages not admitted within " + admissionTimeoutMillis + " ms");
+        }
+        return acquired;
+    }
+
+    /**
+     * Waits for at least one permit till the timeout elapses and takes as many of the available permits as requested;
+     * the caller is rejected right away if no permit can become available before the timeout
+     *
+     * @param priority - the priority of the messages
+     * @param maxPermits - the max number of permits to be acquired
+     * @param timeout - the max time to wait
+     * @param unit - the unit of the timeout
+     * @return the number of acquired permits or 0 if none was acquired
+     */
+    public synchronized int tryAcquireUpTo(SendPriority priority, int maxPermits, long timeout, TimeUnit unit) {
+        checkNotNull(priority, "priority cannot be null");
+        checkArgument(maxPermits > 0, "maxPermits must be greater than 0");
+
+        long now = System.nanoTime();
+        long timeoutNanos = unit.toNanos(timeout);
+        long deadline = now + timeoutNanos < now ? Long.MAX_VALUE : now + timeoutNanos;
+        int level = priority.ordinal();
+        waiting[level]++;
+        try {
+            while (true) {
+                refill(now);
+                boolean permitAvailable = storedPermits >= 1d;
+                if (permitAvailable && !isHigherPriorityWaiting(level)) {
+                    int acquired = (int) Math.min(maxPermits, Math.floor(storedPermits));
+                    storedPermits -= acquired;
+                    return acquired;
+                }
+                long remaining = deadline - now;
+                long nanosToPermit = permitAvailable ? 0L : (long) Math.ceil((1d - storedPermits) / permitsPerNano);
+                if (remaining <= 0L || nanosToPermit > remaining) {
+                    return 0;
+                }
+                // woken up when a caller leaves; waits for the next permit otherwise
+                TimeUnit.NANOSECONDS.timedWait(this, permitAvailable ? remaining : nanosToPermit);
+                now = System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            waiting[level]--;
+            notifyAll();
+        }
+    }
+
+    private boolean isHigherPriorityWaiting(int level) {
+        for (int i = 0; i < level; i++) {
+            if (waiting[i] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void refill(long now) {
+        if (now > lastRefillNanos) {
+            storedPermits = Math.min(maxPermits, storedPermits + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -4,47 +4,100 @@
 
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
-import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.base.Throwables;
 import com.sportradar.mts.sdk.api.SdkTicket;
+import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
+import com.sportradar.mts.sdk.api.exceptions.RateLimitExceededException;
+import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
+import com.sportradar.mts.sdk.api.impl.SerializedMessage;
+import com.sportradar.mts.sdk.api.interfaces.InFlightStatus;
 import com.sportradar.mts.sdk.api.interfaces.MessageSender;
 import com.sportradar.mts.sdk.api.interfaces.PublishResultListener;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
+import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpMessage;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublishResultListener;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.LaneExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-public abstract class SenderBase<T extends SdkTicket> implements MessageSender {
+public abstract class SenderBase<T extends SdkTicket> implements MessageSender, InFlightStatusProvider {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final Object stateLock = new Object();
     private final SdkLogger sdkLogger;
     private final AmqpPublisher amqpPublisher;
-    private final ExecutorService executorService;
-    private final Map<String, T> messages;
-    private final RateLimiter rateLimiter;
+    private final ExecutorService responseExecutor;
+    private final ExecutorService publishResultExecutor;
+    private final InFlightRegistry<T> inFlightRegistry;
+    private final SendRateLimiter rateLimiter;
+    private volatile PublishResultListener<T> publishResultListener;
     private boolean opened;
 
     protected SenderBase(AmqpPublisher amqpPublisher,
                          ExecutorService executorService,
+                         int maxInFlightRequests,
                          double messagesPerSecond,
                          SdkLogger sdkLogger) {
+        this(amqpPublisher, executorService, executorService, maxInFlightRequests, new SendRateLimiter(messagesPerSecond), sdkLogger);
+    }
+
+    /**
+     * Constructs the sender admitting the messages through the provided rate limiter, which may be shared with the
+     * other senders
+     */
+    protected SenderBase(AmqpPublisher amqpPublisher,
+                         ExecutorService executorService,
+                         int maxInFlightRequests,
+                         SendRateLimiter rateLimiter,
+                         SdkLogger sdkLogger) {
+        this(amqpPublisher, executorService, executorService, maxInFlightRequests, rateLimiter, sdkLogger);
+    }
+
+    /**
+     * Constructs the sender dispatching the responses and the publish results on separate executors; when the executor
+     * is a {@link LaneExecutor}, the callbacks for the same ticket are dispatched in order. The messages are admitted
+     * through the provided rate limiter, which may be shared with the other senders
+     */
+    protected SenderBase(AmqpPublisher amqpPublisher,
+                         ExecutorService responseExecutor,
+                         ExecutorService publishResultExecutor,
+                         int maxInFlightRequests,
+                         SendRateLimiter rateLimiter,
+                         SdkLogger sdkLogger) {
         checkNotNull(amqpPublisher, "amqpPublisher cannot be null");
-        checkNotNull(executorService, "executorService cannot be null");
+        checkNotNull(responseExecutor, "responseExecutor cannot be null");
+        checkNotNull(publishResultExecutor, "publishResultExecutor cannot be null");
+        checkNotNull(rateLimiter, "rateLimiter cannot be null");
         checkNotNull(sdkLogger, "sdkLogger cannot be null");
         this.amqpPublisher = amqpPublisher;
-        this.executorService = executorService;
+        this.responseExecutor = responseExecutor;
+        this.publishResultExecutor = publishResultExecutor;
         this.sdkLogger = sdkLogger;
-        this.messages = new HashMap<>();
-        this.rateLimiter = RateLimiter.create(messagesPerSecond);
+        this.inFlightRegistry = new InFlightRegistry<>(this.getClass().getSimpleName(), maxInFlightRequests);
+        this.rateLimiter = rateLimiter;
+        amqpPublisher.setListener(new AmqpPublishResultListener() {
+            @Override
+            public void publishSuccess(String correlationId) {
+                onPublishSuccess(correlationId);
+            }
+
+            @Override
+            public void publishFailure(String correlationId) {
+                onPublishFailure(correlationId);
+            }
+        });
     }
 
     @Override
@@ -61,6 +114,7 @@ public abstract class SenderBase<T extends SdkTicket> implements MessageSender {
             amqpPublisher.close();
             opened = false;
         }
+        logger.info("closed with {}", inFlightRegistry);
     }
 
     @Override
@@ -72,73 +126,352 @@ public abstract class SenderBase<T extends SdkTicket> implements MessageSender {
         publishAsync(message, routingKey, routingKey);
     }
 
+    /**
+     * Publishes a message which is not answered with a response; it is tracked till its publish result only if there
+     * is a listener for it
+     *
+     * @param message the message to be published
+     * @param routingKey the routing key used to publish the message
+     * @param replyRoutingKey the routing key sent in the message headers
+     */
     protected void publishAsync(T message, String routingKey, String replyRoutingKey) {
-        rateLimiter.acquire();
+        InFlightRegistry.Entry<T> entry = publishResultListener == null ? null : inFlightRegistry.register(message, null, false);
+        publish(message, routingKey, replyRoutingKey, entry, true);
+    }
+
+    /**
+     * Publishes a message registered with {@link #registerForResponse(SdkTicket, CompletableFuture, ResponseTimeoutHandler)}
+     *
+     * @param entry the in-flight entry of the message
+     * @param routingKey the routing key used to publish the message
+     * @param replyRoutingKey the routing key used to receive the response
+     */
+    protected void publishAsync(InFlightRegistry.Entry<T> entry, String routingKey, String replyRoutingKey) {
+        publish(entry.getMessage(), routingKey, replyRoutingKey, entry, true);
+    }
+
+    /**
+     * Registers and publishes a message which is answered with a response; a message which could not be registered
+     * or published is reported by the returned future, so this method does not throw
+     *
+     * @param message the message to be published
+     * @param timeoutHandler the handler scheduling the response timeout
+     * @param routingKey the routing key used to publish the message
+     * @param replyRoutingKey the routing key used to receive the response
+     * @param waitForPermit whether to wait for a permit of the rate limiter; if false the message is rejected with
+     *                      {@link RateLimitExceededException} when no permit is available right away
+     * @param <R> the type of the response
+     * @return the future completed with the response
+     */
+    protected <R> CompletableFuture<R> publishForResponse(T message,
+                                                          ResponseTimeoutHandler<T> timeoutHandler,
+                                                          String routingKey,
+                                                          String replyRoutingKey,
+                                                          boolean waitForPermit) {
+        CompletableFuture<R> responseFuture = new CompletableFuture<>();
+        try {
+            InFlightRegistry.Entry<T> entry = registerForResponse(message, responseFuture, timeoutHandler);
+            publish(message, routingKey, replyRoutingKey, entry, waitForPermit);
+        } catch (RuntimeException e) {
+            responseFuture.completeExceptionally(e);
+        }
+        return responseFuture;
+    }
+
+    /**
+     * Registers a message which is answered with a response, before it is published; the entry is kept till the
+     * response is received, the publishing fails or the response timeout is reached
+     *
+     * @param message the message to be published
+     * @param waiter the future completed with the response or <code>null</code> if the response is dispatched to the listener
+     * @param timeoutHandler the handler scheduling the response timeout
+     * @return the registered entry
+     */
+    protected InFlightRegistry.Entry<T> registerForResponse(T message, CompletableFuture<?> waiter, ResponseTimeoutHandler<T> timeoutHandler) {
+        InFlightRegistry.Entry<T> entry = inFlightRegistry.register(message, waiter, true);
+        timeoutHandler.scheduleTimeout(inFlightRegistry, entry);
+        return entry;
+    }
+
+    /**
+     * Publishes a batch of messages which are not answered with a response; they are tracked till their publish
+     * result only if there is a listener for them
+     *
+     * @param messages the messages to be published
+     * @param routingKey the routing key used to publish the messages
+     * @throws RateLimitExceededException if some of the messages were not admitted by the rate limiter
+     * @throws MtsSdkProcessException if some of the messages could not be registered, none of them is published then
+     */
+    protected void publishAllAsync(Collection<T> messages, String routingKey) {
+        List<T> batch = new ArrayList<>(messages);
+        List<InFlightRegistry.Entry<T>> entries = new ArrayList<>(batch.size());
+        try {
+            for (T message : batch) {
+                entries.add(publishResultListener == null ? null : inFlightRegistry.register(message, null, false));
+            }
+        } catch (RuntimeException e) {
+            // nothing of the batch is published, so the entries registered so far would never be removed
+            for (InFlightRegistry.Entry<T> entry : entries) {
+                if (entry != null) {
+                    inFlightRegistry.remove(entry);
+                }
+            }
+            throw e;
+        }
+        publishAll(batch, entries, routingKey, routingKey);
+    }
+
+    /**
+     * Registers and publishes a batch of messages which are answered with responses. A message which could not be
+     * registered or published is reported by its future, the others are published even if some of them fail
+     *
+     * @param messages the messages to be published
+     * @param timeoutHandler the handler scheduling the response timeouts
+     * @param routingKey the routing key used to publish the messages
+     * @param replyRoutingKey the routing key used to receive the responses
+     * @param <R> the type of the responses
+     * @return the futures completed with the responses, in the order of the messages
+     */
+    protected <R> List<CompletableFuture<R>> publishAllForResponse(Collection<T> messages,
+                                                                   ResponseTimeoutHandler<T> timeoutHandler,
+                                                                   String routingKey,
+                                                                   String replyRoutingKey) {
+        List<CompletableFuture<R>> responseFutures = new ArrayList<>(messages.size());
+        List<T> batch = new ArrayList<>(messages.size());
+        List<InFlightRegistry.Entry<T>> entries = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            CompletableFuture<R> responseFuture = new CompletableFuture<>();
+            responseFutures.add(responseFuture);
+            try {
+                entries.add(registerForResponse(message, responseFuture, timeoutHandler));
+                batch.add(message);
+            } catch (RuntimeException e) {
+                responseFuture.completeExceptionally(e);
+            }
+        }
+        try {
+            publishAll(batch, entries, routingKey, replyRoutingKey);
+        } catch (RuntimeException e) {
+            logger.warn("{} of {} messages were not published: {}", countFailed(responseFutures), messages.size(), e.getMessage());
+        }
+        return responseFutures;
+    }
+
+    /**
+     * Serializes the messages in parallel and publishes them in chunks of the permits acquired from the rate limiter
+     * at once; if publishing fails, the entries of the unpublished messages are removed and completed exceptionally
+     */
+    private void publishAll(List<T> messages, List<InFlightRegistry.Entry<T>> entries, String routingKey, String replyRoutingKey) {
+        List<byte[]> serialized = messages.parallelStream().map(SerializedMessage::jsonBytesOf).collect(Collectors.toList());
+        int published = 0;
+        try {
+            while (published < messages.size()) {
+                int permits = rateLimiter.acquireUpTo(getSendPriority(), messages.size() - published);
+                List<AmqpMessage> chunk = new ArrayList<>(permits);
+                for (int i = published; i < published + permits; i++) {
+                    T message = messages.get(i);
+                    logger.trace("PUBLISH ticket:{}, correlationId:{}, routingKey:{}, replyRoutingKey:{}",
+                            message.getTicketId(),
+                            message.getCorrelationId(),
+                            routingKey,
+                            replyRoutingKey);
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("PUBLISH {}", getSerializedDto(message));
+                    }
+                    getSdkLogger().logSendMessage(serialized.get(i));
+                    if (StringUtils.isNullOrEmpty(message.getCorrelationId())) {
+                        logger.warn("Ticket {} is missing correlationId", message.getTicketId());
+                    }
+                    chunk.add(new AmqpMessage(message.getCorrelationId(), message.getTicketId(), serialized.get(i)));
+                }
+                amqpPublisher.publishAllAsync(chunk, routingKey, replyRoutingKey);
+                published += permits;
+            }
+        } catch (RuntimeException e) {
+            for (int i = published; i < entries.size(); i++) {
+                InFlightRegistry.Entry<T> entry = entries.get(i);
+                if (entry != null) {
+                    inFlightRegistry.remove(entry);
+                    entry.completeExceptionally(e);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private static int countFailed(List<? extends CompletableFuture<?>> futures) {
+        int count = 0;
+        for (CompletableFuture<?> future : futures) {
+            if (future.isCompletedExceptionally()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void publish(T message, String routingKey, String replyRoutingKey, InFlightRegistry.Entry<T> entry, boolean waitForPermit) {
+        try {
+            if (waitForPermit) {
+                rateLimiter.acquire(getSendPriority());
+            } else if (!rateLimiter.tryAcquire(getSendPriority())) {
+                throw new RateLimitExceededException("Send rate limit exceeded, message not admitted without waiting");
+            }
+        } catch (RateLimitExceededException e) {
+            logger.warn("ticket {} not sent, {}", message.getTicketId(), e.getMessage());
+            if (entry != null) {
+                inFlightRegistry.remove(entry);
+            }
+            throw e;
+        }
         logger.trace("PUBLISH ticket:{}, correlationId:{}, routingKey:{}, replyRoutingKey:{}",
                 message.getTicketId(),
                 message.getCorrelationId(),
                 routingKey,
                 replyRoutingKey);
-        logger.trace("PUBLISH {}", message.getJsonValue());
-        String msgString = getSerializedDto(message);
-        getSdkLogger().logSendMessage(msgString);
+        byte[] msgBytes = SerializedMessage.jsonBytesOf(message);
+        if (logger.isTraceEnabled()) {
+            logger.trace("PUBLISH {}", getSerializedDto(message));
+        }
+        getSdkLogger().logSendMessage(msgBytes);
         if(StringUtils.isNullOrEmpty(message.getCorrelationId()))
         {
             logger.warn("Ticket {} is missing correlationId", message.getTicketId());
         }
-        messages.put(message.getCorrelationId(), message);
-        amqpPublisher.publishAsync(message.getTicketId(),
-                                   msgString.getBytes(StandardCharsets.UTF_8),
-                                   message.getCorrelationId(),
-                                   routingKey,
-                                   replyRoutingKey);
+        try {
+            amqpPublisher.publishAsync(message.getTicketId(),
+                                       msgBytes,
+                                       message.getCorrelationId(),
+                                       routingKey,
+                                       replyRoutingKey);
+        } catch (RuntimeException e) {
+            if (entry != null) {
+                inFlightRegistry.remove(entry);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the response future; the future is completed exceptionally by the {@link ResponseTimeoutHandler}
+     * once the response timeout is reached
+     *
+     * @param responseFuture the future completed when the response is received
+     * @param <R> the type of the response
+     * @return the received response
+     * @throws ResponseTimeoutException if the response timeout was reached
+     */
+    protected <R> R awaitResponse(CompletableFuture<R> responseFuture) throws ResponseTimeoutException {
+        try {
+            return responseFuture.get();
+        } catch (InterruptedException e) {
+            logger.warn("interrupted waiting for response, throwing timeout");
+            Thread.currentThread().interrupt();
+            responseFuture.cancel(false);
+            throw new ResponseTimeoutException("Timeout reached. Interrupted while waiting for the response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ResponseTimeoutException) {
+                throw (ResponseTimeoutException) cause;
+            }
+            Throwables.throwIfUnchecked(cause);
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Returns a future which is completed on the response executor once the response future is completed, so the stages the
+     * caller attaches to it never run on the thread receiving the responses or on the response timeout timer
+     *
+     * @param responseFuture the future completed when the response is received
+     * @param <R> the type of the response
+     * @return the future to be returned to the caller
+     */
+    protected <R> CompletableFuture<R> dispatchOnExecutor(CompletableFuture<R> responseFuture) {
+        return responseFuture.whenCompleteAsync((response, throwable) -> { }, responseExecutor);
+    }
+
+    /**
+     * Dispatches the call of the response listener on the response executor
+     *
+     * @param ticketId the id of the ticket the response is for
+     * @param task the call of the listener
+     */
+    protected void dispatchResponse(String ticketId, Runnable task) {
+        LaneExecutor.submit(responseExecutor, ticketId, task);
     }
 
     protected abstract String getSerializedDto(T message);
 
+    /**
+     * Gets the priority of the messages of this sender when the rate limit is reached
+     *
+     * @return the {@link SendPriority} of the messages
+     */
+    protected SendPriority getSendPriority() {
+        return SendPriority.NORMAL;
+    }
+
     protected SdkLogger getSdkLogger() {
         return sdkLogger;
     }
 
-    protected void setPublishListener(PublishResultListener<T> publishResultListener) {
-        amqpPublisher.setListener(new AmqpPublishResultListener() {
-            @Override
-            public void publishSuccess(String correlationId) {
-                executorService.submit(() -> {
-                    T message = getMessage(correlationId);
-                    if (message == null) {
-                        return;
-                    }
-                    messages.remove(correlationId);
-                    publishResultListener.publishSuccess(message);
-                });
-            }
+    protected InFlightRegistry<T> getInFlightRegistry() {
+        return inFlightRegistry;
+    }
 
-            @Override
-            public void publishFailure(String correlationId) {
-                onPublishFailure(correlationId);
+    @Override
+    public InFlightStatus getInFlightStatus() {
+        return inFlightRegistry;
+    }
 
-                executorService.submit(() -> {
-                    T message = getMessage(correlationId);
-                    if (message == null) {
-                        return;
-                    }
-                    messages.remove(correlationId);
-                    publishResultListener.publishFailure(message);
-                });
+    protected void setPublishListener(PublishResultListener<T> publishResultListener) {
+        this.publishResultListener = publishResultListener;
+    }
+
+    /**
+     * Waits till no caller waits for a response any more, i.e. till all of them got the response or timed out
+     *
+     * @param messageType the name of the messages used in the log
+     */
+    protected void awaitPendingResponses(String messageType) {
+        if (inFlightRegistry.getWaitingCount() == 0) {
+            return;
+        }
+        logger.info("there are still {} responses pending, will wait till completion or timeout", messageType);
+        while (inFlightRegistry.getWaitingCount() > 0) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                logger.error("interrupted waiting to get/timeout all {} responses", messageType);
+                Thread.currentThread().interrupt();
+                return;
             }
-        });
+        }
     }
 
-    private T getMessage(String correlationId) {
-        T message = messages.get(correlationId);
-        if (message == null) {
-            logger.error("no message for correlation id:{} was found", correlationId);
+    private void onPublishSuccess(String correlationId) {
+        InFlightRegistry.Entry<T> entry = inFlightRegistry.get(correlationId);
+        if (entry != null && !entry.isAwaitingResponse()) {
+            inFlightRegistry.remove(entry);
+        }
+        PublishResultListener<T> listener = publishResultListener;
+        if (entry == null || listener == null) {
+            return;
         }
-        return message;
+        LaneExecutor.submit(publishResultExecutor, entry.getMessage().getTicketId(), () -> listener.publishSuccess(entry.getMessage()));
     }
 
-    protected void onPublishFailure(String correlationId) {
-        // NO-OP - default
+    private void onPublishFailure(String correlationId) {
+        InFlightRegistry.Entry<T> entry = inFlightRegistry.remove(correlationId);
+        if (entry == null) {
+            logger.error("no message for correlation id:{} was found", correlationId);
+            return;
+        }
+        entry.completeExceptionally(new MtsSdkProcessException("Publishing of " + entry.getMessage().getTicketId() + " with correlationId=" + correlationId + " failed"));
+        PublishResultListener<T> listener = publishResultListener;
+        if (listener == null) {
+            return;
+        }
+        LaneExecutor.submit(publishResultExecutor, entry.getMessage().getTicketId(), () -> listener.publishFailure(entry.getMessage()));
     }
 }
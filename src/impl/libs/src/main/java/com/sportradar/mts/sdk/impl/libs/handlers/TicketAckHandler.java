@@ -7,7 +7,7 @@ package com.sportradar.mts.sdk.impl.libs.handlers;
 import com.sportradar.mts.sdk.api.interfaces.TicketAckResponseListener;
 import com.sportradar.mts.sdk.api.interfaces.TicketAckSender;
 
-public interface TicketAckHandler extends TicketAckSender {
+public interface TicketAckHandler extends TicketAckSender, InFlightStatusProvider {
 
     void setListener(TicketAckResponseListener responseListener);
 }
@@ -10,6 +10,7 @@ import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 
+import java.util.Collection;
 import java.util.concurrent.ExecutorService;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -22,9 +23,19 @@ public class TicketAckHandlerImpl extends SenderBase<TicketAck> implements Ticke
     public TicketAckHandlerImpl(AmqpPublisher amqpPublisher,
                                 String routingKey,
                                 ExecutorService executorService,
+                                int maxInFlightRequests,
                                 double messagesPerSecond,
                                 SdkLogger sdkLogger) {
-        super(amqpPublisher, executorService, messagesPerSecond, sdkLogger);
+        this(amqpPublisher, routingKey, executorService, maxInFlightRequests, new SendRateLimiter(messagesPerSecond), sdkLogger);
+    }
+
+    public TicketAckHandlerImpl(AmqpPublisher amqpPublisher,
+                                String routingKey,
+                                ExecutorService executorService,
+                                int maxInFlightRequests,
+                                SendRateLimiter rateLimiter,
+                                SdkLogger sdkLogger) {
+        super(amqpPublisher, executorService, maxInFlightRequests, rateLimiter, sdkLogger);
         this.routingKey = routingKey == null ? "ack.ticket" : routingKey;
     }
 
@@ -35,6 +46,14 @@ public class TicketAckHandlerImpl extends SenderBase<TicketAck> implements Ticke
         publishAsync(ticketAcknowledgment, routingKey);
     }
 
+    @Override
+    public void sendAll(Collection<TicketAck> ticketAcknowledgments) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticketAcknowledgments, "ticketAcknowledgments cannot be null");
+        ticketAcknowledgments.forEach(message -> checkNotNull(message, "TicketAcknowledgment cannot be null"));
+        publishAllAsync(ticketAcknowledgments, routingKey);
+    }
+
     @Override
     public void setListener(TicketAckResponseListener responseListener) {
         setPublishListener(responseListener);
@@ -44,4 +63,9 @@ public class TicketAckHandlerImpl extends SenderBase<TicketAck> implements Ticke
     protected String getSerializedDto(TicketAck message){
         return message.getJsonValue();
     }
+
+    @Override
+    protected SendPriority getSendPriority() {
+        return SendPriority.HIGH;
+    }
 }
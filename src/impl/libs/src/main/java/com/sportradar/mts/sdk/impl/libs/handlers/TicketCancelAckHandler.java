@@ -7,7 +7,7 @@ package com.sportradar.mts.sdk.impl.libs.handlers;
 import com.sportradar.mts.sdk.api.interfaces.TicketCancelAckResponseListener;
 import com.sportradar.mts.sdk.api.interfaces.TicketCancelAckSender;
 
-public interface TicketCancelAckHandler extends TicketCancelAckSender {
+public interface TicketCancelAckHandler extends TicketCancelAckSender, InFlightStatusProvider {
 
     void setListener(TicketCancelAckResponseListener responseListener);
 }
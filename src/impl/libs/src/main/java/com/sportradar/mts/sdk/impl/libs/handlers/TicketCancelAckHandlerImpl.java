@@ -10,6 +10,7 @@ import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 
+import java.util.Collection;
 import java.util.concurrent.ExecutorService;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -22,9 +23,19 @@ public class TicketCancelAckHandlerImpl extends SenderBase<TicketCancelAck> impl
     public TicketCancelAckHandlerImpl(AmqpPublisher amqpPublisher,
                                       String routingKey,
                                       ExecutorService executorService,
+                                      int maxInFlightRequests,
                                       double messagesPerSecond,
                                       SdkLogger sdkLogger) {
-        super(amqpPublisher, executorService, messagesPerSecond, sdkLogger);
+        this(amqpPublisher, routingKey, executorService, maxInFlightRequests, new SendRateLimiter(messagesPerSecond), sdkLogger);
+    }
+
+    public TicketCancelAckHandlerImpl(AmqpPublisher amqpPublisher,
+                                      String routingKey,
+                                      ExecutorService executorService,
+                                      int maxInFlightRequests,
+                                      SendRateLimiter rateLimiter,
+                                      SdkLogger sdkLogger) {
+        super(amqpPublisher, executorService, maxInFlightRequests, rateLimiter, sdkLogger);
         this.routingKey = routingKey == null ? "ack.cancel" : routingKey;
     }
 
@@ -35,6 +46,14 @@ public class TicketCancelAckHandlerImpl extends SenderBase<TicketCancelAck> impl
         publishAsync(ticketCancelAck, routingKey);
     }
 
+    @Override
+    public void sendAll(Collection<TicketCancelAck> ticketCancelAcknowledgments) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticketCancelAcknowledgments, "ticketCancelAcknowledgments cannot be null");
+        ticketCancelAcknowledgments.forEach(message -> checkNotNull(message, "TicketCancelAcknowledgment cannot be null"));
+        publishAllAsync(ticketCancelAcknowledgments, routingKey);
+    }
+
     @Override
     public void setListener(TicketCancelAckResponseListener responseListener) {
         setPublishListener(responseListener);
@@ -44,4 +63,9 @@ public class TicketCancelAckHandlerImpl extends SenderBase<TicketCancelAck> impl
     protected String getSerializedDto(TicketCancelAck message) {
         return message.getJsonValue();
     }
+
+    @Override
+    protected SendPriority getSendPriority() {
+        return SendPriority.HIGH;
+    }
 }
\ No newline at end of file
@@ -8,7 +8,7 @@ import com.sportradar.mts.sdk.api.interfaces.TicketCancelResponseListener;
 import com.sportradar.mts.sdk.api.interfaces.TicketCancelSender;
 import com.sportradar.mts.sdk.impl.libs.receivers.TicketCancelResponseReceiver;
 
-public interface TicketCancelHandler extends TicketCancelSender, TicketCancelResponseReceiver {
+public interface TicketCancelHandler extends TicketCancelSender, TicketCancelResponseReceiver, InFlightStatusProvider {
 
     void setListener(TicketCancelResponseListener responseListener);
 }
@@ -4,23 +4,22 @@
 
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
-import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.sdk.api.TicketCancel;
 import com.sportradar.mts.sdk.api.TicketCancelResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
+import com.sportradar.mts.sdk.api.impl.SerializedMessage;
 import com.sportradar.mts.sdk.api.interfaces.TicketCancelResponseListener;
-import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -29,12 +28,8 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
 
     private static final Logger logger = LoggerFactory.getLogger(TicketCancelHandlerImpl.class);
     private final String routingKey;
-    private final ExecutorService executorService;
     private final ResponseTimeoutHandler<TicketCancel> timeoutHandler;
     private TicketCancelResponseListener ticketCancelResponseListener;
-    private final Cache<String, TicketCancelSendEntry> ticketCancelSendEntries;
-    private final Cache<String, TicketCancelResponse> cancelResponseCache;
-    private final int responseTimeout;
     private final String replyRoutingKey;
 
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
@@ -43,26 +38,33 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
                                    String replyRoutingKey,
                                    ExecutorService executorService,
                                    ResponseTimeoutHandler<TicketCancel> timeoutHandler,
-                                   int responseTimeout,
+                                   int maxInFlightRequests,
                                    double messagesPerSecond,
                                    SdkLogger sdkLogger) {
-        super(amqpPublisher, executorService, messagesPerSecond, sdkLogger);
+        this(amqpPublisher, routingKey, replyRoutingKey, executorService, executorService, timeoutHandler, maxInFlightRequests, new SendRateLimiter(messagesPerSecond), sdkLogger);
+    }
+
+    /**
+     * Constructs the handler dispatching the responses and the publish results on separate executors and admitting
+     * the messages through the provided (possibly shared) rate limiter
+     */
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public TicketCancelHandlerImpl(AmqpPublisher amqpPublisher,
+                                   String routingKey,
+                                   String replyRoutingKey,
+                                   ExecutorService responseExecutor,
+                                   ExecutorService publishResultExecutor,
+                                   ResponseTimeoutHandler<TicketCancel> timeoutHandler,
+                                   int maxInFlightRequests,
+                                   SendRateLimiter rateLimiter,
+                                   SdkLogger sdkLogger) {
+        super(amqpPublisher, responseExecutor, publishResultExecutor, maxInFlightRequests, rateLimiter, sdkLogger);
 
-        checkNotNull(executorService, "executorService cannot be null");
         checkNotNull(timeoutHandler, "timeoutHandler cannot be null");
 
-        this.executorService = executorService;
         this.routingKey = routingKey == null ? "cancel" : routingKey;
         this.replyRoutingKey = replyRoutingKey;
-        this.responseTimeout = responseTimeout;
         this.timeoutHandler = timeoutHandler;
-
-        ticketCancelSendEntries = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout, TimeUnit.MILLISECONDS)
-                .build();
-        cancelResponseCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
     }
 
     @Override
@@ -71,42 +73,38 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
         checkNotNull(ticketCancel, SdkInfo.Literals.TICKET_HANDLER_TICKET_CANCEL_NULL);
         checkNotNull(ticketCancelResponseListener, "no response listener set");
 
-        internalSend(ticketCancel, null);
-
-        timeoutHandler.onAsyncTicketSent(ticketCancel);
+        InFlightRegistry.Entry<TicketCancel> entry = registerForResponse(ticketCancel, null, timeoutHandler);
+        publishAsync(entry, routingKey, replyRoutingKey);
     }
 
-    private void internalSend(TicketCancel ticketCancel, TicketCancelResponseListener responseListener) {
+    @Override
+    public TicketCancelResponse sendBlocking(TicketCancel ticketCancel) throws ResponseTimeoutException {
         checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         checkNotNull(ticketCancel, SdkInfo.Literals.TICKET_HANDLER_TICKET_CANCEL_NULL);
-        String ticketId = ticketCancel.getTicketId();
-        if (responseListener != null) {
-            ticketCancelSendEntries.put(ticketId, new TicketCancelSendEntry(ticketCancel, responseListener, null));
-        }
-        publishAsync(ticketCancel, routingKey, replyRoutingKey);
+
+        return awaitResponse(internalSendAsync(ticketCancel, true));
     }
 
     @Override
-    public TicketCancelResponse sendBlocking(TicketCancel ticketCancel) throws ResponseTimeoutException {
+    public CompletableFuture<TicketCancelResponse> sendAsync(TicketCancel ticketCancel) {
         checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         checkNotNull(ticketCancel, SdkInfo.Literals.TICKET_HANDLER_TICKET_CANCEL_NULL);
-        String ticketId = ticketCancel.getTicketId();
-        Semaphore semaphore = new Semaphore(0);
-        ticketCancelSendEntries.put(ticketId, new TicketCancelSendEntry(ticketCancel, null, semaphore));
-        publishAsync(ticketCancel, routingKey, replyRoutingKey);
-
-        boolean acquire = false;
-        try {
-            acquire = semaphore.tryAcquire(responseTimeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            logger.warn("interrupted waiting for response, throwing timeout");
-            Thread.currentThread().interrupt();
-        }
-        if (!acquire) {
-            String error = String.format("Timeout reached. Missing response for ticketCancel %s with correlationId= %s", ticketCancel.getTicketId(), ticketCancel.getCorrelationId());
-            throw new ResponseTimeoutException(error);
-        }
-        return cancelResponseCache.getIfPresent(ticketId);
+
+        return dispatchOnExecutor(internalSendAsync(ticketCancel, false));
+    }
+
+    @Override
+    public List<CompletableFuture<TicketCancelResponse>> sendAll(Collection<TicketCancel> ticketCancels) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticketCancels, "ticketCancels cannot be null");
+        ticketCancels.forEach(ticketCancel -> checkNotNull(ticketCancel, SdkInfo.Literals.TICKET_HANDLER_TICKET_CANCEL_NULL));
+
+        List<CompletableFuture<TicketCancelResponse>> responseFutures = publishAllForResponse(ticketCancels, timeoutHandler, routingKey, replyRoutingKey);
+        return responseFutures.stream().map(this::dispatchOnExecutor).collect(Collectors.toList());
+    }
+
+    private CompletableFuture<TicketCancelResponse> internalSendAsync(TicketCancel ticketCancel, boolean waitForPermit) {
+        return publishForResponse(ticketCancel, timeoutHandler, routingKey, replyRoutingKey, waitForPermit);
     }
 
     @Override
@@ -121,27 +119,16 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
     public void ticketCancelResponseReceived(TicketCancelResponse ticketCancelResponse) {
 
         checkNotNull(ticketCancelResponse, "ticketCancelResponse cannot be null");
-        getSdkLogger().logReceivedMessage(JsonUtils.serializeAsString(ticketCancelResponse));
-
-        timeoutHandler.onAsyncTicketResponseReceived(ticketCancelResponse.getCorrelationId());
-
-        String ticketId = ticketCancelResponse.getTicketId();
-        cancelResponseCache.put(ticketId, ticketCancelResponse);
-        TicketCancelSendEntry entry = ticketCancelSendEntries.getIfPresent(ticketId);
-        final TicketCancelResponseListener listenerToRespond;
-        if (entry != null) {
-            TicketCancelResponseListener ticketResponseListener = entry.getResponseListener();
-            Semaphore semaphore = entry.getSemaphore();
-            if (semaphore != null) {
-                semaphore.release(1);
-            }
-            ticketCancelSendEntries.invalidate(ticketId);
-            listenerToRespond = ticketResponseListener;
-        } else {
-            listenerToRespond = this.ticketCancelResponseListener;
+        getSdkLogger().logReceivedMessage(SerializedMessage.jsonBytesOf(ticketCancelResponse));
+
+        InFlightRegistry.Entry<TicketCancel> entry = getInFlightRegistry().remove(ticketCancelResponse.getCorrelationId());
+        if (entry != null && entry.hasWaiter()) {
+            entry.complete(ticketCancelResponse);
+            return;
         }
+        final TicketCancelResponseListener listenerToRespond = this.ticketCancelResponseListener;
         if (listenerToRespond != null) {
-            executorService.submit(() -> {
+            dispatchResponse(ticketCancelResponse.getTicketId(), () -> {
                 try {
                     listenerToRespond.responseReceived(ticketCancelResponse);
                 } catch (Exception e) {
@@ -154,19 +141,7 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
     @Override
     public void close() {
         super.close();
-        ticketCancelSendEntries.cleanUp();
-        if (ticketCancelSendEntries.size() > 0) {
-            logger.info("there are still ticketCancel responses pending, will wait till completion or timeout");
-            while (ticketCancelSendEntries.size() > 0) {
-                try {
-                    ticketCancelSendEntries.cleanUp();
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    logger.error("interrupted waiting to get/timeout all ticket cancel responses");
-                    Thread.currentThread().interrupt();
-                }
-            }
-        }
+        awaitPendingResponses("ticketCancel");
     }
 
     @Override
@@ -175,36 +150,7 @@ public class TicketCancelHandlerImpl extends SenderBase<TicketCancel> implements
     }
 
     @Override
-    protected void onPublishFailure(String correlationId) {
-        Preconditions.checkNotNull(correlationId);
-
-        timeoutHandler.onAsyncPublishFailure(correlationId);
-    }
-
-    private final class TicketCancelSendEntry {
-
-        private final TicketCancel ticket;
-        private final TicketCancelResponseListener responseListener;
-        private final Semaphore semaphore;
-
-        public TicketCancelSendEntry(TicketCancel ticket,
-                               TicketCancelResponseListener responseListener,
-                               Semaphore semaphore) {
-            this.ticket = ticket;
-            this.responseListener = responseListener;
-            this.semaphore = semaphore;
-        }
-
-        public TicketCancel getTicket() {
-            return ticket;
-        }
-
-        public Semaphore getSemaphore() {
-            return semaphore;
-        }
-
-        public TicketCancelResponseListener getResponseListener() {
-            return responseListener;
-        }
+    protected SendPriority getSendPriority() {
+        return SendPriority.HIGH;
     }
 }
@@ -11,7 +11,7 @@ import com.sportradar.mts.sdk.impl.libs.receivers.TicketCashoutResponseReceiver;
 /**
  * Handler for the messages of type {@link com.sportradar.mts.sdk.api.TicketCashout}
  */
-public interface TicketCashoutHandler extends TicketCashoutSender, TicketCashoutResponseReceiver {
+public interface TicketCashoutHandler extends TicketCashoutSender, TicketCashoutResponseReceiver, InFlightStatusProvider {
 
     /**
      * The listener that will be called when a message is sent
@@ -5,22 +5,19 @@
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.sdk.api.TicketCashout;
 import com.sportradar.mts.sdk.api.TicketCashoutResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
+import com.sportradar.mts.sdk.api.impl.SerializedMessage;
 import com.sportradar.mts.sdk.api.interfaces.TicketCashoutResponseListener;
-import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -50,31 +47,11 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
      */
     private TicketCashoutResponseListener ticketCashoutResponseListener;
 
-    /**
-     * The executor for dispatching received messages
-     */
-    private final ExecutorService executorService;
-
     /**
      * The async tickets response time-out handler
      */
     private final ResponseTimeoutHandler<TicketCashout> timeoutHandler;
 
-    /**
-     * The max allowed cashout response time used for <code>sendBlocking</code>
-     */
-    private final int responseTimeout;
-
-    /**
-     * The caching used to store send messages that are used to check if the message is <code>sendBlocking</code>
-     */
-    private final Cache<String, TicketCashoutSendEntry> ticketCashoutSendEntryCache;
-
-    /**
-     * The caching used to store response messages so they can be utilized as the return for <code>sendBlocking</code>
-     */
-    private final Cache<String, TicketCashoutResponse> ticketCashoutResponseCache;
-
     /**
      * Initializes a new instance of the {@link TicketCashoutHandlerImpl}
      *
@@ -83,7 +60,7 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
      * @param replyRoutingKey - the routing key used to receive {@link TicketCashoutResponse} messages
      * @param executorService - the {@link ExecutorService} used for async publishing
      * @param timeoutHandler - the {@link TicketCashout} used for handling timeouts
-     * @param responseTimeout - response timeout in milliseconds
+     * @param maxInFlightRequests - the max number of messages waiting for the publish result or response
      * @param messagesPerSecond - the max number of messages/second that should be sent
      * @param sdkLogger - the main SDK logging interface
      */
@@ -93,23 +70,41 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
                                     String replyRoutingKey,
                                     ExecutorService executorService,
                                     ResponseTimeoutHandler<TicketCashout> timeoutHandler,
-                                    int responseTimeout,
+                                    int maxInFlightRequests,
                                     double messagesPerSecond,
                                     SdkLogger sdkLogger) {
-        super(amqpPublisher, executorService, messagesPerSecond, sdkLogger);
+        this(amqpPublisher, routingKey, replyRoutingKey, executorService, executorService, timeoutHandler, maxInFlightRequests, new SendRateLimiter(messagesPerSecond), sdkLogger);
+    }
+
+    /**
+     * Initializes a new instance of the {@link TicketCashoutHandlerImpl} dispatching the responses and the publish
+     * results on separate executors
+     *
+     * @param amqpPublisher - tha {@link AmqpPublisher} that will be used to publish messages
+     * @param routingKey - the routing key used to publish messages
+     * @param replyRoutingKey - the routing key used to receive {@link TicketCashoutResponse} messages
+     * @param responseExecutor - the {@link ExecutorService} used for dispatching the responses
+     * @param publishResultExecutor - the {@link ExecutorService} used for dispatching the publish results
+     * @param timeoutHandler - the {@link TicketCashout} used for handling timeouts
+     * @param maxInFlightRequests - the max number of messages waiting for the publish result or response
+     * @param rateLimiter - the {@link SendRateLimiter} admitting the sent messages
+     * @param sdkLogger - the main SDK logging interface
+     */
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public TicketCashoutHandlerImpl(AmqpPublisher amqpPublisher,
+                                    String routingKey,
+                                    String replyRoutingKey,
+                                    ExecutorService responseExecutor,
+                                    ExecutorService publishResultExecutor,
+                                    ResponseTimeoutHandler<TicketCashout> timeoutHandler,
+                                    int maxInFlightRequests,
+                                    SendRateLimiter rateLimiter,
+                                    SdkLogger sdkLogger) {
+        super(amqpPublisher, responseExecutor, publishResultExecutor, maxInFlightRequests, rateLimiter, sdkLogger);
 
         this.routingKey = routingKey == null ? "ticket.cashout" : routingKey;
         this.replyRoutingKey = replyRoutingKey;
-        this.executorService = executorService;
-        this.responseTimeout = responseTimeout;
         this.timeoutHandler = timeoutHandler;
-
-        ticketCashoutSendEntryCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout, TimeUnit.MILLISECONDS)
-                .build();
-        ticketCashoutResponseCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
     }
 
     /**
@@ -123,9 +118,8 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
         checkNotNull(ticketCashoutData, SdkInfo.Literals.TICKET_HANDLER_TICKET_CASHOUT_NULL);
         checkNotNull(ticketCashoutResponseListener, "no response listener set");
 
-        internalSend(ticketCashoutData);
-
-        timeoutHandler.onAsyncTicketSent(ticketCashoutData);
+        InFlightRegistry.Entry<TicketCashout> entry = registerForResponse(ticketCashoutData, null, timeoutHandler);
+        publishAsync(entry, routingKey, replyRoutingKey);
     }
 
     /**
@@ -140,30 +134,25 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
         Preconditions.checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         Preconditions.checkNotNull(ticketCashout, SdkInfo.Literals.TICKET_HANDLER_TICKET_CASHOUT_NULL);
 
-        String ticketId = ticketCashout.getTicketId();
-        Semaphore semaphore = new Semaphore(0);
-        ticketCashoutSendEntryCache.put(ticketId, new TicketCashoutSendEntry(ticketCashout, semaphore));
-        publishAsync(ticketCashout, routingKey, replyRoutingKey);
-
-        boolean acquire = false;
-        try {
-            acquire = semaphore.tryAcquire(responseTimeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            logger.warn("interrupted waiting for response, throwing timeout");
-            Thread.currentThread().interrupt();
-        }
-        if (!acquire) {
-            String error = String.format("Timeout reached. Missing response for ticketCashout %s with correlationId=%s", ticketCashout.getTicketId(), ticketCashout.getCorrelationId());
-            throw new ResponseTimeoutException(error);
-        }
-        return ticketCashoutResponseCache.getIfPresent(ticketId);
+        return awaitResponse(internalSendAsync(ticketCashout, true));
     }
 
-    private void internalSend(TicketCashout ticketCashout) {
+    /**
+     * Publishes a new {@link TicketCashout} message and returns a future completed when the response is received
+     *
+     * @param ticketCashout - the data from which the message will be built
+     * @return - the future completed with the response from the MTS or exceptionally on timeout
+     */
+    @Override
+    public CompletableFuture<TicketCashoutResponse> sendAsync(TicketCashout ticketCashout) {
         checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         checkNotNull(ticketCashout, SdkInfo.Literals.TICKET_HANDLER_TICKET_CASHOUT_NULL);
 
-        publishAsync(ticketCashout, routingKey, replyRoutingKey);
+        return dispatchOnExecutor(internalSendAsync(ticketCashout, false));
+    }
+
+    private CompletableFuture<TicketCashoutResponse> internalSendAsync(TicketCashout ticketCashout, boolean waitForPermit) {
+        return publishForResponse(ticketCashout, timeoutHandler, routingKey, replyRoutingKey, waitForPermit);
     }
 
     /**
@@ -190,6 +179,11 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
         return messageObj.getJsonValue();
     }
 
+    @Override
+    protected SendPriority getSendPriority() {
+        return SendPriority.HIGH;
+    }
+
     /**
      * Method invoked when the SDK receives the {@link TicketCashoutResponse} message
      *
@@ -198,48 +192,13 @@ public class TicketCashoutHandlerImpl extends SenderBase<TicketCashout> implemen
     @Override
     public void ticketCashoutResponseReceived(TicketCashoutResponse ticketCashoutResponse) {
         checkNotNull(ticketCashoutResponse, "TicketCashoutResponse cannot be null");
-        getSdkLogger().logReceivedMessage(JsonUtils.serializeAsString(ticketCashoutResponse));
+        getSdkLogger().logReceivedMessage(SerializedMessage.jsonBytesOf(ticketCashoutResponse));
 
-        timeoutHandler.onAsyncTicketResponseReceived(ticketCashoutResponse.getCorrelationId());
-
-        String ticketId = ticketCashoutResponse.getTicketId();
-        ticketCashoutResponseCache.put(ticketId, ticketCashoutResponse);
-        TicketCashoutSendEntry entry = ticketCashoutSendEntryCache.getIfPresent(ticketId);
-
-        if (entry != null) {
-            Semaphore semaphore = entry.getSemaphore();
-            if (semaphore != null) {
-                semaphore.release(1);
-            }
-            ticketCashoutSendEntryCache.invalidate(ticketId);
+        InFlightRegistry.Entry<TicketCashout> entry = getInFlightRegistry().remove(ticketCashoutResponse.getCorrelationId());
+        if (entry != null && entry.hasWaiter()) {
+            entry.complete(ticketCashoutResponse);
         } else {
-            executorService.submit(() -> ticketCashoutResponseListener.responseReceived(ticketCashoutResponse));
-        }
-    }
-
-    @Override
-    protected void onPublishFailure(String correlationId) {
-        Preconditions.checkNotNull(correlationId);
-
-        timeoutHandler.onAsyncPublishFailure(correlationId);
-    }
-
-    private class TicketCashoutSendEntry {
-        private final TicketCashout ticket;
-        private final Semaphore semaphore;
-
-        TicketCashoutSendEntry(TicketCashout ticket,
-                                      Semaphore semaphore) {
-            this.ticket = ticket;
-            this.semaphore = semaphore;
-        }
-
-        public TicketCashout getTicket() {
-            return ticket;
-        }
-
-        Semaphore getSemaphore() {
-            return semaphore;
+            dispatchResponse(ticketCashoutResponse.getTicketId(), () -> ticketCashoutResponseListener.responseReceived(ticketCashoutResponse));
         }
     }
 }
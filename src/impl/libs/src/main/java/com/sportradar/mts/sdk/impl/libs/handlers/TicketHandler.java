@@ -8,7 +8,7 @@ import com.sportradar.mts.sdk.api.interfaces.TicketResponseListener;
 import com.sportradar.mts.sdk.api.interfaces.TicketSender;
 import com.sportradar.mts.sdk.impl.libs.receivers.TicketResponseReceiver;
 
-public interface TicketHandler extends TicketSender, TicketResponseReceiver {
+public interface TicketHandler extends TicketSender, TicketResponseReceiver, InFlightStatusProvider {
 
     void setListener(TicketResponseListener responseListener);
 }
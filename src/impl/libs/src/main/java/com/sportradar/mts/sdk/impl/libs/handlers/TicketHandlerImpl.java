@@ -4,25 +4,25 @@
 
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
-import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.sdk.api.SdkTicket;
 import com.sportradar.mts.sdk.api.Ticket;
 import com.sportradar.mts.sdk.api.TicketResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
+import com.sportradar.mts.sdk.api.impl.SerializedMessage;
 import com.sportradar.mts.sdk.api.interfaces.TicketResponseListener;
-import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -31,13 +31,6 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
 
     private static final Logger logger = LoggerFactory.getLogger(TicketHandlerImpl.class);
     private final String routingKey;
-    private final Cache<String, TicketSendEntry> ticketSendEntries1;
-    private final Cache<String, TicketResponse> responseCache1;
-    private final Cache<String, TicketSendEntry> ticketSendEntries2;
-    private final Cache<String, TicketResponse> responseCache2;
-    private final ExecutorService executorService;
-    private final int responseTimeout1;
-    private final int responseTimeout2;
     private final ResponseTimeoutHandler<Ticket> responseTimeoutHandler;
     private TicketResponseListener ticketResponseListener;
 
@@ -46,33 +39,31 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
                              String routingKey,
                              ExecutorService executorService,
                              ResponseTimeoutHandler<Ticket> responseTimeoutHandler,
-                             int responseTimeout1,
-                             int responseTimeout2,
+                             int maxInFlightRequests,
                              double messagesPerSecond,
                              SdkLogger sdkLogger) {
-        super(amqpPublisher, executorService, messagesPerSecond, sdkLogger);
+        this(amqpPublisher, routingKey, executorService, executorService, responseTimeoutHandler, maxInFlightRequests, new SendRateLimiter(messagesPerSecond), sdkLogger);
+    }
+
+    /**
+     * Constructs the handler dispatching the responses and the publish results on separate executors and admitting
+     * the messages through the provided (possibly shared) rate limiter
+     */
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public TicketHandlerImpl(AmqpPublisher amqpPublisher,
+                             String routingKey,
+                             ExecutorService responseExecutor,
+                             ExecutorService publishResultExecutor,
+                             ResponseTimeoutHandler<Ticket> responseTimeoutHandler,
+                             int maxInFlightRequests,
+                             SendRateLimiter rateLimiter,
+                             SdkLogger sdkLogger) {
+        super(amqpPublisher, responseExecutor, publishResultExecutor, maxInFlightRequests, rateLimiter, sdkLogger);
 
-        checkNotNull(executorService, "executorService cannot be null");
         checkNotNull(responseTimeoutHandler, "responseTimeoutHandler cannot be null");
 
-        this.executorService = executorService;
         this.routingKey = routingKey == null ? "ticket" : routingKey;
-        this.responseTimeout1 = responseTimeout1;
-        this.responseTimeout2 = responseTimeout2;
         this.responseTimeoutHandler = responseTimeoutHandler;
-
-        ticketSendEntries1 = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout1, TimeUnit.MILLISECONDS)
-                .build();
-        responseCache1 = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
-        ticketSendEntries2 = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout2, TimeUnit.MILLISECONDS)
-                .build();
-        responseCache2 = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
     }
 
     @Override
@@ -82,9 +73,8 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
 
         checkNotNull(ticketResponseListener, "no response listener set");
 
-        internalSend(ticket, null);
-
-        responseTimeoutHandler.onAsyncTicketSent(ticket);
+        InFlightRegistry.Entry<Ticket> entry = registerForResponse(ticket, null, responseTimeoutHandler);
+        publishAsync(entry, ticket.getCorrelationId(), routingKey);
     }
 
     @Override
@@ -93,34 +83,31 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
         checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_NULL);
 
         Stopwatch stopwatch = Stopwatch.createStarted();
-        String ticketId = ticket.getTicketId();
-        Semaphore semaphore = new Semaphore(0);
-        if(isTicketPrematch(ticket)){
-            ticketSendEntries2.put(ticketId, new TicketSendEntry(ticket, null, semaphore));
-        }
-        else{
-            ticketSendEntries1.put(ticketId, new TicketSendEntry(ticket, null, semaphore));
-        }
-        publishAsync(ticket, routingKey);
-
-        boolean acquire = false;
-        try {
-            acquire = semaphore.tryAcquire(isTicketPrematch(ticket) ? responseTimeout2 : responseTimeout1, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            logger.warn("interrupted waiting for response, throwing timeout");
-            Thread.currentThread().interrupt();
-        }
-        if (!acquire) {
-            String error = String.format("Timeout reached. Missing response for ticket %s with correlationId=%s", ticket.getTicketId(), ticket.getCorrelationId());
-            throw new ResponseTimeoutException(error);
-        }
-        TicketResponse ticketResponse = isTicketPrematch(ticket) ? responseCache2.getIfPresent(ticketId) : responseCache1.getIfPresent(ticketId);
+        TicketResponse ticketResponse = awaitResponse(internalSendAsync(ticket, true));
         stopwatch.stop();
-        logger.debug("Response for ticket:{} is received in {} ms.", ticketId, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        logger.debug("Response for ticket:{} is received in {} ms.", ticket.getTicketId(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
 
         return ticketResponse;
     }
 
+    @Override
+    public CompletableFuture<TicketResponse> sendAsync(Ticket ticket) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_NULL);
+
+        return dispatchOnExecutor(internalSendAsync(ticket, false));
+    }
+
+    @Override
+    public List<CompletableFuture<TicketResponse>> sendAll(Collection<Ticket> tickets) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(tickets, "tickets cannot be null");
+        tickets.forEach(ticket -> checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_NULL));
+
+        List<CompletableFuture<TicketResponse>> responseFutures = publishAllForResponse(tickets, responseTimeoutHandler, routingKey, routingKey);
+        return responseFutures.stream().map(this::dispatchOnExecutor).collect(Collectors.toList());
+    }
+
     @Override
     public void setListener(TicketResponseListener responseListener) {
         checkNotNull(responseListener, "responseListener cannot be null");
@@ -132,33 +119,16 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
     @Override
     public void ticketResponseReceived(TicketResponse ticketResponse) {
         checkNotNull(ticketResponse, "ticketResponse cannot be null");
-        getSdkLogger().logReceivedMessage(JsonUtils.serializeAsString(ticketResponse));
-
-        responseTimeoutHandler.onAsyncTicketResponseReceived(ticketResponse.getCorrelationId());
+        getSdkLogger().logReceivedMessage(SerializedMessage.jsonBytesOf(ticketResponse));
 
-        String ticketId = ticketResponse.getTicketId();
-        TicketSendEntry entry = ticketSendEntries1.getIfPresent(ticketId);
-        responseCache1.put(ticketId, ticketResponse);
-        if(entry == null)
-        {
-            entry = ticketSendEntries2.getIfPresent(ticketId);
-            responseCache2.put(ticketId, ticketResponse);
-        }
-        final TicketResponseListener listenerToRespond;
-        if (entry != null) {
-            TicketResponseListener tmpTicketResponseListener = entry.getResponseListener();
-            Semaphore semaphore = entry.getSemaphore();
-            if (semaphore != null) {
-                semaphore.release(1);
-            }
-            ticketSendEntries1.invalidate(ticketId);
-            ticketSendEntries2.invalidate(ticketId);
-            listenerToRespond = tmpTicketResponseListener;
-        } else {
-            listenerToRespond = this.ticketResponseListener;
+        InFlightRegistry.Entry<Ticket> entry = getInFlightRegistry().remove(ticketResponse.getCorrelationId());
+        if (entry != null && entry.hasWaiter()) {
+            entry.complete(ticketResponse);
+            return;
         }
+        final TicketResponseListener listenerToRespond = this.ticketResponseListener;
         if (listenerToRespond != null) {
-            executorService.submit(() -> {
+            dispatchResponse(ticketResponse.getTicketId(), () -> {
                 try {
                     listenerToRespond.responseReceived(ticketResponse);
                 } catch (Exception e) {
@@ -171,48 +141,11 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
     @Override
     public void close() {
         super.close();
-        ticketSendEntries1.cleanUp();
-        if (ticketSendEntries1.size() > 0) {
-            logger.info("there are still ticket responses pending, will wait till completion or timeout");
-            while (ticketSendEntries1.size() > 0) {
-                try {
-                    ticketSendEntries1.cleanUp();
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    logger.error("interrupted waiting to get/timeout all ticket responses");
-                    Thread.currentThread().interrupt();
-                }
-            }
-        }
-        ticketSendEntries2.cleanUp();
-        if (ticketSendEntries2.size() > 0) {
-            logger.info("there are still ticket responses pending, will wait till completion or timeout");
-            while (ticketSendEntries2.size() > 0) {
-                try {
-                    ticketSendEntries2.cleanUp();
-                    Thread.sleep(100);
-                } catch (InterruptedException e) {
-                    logger.error("interrupted waiting to get/timeout all ticket responses");
-                    Thread.currentThread().interrupt();
-                }
-            }
-        }
+        awaitPendingResponses("ticket");
     }
 
-    private void internalSend(Ticket ticket, TicketResponseListener responseListener) {
-        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
-        checkNotNull(ticket, SdkInfo.Literals.TICKET_HANDLER_TICKET_NULL);
-
-        String ticketId = ticket.getTicketId();
-        if (responseListener != null) {
-            if(isTicketPrematch(ticket)){
-                ticketSendEntries2.put(ticketId, new TicketSendEntry(ticket, responseListener, null));
-            }
-            else{
-                ticketSendEntries1.put(ticketId, new TicketSendEntry(ticket, responseListener, null));
-            }
-        }
-        publishAsync(ticket, ticket.getCorrelationId(), routingKey);
+    private CompletableFuture<TicketResponse> internalSendAsync(Ticket ticket, boolean waitForPermit) {
+        return publishForResponse(ticket, responseTimeoutHandler, routingKey, routingKey, waitForPermit);
     }
 
     @Override
@@ -220,40 +153,6 @@ public class TicketHandlerImpl extends SenderBase<Ticket> implements TicketHandl
         return message.getJsonValue();
     }
 
-    @Override
-    protected void onPublishFailure(String correlationId) {
-        Preconditions.checkNotNull(correlationId);
-
-        responseTimeoutHandler.onAsyncPublishFailure(correlationId);
-    }
-
-    private final class TicketSendEntry {
-
-        private final Ticket ticket;
-        private final TicketResponseListener responseListener;
-        private final Semaphore semaphore;
-
-        public TicketSendEntry(Ticket ticket,
-                               TicketResponseListener responseListener,
-                               Semaphore semaphore) {
-            this.ticket = ticket;
-            this.responseListener = responseListener;
-            this.semaphore = semaphore;
-        }
-
-        public Ticket getTicket() {
-            return ticket;
-        }
-
-        public Semaphore getSemaphore() {
-            return semaphore;
-        }
-
-        public TicketResponseListener getResponseListener() {
-            return responseListener;
-        }
-    }
-
     public static boolean isTicketPrematch(SdkTicket ticket) {
         return ticket instanceof Ticket && ((Ticket) ticket).getSelections().stream().anyMatch(a -> a.getId().contains("lcoo"));
     }
@@ -8,7 +8,7 @@ import com.sportradar.mts.sdk.api.interfaces.TicketNonSrSettleResponseListener;
 import com.sportradar.mts.sdk.api.interfaces.TicketNonSrSettleSender;
 import com.sportradar.mts.sdk.impl.libs.receivers.TicketNonSrSettleResponseReceiver;
 
-public interface TicketNonSrSettleHandler extends TicketNonSrSettleSender, TicketNonSrSettleResponseReceiver {
+public interface TicketNonSrSettleHandler extends TicketNonSrSettleSender, TicketNonSrSettleResponseReceiver, InFlightStatusProvider {
 
     /**
      * The listener that will be called when a message is sent
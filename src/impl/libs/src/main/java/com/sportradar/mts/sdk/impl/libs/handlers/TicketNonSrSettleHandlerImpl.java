@@ -5,22 +5,19 @@
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.sdk.api.TicketNonSrSettle;
 import com.sportradar.mts.sdk.api.TicketNonSrSettleResponse;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
+import com.sportradar.mts.sdk.api.impl.SerializedMessage;
 import com.sportradar.mts.sdk.api.interfaces.TicketNonSrSettleResponseListener;
-import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Semaphore;
-import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
@@ -46,53 +43,41 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
      */
     private TicketNonSrSettleResponseListener ticketNonSrSettleResponseListener;
 
-    /**
-     * The executor for dispatching received messages
-     */
-    private final ExecutorService executorService;
-
     /**
      * The async tickets response time-out handler
      */
     private final ResponseTimeoutHandler<TicketNonSrSettle> timeoutHandler;
 
-    /**
-     * The max allowed cashout response time used for <code>sendBlocking</code>
-     */
-    private final int responseTimeout;
-
-    /**
-     * The caching used to store send messages that are used to check if the message is <code>sendBlocking</code>
-     */
-    private final Cache<String, TicketNonSrSettleSendEntry> ticketNonSrSettleSendEntryCache;
+    @SuppressWarnings("java:S107") // Methods should not have too many parameters
+    public TicketNonSrSettleHandlerImpl(AmqpPublisher amqpPublisher,
+                                        String routingKey,
+                                        String replyRoutingKey,
+                                        ExecutorService executorService,
+                                        ResponseTimeoutHandler<TicketNonSrSettle> timeoutHandler,
+                                        int maxInFlightRequests,
+                                        double messagesPerSecond,
+                                        SdkLogger sdkLogger) {
+        this(amqpPublisher, routingKey, replyRoutingKey, executorService, executorService, timeoutHandler, maxInFlightRequests, new SendRateLimiter(messagesPerSecond), sdkLogger);
+    }
 
     /**
-     * The caching used to store response messages so they can be utilized as the return for <code>sendBlocking</code>
+     * Constructs the handler dispatching the responses and the publish results on separate executors and admitting
+     * the messages through the provided (possibly shared) rate limiter
      */
-    private final Cache<String, TicketNonSrSettleResponse> ticketNonSrSettleResponseCache;
-
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     public TicketNonSrSettleHandlerImpl(AmqpPublisher amqpPublisher,
                                         String routingKey,
                                         String replyRoutingKey,
-                                        ExecutorService executorService,
+                                        ExecutorService responseExecutor,
+                                        ExecutorService publishResultExecutor,
                                         ResponseTimeoutHandler<TicketNonSrSettle> timeoutHandler,
-                                        int responseTimeout,
-                                        double messagesPerSecond,
+                                        int maxInFlightRequests,
+                                        SendRateLimiter rateLimiter,
                                         SdkLogger sdkLogger) {
-        super(amqpPublisher, executorService, messagesPerSecond, sdkLogger);
+        super(amqpPublisher, responseExecutor, publishResultExecutor, maxInFlightRequests, rateLimiter, sdkLogger);
         this.routingKey = routingKey == null ? "ticket.nonsrsettle" : routingKey;
         this.replyRoutingKey = replyRoutingKey;
-        this.executorService = executorService;
         this.timeoutHandler = timeoutHandler;
-        this.responseTimeout = responseTimeout;
-
-        ticketNonSrSettleSendEntryCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(responseTimeout, TimeUnit.MILLISECONDS)
-                .build();
-        ticketNonSrSettleResponseCache = CacheBuilder.newBuilder()
-                .expireAfterWrite(1, TimeUnit.MINUTES)
-                .build();
     }
 
     /**
@@ -106,9 +91,8 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
         checkNotNull(ticketData, SdkInfo.Literals.TICKET_HANDLER_TICKET_NONSR_NULL);
         checkNotNull(ticketNonSrSettleResponseListener, "no response listener set");
 
-        internalSend(ticketData);
-
-        timeoutHandler.onAsyncTicketSent(ticketData);
+        InFlightRegistry.Entry<TicketNonSrSettle> entry = registerForResponse(ticketData, null, timeoutHandler);
+        publishAsync(entry, routingKey, replyRoutingKey);
     }
 
     /**
@@ -123,22 +107,25 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
         Preconditions.checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
         Preconditions.checkNotNull(ticketNonSrSettle, SdkInfo.Literals.TICKET_HANDLER_TICKET_NONSR_NULL);
 
-        String ticketId = ticketNonSrSettle.getTicketId();
-        Semaphore semaphore = new Semaphore(0);
-        ticketNonSrSettleSendEntryCache.put(ticketId, new TicketNonSrSettleSendEntry(ticketNonSrSettle, semaphore));
-        publishAsync(ticketNonSrSettle, routingKey, replyRoutingKey);
-
-        boolean acquire = false;
-        try {
-            acquire = semaphore.tryAcquire(responseTimeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            logger.warn("interrupted waiting for response, throwing timeout");
-            Thread.currentThread().interrupt();
-        }
-        if (!acquire) {
-            throw new ResponseTimeoutException("timeout reached");
-        }
-        return ticketNonSrSettleResponseCache.getIfPresent(ticketId);
+        return awaitResponse(internalSendAsync(ticketNonSrSettle, true));
+    }
+
+    /**
+     * Publishes a new {@link TicketNonSrSettle} message and returns a future completed when the response is received
+     *
+     * @param ticketNonSrSettle - the data from which the message will be built
+     * @return - the future completed with the response from the MTS or exceptionally on timeout
+     */
+    @Override
+    public CompletableFuture<TicketNonSrSettleResponse> sendAsync(TicketNonSrSettle ticketNonSrSettle) {
+        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
+        checkNotNull(ticketNonSrSettle, SdkInfo.Literals.TICKET_HANDLER_TICKET_NONSR_NULL);
+
+        return dispatchOnExecutor(internalSendAsync(ticketNonSrSettle, false));
+    }
+
+    private CompletableFuture<TicketNonSrSettleResponse> internalSendAsync(TicketNonSrSettle ticketNonSrSettle, boolean waitForPermit) {
+        return publishForResponse(ticketNonSrSettle, timeoutHandler, routingKey, replyRoutingKey, waitForPermit);
     }
 
     /**
@@ -168,55 +155,13 @@ public class TicketNonSrSettleHandlerImpl extends SenderBase<TicketNonSrSettle>
     @Override
     public void setTicketNonSrSettleResponse(TicketNonSrSettleResponse ticketNonSrSettleResponse) {
         checkNotNull(ticketNonSrSettleResponse, "TicketNonSrSettleResponse cannot be null");
-        getSdkLogger().logReceivedMessage(JsonUtils.serializeAsString(ticketNonSrSettleResponse));
+        getSdkLogger().logReceivedMessage(SerializedMessage.jsonBytesOf(ticketNonSrSettleResponse));
 
-        timeoutHandler.onAsyncTicketResponseReceived(ticketNonSrSettleResponse.getCorrelationId());
-
-        String ticketId = ticketNonSrSettleResponse.getTicketId();
-        ticketNonSrSettleResponseCache.put(ticketId, ticketNonSrSettleResponse);
-        TicketNonSrSettleSendEntry entry = ticketNonSrSettleSendEntryCache.getIfPresent(ticketId);
-
-        if (entry != null) {
-            Semaphore semaphore = entry.getSemaphore();
-            if (semaphore != null) {
-                semaphore.release(1);
-            }
-            ticketNonSrSettleSendEntryCache.invalidate(ticketId);
+        InFlightRegistry.Entry<TicketNonSrSettle> entry = getInFlightRegistry().remove(ticketNonSrSettleResponse.getCorrelationId());
+        if (entry != null && entry.hasWaiter()) {
+            entry.complete(ticketNonSrSettleResponse);
         } else {
-            executorService.submit(() -> ticketNonSrSettleResponseListener.responseReceived(ticketNonSrSettleResponse));
-        }
-    }
-
-    @Override
-    protected void onPublishFailure(String correlationId) {
-        Preconditions.checkNotNull(correlationId);
-
-        timeoutHandler.onAsyncPublishFailure(correlationId);
-    }
-
-
-    private void internalSend(TicketNonSrSettle ticketNonSrSettle) {
-        checkState(isOpen(), SdkInfo.Literals.TICKET_HANDLER_SENDER_CLOSED);
-        checkNotNull(ticketNonSrSettle, SdkInfo.Literals.TICKET_HANDLER_TICKET_NONSR_NULL);
-
-        publishAsync(ticketNonSrSettle, routingKey, replyRoutingKey);
-    }
-
-    private static class TicketNonSrSettleSendEntry {
-        private final TicketNonSrSettle ticket;
-        private final Semaphore semaphore;
-
-        TicketNonSrSettleSendEntry(TicketNonSrSettle ticket, Semaphore semaphore) {
-            this.ticket = ticket;
-            this.semaphore = semaphore;
-        }
-
-        public TicketNonSrSettle getTicket() {
-            return ticket;
-        }
-
-        Semaphore getSemaphore() {
-            return semaphore;
+            dispatchResponse(ticketNonSrSettleResponse.getTicketId(), () -> ticketNonSrSettleResponseListener.responseReceived(ticketNonSrSettleResponse));
         }
     }
 }
@@ -7,7 +7,7 @@ package com.sportradar.mts.sdk.impl.libs.handlers;
 import com.sportradar.mts.sdk.api.interfaces.TicketReofferCancelResponseListener;
 import com.sportradar.mts.sdk.api.interfaces.TicketReofferCancelSender;
 
-public interface TicketReofferCancelHandler extends TicketReofferCancelSender {
+public interface TicketReofferCancelHandler extends TicketReofferCancelSender, InFlightStatusProvider {
 
     void setListener(TicketReofferCancelResponseListener responseListener);
 }
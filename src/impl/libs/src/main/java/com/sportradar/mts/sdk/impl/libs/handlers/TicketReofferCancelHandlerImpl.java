@@ -22,9 +22,19 @@ public class TicketReofferCancelHandlerImpl extends SenderBase<TicketReofferCanc
     public TicketReofferCancelHandlerImpl(AmqpPublisher amqpPublisher,
                                           String routingKey,
                                           ExecutorService executorService,
+                                          int maxInFlightRequests,
                                           double messagesPerSecond,
                                           SdkLogger sdkLogger) {
-        super(amqpPublisher, executorService, messagesPerSecond, sdkLogger);
+        this(amqpPublisher, routingKey, executorService, maxInFlightRequests, new SendRateLimiter(messagesPerSecond), sdkLogger);
+    }
+
+    public TicketReofferCancelHandlerImpl(AmqpPublisher amqpPublisher,
+                                          String routingKey,
+                                          ExecutorService executorService,
+                                          int maxInFlightRequests,
+                                          SendRateLimiter rateLimiter,
+                                          SdkLogger sdkLogger) {
+        super(amqpPublisher, executorService, maxInFlightRequests, rateLimiter, sdkLogger);
         this.routingKey = routingKey == null ? "cancel.reoffer" : routingKey;
     }
 
@@ -44,4 +54,9 @@ public class TicketReofferCancelHandlerImpl extends SenderBase<TicketReofferCanc
     protected String getSerializedDto(TicketReofferCancel message) {
         return message.getJsonValue();
     }
+
+    @Override
+    protected SendPriority getSendPriority() {
+        return SendPriority.HIGH;
+    }
 }
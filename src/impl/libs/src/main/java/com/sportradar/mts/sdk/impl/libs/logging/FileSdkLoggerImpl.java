@@ -7,6 +7,8 @@ package com.sportradar.mts.sdk.impl.libs.logging;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+
 public class FileSdkLoggerImpl implements SdkLogger {
 
     private final Logger logger;
@@ -24,11 +26,25 @@ public class FileSdkLoggerImpl implements SdkLogger {
         logger.info("put -> {}", value);
     }
 
+    @Override
+    public void logSendMessage(byte[] value) {
+        if (logger.isInfoEnabled()) {
+            logger.info("put -> {}", value == null ? null : new String(value, StandardCharsets.UTF_8));
+        }
+    }
+
     @Override
     public void logReceivedMessage(String value) {
         logger.info("get <- {}", value);
     }
 
+    @Override
+    public void logReceivedMessage(byte[] value) {
+        if (logger.isInfoEnabled()) {
+            logger.info("get <- {}", value == null ? null : new String(value, StandardCharsets.UTF_8));
+        }
+    }
+
     @Override
     public void open() {
         opened = true;
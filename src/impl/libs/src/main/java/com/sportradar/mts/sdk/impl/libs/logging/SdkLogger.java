@@ -10,5 +10,9 @@ public interface SdkLogger extends Openable {
 
     void logSendMessage(String value);
 
+    void logSendMessage(byte[] value);
+
     void logReceivedMessage(String value);
+
+    void logReceivedMessage(byte[] value);
 }
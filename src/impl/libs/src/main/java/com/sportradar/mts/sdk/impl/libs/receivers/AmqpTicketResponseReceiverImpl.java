@@ -17,6 +17,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -75,10 +76,9 @@ public class AmqpTicketResponseReceiverImpl implements AmqpMessageReceiver {
                                  String correlationId,
                                  Map<String, Object> messageHeaders) {
 
-        String msgBody = new String(msg);
         if(logger.isDebugEnabled())
         {
-            logger.debug("received ticket response with correlation id: {}, msg: {}, headers: {}", correlationId, msgBody, messageHeaders);
+            logger.debug("received ticket response with correlation id: {}, msg: {}, headers: {}", correlationId, new String(msg, StandardCharsets.UTF_8), messageHeaders);
         }
         else {
             logger.info("received ticket response with correlation id: {}", correlationId);
@@ -87,15 +87,15 @@ public class AmqpTicketResponseReceiverImpl implements AmqpMessageReceiver {
         TicketResponse ticketResponse = null;
         try {
             TicketResponseSchema ticketResponseSchema = JsonUtils.deserialize(msg, TicketResponseSchema.class);
-            ticketResponse = MtsDtoMapper.map(ticketResponseSchema, correlationId, messageHeaders, msgBody);
+            ticketResponse = MtsDtoMapper.map(ticketResponseSchema, correlationId, messageHeaders, msg);
             connectionStatus.ticketReceived(ticketResponse.getTicketId());
         }
         catch (IOException e) {
-            logger.error("failed to deserialize ticket response! msg: {}", msgBody, e);
+            logger.error("failed to deserialize ticket response! msg: {}", new String(msg, StandardCharsets.UTF_8), e);
         }
         catch(Exception e)
         {
-            logger.error("failed to map ticket response! msg: {}", msgBody, e);
+            logger.error("failed to map ticket response! msg: {}", new String(msg, StandardCharsets.UTF_8), e);
         }
         if (ticketResponse != null) {
             ticketResponseReceiver.ticketResponseReceived(ticketResponse);
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.root;
+
+import com.sportradar.mts.sdk.api.interfaces.InFlightStatus;
+import com.sportradar.mts.sdk.api.interfaces.SdkMetrics;
+import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpConsumer;
+import com.sportradar.mts.sdk.impl.libs.handlers.InFlightStatusProvider;
+import com.sportradar.mts.sdk.impl.libs.threading.CallbackExecutors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The metrics read from the callback executors, the senders and the response consumers of the SDK
+ */
+public class SdkMetricsImpl implements SdkMetrics {
+
+    private final CallbackExecutors callbackExecutors;
+    private final List<InFlightStatus> inFlightStatuses;
+    private final Map<String, AmqpConsumer> consumers;
+
+    /**
+     * Initializes a new instance of the {@link SdkMetricsImpl}
+     *
+     * @param callbackExecutors - the executors dispatching the callbacks to the listeners
+     * @param senders - the senders tracking their messages in flight
+     * @param consumers - the response consumers keyed by their name
+     */
+    public SdkMetricsImpl(CallbackExecutors callbackExecutors,
+                          List<? extends InFlightStatusProvider> senders,
+                          Map<String, AmqpConsumer> consumers) {
+        checkNotNull(callbackExecutors, "callbackExecutors cannot be null");
+        checkNotNull(senders, "senders cannot be null");
+        checkNotNull(consumers, "consumers cannot be null");
+
+        this.callbackExecutors = callbackExecutors;
+        List<InFlightStatus> statuses = new ArrayList<>(senders.size());
+        for (InFlightStatusProvider sender : senders) {
+            statuses.add(sender.getInFlightStatus());
+        }
+        this.inFlightStatuses = Collections.unmodifiableList(statuses);
+        this.consumers = new LinkedHashMap<>(consumers);
+    }
+
+    @Override
+    public int getResponseQueueDepth() {
+        return callbackExecutors.getResponseQueueDepth();
+    }
+
+    @Override
+    public int getPublishResultQueueDepth() {
+        return callbackExecutors.getPublishResultQueueDepth();
+    }
+
+    @Override
+    public int getTimeoutQueueDepth() {
+        return callbackExecutors.getTimeoutQueueDepth();
+    }
+
+    @Override
+    public List<InFlightStatus> getInFlightStatuses() {
+        return inFlightStatuses;
+    }
+
+    @Override
+    public Map<String, Integer> getPrefetchCounts() {
+        Map<String, Integer> prefetchCounts = new LinkedHashMap<>();
+        for (Map.Entry<String, AmqpConsumer> consumer : consumers.entrySet()) {
+            prefetchCounts.put(consumer.getKey(), consumer.getValue().getPrefetchCount());
+        }
+        return prefetchCounts;
+    }
+
+    @Override
+    public String toString() {
+        return "SdkMetricsImpl{" +
+                "responseQueueDepth=" + getResponseQueueDepth() +
+                ", publishResultQueueDepth=" + getPublishResultQueueDepth() +
+                ", timeoutQueueDepth=" + getTimeoutQueueDepth() +
+                ", inFlightStatuses=" + inFlightStatuses +
+                ", prefetchCounts=" + getPrefetchCounts() +
+                '}';
+    }
+}
@@ -9,10 +9,11 @@ import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpMessageReceiver;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.ChannelFactoryProvider;
 import com.sportradar.mts.sdk.impl.libs.handlers.*;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.CallbackExecutors;
+import com.sportradar.mts.sdk.impl.libs.threading.HashedWheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -22,7 +23,8 @@ public class SdkRootImpl implements SdkRoot {
     private static final Logger logger = LoggerFactory.getLogger(SdkRootImpl.class);
     private final Object stateLock = new Object();
     private boolean opened;
-    private final ScheduledExecutorService executorService;
+    private final CallbackExecutors executorService;
+    private final HashedWheelTimer responseTimeoutTimer;
     private final SdkLogger sdkLogger;
     private final ChannelFactoryProvider channelFactoryProvider;
     private final TicketHandler ticketHandler;
@@ -39,7 +41,8 @@ public class SdkRootImpl implements SdkRoot {
 
     @SuppressWarnings("java:S107") // Methods should not have too many parameters
     public SdkRootImpl(SdkLogger sdkLogger,
-                       ScheduledExecutorService executorService,
+                       CallbackExecutors executorService,
+                       HashedWheelTimer responseTimeoutTimer,
                        ChannelFactoryProvider channelFactoryProvider,
                        TicketHandler ticketHandler,
                        AmqpMessageReceiver ticketAmqpMessageReceiver,
@@ -54,6 +57,7 @@ public class SdkRootImpl implements SdkRoot {
                        AmqpMessageReceiver ticketNonSrSettleAmpqMessageReceiver) {
         this.sdkLogger = sdkLogger;
         this.executorService = executorService;
+        this.responseTimeoutTimer = responseTimeoutTimer;
         this.channelFactoryProvider = channelFactoryProvider;
         this.ticketHandler = ticketHandler;
         this.ticketAmqpMessageReceiver = ticketAmqpMessageReceiver;
@@ -140,6 +144,11 @@ public class SdkRootImpl implements SdkRoot {
             } catch (Exception e) {
                 logger.error("failed to unregister instance from channel factory provider", e);
             }
+            try {
+                responseTimeoutTimer.stop();
+            } catch (Exception e) {
+                logger.error("failed to stop response timeout timer", e);
+            }
             executorService.shutdown();
             boolean terminated = false;
             try {
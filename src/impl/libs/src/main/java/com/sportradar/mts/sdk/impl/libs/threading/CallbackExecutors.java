@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.threading;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The executors running the callbacks of the user listeners; the responses, the publish results and the response
+ * timeouts are dispatched on separate executors, so a slow listener of one kind does not delay the others. Callbacks
+ * for the same ticket are dispatched on the same lane of an executor and keep their order
+ */
+public class CallbackExecutors {
+
+    private final LaneExecutor responseExecutor;
+    private final LaneExecutor publishResultExecutor;
+    private final LaneExecutor timeoutExecutor;
+
+    /**
+     * Initializes a new instance of the {@link CallbackExecutors}
+     *
+     * @param responseThreads - the number of threads dispatching the responses
+     * @param publishResultThreads - the number of threads dispatching the publish results
+     * @param timeoutThreads - the number of threads dispatching the response timeouts
+     */
+    public CallbackExecutors(int responseThreads, int publishResultThreads, int timeoutThreads) {
+        this.responseExecutor = new LaneExecutor("MtsSdkResponseDispatcher", responseThreads);
+        this.publishResultExecutor = new LaneExecutor("MtsSdkPublishResultDispatcher", publishResultThreads);
+        this.timeoutExecutor = new LaneExecutor("MtsSdkTimeoutDispatcher", timeoutThreads);
+    }
+
+    public LaneExecutor getResponseExecutor() {
+        return responseExecutor;
+    }
+
+    public LaneExecutor getPublishResultExecutor() {
+        return publishResultExecutor;
+    }
+
+    public LaneExecutor getTimeoutExecutor() {
+        return timeoutExecutor;
+    }
+
+    /**
+     * Gets the number of responses waiting to be dispatched to the listeners
+     *
+     * @return the number of responses waiting to be dispatched
+     */
+    public int getResponseQueueDepth() {
+        return responseExecutor.getQueueDepth();
+    }
+
+    /**
+     * Gets the number of publish results waiting to be dispatched to the listeners
+     *
+     * @return the number of publish results waiting to be dispatched
+     */
+    public int getPublishResultQueueDepth() {
+        return publishResultExecutor.getQueueDepth();
+    }
+
+    /**
+     * Gets the number of response timeouts waiting to be dispatched to the listeners
+     *
+     * @return the number of response timeouts waiting to be dispatched
+     */
+    public int getTimeoutQueueDepth() {
+        return timeoutExecutor.getQueueDepth();
+    }
+
+    public void shutdown() {
+        responseExecutor.shutdown();
+        publishResultExecutor.shutdown();
+        timeoutExecutor.shutdown();
+    }
+
+    public void shutdownNow() {
+        responseExecutor.shutdownNow();
+        publishResultExecutor.shutdownNow();
+        timeoutExecutor.shutdownNow();
+    }
+
+    /**
+     * Waits till all the executors terminate or the timeout elapses
+     *
+     * @param timeout - the max time to wait
+     * @param unit - the unit of the timeout
+     * @return true if all the executors terminated
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        return responseExecutor.awaitTermination(timeout, unit)
+                && publishResultExecutor.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                && timeoutExecutor.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.threading;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Timer used for a large number of mostly cancelled timeouts (i.e. ticket response timeouts). The timeouts are hashed
+ * into the buckets of a wheel by their deadline, so scheduling and cancelling is O(1) regardless of the number of
+ * pending timeouts; a single worker thread advances the wheel one bucket per tick and runs the expired tasks, which
+ * means a timeout fires at most one tick late. The tasks run on the worker thread and must not block
+ */
+public class HashedWheelTimer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_STOPPED = 2;
+
+    /**
+     * Max number of newly scheduled timeouts moved into the wheel per tick, so a burst cannot stall the expiration
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+    private final String name;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final Thread workerThread;
+    private volatile long startTime;
+    private long tick;
+
+    /**
+     * Initializes a new instance of the {@link HashedWheelTimer}
+     *
+     * @param name - the name of the worker thread
+     * @param tickDuration - the duration between two ticks
+     * @param unit - the unit of the tick duration
+     * @param ticksPerWheel - the number of buckets in the wheel (rounded up to a power of two)
+     */
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        checkNotNull(unit, "unit cannot be null");
+        checkArgument(tickDuration > 0, "tickDuration must be greater than 0");
+        checkArgument(ticksPerWheel > 0 && ticksPerWheel <= (1 << 30), "ticksPerWheel must be between 1 and 2^30");
+
+        int wheelSize = Integer.highestOneBit(ticksPerWheel);
+        if (wheelSize < ticksPerWheel) {
+            wheelSize <<= 1;
+        }
+        this.name = name == null ? "HashedWheelTimer" : name;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            this.wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.workerThread = new Thread(this::run, this.name);
+        this.workerThread.setDaemon(true);
+    }
+
+    /**
+     * Schedules the task to be run once after the given delay; the worker thread is started on the first call
+     *
+     * @param task - the task to be run on the worker thread
+     * @param delay - the delay after which the task is run
+     * @param unit - the unit of the delay
+     * @return - the {@link Timeout} which can be used to cancel the task
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        checkNotNull(task, "task cannot be null");
+        checkNotNull(unit, "unit cannot be null");
+
+        start();
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        Timeout timeout = new Timeout(this, task, deadline);
+        pendingTimeouts.incrementAndGet();
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Gets the number of scheduled timeouts which were neither expired nor cancelled yet
+     *
+     * @return - the number of pending timeouts
+     */
+    public long pendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * Stops the worker thread; the pending timeouts are dropped without running their tasks
+     */
+    public void stop() {
+        if (state.getAndSet(STATE_STOPPED) != STATE_STARTED) {
+            return;
+        }
+        workerThread.interrupt();
+        try {
+            workerThread.join(1000);
+        } catch (InterruptedException e) {
+            logger.warn("interrupted while waiting for {} to stop", name);
+            Thread.currentThread().interrupt();
+        }
+        long dropped = pendingTimeouts.getAndSet(0);
+        if (dropped > 0) {
+            logger.info("{} stopped with {} pending timeouts", name, dropped);
+        }
+    }
+
+    private void start() {
+        if (state.get() == STATE_INIT) {
+            synchronized (workerThread) {
+                if (state.get() == STATE_INIT) {
+                    // the start time has to be visible to whoever sees the started state
+                    startTime = System.nanoTime();
+                    state.set(STATE_STARTED);
+                    workerThread.start();
+                }
+            }
+        }
+        checkState(state.get() != STATE_STOPPED, "%s cannot be used once stopped", name);
+    }
+
+    private void run() {
+        while (state.get() == STATE_STARTED) {
+            if (!waitForNextTick()) {
+                break;
+            }
+            Bucket bucket = wheel[(int) (tick & mask)];
+            removeCancelledTimeouts();
+            transferNewTimeouts();
+            bucket.expireTimeouts();
+            tick++;
+        }
+        newTimeouts.clear();
+        cancelledTimeouts.clear();
+        for (Bucket bucket : wheel) {
+            bucket.clear();
+        }
+    }
+
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (state.get() != STATE_STARTED) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void transferNewTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = newTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state != Timeout.STATE_INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * A task scheduled on the {@link HashedWheelTimer}
+     */
+    public static final class Timeout {
+
+        private static final int STATE_INIT = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = STATE_INIT;
+
+        // only accessed by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task if it did not run yet
+         *
+         * @return - <code>true</code> if the task was cancelled, <code>false</code> if it already ran or was cancelled
+         */
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+            timer.pendingTimeouts.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_EXPIRED)) {
+                return;
+            }
+            timer.pendingTimeouts.decrementAndGet();
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.error("{} task threw an exception", timer.name, e);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts hashed into one slot of the wheel; only accessed by the worker thread
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expireTimeouts() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.threading;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Executor made of single threaded lanes; the tasks with the same key are always run by the same lane, so their order
+ * is preserved while the tasks with different keys run in parallel. Tasks without a key are spread over the lanes
+ */
+public class LaneExecutor extends AbstractExecutorService {
+
+    private final ThreadPoolExecutor[] lanes;
+    private final AtomicInteger nextLane = new AtomicInteger();
+
+    /**
+     * Initializes a new instance of the {@link LaneExecutor}
+     *
+     * @param name - the prefix of the lane thread names
+     * @param laneCount - the number of lanes
+     */
+    public LaneExecutor(String name, int laneCount) {
+        checkNotNull(name, "name cannot be null");
+        checkArgument(laneCount > 0, "laneCount must be greater than 0");
+
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            final String threadName = name + "-lane-" + (i + 1);
+            this.lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, threadName);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * Submits the task keyed by the provided key if the executor is a {@link LaneExecutor}, otherwise just submits it
+     *
+     * @param executor - the executor to run the task
+     * @param key - the key determining the lane
+     * @param task - the task to be run
+     * @return the {@link Future} of the task
+     */
+    public static Future<?> submit(ExecutorService executor, String key, Runnable task) {
+        if (executor instanceof LaneExecutor) {
+            return ((LaneExecutor) executor).submit(key, task);
+        }
+        return executor.submit(task);
+    }
+
+    /**
+     * Queues the task on the lane of the key; a <code>null</code> key is assigned to the first lane
+     *
+     * @param key - the key determining the lane
+     * @param task - the task to be run
+     */
+    public void execute(String key, Runnable task) {
+        lanes[laneOf(key)].execute(task);
+    }
+
+    /**
+     * Queues the task on the lane of the key
+     *
+     * @param key - the key determining the lane
+     * @param task - the task to be run
+     * @return the {@link Future} of the task
+     */
+    public Future<?> submit(String key, Runnable task) {
+        checkNotNull(task, "task cannot be null");
+        FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(key, future);
+        return future;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        lanes[(nextLane.getAndIncrement() & 0x7fffffff) % lanes.length].execute(command);
+    }
+
+    /**
+     * Gets the number of tasks waiting in the lanes
+     *
+     * @return the number of tasks waiting in the lanes
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            depth += lane.getQueue().size();
+        }
+        return depth;
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    int laneOf(String key) {
+        if (key == null || lanes.length == 1) {
+            return 0;
+        }
+        int h = key.hashCode();
+        // spread the higher bits, the keys often differ only at the end
+        h ^= (h >>> 16);
+        return (h & 0x7fffffff) % lanes.length;
+    }
+
+    @Override
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending = new ArrayList<>();
+        for (ThreadPoolExecutor lane : lanes) {
+            pending.addAll(lane.shutdownNow());
+        }
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return lanes[0].isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api;
+
+import com.google.common.base.Strings;
+import com.sportradar.mts.sdk.api.enums.TicketAckStatus;
+import com.sportradar.mts.sdk.api.impl.CorrelationIdGeneratorImpl;
+import com.sportradar.mts.sdk.api.impl.TicketAckImpl;
+import com.sportradar.mts.sdk.api.interfaces.CorrelationIdGenerator;
+import com.sportradar.mts.sdk.api.utils.MtsTicketHelper;
+import com.sportradar.mts.sdk.api.utils.SdkInfo;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class CorrelationIdGeneratorTest extends TimeLimitedTestBase {
+
+    @Test
+    public void formatTest() {
+        CorrelationIdGeneratorImpl generator = new CorrelationIdGeneratorImpl(0x17f0a1b2c3dL, 0x123456789abcL);
+
+        Assert.assertEquals("j17f0a1b2c3d123456789abc-0", generator.generate());
+        Assert.assertEquals("j17f0a1b2c3d123456789abc-1", generator.generate());
+    }
+
+    @Test
+    public void uniqueAcrossThreadsTest() throws InterruptedException {
+        CorrelationIdGeneratorImpl generator = new CorrelationIdGeneratorImpl();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(8);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    ids.add(generator.generate());
+                }
+                done.countDown();
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(8 * 5000, ids.size());
+    }
+
+    @Test
+    public void uniqueAcrossInstancesTest() {
+        String first = new CorrelationIdGeneratorImpl(1000L, 1L).generate();
+        String otherNode = new CorrelationIdGeneratorImpl(1000L, 2L).generate();
+        String restarted = new CorrelationIdGeneratorImpl(1001L, 1L).generate();
+
+        Assert.assertNotEquals(first, otherNode);
+        Assert.assertNotEquals(first, restarted);
+    }
+
+    @Test
+    public void customGeneratorUsedByMessagesTest() {
+        try {
+            MtsTicketHelper.setCorrelationIdGenerator(() -> "custom-id");
+
+            TicketAck ticketAck = new TicketAckImpl("ticket-1", 1, 100, "accepted", TicketAckStatus.ACCEPTED, new Date(), SdkInfo.MTS_TICKET_VERSION);
+
+            Assert.assertEquals("custom-id", ticketAck.getCorrelationId());
+        } finally {
+            MtsTicketHelper.setCorrelationIdGenerator(new CorrelationIdGeneratorImpl());
+        }
+    }
+
+    @Test
+    public void emptyCorrelationIdRejectedTest() {
+        try {
+            MtsTicketHelper.setCorrelationIdGenerator(new NullCorrelationIdGenerator());
+
+            thrown.expect(IllegalStateException.class);
+            thrown.expectMessage(NullCorrelationIdGenerator.class.getName() + " generated an empty correlationId");
+            MtsTicketHelper.generateTicketCorrelationId();
+        } finally {
+            MtsTicketHelper.setCorrelationIdGenerator(new CorrelationIdGeneratorImpl());
+        }
+    }
+
+    @Test
+    public void tooLongCorrelationIdRejectedTest() {
+        try {
+            MtsTicketHelper.setCorrelationIdGenerator(() -> Strings.repeat("a", 256));
+
+            thrown.expect(IllegalStateException.class);
+            thrown.expectMessage("generated a correlationId longer than 255 bytes");
+            new TicketAckImpl("ticket-1", 1, 100, "accepted", TicketAckStatus.ACCEPTED, new Date(), SdkInfo.MTS_TICKET_VERSION);
+        } finally {
+            MtsTicketHelper.setCorrelationIdGenerator(new CorrelationIdGeneratorImpl());
+        }
+    }
+
+    private static final class NullCorrelationIdGenerator implements CorrelationIdGenerator {
+        @Override
+        public String generate() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api;
+
+import com.sportradar.mts.sdk.api.builders.BuilderFactory;
+import com.sportradar.mts.sdk.api.enums.*;
+import com.sportradar.mts.sdk.api.utils.JsonUtils;
+import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
+import com.sportradar.mts.sdk.api.utils.MtsJsonSerializer;
+import com.sportradar.mts.sdk.api.utils.StaticRandom;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * The streaming serializer has to produce the same bytes as the dto mapping
+ */
+public class MtsJsonSerializerTest extends TimeLimitedTestBase {
+
+    private TicketBuilderHelper ticketBuilderHelper;
+    private BuilderFactory builderFactory;
+
+    @Before
+    public void Init()
+    {
+        ticketBuilderHelper = new TicketBuilderHelper(null);
+        builderFactory = ticketBuilderHelper.builderFactory;
+    }
+
+    @Test
+    public void SerializeGeneratedTicketsTest() {
+        for (int i = 1; i < 5; i++) {
+            Ticket ticket = ticketBuilderHelper.getTicket(null, 0, i, i * 3);
+            assertSameJson(MtsJsonSerializer.serialize(ticket), JsonUtils.serializeDto(MtsDtoMapper.map(ticket).getTicket()));
+        }
+    }
+
+    @Test
+    public void SerializeTicketWithSharedSelectionsAndBankersTest() {
+        Selection first = builderFactory.createSelectionBuilder().setEventId("9691139").setIdLcoo(324, 1, "", "1").setOdds(16000).setBanker(true).build();
+        Selection firstNoBanker = builderFactory.createSelectionBuilder().setEventId("9691139").setIdLcoo(324, 1, "", "1").setOdds(16000).setBanker(false).build();
+        Selection second = builderFactory.createSelectionBuilder().setEventId("9691140").setIdLcoo(324, 1, "", "2").setOdds(21000).setBoostedOdds(23000).build();
+        Selection third = builderFactory.createSelectionBuilder().setEventId("9691141").setIdLcoo(324, 1, "", "x").setOdds(31000).build();
+
+        Ticket ticket = builderFactory.createTicketBuilder()
+                .setTicketId("ticket-" + StaticRandom.S1000)
+                .setOddsChange(OddsChangeType.HIGHER)
+                .setSender(builderFactory.createSenderBuilder().setBookmakerId(7).setLimitId(3).setCurrency("EUR").setSenderChannel(SenderChannel.TERMINAL)
+                                   .setTerminalId("terminal \"1\"").setShopId("shop\\1").build())
+                .addBet(builderFactory.createBetBuilder().setBetId("bet-1").setStake(10000, StakeType.UNIT).addSelectedSystem(2)
+                                .addSelection(first).addSelection(second).addSelection(third).build())
+                .addBet(builderFactory.createBetBuilder().setBetId("bet-2").setStake(20000, StakeType.TOTAL).addSelectedSystem(2)
+                                .addSelection(firstNoBanker).addSelection(third).build())
+                .addBet(builderFactory.createBetBuilder().setBetId("bet-3").setStake(30000, StakeType.TOTAL).addSelectedSystem(1)
+                                .addSelection(second).build())
+                .build();
+
+        assertSameJson(MtsJsonSerializer.serialize(ticket), JsonUtils.serializeDto(MtsDtoMapper.map(ticket).getTicket()));
+    }
+
+    @Test
+    public void SerializeTicketWithAllOptionalFieldsTest() {
+        Ticket ticket = builderFactory.createTicketBuilder()
+                .setTicketId("ticket-" + StaticRandom.S1000)
+                .setOddsChange(OddsChangeType.NONE)
+                .setSender(builderFactory.createSenderBuilder().setBookmakerId(7).setLimitId(3).setCurrency("EUR").setSenderChannel(SenderChannel.INTERNET)
+                                   .setEndCustomer("127.0.0.1", "customer-1", "en", "device-1", 10000L).build())
+                .addBet(builderFactory.createBetBuilder().setBetId("bet-1").setStake(10000, StakeType.TOTAL).setEntireStake(50000, StakeType.UNIT).addSelectedSystem(1)
+                                .setBetFreeStake(500, BetFreeStakeType.TOTAL, BetFreeStakeDescription.FREE_BET, BetFreeStakePaidAs.CASH)
+                                .setBetBonus(100, BetBonusMode.ALL, BetBonusType.TOTAL, BetBonusDescription.ACCUMULATOR_BONUS, BetBonusPaidAs.CASH)
+                                .setSumOfWins(1000000L).setCustomBet(true).setCalculationOdds(25000).setReofferId("reoffer-bet")
+                                .addSelection(builderFactory.createSelectionBuilder().setEventId("9691139").setIdLcoo(324, 1, "", "1").setOdds(16000).build())
+                                .build())
+                .setTestSource(true)
+                .setAltStakeRefId("alt-ticket")
+                .setTotalCombinations(1)
+                .setLastMatchEndTime(new Date(new Date().getTime() + 10000))
+                .setPayCap(999999L)
+                .build();
+
+        assertSameJson(MtsJsonSerializer.serialize(ticket), JsonUtils.serializeDto(MtsDtoMapper.map(ticket).getTicket()));
+    }
+
+    @Test
+    public void SerializeTicketCancelTest() {
+        TicketCancel ticketCancel = ticketBuilderHelper.getTicketCancel(null);
+        assertSameJson(MtsJsonSerializer.serialize(ticketCancel), JsonUtils.serializeDto(MtsDtoMapper.map(ticketCancel).getCancel()));
+
+        ticketCancel = builderFactory.createTicketCancelBuilder().setTicketId("ticket-1").setBookmakerId(7)
+                .setCode(TicketCancellationReason.BookmakerBackofficeTriggered)
+                .addBetCancel("bet-1", 500000).addBetCancel("bet-2", null).build();
+        assertSameJson(MtsJsonSerializer.serialize(ticketCancel), JsonUtils.serializeDto(MtsDtoMapper.map(ticketCancel).getCancel()));
+    }
+
+    @Test
+    public void SerializeTicketCashoutTest() {
+        TicketCashout ticketCashout = ticketBuilderHelper.getTicketCashout(null);
+        assertSameJson(MtsJsonSerializer.serialize(ticketCashout), JsonUtils.serializeDto(MtsDtoMapper.map(ticketCashout)));
+
+        ticketCashout = builderFactory.createTicketCashoutBuilder().setTicketId("ticket-1").setBookmakerId(7)
+                .addBetCashout("bet-1", 1000, null).addBetCashout("bet-2", 2000, null).build();
+        assertSameJson(MtsJsonSerializer.serialize(ticketCashout), JsonUtils.serializeDto(MtsDtoMapper.map(ticketCashout)));
+    }
+
+    @Test
+    public void SerializeTicketAcksTest() {
+        TicketAck ticketAck = builderFactory.createTicketAckBuilder().setTicketId("ticket-1").setBookmakerId(7)
+                .setAckStatus(TicketAckStatus.ACCEPTED).setSourceCode(100).setSourceMessage("accepted \"by\" bookmaker").build();
+        assertSameJson(MtsJsonSerializer.serialize(ticketAck), JsonUtils.serializeDto(MtsDtoMapper.map(ticketAck)));
+
+        TicketCancelAck ticketCancelAck = builderFactory.createTicketCancelAckBuilder().setTicketId("ticket-1").setBookmakerId(7)
+                .setAckStatus(TicketCancelAckStatus.NOT_CANCELLED).setSourceCode(101).setSourceMessage("not cancelled").build();
+        assertSameJson(MtsJsonSerializer.serialize(ticketCancelAck), JsonUtils.serializeDto(MtsDtoMapper.map(ticketCancelAck)));
+    }
+
+    @Test
+    public void SerializeOtherTicketsTest() {
+        TicketReofferCancel ticketReofferCancel = ticketBuilderHelper.getTicketReofferCancel(null);
+        assertSameJson(MtsJsonSerializer.serialize(ticketReofferCancel), JsonUtils.serializeDto(MtsDtoMapper.map(ticketReofferCancel)));
+
+        TicketNonSrSettle ticketNonSrSettle = ticketBuilderHelper.getTicketNonSrSettle(null);
+        assertSameJson(MtsJsonSerializer.serialize(ticketNonSrSettle), JsonUtils.serializeDto(MtsDtoMapper.map(ticketNonSrSettle)));
+    }
+
+    private static void assertSameJson(byte[] actual, byte[] expected) {
+        assertThat(new String(actual, StandardCharsets.UTF_8), is(new String(expected, StandardCharsets.UTF_8)));
+    }
+}
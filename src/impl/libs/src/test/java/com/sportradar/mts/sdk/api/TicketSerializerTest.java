@@ -4,6 +4,7 @@
 
 package com.sportradar.mts.sdk.api;
 
+import com.sportradar.mts.sdk.api.impl.SerializedMessage;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
 import org.junit.Assert;
@@ -11,6 +12,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import static org.hamcrest.CoreMatchers.is;
 
@@ -68,4 +70,31 @@ public class TicketSerializerTest extends TimeLimitedTestBase {
         String serializedAgain = JsonUtils.serializeAsString(deserializedTicket);
         Assert.assertThat(serializedAgain, is(serialized));
     }
+
+    @Test
+    public void TicketJsonBytesSerializedOnceTest() {
+        Ticket ticket = ticketBuilderHelper.getTicket(null, 0, 0, 0);
+        byte[] jsonBytes = SerializedMessage.jsonBytesOf(ticket);
+        Assert.assertSame(jsonBytes, SerializedMessage.jsonBytesOf(ticket));
+        Assert.assertThat(new String(jsonBytes, StandardCharsets.UTF_8), is(ticket.getJsonValue()));
+    }
+
+    @Test
+    public void TicketJsonBytesCopiedForCallerTest() {
+        Ticket ticket = ticketBuilderHelper.getTicket(null, 0, 0, 0);
+        byte[] jsonBytes = ticket.getJsonBytes();
+        Assert.assertNotSame(jsonBytes, SerializedMessage.jsonBytesOf(ticket));
+
+        jsonBytes[0] = 'x';
+
+        Assert.assertEquals('{', SerializedMessage.jsonBytesOf(ticket)[0]);
+    }
+
+    @Test
+    public void SerializeTicketIgnoresJsonBytesTest() {
+        TicketCancel ticket = ticketBuilderHelper.getTicketCancel(null);
+        ticket.getJsonBytes();
+        String serialized = JsonUtils.serializeAsString(ticket);
+        Assert.assertFalse(serialized.contains("jsonBytes"));
+    }
 }
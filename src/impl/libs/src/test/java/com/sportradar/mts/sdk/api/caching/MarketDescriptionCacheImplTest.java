@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.sportradar.mts.api.rest.sportsapi.datamodel.MarketDescriptions;
+import com.sportradar.mts.sdk.api.rest.DataProvider;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+import java.io.File;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MarketDescriptionCacheImplTest extends TimeLimitedTestBase {
+
+    private static final String MARKET_DESCRIPTIONS = "/xml/market_descriptions.en.xml";
+
+    private DataProvider<MarketDescriptions> dataProvider;
+    private ScheduledExecutorService refreshScheduler;
+    private MarketDescriptionCacheImpl cache;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        dataProvider = (DataProvider<MarketDescriptions>) mock(DataProvider.class);
+        refreshScheduler = mock(ScheduledExecutorService.class);
+        cache = new MarketDescriptionCacheImpl(dataProvider, Collections.singletonList(Locale.ENGLISH), "token", refreshScheduler);
+    }
+
+    @Test
+    public void firstCallFetchesAndSchedulesRefreshTest() {
+        respondWithMarketDescriptions();
+
+        MarketDescriptionCI market = cache.getMarketDescription(282);
+
+        Assert.assertEquals("Innings 1 to 5th top - {$competitor1} total", market.getName(Locale.ENGLISH));
+        Assert.assertSame(market, cache.getMarketDescription(282));
+        verify(dataProvider, times(1)).readData(eq(Locale.ENGLISH), any(DataProvider.ContentReader.class));
+        verify(refreshScheduler).schedule(any(Runnable.class), eq(Duration.ofHours(4).toMillis()), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void refreshSwapsSnapshotTest() {
+        respondWithMarketDescriptions();
+        MarketDescriptionCI market = cache.getMarketDescription(282);
+
+        scheduledRefresh().run();
+
+        MarketDescriptionCI refreshedMarket = cache.getMarketDescription(282);
+        Assert.assertNotSame(market, refreshedMarket);
+        Assert.assertEquals(market.getName(Locale.ENGLISH), refreshedMarket.getName(Locale.ENGLISH));
+    }
+
+    @Test
+    public void failedRefreshKeepsSnapshotTest() {
+        respondWithMarketDescriptions();
+        MarketDescriptionCI market = cache.getMarketDescription(282);
+        Runnable refresh = scheduledRefresh();
+        doReturn(null).when(dataProvider).readData(any(Locale.class), any(DataProvider.ContentReader.class));
+
+        refresh.run();
+
+        Assert.assertSame(market, cache.getMarketDescription(282));
+        verify(refreshScheduler).schedule(any(Runnable.class), eq(30000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void failedFirstFetchPausesFetchingTest() {
+        when(dataProvider.readData(any(Locale.class), any(DataProvider.ContentReader.class))).thenReturn(null);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.getMarketDescription(282);
+                Assert.fail("IllegalArgumentException expected");
+            } catch (IllegalArgumentException e) {
+                Assert.assertEquals("The requested market id was not found", e.getMessage());
+            }
+        }
+        verify(dataProvider, times(1)).readData(any(Locale.class), any(DataProvider.ContentReader.class));
+    }
+
+    @Test
+    public void missingAccessTokenTest() {
+        cache = new MarketDescriptionCacheImpl(dataProvider, Collections.singletonList(Locale.ENGLISH), null, refreshScheduler);
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Missing AccessToken.");
+        cache.getMarketDescription(282);
+    }
+
+    @Test
+    public void startupServesPersistedSnapshotTest() throws Exception {
+        File file = new File(temporaryFolder.getRoot(), "markets.bin");
+        cache = new MarketDescriptionCacheImpl(dataProvider, Collections.singletonList(Locale.ENGLISH), "token", refreshScheduler, file.toPath());
+        respondWithMarketDescriptions();
+        MarketDescriptionCI market = cache.getMarketDescription(282);
+        ArgumentCaptor<Runnable> write = ArgumentCaptor.forClass(Runnable.class);
+        verify(refreshScheduler).execute(write.capture());
+        write.getValue().run();
+        Assert.assertTrue(file.exists());
+
+        ScheduledExecutorService restartedScheduler = mock(ScheduledExecutorService.class);
+        doReturn(null).when(dataProvider).readData(any(Locale.class), any(DataProvider.ContentReader.class));
+        cache = new MarketDescriptionCacheImpl(dataProvider, Collections.singletonList(Locale.ENGLISH), "token", restartedScheduler, file.toPath());
+
+        MarketDescriptionCI persistedMarket = cache.getMarketDescription(282);
+
+        Assert.assertEquals(market.getName(Locale.ENGLISH), persistedMarket.getName(Locale.ENGLISH));
+        verify(dataProvider, times(1)).readData(any(Locale.class), any(DataProvider.ContentReader.class));
+        verify(restartedScheduler).schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void closeShutsDownRefreshSchedulerTest() {
+        respondWithMarketDescriptions();
+        MarketDescriptionCI market = cache.getMarketDescription(282);
+        Runnable refresh = scheduledRefresh();
+
+        cache.close();
+
+        verify(refreshScheduler).shutdownNow();
+        doReturn(null).when(dataProvider).readData(any(Locale.class), any(DataProvider.ContentReader.class));
+        when(refreshScheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenThrow(new RejectedExecutionException());
+        refresh.run();
+        Assert.assertSame(market, cache.getMarketDescription(282));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respondWithMarketDescriptions() {
+        when(dataProvider.readData(any(Locale.class), any(DataProvider.ContentReader.class))).thenAnswer(invocation -> {
+            DataProvider.ContentReader<Integer> reader = (DataProvider.ContentReader<Integer>) invocation.getArguments()[1];
+            try (InputStream inputStream = getClass().getResourceAsStream(MARKET_DESCRIPTIONS)) {
+                return reader.read(inputStream);
+            }
+        });
+    }
+
+    private Runnable scheduledRefresh() {
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        verify(refreshScheduler).schedule(refresh.capture(), eq(Duration.ofHours(4).toMillis()), eq(TimeUnit.MILLISECONDS));
+        return refresh.getValue();
+    }
+}
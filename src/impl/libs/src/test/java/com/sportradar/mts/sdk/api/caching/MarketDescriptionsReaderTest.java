@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.sportradar.mts.api.rest.sportsapi.datamodel.MarketDescriptions;
+import com.sportradar.mts.sdk.api.rest.DeserializerJaxbApi;
+import com.sportradar.mts.sdk.api.rest.dto.MarketDescriptionDTO;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.xml.bind.JAXBContext;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MarketDescriptionsReaderTest extends TimeLimitedTestBase {
+
+    private static final String MARKET_DESCRIPTIONS = "/xml/market_descriptions.en.xml";
+
+    @Test
+    public void sameAsJaxbTest() throws Exception {
+        MarketDescriptions jaxbMarkets;
+        try (InputStream inputStream = getClass().getResourceAsStream(MARKET_DESCRIPTIONS)) {
+            jaxbMarkets = new DeserializerJaxbApi(JAXBContext.newInstance("com.sportradar.mts.api.rest.sportsapi.datamodel"))
+                    .deserialize(inputStream, MarketDescriptions.class);
+        }
+        Map<Long, MarketDescriptionCI> streamedMarkets = read(Locale.ENGLISH);
+
+        Assert.assertFalse(jaxbMarkets.getMarket().isEmpty());
+        Assert.assertEquals(jaxbMarkets.getMarket().size(), streamedMarkets.size());
+        jaxbMarkets.getMarket().forEach(market -> {
+            MarketDescriptionCI expected = new MarketDescriptionCI(new MarketDescriptionDTO(market), Locale.ENGLISH);
+            assertSameMarket(expected, streamedMarkets.get(expected.getId()));
+        });
+    }
+
+    @Test
+    public void mergeLocalesTest() throws IOException {
+        Map<Long, MarketDescriptionCI> english = read(Locale.ENGLISH);
+        Map<Long, MarketDescriptionCI> german = read(Locale.GERMAN);
+
+        MarketDescriptionCI market = english.get(282L);
+        market.merge(german.get(282L), Locale.GERMAN);
+
+        Assert.assertEquals("Innings 1 to 5th top - {$competitor1} total", market.getName(Locale.GERMAN));
+        Assert.assertEquals("under {total}", market.getOutcomes().get(0).getName(Locale.GERMAN));
+        Assert.assertEquals(2, market.getCachedLocales().size());
+    }
+
+    @Test
+    public void mergeLocalesWithoutMappingsTest() {
+        List<MarketOutcomeCI> outcomes = new ArrayList<>();
+        outcomes.add(new MarketOutcomeCI("1", "yes", null, Locale.ENGLISH));
+        Map<Locale, String> names = new ConcurrentHashMap<>();
+        names.put(Locale.ENGLISH, "winner");
+        MarketDescriptionCI market = new MarketDescriptionCI(1L, names, new ConcurrentHashMap<>(), null, outcomes, null, null, null, Locale.ENGLISH);
+        List<MarketOutcomeCI> germanOutcomes = new ArrayList<>();
+        germanOutcomes.add(new MarketOutcomeCI("1", "ja", null, Locale.GERMAN));
+        Map<Locale, String> germanNames = new ConcurrentHashMap<>();
+        germanNames.put(Locale.GERMAN, "Sieger");
+        MarketDescriptionCI german = new MarketDescriptionCI(1L, germanNames, new ConcurrentHashMap<>(), null, germanOutcomes, null, null, null, Locale.GERMAN);
+
+        market.merge(german, Locale.GERMAN);
+        market.merge(german, Locale.GERMAN);
+
+        Assert.assertEquals("Sieger", market.getName(Locale.GERMAN));
+        Assert.assertEquals("ja", market.getOutcomes().get(0).getName(Locale.GERMAN));
+        Assert.assertEquals(2, market.getCachedLocales().size());
+    }
+
+    @Test
+    public void invalidDocumentTest() throws IOException {
+        thrown.expect(IOException.class);
+        MarketDescriptionsReader.read(new ByteArrayInputStream("<market_descriptions><market id=\"1\">".getBytes(StandardCharsets.UTF_8)),
+                                      Locale.ENGLISH,
+                                      market -> { });
+    }
+
+    private Map<Long, MarketDescriptionCI> read(Locale locale) throws IOException {
+        Map<Long, MarketDescriptionCI> markets = new LinkedHashMap<>();
+        try (InputStream inputStream = getClass().getResourceAsStream(MARKET_DESCRIPTIONS)) {
+            int count = MarketDescriptionsReader.read(inputStream, locale, market -> markets.put(market.getId(), market));
+            Assert.assertEquals(count, markets.size());
+        }
+        return markets;
+    }
+
+    private static void assertSameMarket(MarketDescriptionCI expected, MarketDescriptionCI actual) {
+        Assert.assertNotNull(actual);
+        Assert.assertEquals(expected.getName(Locale.ENGLISH), actual.getName(Locale.ENGLISH));
+        Assert.assertEquals(expected.getDescription(Locale.ENGLISH), actual.getDescription(Locale.ENGLISH));
+        Assert.assertEquals(expected.getVariant(), actual.getVariant());
+        Assert.assertEquals(describeOutcomes(expected.getOutcomes()), describeOutcomes(actual.getOutcomes()));
+        Assert.assertEquals(describeMappings(expected.getMappings()), describeMappings(actual.getMappings()));
+        Assert.assertEquals(expected.getSpecifiers() == null, actual.getSpecifiers() == null);
+        if (expected.getSpecifiers() != null) {
+            Assert.assertEquals(expected.getSpecifiers().size(), actual.getSpecifiers().size());
+            for (int i = 0; i < expected.getSpecifiers().size(); i++) {
+                Assert.assertEquals(expected.getSpecifiers().get(i).getName(), actual.getSpecifiers().get(i).getName());
+                Assert.assertEquals(expected.getSpecifiers().get(i).getType(), actual.getSpecifiers().get(i).getType());
+            }
+        }
+        Assert.assertEquals(expected.getAttributes() == null, actual.getAttributes() == null);
+        if (expected.getAttributes() != null) {
+            Assert.assertEquals(expected.getAttributes().size(), actual.getAttributes().size());
+            for (int i = 0; i < expected.getAttributes().size(); i++) {
+                Assert.assertEquals(expected.getAttributes().get(i).getName(), actual.getAttributes().get(i).getName());
+                Assert.assertEquals(expected.getAttributes().get(i).getDescription(), actual.getAttributes().get(i).getDescription());
+            }
+        }
+    }
+
+    private static List<String> describeOutcomes(List<MarketOutcomeCI> outcomes) {
+        if (outcomes == null) {
+            return null;
+        }
+        List<String> result = new ArrayList<>();
+        outcomes.forEach(o -> result.add(o.getId() + "|" + o.getName(Locale.ENGLISH) + "|" + o.getDescription(Locale.ENGLISH)));
+        return result;
+    }
+
+    private static List<String> describeMappings(List<MarketMappingCI> mappings) {
+        if (mappings == null) {
+            return null;
+        }
+        List<String> result = new ArrayList<>();
+        mappings.forEach(m -> {
+            StringBuilder sb = new StringBuilder();
+            sb.append(m.getProducerId()).append('|').append(m.getSportId()).append('|').append(m.getMarketTypeId())
+                    .append('|').append(m.getMarketSubTypeId()).append('|').append(m.getSovTemplate()).append('|').append(m.getValidFor());
+            m.getOutcomeMappings().forEach(o -> sb.append('|').append(o.getOutcomeId()).append('>')
+                    .append(o.getProducerOutcomeId()).append('>').append(o.getProducerOutcomeName()));
+            result.add(sb.toString());
+        });
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.caching;
+
+import com.sportradar.mts.sdk.api.utils.SdkInfo;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class MarketDescriptionsSnapshotFileTest extends TimeLimitedTestBase {
+
+    private static final String MARKET_DESCRIPTIONS = "/xml/market_descriptions.en.xml";
+    private static final List<Locale> LOCALES = Collections.singletonList(Locale.ENGLISH);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path path;
+    private MarketDescriptionsSnapshotFile snapshotFile;
+    private long createdMillis;
+
+    @Before
+    public void setUp() {
+        path = temporaryFolder.getRoot().toPath().resolve("markets.bin");
+        snapshotFile = new MarketDescriptionsSnapshotFile(path);
+        createdMillis = System.currentTimeMillis();
+    }
+
+    @Test
+    public void writeAndReadTest() throws IOException {
+        Map<Long, MarketDescriptionCI> markets = readMarketDescriptions();
+
+        snapshotFile.write(markets, LOCALES, createdMillis);
+        MarketDescriptionsSnapshotFile.Content content = snapshotFile.read(LOCALES);
+
+        Assert.assertNotNull(content);
+        Assert.assertEquals(createdMillis, content.getCreatedMillis());
+        Assert.assertEquals(markets.keySet(), content.getMarkets().keySet());
+        MarketDescriptionCI market = content.getMarkets().get(282L);
+        MarketDescriptionCI expected = markets.get(282L);
+        Assert.assertEquals(expected.getName(Locale.ENGLISH), market.getName(Locale.ENGLISH));
+        Assert.assertEquals(expected.getCachedLocales(), market.getCachedLocales());
+        Assert.assertEquals(2, market.getOutcomes().size());
+        Assert.assertEquals("under {total}", market.getOutcomes().get(0).getName(Locale.ENGLISH));
+        Assert.assertEquals("decimal", market.getSpecifiers().get(0).getType());
+        MarketMappingCI mapping = market.getMappings().get(0);
+        Assert.assertEquals(1, mapping.getProducerId());
+        Assert.assertEquals("sr:sport:3", mapping.getSportId().toString());
+        Assert.assertEquals(8, mapping.getMarketTypeId());
+        Assert.assertEquals(Integer.valueOf(232), mapping.getMarketSubTypeId());
+        Assert.assertEquals("{total}", mapping.getSovTemplate());
+        Assert.assertEquals("2528", mapping.getOutcomeMappings().get(0).getProducerOutcomeId());
+        Assert.assertNull(content.getMarkets().get(683L).getOutcomes());
+        Assert.assertNull(content.getMarkets().get(701L).getMappings().get(0).getMarketSubTypeId());
+    }
+
+    @Test
+    public void missingFileTest() throws IOException {
+        Assert.assertNull(snapshotFile.read(LOCALES));
+    }
+
+    @Test
+    public void missingLocaleTest() throws IOException {
+        snapshotFile.write(readMarketDescriptions(), LOCALES, createdMillis);
+
+        Assert.assertNull(snapshotFile.read(Arrays.asList(Locale.ENGLISH, Locale.GERMAN)));
+    }
+
+    @Test
+    public void corruptedFileTest() throws IOException {
+        snapshotFile.write(readMarketDescriptions(), LOCALES, createdMillis);
+        byte[] content = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(content, content.length / 2));
+
+        thrown.expect(IOException.class);
+        snapshotFile.read(LOCALES);
+    }
+
+    @Test
+    public void invalidMarketCountTest() throws IOException {
+        Map<Long, MarketDescriptionCI> markets = readMarketDescriptions();
+        snapshotFile.write(markets, LOCALES, createdMillis);
+        byte[] content = Files.readAllBytes(path);
+        // magic, format version, SDK version, creation time, locale count and locale precede the market count
+        int marketCountOffset = 4 + 4 + 4 + SdkInfo.getVersion().getBytes(StandardCharsets.UTF_8).length + 8 + 4 + 4 + 2;
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        Assert.assertEquals(markets.size(), buffer.getInt(marketCountOffset));
+        buffer.putInt(marketCountOffset, Integer.MAX_VALUE);
+        Files.write(path, content);
+
+        thrown.expect(IOException.class);
+        snapshotFile.read(LOCALES);
+    }
+
+    @Test
+    public void expiredFileTest() throws IOException {
+        snapshotFile.write(readMarketDescriptions(), LOCALES, createdMillis - MarketDescriptionsSnapshotFile.MAX_AGE_MILLIS - 1);
+
+        Assert.assertNull(snapshotFile.read(LOCALES));
+    }
+
+    @Test
+    public void fileFromFutureTest() throws IOException {
+        snapshotFile.write(readMarketDescriptions(), LOCALES, createdMillis + 60000);
+
+        Assert.assertNull(snapshotFile.read(LOCALES));
+    }
+
+    private Map<Long, MarketDescriptionCI> readMarketDescriptions() throws IOException {
+        Map<Long, MarketDescriptionCI> markets = new HashMap<>();
+        try (InputStream inputStream = getClass().getResourceAsStream(MARKET_DESCRIPTIONS)) {
+            MarketDescriptionsReader.read(inputStream, Locale.ENGLISH, market -> markets.put(market.getId(), market));
+        }
+        return markets;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.impl.builders;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SelectionIdEncoderTest extends TimeLimitedTestBase {
+
+    @Test
+    public void encodeLoTest() {
+        SelectionIdEncoder encoder = new SelectionIdEncoder(0);
+
+        Assert.assertEquals("live:2/0/*/1", encoder.encodeLo(2, 0, null, "1"));
+        Assert.assertEquals("live:2/3/1.5", encoder.encodeLo(2, 3, "1.5", ""));
+    }
+
+    @Test
+    public void encodeLcooTest() {
+        SelectionIdEncoder encoder = new SelectionIdEncoder(0);
+
+        Assert.assertEquals("lcoo:324/1/*/1", encoder.encodeLcoo(324, 1, "", "1"));
+        Assert.assertEquals("lcoo:10/5/2.5", encoder.encodeLcoo(10, 5, "2.5", null));
+    }
+
+    @Test
+    public void encodeUofTest() {
+        SelectionIdEncoder encoder = new SelectionIdEncoder(0);
+        Map<String, String> specifiers = new LinkedHashMap<>();
+        specifiers.put("total", "2.5");
+        specifiers.put("$server", "1");
+
+        Assert.assertEquals("uof:3/sr:sport:1/18/12?total=2.5&$server=1", encoder.encodeUof(3, "sr:sport:1", 18, "12", specifiers));
+        Assert.assertEquals("uof:3/sr:sport:1/1", encoder.encodeUof(3, "sr:sport:1", 1, null, null));
+    }
+
+    @Test
+    public void recurringIdsAreReusedTest() {
+        SelectionIdEncoder encoder = new SelectionIdEncoder(16);
+
+        String first = encoder.encodeLcoo(324, 1, "", "1");
+        Assert.assertSame(first, encoder.encodeLcoo(324, 1, "", "1"));
+        Assert.assertEquals("lcoo:324/1/*/2", encoder.encodeLcoo(324, 1, "", "2"));
+
+        SelectionIdEncoder noCache = new SelectionIdEncoder(0);
+        Assert.assertNotSame(noCache.encodeLcoo(324, 1, "", "1"), noCache.encodeLcoo(324, 1, "", "1"));
+    }
+
+    @Test
+    public void parseSpecifiersTest() {
+        Map<String, String> specifiers = SelectionIdEncoder.parseSpecifiers("total=2.5|hcp=0:1|total=3.5|");
+
+        Assert.assertEquals(2, specifiers.size());
+        Assert.assertEquals("2.5", specifiers.get("total"));
+        Assert.assertEquals("0:1", specifiers.get("hcp"));
+        Assert.assertTrue(SelectionIdEncoder.parseSpecifiers(null).isEmpty());
+        Assert.assertTrue(SelectionIdEncoder.parseSpecifiers("").isEmpty());
+    }
+
+    @Test
+    public void parseSpecifiersWithoutValueTest() {
+        thrown.expect(IllegalArgumentException.class);
+        SelectionIdEncoder.parseSpecifiers("total=2.5|hcp=");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.rest;
+
+import com.google.common.io.ByteStreams;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DataProviderTest extends TimeLimitedTestBase {
+
+    private static final String PATH = "https://example.com/%s/data.xml";
+
+    @Test
+    public void responseStreamedIntoDeserializerTest() throws IOException {
+        InputStream content = new ByteArrayInputStream("<data/>".getBytes(StandardCharsets.UTF_8));
+        HttpDataFetcher fetcher = new HttpDataFetcher(null, mockHttpClient(HttpStatus.SC_OK, content));
+        InputStream[] deserialized = new InputStream[1];
+        Deserializer deserializer = new Deserializer() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> T deserialize(InputStream inStr, Class<T> clazz) {
+                deserialized[0] = inStr;
+                try {
+                    return (T) new String(ByteStreams.toByteArray(inStr), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public <T> String serialize(T inObj) {
+                return null;
+            }
+        };
+
+        String result = new DataProvider<>(PATH, fetcher, deserializer, String.class).getData();
+
+        Assert.assertEquals("<data/>", result);
+        Assert.assertSame(content, deserialized[0]);
+    }
+
+    @Test
+    public void streamResultOutlivesResponseTest() throws IOException {
+        HttpDataFetcher fetcher = new HttpDataFetcher(null, mockHttpClient(HttpStatus.SC_OK, new ByteArrayInputStream("a;b".getBytes(StandardCharsets.UTF_8))));
+
+        InputStream result = new DataProvider<>(PATH, fetcher, new DeserializerStream(), InputStream.class).getData();
+
+        Assert.assertNotNull(result);
+        Assert.assertEquals("a;b", new String(ByteStreams.toByteArray(result), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void nonOkResponseReturnsNullTest() throws IOException {
+        HttpDataFetcher fetcher = new HttpDataFetcher(null, mockHttpClient(HttpStatus.SC_NOT_FOUND, new ByteArrayInputStream(new byte[1])));
+
+        Assert.assertNull(new DataProvider<>(PATH, fetcher, new DeserializerStream(), InputStream.class).getData());
+        Assert.assertEquals(HttpStatus.SC_NOT_FOUND, fetcher.getStatusCode());
+        Assert.assertEquals("", fetcher.get("https://example.com/data.xml"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CloseableHttpClient mockHttpClient(int statusCode, InputStream content) throws IOException {
+        CloseableHttpClient httpClient = mock(CloseableHttpClient.class);
+        when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenAnswer(invocation -> {
+            BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, statusCode, "");
+            response.setEntity(new InputStreamEntity(content));
+            return ((ResponseHandler<Object>) invocation.getArguments()[1]).handleResponse(response);
+        });
+        return httpClient;
+    }
+}
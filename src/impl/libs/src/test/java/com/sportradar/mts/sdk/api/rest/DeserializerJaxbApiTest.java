@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.rest;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class DeserializerJaxbApiTest extends TimeLimitedTestBase {
+
+    @XmlRootElement(name = "item")
+    public static class Item {
+        @XmlAttribute
+        public int id;
+    }
+
+    @Test
+    public void concurrentDeserializeTest() throws Exception {
+        Deserializer deserializer = new DeserializerJaxbApi(JAXBContext.newInstance(Item.class));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> calls = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final int id = i;
+                calls.add(() -> deserializer.deserialize(xml(id), Item.class).id);
+            }
+            List<Future<Integer>> results = executor.invokeAll(calls);
+            for (int i = 0; i < results.size(); i++) {
+                Assert.assertEquals(i, (int) results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void serializeTest() throws JAXBException {
+        Item item = new Item();
+        item.id = 7;
+
+        String xml = new DeserializerJaxbApi(JAXBContext.newInstance(Item.class)).serialize(item);
+
+        Assert.assertTrue(xml, xml.contains("<item id=\"7\"/>"));
+    }
+
+    @Test
+    public void providedInstancesReusedTest() throws JAXBException {
+        JAXBContext context = JAXBContext.newInstance(Item.class);
+        Deserializer deserializer = new DeserializerJaxbApi(context.createUnmarshaller(), context.createMarshaller());
+
+        Assert.assertEquals(1, deserializer.deserialize(xml(1), Item.class).id);
+        Assert.assertEquals(2, deserializer.deserialize(xml(2), Item.class).id);
+        Assert.assertNull(deserializer.deserialize(new ByteArrayInputStream("<other/>".getBytes(StandardCharsets.UTF_8)), Item.class));
+        Assert.assertEquals(3, deserializer.deserialize(xml(3), Item.class).id);
+    }
+
+    private static ByteArrayInputStream xml(int id) {
+        return new ByteArrayInputStream(("<item id=\"" + id + "\"/>").getBytes(StandardCharsets.UTF_8));
+    }
+}
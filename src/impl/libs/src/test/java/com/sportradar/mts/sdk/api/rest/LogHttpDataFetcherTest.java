@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.rest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+import com.sportradar.mts.sdk.api.utils.SdkInfo;
+import com.sportradar.mts.sdk.impl.libs.LoggerTestAppender;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LogHttpDataFetcherTest extends TimeLimitedTestBase {
+
+    private static final String REST_LOGGER = "com.sportradar.mts.rest";
+    private static final String PATH = "https://example.com/%s/data.xml";
+
+    private Logger restLogger;
+    private Level level;
+
+    @Before
+    public void setUp() {
+        restLogger = (Logger) LoggerFactory.getLogger(REST_LOGGER);
+        level = restLogger.getLevel();
+    }
+
+    @After
+    public void tearDown() {
+        restLogger.setLevel(level);
+    }
+
+    @Test
+    public void onlyBodyPrefixLoggedAtInfoTest() throws IOException {
+        restLogger.setLevel(Level.INFO);
+        String body = Strings.repeat("a", SdkInfo.REST_LOG_BODY_PREFIX_BYTES) + Strings.repeat("b", 4000);
+        InputStream content = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        LoggerTestAppender appender = new LoggerTestAppender(REST_LOGGER);
+        LogHttpDataFetcher fetcher = new LogHttpDataFetcher(null, mockHttpClient(content));
+
+        String result = new DataProvider<>(PATH, fetcher, new DeserializerStream(), InputStream.class)
+                .readData(Locale.ENGLISH, inputStream -> new String(ByteStreams.toByteArray(inputStream), StandardCharsets.UTF_8));
+
+        Assert.assertEquals(body, result);
+        Assert.assertTrue(appender.searchLoggingEventByFormattedMessage(
+                Strings.repeat("a", SdkInfo.REST_LOG_BODY_PREFIX_BYTES) + "... (" + body.length() + " bytes)"));
+        Assert.assertFalse(appender.searchLoggingEventByFormattedMessage("ab"));
+    }
+
+    @Test
+    public void wholeBodyLoggedAtDebugTest() throws IOException {
+        restLogger.setLevel(Level.DEBUG);
+        String body = Strings.repeat("a", SdkInfo.REST_LOG_BODY_PREFIX_BYTES) + "b";
+        InputStream content = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        LoggerTestAppender appender = new LoggerTestAppender(REST_LOGGER);
+        LogHttpDataFetcher fetcher = new LogHttpDataFetcher(null, mockHttpClient(content));
+
+        Assert.assertEquals(body, fetcher.get("https://example.com/data.xml"));
+        Assert.assertTrue(appender.searchLoggingEventByFormattedMessage("response - OK: " + body));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CloseableHttpClient mockHttpClient(InputStream content) throws IOException {
+        CloseableHttpClient httpClient = mock(CloseableHttpClient.class);
+        when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenAnswer(invocation -> {
+            BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "");
+            response.setEntity(new InputStreamEntity(content));
+            return ((ResponseHandler<Object>) invocation.getArguments()[1]).handleResponse(response);
+        });
+        return httpClient;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.api.utils;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MtsTicketHelperTest extends TimeLimitedTestBase {
+
+    private static final String BET_ID_PATTERN = "^[0-9A-Za-z:_-]*";
+    private static final String USER_ID_PATTERN = "^[0-9A-Za-z#_-]*";
+
+    @Test
+    public void validateIdTest() {
+        assertTrue(MtsTicketHelper.validateTicketId("Ticket_1:bet-2"));
+        assertFalse(MtsTicketHelper.validateTicketId("Ticket#1"));
+        assertFalse(MtsTicketHelper.validateTicketId(""));
+        assertFalse(MtsTicketHelper.validateTicketId(null));
+        assertFalse(MtsTicketHelper.validateTicketId(repeat('a', 129)));
+        assertTrue(MtsTicketHelper.validateTicketId(repeat('a', 128)));
+
+        assertTrue(MtsTicketHelper.validateUserId("User#1_a-b"));
+        assertFalse(MtsTicketHelper.validateUserId("User:1"));
+        assertFalse(MtsTicketHelper.validateUserId("Us\u00e9r"));
+    }
+
+    @Test
+    public void validateIdSameAsPatternTest() {
+        String chars = "09AZaz:#_-. /\\\u00e9\u0100\u00ff*";
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            char[] id = new char[1 + random.nextInt(10)];
+            for (int j = 0; j < id.length; j++) {
+                id[j] = chars.charAt(random.nextInt(chars.length()));
+            }
+            String value = new String(id);
+
+            assertEquals(value, value.matches(BET_ID_PATTERN), MtsTicketHelper.validateId(value, true, false));
+            assertEquals(value, value.matches(USER_ID_PATTERN), MtsTicketHelper.validateId(value, true, true));
+        }
+    }
+
+    @Test
+    public void validateTimestampTest() {
+        assertTrue(MtsTicketHelper.validateTimestamp(new Date()));
+        assertFalse(MtsTicketHelper.validateTimestamp(new GregorianCalendar(2017, 1, 1).getTime()));
+        assertFalse(MtsTicketHelper.validateTimestamp(new GregorianCalendar(2016, 11, 31).getTime()));
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
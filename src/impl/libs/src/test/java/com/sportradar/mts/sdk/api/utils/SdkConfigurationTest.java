@@ -16,6 +16,8 @@ import org.junit.Test;
 import java.util.Properties;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class SdkConfigurationTest extends TimeLimitedTestBase {
 
@@ -996,6 +998,139 @@ public class SdkConfigurationTest extends TimeLimitedTestBase {
         Assert.assertNotNull(config);
     }
 
+    @Test
+    public void builderPublishBatchSettings() {
+        SdkConfiguration config = new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setPublishBatchSize(50)
+                .setPublishBatchTimeoutMicros(200)
+                .build();
+
+        assertEquals(50, config.getPublishBatchSize());
+        assertEquals(200, config.getPublishBatchTimeoutMicros());
+    }
+
+    @Test
+    public void propertiesPublishBatchSettings() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(SdkInfo.PUBLISH_BATCH_SIZE_DEFAULT, config.getPublishBatchSize());
+        assertEquals(SdkInfo.PUBLISH_BATCH_TIMEOUT_MICROS_DEFAULT, config.getPublishBatchTimeoutMicros());
+
+        properties.setProperty(SettingsKeys.PUBLISH_BATCH_SIZE, "50");
+        properties.setProperty(SettingsKeys.PUBLISH_BATCH_TIMEOUT_MICROS, "200");
+
+        config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(50, config.getPublishBatchSize());
+        assertEquals(200, config.getPublishBatchTimeoutMicros());
+    }
+
+    @Test
+    public void builderPublishBatchSizeToLow() {
+        thrown.expect(IllegalArgumentException.class);
+
+        new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setPublishBatchSize(0)
+                .build();
+    }
+
+    @Test
+    public void propertiesPublishBatchSizeToHigh() {
+        thrown.expect(IllegalArgumentException.class);
+
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+        properties.setProperty(SettingsKeys.PUBLISH_BATCH_SIZE, String.valueOf(SdkInfo.PUBLISH_BATCH_SIZE_MAX + 1));
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+    }
+
+    @Test
+    public void builderPublishBatchTimeoutToHigh() {
+        thrown.expect(IllegalArgumentException.class);
+
+        new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setPublishBatchTimeoutMicros(SdkInfo.PUBLISH_BATCH_TIMEOUT_MICROS_MAX + 1)
+                .build();
+    }
+
+    @Test
+    public void builderProducerShardSettings() {
+        SdkConfiguration config = new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setTicketProducerShardCount(4)
+                .setTicketProducerConnectionPerShard(true)
+                .setProducerBufferSize(512)
+                .build();
+
+        assertEquals(4, config.getTicketProducerShardCount());
+        assertTrue(config.getTicketProducerConnectionPerShard());
+        assertEquals(512, config.getProducerBufferSize());
+    }
+
+    @Test
+    public void propertiesProducerShardSettings() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(SdkInfo.PRODUCER_SHARD_COUNT_DEFAULT, config.getTicketProducerShardCount());
+        assertFalse(config.getTicketProducerConnectionPerShard());
+        assertEquals(SdkInfo.PRODUCER_BUFFER_SIZE_DEFAULT, config.getProducerBufferSize());
+
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_SHARD_COUNT, "4");
+        properties.setProperty(SettingsKeys.TICKET_PRODUCER_CONNECTION_PER_SHARD, "true");
+        properties.setProperty(SettingsKeys.PRODUCER_BUFFER_SIZE, "512");
+
+        config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(4, config.getTicketProducerShardCount());
+        assertTrue(config.getTicketProducerConnectionPerShard());
+        assertEquals(512, config.getProducerBufferSize());
+    }
+
+    @Test
+    public void builderTicketProducerShardCountToHigh() {
+        thrown.expect(IllegalArgumentException.class);
+
+        new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setTicketProducerShardCount(SdkInfo.PRODUCER_SHARD_COUNT_MAX + 1)
+                .build();
+    }
+
+    @Test
+    public void propertiesProducerBufferSizeToLow() {
+        thrown.expect(IllegalArgumentException.class);
+
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+        properties.setProperty(SettingsKeys.PRODUCER_BUFFER_SIZE, "0");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+    }
+
     private static void checkAllSettings(SdkConfiguration config) {
         checkAllSettings(
                 config,
@@ -1076,4 +1211,198 @@ public class SdkConfigurationTest extends TimeLimitedTestBase {
         assertEquals(ticketCashoutResponseTimeout, config.getTicketCashoutResponseTimeout());
         assertEquals(ticketNonSrSettleResponseTimeout, config.getTicketNonSrSettleResponseTimeout());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void propertiesResponseTimeoutTimerTick() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(SdkInfo.RESPONSE_TIMEOUT_TIMER_TICK_DEFAULT, config.getResponseTimeoutTimerTick());
+
+        properties.setProperty(SettingsKeys.RESPONSE_TIMEOUT_TIMER_TICK, "50");
+
+        config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(50, config.getResponseTimeoutTimerTick());
+    }
+
+    @Test
+    public void builderResponseTimeoutTimerTickToLow() {
+        thrown.expect(IllegalArgumentException.class);
+
+        new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setResponseTimeoutTimerTick(0)
+                .build();
+    }
+
+    @Test
+    public void propertiesMaxInFlightRequests() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(SdkInfo.MAX_IN_FLIGHT_REQUESTS_DEFAULT, config.getMaxInFlightRequests());
+
+        properties.setProperty(SettingsKeys.MAX_IN_FLIGHT_REQUESTS, "5000");
+
+        config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(5000, config.getMaxInFlightRequests());
+    }
+
+    @Test
+    public void builderMaxInFlightRequestsToLow() {
+        thrown.expect(IllegalArgumentException.class);
+
+        new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setMaxInFlightRequests(0)
+                .build();
+    }
+
+    @Test
+    public void propertiesConsumerWorkerCount() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(SdkInfo.CONSUMER_WORKER_COUNT_DEFAULT, config.getConsumerWorkerCount());
+
+        properties.setProperty(SettingsKeys.CONSUMER_WORKER_COUNT, "8");
+
+        config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(8, config.getConsumerWorkerCount());
+    }
+
+    @Test
+    public void builderConsumerWorkerCountToHigh() {
+        thrown.expect(IllegalArgumentException.class);
+
+        new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setConsumerWorkerCount(SdkInfo.CONSUMER_WORKER_COUNT_MAX + 1)
+                .build();
+    }
+
+    @Test
+    public void propertiesConsumerManualAck() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+        assertFalse(config.getConsumerManualAck());
+
+        properties.setProperty(SettingsKeys.CONSUMER_MANUAL_ACK, "true");
+
+        config = SdkConfigurationImpl.getConfiguration(properties);
+        assertTrue(config.getConsumerManualAck());
+    }
+
+    @Test
+    public void propertiesConsumerPrefetch() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(SdkInfo.RABBIT_PREFETCH_COUNT, config.getConsumerMinPrefetch());
+        assertEquals(SdkInfo.CONSUMER_MAX_PREFETCH_DEFAULT, config.getConsumerMaxPrefetch());
+
+        properties.setProperty(SettingsKeys.CONSUMER_MIN_PREFETCH, "50");
+        properties.setProperty(SettingsKeys.CONSUMER_MAX_PREFETCH, "500");
+
+        config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(50, config.getConsumerMinPrefetch());
+        assertEquals(500, config.getConsumerMaxPrefetch());
+    }
+
+    @Test
+    public void propertiesConsumerMaxPrefetchLessThanMin() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+        properties.setProperty(SettingsKeys.CONSUMER_MIN_PREFETCH, "50");
+        properties.setProperty(SettingsKeys.CONSUMER_MAX_PREFETCH, "20");
+
+        thrown.expect(IllegalArgumentException.class);
+        SdkConfigurationImpl.getConfiguration(properties);
+    }
+
+    @Test
+    public void propertiesDispatcherThreads() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(SdkInfo.RESPONSE_DISPATCHER_THREADS_DEFAULT, config.getResponseDispatcherThreads());
+        assertEquals(SdkInfo.PUBLISH_RESULT_DISPATCHER_THREADS_DEFAULT, config.getPublishResultDispatcherThreads());
+        assertEquals(SdkInfo.TIMEOUT_DISPATCHER_THREADS_DEFAULT, config.getTimeoutDispatcherThreads());
+
+        properties.setProperty(SettingsKeys.RESPONSE_DISPATCHER_THREADS, "8");
+        properties.setProperty(SettingsKeys.PUBLISH_RESULT_DISPATCHER_THREADS, "2");
+        properties.setProperty(SettingsKeys.TIMEOUT_DISPATCHER_THREADS, "3");
+
+        config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(8, config.getResponseDispatcherThreads());
+        assertEquals(2, config.getPublishResultDispatcherThreads());
+        assertEquals(3, config.getTimeoutDispatcherThreads());
+    }
+
+    @Test
+    public void builderResponseDispatcherThreadsToLow() {
+        thrown.expect(IllegalArgumentException.class);
+
+        new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setResponseDispatcherThreads(0)
+                .build();
+    }
+
+    @Test
+    public void propertiesRateLimitTimeout() {
+        Properties properties = new Properties();
+        properties.setProperty(SettingsKeys.USERNAME, "username");
+        properties.setProperty(SettingsKeys.PASSWORD, "password");
+        properties.setProperty(SettingsKeys.HOST, "host");
+
+        SdkConfiguration config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(SdkInfo.RATE_LIMIT_TIMEOUT_DEFAULT, config.getRateLimitTimeout());
+
+        properties.setProperty(SettingsKeys.RATE_LIMIT_TIMEOUT, "0");
+
+        config = SdkConfigurationImpl.getConfiguration(properties);
+        assertEquals(0, config.getRateLimitTimeout());
+    }
+
+    @Test
+    public void builderRateLimitTimeoutNegative() {
+        thrown.expect(IllegalArgumentException.class);
+
+        new SdkConfigurationBuilderImpl()
+                .setUsername("username")
+                .setPassword("password")
+                .setHost("host")
+                .setRateLimitTimeout(-1)
+                .build();
+    }
+}
@@ -9,8 +9,8 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.mockito.Mockito.*;
 
@@ -30,7 +30,8 @@ public class LoggerTestAppender {
         Logger root = (Logger) LoggerFactory.getLogger(logger);
         Appender<ILoggingEvent> appender = mock(Appender.class);
         when(appender.getName()).thenReturn("MOCK");
-        loggingEvents = new ArrayList<>();
+        // events are appended by the tested background threads while the test searches them
+        loggingEvents = new CopyOnWriteArrayList<>();
         doAnswer(invocation -> {
             ILoggingEvent loggingEvent = (ILoggingEvent) invocation.getArguments()[0];
             if (listener != null) {
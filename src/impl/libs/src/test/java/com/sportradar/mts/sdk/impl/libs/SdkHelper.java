@@ -4,11 +4,8 @@
 
 package com.sportradar.mts.sdk.impl.libs;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.sportradar.mts.api.rest.sportsapi.datamodel.MarketDescriptions;
 import com.sportradar.mts.sdk.api.builders.BuilderFactory;
-import com.sportradar.mts.sdk.api.caching.MarketDescriptionCI;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionCache;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionCacheImpl;
 import com.sportradar.mts.sdk.api.caching.MarketDescriptionProvider;
@@ -29,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
+import java.util.concurrent.Executors;
 
 public class SdkHelper {
 
@@ -107,19 +105,17 @@ public class SdkHelper {
             throw new IllegalStateException("JAXB contexts creation failed, ex: ", e);
         }
 
-        Deserializer deserializer;
-        try {
-            deserializer = new DeserializerJaxbApi(apiJaxbContext.createUnmarshaller(), apiJaxbContext.createMarshaller());
-        } catch (JAXBException e) {
-            throw new IllegalStateException("Failed to create unmarshaller for 'api', ex: ", e);
-        }
+        Deserializer deserializer = new DeserializerJaxbApi(apiJaxbContext);
 
         CloseableHttpClient closableHttpClient = HttpClientBuilder.create().setRedirectStrategy(new LaxRedirectStrategy()).build();
         LogHttpDataFetcher logHttpDataFetcher = new LogHttpDataFetcher(config, closableHttpClient);
         DataProvider<MarketDescriptions> dataProvider = new DataProvider<>(uriFormat, logHttpDataFetcher, deserializer, MarketDescriptions.class);
 
-        Cache<String, MarketDescriptionCI> invariantMarketCache = CacheBuilder.newBuilder().build();
-        MarketDescriptionCache marketDescriptionCache = new MarketDescriptionCacheImpl(invariantMarketCache, dataProvider, locales, config.getAccessToken());
+        MarketDescriptionCache marketDescriptionCache = new MarketDescriptionCacheImpl(dataProvider, locales, config.getAccessToken(), Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r);
+            t.setDaemon(true);
+            return t;
+        }));
 
         MarketDescriptionProvider marketDescriptionProvider = new MarketDescriptionProvider(marketDescriptionCache, locales);
 
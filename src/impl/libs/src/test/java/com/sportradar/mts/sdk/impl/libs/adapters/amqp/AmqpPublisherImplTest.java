@@ -10,7 +10,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -54,7 +56,7 @@ public class AmqpPublisherImplTest extends TimeLimitedTestBase {
         RuntimeException error = new RuntimeException(errorMsg);
         thrown.expect(error.getClass());
         thrown.expectMessage(errorMsg);
-        when(sender.sendAsync(correlationId, msg, routingKey, messageHeaders)).thenThrow(error);
+        when(sender.sendAsync(correlationId, ticketId, msg, routingKey, messageHeaders)).thenThrow(error);
 
         publisher.open();
         publisher.publishAsync(ticketId, msg, correlationId, routingKey, routingKey);
@@ -77,11 +79,11 @@ public class AmqpPublisherImplTest extends TimeLimitedTestBase {
         HashMap<String, Object> messageHeaders = new HashMap<>();
         messageHeaders.put("replyRoutingKey", routingKey);
 
-        when(sender.sendAsync(correlationId, msg, routingKey, messageHeaders)).thenReturn(result);
+        when(sender.sendAsync(correlationId, ticketId, msg, routingKey, messageHeaders)).thenReturn(result);
 
         publisher.open();
         publisher.publishAsync(ticketId, msg, correlationId, routingKey, routingKey);
-        verify(sender, times(1)).sendAsync(correlationId, msg, routingKey, messageHeaders);
+        verify(sender, times(1)).sendAsync(correlationId, ticketId, msg, routingKey, messageHeaders);
         verify(resender, times(1)).handleSendResult(result);
     }
 
@@ -140,4 +142,23 @@ public class AmqpPublisherImplTest extends TimeLimitedTestBase {
         verify(resender, times(1)).close();
         assertThat(publisher.isOpen(), is(false));
     }
+
+    @Test
+    public void publishAllAsyncTest() {
+        AmqpSendResult first = mock(AmqpSendResult.class);
+        AmqpSendResult second = mock(AmqpSendResult.class);
+        List<AmqpMessage> messages = Arrays.asList(new AmqpMessage("correlation-1", "ticket-1", new byte[] {1}),
+                                                   new AmqpMessage("correlation-2", "ticket-2", new byte[] {2}));
+        HashMap<String, Object> messageHeaders = new HashMap<>();
+        messageHeaders.put("replyRoutingKey", routingKey);
+
+        when(sender.sendAllAsync(messages, routingKey, messageHeaders)).thenReturn(Arrays.asList(first, second));
+
+        publisher.open();
+        publisher.publishAllAsync(messages, routingKey, routingKey);
+        verify(sender, times(1)).sendAllAsync(messages, routingKey, messageHeaders);
+        verify(sender, never()).sendAsync(anyString(), anyString(), any(byte[].class), anyString(), anyMap());
+        verify(resender, times(1)).handleSendResult(first);
+        verify(resender, times(1)).handleSendResult(second);
+    }
 }
@@ -15,15 +15,18 @@ import java.util.HashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
 
 /**
  * @author andrej.resnik on 09/06/16 at 15:04
  */
+@SuppressWarnings("unchecked")
 public class AmqpSendResultHandlerImplTest extends TimeLimitedTestBase {
 
     @Mock
@@ -131,6 +134,104 @@ public class AmqpSendResultHandlerImplTest extends TimeLimitedTestBase {
         assertTrue(isAcquired());
     }
 
+    @Test
+    public void notifyingResultDispatchedOnCompletionTest() throws Exception {
+        NotifyingSendResult notifyingResult = mock(NotifyingSendResult.class);
+        when(notifyingResult.getCorrelationId()).thenReturn(correlationId);
+        when(notifyingResult.get()).thenReturn(true);
+        AtomicReference<Consumer<AmqpSendResult>> callback = new AtomicReference<>();
+        doAnswer(invocation -> {
+            callback.set((Consumer<AmqpSendResult>) invocation.getArguments()[0]);
+            return null;
+        }).when(notifyingResult).whenDone(any());
+        AmqpPublishResultListener listener = mock(AmqpPublishResultListener.class);
+        resender.setPublishResultListener(listener);
+        resender.open();
+
+        resender.handleSendResult(notifyingResult);
+        verify(listener, never()).publishSuccess(correlationId);
+
+        callback.get().accept(notifyingResult);
+        verify(listener, times(1)).publishSuccess(correlationId);
+        verify(listener, never()).publishFailure(correlationId);
+    }
+
+    @Test
+    public void rejectedNotifyingResultReportsFailureTest() throws Exception {
+        NotifyingSendResult notifyingResult = mock(NotifyingSendResult.class);
+        when(notifyingResult.getCorrelationId()).thenReturn(correlationId);
+        when(notifyingResult.isRejected()).thenReturn(true);
+        doAnswer(invocation -> {
+            ((Consumer<AmqpSendResult>) invocation.getArguments()[0]).accept(notifyingResult);
+            return null;
+        }).when(notifyingResult).whenDone(any());
+        AmqpPublishResultListener listener = mock(AmqpPublishResultListener.class);
+        resender.setPublishResultListener(listener);
+        resender.open();
+
+        resender.handleSendResult(notifyingResult);
+
+        verify(listener, times(1)).publishFailure(correlationId);
+        verify(listener, never()).publishSuccess(correlationId);
+    }
+
+    @Test
+    public void waitThreadStartedOnlyForNotNotifyingResultTest() throws Exception {
+        NotifyingSendResult notifyingResult = mock(NotifyingSendResult.class);
+        when(notifyingResult.getCorrelationId()).thenReturn(correlationId);
+        setAmqpSendResult();
+        when(result.isDone()).thenReturn(true);
+        AmqpSendResultHandler handler = new AmqpSendResultHandlerImpl("lazy-wait");
+        handler.open();
+
+        handler.handleSendResult(notifyingResult);
+        assertFalse(isWaitThreadAlive("lazy-wait"));
+
+        handler.handleSendResult(result);
+        verify(result, timeout(500)).isRejected();
+        assertTrue(isWaitThreadAlive("lazy-wait"));
+        handler.close();
+    }
+
+    @Test
+    public void completedResultWithoutListenerTest() throws Exception {
+        setAmqpSendResult();
+        when(result.isDone()).thenReturn(true);
+        AtomicReference<String> uncaught = new AtomicReference<>();
+        appender = new LoggerTestAppender(AmqpSendResultHandlerImpl.class, loggingEvent -> {
+            if (loggingEvent.getFormattedMessage().contains("uncaught exception")) {
+                uncaught.set(loggingEvent.getFormattedMessage());
+            }
+        });
+        resender.open();
+
+        resender.handleSendResult(result);
+
+        verify(result, timeout(500)).isRejected();
+        resender.close();
+        assertNull(uncaught.get());
+    }
+
+    @Test
+    public void resultCompletedAfterCloseNotDispatchedTest() throws Exception {
+        NotifyingSendResult notifyingResult = mock(NotifyingSendResult.class);
+        when(notifyingResult.getCorrelationId()).thenReturn(correlationId);
+        AtomicReference<Consumer<AmqpSendResult>> callback = new AtomicReference<>();
+        doAnswer(invocation -> {
+            callback.set((Consumer<AmqpSendResult>) invocation.getArguments()[0]);
+            return null;
+        }).when(notifyingResult).whenDone(any());
+        AmqpPublishResultListener listener = mock(AmqpPublishResultListener.class);
+        resender.setPublishResultListener(listener);
+        resender.open();
+        resender.handleSendResult(notifyingResult);
+
+        resender.close();
+        callback.get().accept(notifyingResult);
+
+        verifyZeroInteractions(listener);
+    }
+
     @Test
     public void openTest() {
         resender.open();
@@ -146,6 +247,11 @@ public class AmqpSendResultHandlerImplTest extends TimeLimitedTestBase {
         assertThat(resender.isOpen(), is(false));
     }
 
+    private static boolean isWaitThreadAlive(String handlerName) {
+        String threadName = handlerName + "-send-result-handler-wait-thread";
+        return Thread.getAllStackTraces().keySet().stream().anyMatch(t -> t.isAlive() && threadName.equals(t.getName()));
+    }
+
     private void setAmqpSendResult() {
         when(result.getCorrelationId()).thenReturn(correlationId);
         when(result.getContent()).thenReturn(new byte[] {1, 2, 3, 4, 5});
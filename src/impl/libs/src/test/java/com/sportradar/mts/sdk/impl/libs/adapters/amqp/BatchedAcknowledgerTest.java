@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import com.rabbitmq.client.Channel;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class BatchedAcknowledgerTest extends TimeLimitedTestBase {
+
+    private Channel channel;
+
+    @Before
+    public void setUp() {
+        channel = mock(Channel.class);
+    }
+
+    @Test
+    public void ackSentWhenBatchFullTest() throws IOException {
+        BatchedAcknowledger acknowledger = new BatchedAcknowledger(channel, 3, 60000);
+
+        acknowledger.ack(1);
+        acknowledger.ack(2);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        acknowledger.ack(3);
+        verify(channel).basicAck(3, true);
+    }
+
+    @Test
+    public void ackNotSentOverUnsettledDeliveryTest() throws IOException {
+        BatchedAcknowledger acknowledger = new BatchedAcknowledger(channel, 2, 60000);
+
+        acknowledger.ack(2);
+        acknowledger.ack(3);
+        acknowledger.ack(4);
+        assertEquals(0, acknowledger.getWatermark());
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        acknowledger.ack(1);
+        assertEquals(4, acknowledger.getWatermark());
+        verify(channel).basicAck(4, true);
+    }
+
+    @Test
+    public void nackSentImmediatelyAndSettlesDeliveryTest() throws IOException {
+        BatchedAcknowledger acknowledger = new BatchedAcknowledger(channel, 2, 60000);
+
+        acknowledger.nack(1, true);
+        acknowledger.ack(2);
+
+        InOrder inOrder = inOrder(channel);
+        inOrder.verify(channel).basicNack(1, false, true);
+        inOrder.verify(channel).basicAck(2, true);
+    }
+
+    @Test
+    public void ackNotSentForRejectedLastSettledDeliveryTest() throws IOException, InterruptedException {
+        BatchedAcknowledger acknowledger = new BatchedAcknowledger(channel, 10, 50);
+
+        acknowledger.ack(1);
+        acknowledger.nack(2, true);
+        Thread.sleep(60);
+        acknowledger.flushIfDue();
+
+        InOrder inOrder = inOrder(channel);
+        inOrder.verify(channel).basicNack(2, false, true);
+        inOrder.verify(channel).basicAck(1, true);
+        verify(channel, never()).basicAck(eq(2L), anyBoolean());
+        assertEquals(2, acknowledger.getAcknowledged());
+    }
+
+    @Test
+    public void ackSentBelowRejectedDeliveryWhenGapClosedTest() throws IOException {
+        BatchedAcknowledger acknowledger = new BatchedAcknowledger(channel, 2, 60000);
+
+        acknowledger.ack(3);
+        acknowledger.nack(4, true);
+        acknowledger.ack(1);
+        acknowledger.ack(2);
+
+        assertEquals(4, acknowledger.getWatermark());
+        verify(channel).basicAck(3, true);
+        verify(channel, never()).basicAck(eq(4L), anyBoolean());
+    }
+
+    @Test
+    public void rejectedOnlyDeliveriesSettledWithoutAckTest() throws IOException {
+        BatchedAcknowledger acknowledger = new BatchedAcknowledger(channel, 10, 60000);
+
+        acknowledger.nack(1, false);
+        acknowledger.nack(2, true);
+        acknowledger.flush();
+
+        assertEquals(2, acknowledger.getAcknowledged());
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    public void flushIfDueTest() throws IOException, InterruptedException {
+        BatchedAcknowledger acknowledger = new BatchedAcknowledger(channel, 10, 50);
+
+        acknowledger.ack(1);
+        acknowledger.flushIfDue();
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        Thread.sleep(60);
+        acknowledger.flushIfDue();
+        verify(channel).basicAck(1, true);
+
+        acknowledger.flush();
+        verifyNoMoreInteractions(channel);
+    }
+}
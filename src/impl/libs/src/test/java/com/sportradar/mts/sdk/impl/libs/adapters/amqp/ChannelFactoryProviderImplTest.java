@@ -78,6 +78,24 @@ public class ChannelFactoryProviderImplTest extends TimeLimitedTestBase {
         assertNotNull(channelFactory);
     }
 
+    @Test
+    public void getChannelFactory_PerConnectionIndexTest() {
+        amqpCluster = AmqpCluster.from(
+                "testUsername",
+                "testPassword",
+                "testVirtualHost",
+                false,
+                new NetworkAddress("127.0.0.1", 8080),
+                10);
+
+        ChannelFactory defaultFactory = channelFactoryProvider.getChannelFactory(amqpCluster);
+
+        assertSame(defaultFactory, channelFactoryProvider.getChannelFactory(amqpCluster, 0));
+        assertNotSame(defaultFactory, channelFactoryProvider.getChannelFactory(amqpCluster, 1));
+        assertSame(channelFactoryProvider.getChannelFactory(amqpCluster, 1),
+                   channelFactoryProvider.getChannelFactory(amqpCluster, 1));
+    }
+
     @Test
     public void getChannelFactory_NullTest() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class ConfirmTrackerTest extends TimeLimitedTestBase {
+
+    private ConfirmTracker<String> tracker;
+    private List<String> removed;
+
+    @Before
+    public void setUp() {
+        tracker = new ConfirmTracker<>(4);
+        removed = new ArrayList<>();
+    }
+
+    @Test
+    public void singleAckTest() {
+        tracker.put(1, "m1");
+        tracker.put(2, "m2");
+
+        assertEquals("m2", tracker.remove(2));
+        assertNull(tracker.remove(2));
+        assertEquals(1, tracker.size());
+        assertEquals("m1", tracker.remove(1));
+        assertEquals(0, tracker.size());
+    }
+
+    @Test
+    public void removeUnknownSeqNoTest() {
+        tracker.put(5, "m5");
+
+        assertNull(tracker.remove(4));
+        assertNull(tracker.remove(6));
+        assertEquals(1, tracker.size());
+    }
+
+    @Test
+    public void multipleAckTest() {
+        for (int i = 1; i <= 4; i++) {
+            tracker.put(i, "m" + i);
+        }
+        tracker.remove(2);
+
+        tracker.removeUpTo(3, removed::add);
+
+        assertEquals(2, removed.size());
+        assertEquals("m1", removed.get(0));
+        assertEquals("m3", removed.get(1));
+        assertEquals(1, tracker.size());
+        assertEquals("m4", tracker.remove(4));
+    }
+
+    @Test
+    public void multipleAckBelowWindowTest() {
+        tracker.put(10, "m10");
+
+        tracker.removeUpTo(9, removed::add);
+
+        assertTrue(removed.isEmpty());
+        assertEquals(1, tracker.size());
+    }
+
+    @Test
+    public void growBeyondInitialCapacityTest() {
+        for (int i = 1; i <= 100; i++) {
+            tracker.put(i, "m" + i);
+        }
+        assertEquals(100, tracker.size());
+
+        for (int i = 1; i <= 100; i++) {
+            assertEquals("m" + i, tracker.remove(i));
+        }
+        assertEquals(0, tracker.size());
+    }
+
+    @Test
+    public void removeAllTest() {
+        for (int i = 1; i <= 10; i++) {
+            tracker.put(i, "m" + i);
+        }
+        tracker.remove(5);
+
+        tracker.removeAll(removed::add);
+
+        assertEquals(9, removed.size());
+        assertEquals("m1", removed.get(0));
+        assertEquals("m10", removed.get(8));
+        assertEquals(0, tracker.size());
+    }
+
+    @Test
+    public void putNotIncreasingSeqNoTest() {
+        thrown.expect(IllegalArgumentException.class);
+
+        tracker.put(2, "m2");
+        tracker.put(2, "m2");
+    }
+
+    @Test
+    public void ackNackStormMatchesSortedMapTest() {
+        Random random = new Random(42);
+        TreeMap<Long, String> expected = new TreeMap<>();
+        List<String> expectedRemoved = new ArrayList<>();
+        long seqNo = 0;
+
+        for (int round = 0; round < 100000; round++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty()) {
+                seqNo++;
+                tracker.put(seqNo, "m" + seqNo);
+                expected.put(seqNo, "m" + seqNo);
+            } else if (operation < 9) {
+                long tag = seqNo - random.nextInt(64);
+                assertEquals(expected.remove(tag), tracker.remove(tag));
+            } else {
+                long tag = seqNo - random.nextInt(64);
+                Map<Long, String> head = expected.headMap(tag, true);
+                expectedRemoved.addAll(head.values());
+                head.clear();
+                tracker.removeUpTo(tag, removed::add);
+            }
+            assertEquals(expected.size(), tracker.size());
+        }
+
+        assertEquals(expectedRemoved, removed);
+    }
+}
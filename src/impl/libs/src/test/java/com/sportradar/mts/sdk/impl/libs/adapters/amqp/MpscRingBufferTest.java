@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class MpscRingBufferTest extends TimeLimitedTestBase {
+
+    @Test
+    public void capacityRoundedToPowerOfTwoTest() {
+        assertEquals(8, new MpscRingBuffer<String>(5).capacity());
+        assertEquals(8, new MpscRingBuffer<String>(8).capacity());
+        assertEquals(1, new MpscRingBuffer<String>(1).capacity());
+    }
+
+    @Test
+    public void offerPollFifoTest() {
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+
+        assertTrue(buffer.isEmpty());
+        assertTrue(buffer.offer("a"));
+        assertTrue(buffer.offer("b"));
+        assertEquals(2, buffer.size());
+
+        assertEquals("a", buffer.poll());
+        assertEquals("b", buffer.poll());
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void offerWhenFullTest() {
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(2);
+
+        assertTrue(buffer.offer("a"));
+        assertTrue(buffer.offer("b"));
+        assertFalse(buffer.offer("c"));
+
+        assertEquals("a", buffer.poll());
+        assertTrue(buffer.offer("c"));
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    public void slotsReusedAfterWrapAroundTest() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(buffer.offer(i));
+            assertTrue(buffer.offer(i + 1));
+            assertEquals(Integer.valueOf(i), buffer.poll());
+            assertEquals(Integer.valueOf(i + 1), buffer.poll());
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void drainToTest() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(3, buffer.drainTo(drained, 3));
+        assertEquals(2, buffer.drainTo(drained, 10));
+        assertEquals(0, buffer.drainTo(drained, 10));
+        assertEquals(5, drained.size());
+        assertEquals(Integer.valueOf(4), drained.get(4));
+    }
+
+    @Test
+    public void timedPollWhenEmptyTest() throws InterruptedException {
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+
+        assertNull(buffer.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void timedPollWakesUpOnOfferTest() throws InterruptedException {
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            buffer.offer("a");
+        });
+        producer.start();
+
+        assertEquals("a", buffer.poll(10, TimeUnit.SECONDS));
+        producer.join();
+    }
+
+    @Test
+    public void multipleProducersTest() throws InterruptedException {
+        final int producerCount = 4;
+        final int messagesPerProducer = 50000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            final int producerId = p;
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < messagesPerProducer; i++) {
+                    long[] msg = new long[] {producerId, i};
+                    while (!buffer.offer(msg)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        start.countDown();
+
+        long[] lastSeen = new long[producerCount];
+        Arrays.fill(lastSeen, -1L);
+        int received = 0;
+        while (received < producerCount * messagesPerProducer) {
+            long[] msg = buffer.poll(10, TimeUnit.SECONDS);
+            assertNotNull(msg);
+            int producerId = (int) msg[0];
+            assertEquals(lastSeen[producerId] + 1, msg[1]);
+            lastSeen[producerId] = msg[1];
+            received++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void offerAllUpToCapacityTest() {
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(4);
+        assertTrue(buffer.offer("a"));
+
+        assertEquals(3, buffer.offerAll(Arrays.asList("b", "c", "d", "e")));
+        assertEquals(0, buffer.offerAll(Arrays.asList("e")));
+
+        assertEquals("a", buffer.poll());
+        assertEquals(1, buffer.offerAll(Arrays.asList("e")));
+        for (String expected : Arrays.asList("b", "c", "d", "e")) {
+            assertEquals(expected, buffer.poll());
+        }
+        assertNull(buffer.poll());
+    }
+}
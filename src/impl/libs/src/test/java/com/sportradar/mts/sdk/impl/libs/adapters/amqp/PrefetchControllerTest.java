@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.adapters.amqp;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrefetchControllerTest extends TimeLimitedTestBase {
+
+    @Test
+    public void unchangedWithinWindowTest() {
+        PrefetchController controller = new PrefetchController(10, 100, 4, 60000);
+
+        controller.delivered(10);
+
+        assertEquals(10, controller.adjust());
+    }
+
+    @Test
+    public void increasedWhenSaturatedTest() throws InterruptedException {
+        PrefetchController controller = new PrefetchController(10, 30, 4, 1);
+
+        assertEquals(20, saturateAndAdjust(controller, 10));
+        assertEquals(30, saturateAndAdjust(controller, 20));
+        assertEquals(30, saturateAndAdjust(controller, 30));
+        assertEquals(30, controller.getPrefetch());
+    }
+
+    @Test
+    public void decreasedWhenLanesBackUpTest() throws InterruptedException {
+        PrefetchController controller = new PrefetchController(10, 100, 2, 1);
+        saturateAndAdjust(controller, 10);
+        saturateAndAdjust(controller, 20);
+
+        for (int i = 0; i < 3; i++) {
+            controller.queued();
+        }
+        Thread.sleep(5);
+
+        assertEquals(20, controller.adjust());
+    }
+
+    @Test
+    public void decreasedToMinWhenIdleTest() throws InterruptedException {
+        PrefetchController controller = new PrefetchController(10, 100, 4, 1);
+        saturateAndAdjust(controller, 10);
+        saturateAndAdjust(controller, 20);
+
+        Thread.sleep(5);
+
+        assertEquals(10, controller.adjust());
+    }
+
+    private static int saturateAndAdjust(PrefetchController controller, int unacked) throws InterruptedException {
+        controller.delivered(unacked);
+        controller.processingFinished(1000);
+        Thread.sleep(5);
+        return controller.adjust();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.handlers;
+
+import com.sportradar.mts.sdk.api.TicketCancel;
+import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class InFlightRegistryTest extends TimeLimitedTestBase {
+
+    private InFlightRegistry<TicketCancel> registry;
+
+    @Before
+    public void setUp() {
+        registry = new InFlightRegistry<>("test", 2);
+    }
+
+    @Test
+    public void register_OnCapacityReachedTest() {
+        registry.register(getTicketCancel("1"), null, true);
+        registry.register(getTicketCancel("2"), null, true);
+
+        thrown.expect(MtsSdkProcessException.class);
+        thrown.expectMessage("limit of 2 messages in flight");
+
+        try {
+            registry.register(getTicketCancel("3"), null, true);
+        } finally {
+            assertEquals(2, registry.size());
+            assertEquals(1, registry.getRejections());
+        }
+    }
+
+    @Test
+    public void register_SameCorrelationIdRejectedTest() {
+        TicketCancel ticketCancel = getTicketCancel("1");
+        CompletableFuture<String> waiter = new CompletableFuture<>();
+        InFlightRegistry.Entry<TicketCancel> entry = registry.register(ticketCancel, waiter, true);
+
+        thrown.expect(MtsSdkProcessException.class);
+        thrown.expectMessage("already has a message with correlationId=" + ticketCancel.getCorrelationId());
+
+        try {
+            registry.register(ticketCancel, new CompletableFuture<String>(), true);
+        } finally {
+            assertEquals(1, registry.size());
+            assertEquals(1, registry.getRejections());
+            assertSame(entry, registry.get(ticketCancel.getCorrelationId()));
+            assertFalse(waiter.isDone());
+        }
+    }
+
+    @Test
+    public void register_WithoutCorrelationIdRejectedTest() {
+        TicketCancel ticketCancel = getTicketCancel("1");
+        when(ticketCancel.getCorrelationId()).thenReturn(null);
+
+        thrown.expect(MtsSdkProcessException.class);
+        thrown.expectMessage("without correlationId, ticketId=1 rejected");
+
+        try {
+            registry.register(ticketCancel, new CompletableFuture<String>(), true);
+        } finally {
+            assertEquals(0, registry.size());
+            assertEquals(1, registry.getRejections());
+        }
+    }
+
+    @Test
+    public void removeTest() {
+        TicketCancel ticketCancel = getTicketCancel("1");
+        CompletableFuture<String> waiter = new CompletableFuture<>();
+        InFlightRegistry.Entry<TicketCancel> entry = registry.register(ticketCancel, waiter, true);
+        assertEquals(1, registry.getWaitingCount());
+
+        assertSame(entry, registry.remove(ticketCancel.getCorrelationId()));
+        entry.complete("response");
+
+        assertEquals(0, registry.size());
+        assertEquals(0, registry.getWaitingCount());
+        assertEquals("response", waiter.join());
+        assertNull(registry.remove(ticketCancel.getCorrelationId()));
+        assertFalse(registry.evict(entry));
+        assertEquals(0, registry.getEvictions());
+    }
+
+    @Test
+    public void evictTest() {
+        InFlightRegistry.Entry<TicketCancel> entry = registry.register(getTicketCancel("1"), null, true);
+
+        assertTrue(registry.evict(entry));
+
+        assertEquals(0, registry.size());
+        assertEquals(1, registry.getEvictions());
+        assertEquals(0, registry.getOldestAgeMillis());
+    }
+
+    private TicketCancel getTicketCancel(String ticketId) {
+        TicketCancel ticketCancel = mock(TicketCancel.class);
+        when(ticketCancel.getTicketId()).thenReturn(ticketId);
+        when(ticketCancel.getCorrelationId()).thenReturn("cancel:" + ticketId);
+        return ticketCancel;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.handlers;
+
+import com.sportradar.mts.sdk.api.TicketCancel;
+import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
+import com.sportradar.mts.sdk.api.interfaces.TicketResponseTimeoutListener;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import com.sportradar.mts.sdk.impl.libs.threading.HashedWheelTimer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResponseTimeoutHandlerImplTest extends TimeLimitedTestBase {
+
+    private ExecutorService executor;
+    private HashedWheelTimer timer;
+    private ResponseTimeoutHandler<TicketCancel> handler;
+    private InFlightRegistry<TicketCancel> registry;
+    private TicketCancel ticketCancel;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        timer = new HashedWheelTimer("test-timer", 5, TimeUnit.MILLISECONDS, 64);
+        handler = new ResponseTimeoutHandlerImpl<>(timer, executor, 50, 100, true);
+        registry = new InFlightRegistry<>("test", 10);
+        ticketCancel = mock(TicketCancel.class);
+        when(ticketCancel.getTicketId()).thenReturn("ticket-1");
+        when(ticketCancel.getCorrelationId()).thenReturn("cancel:ticket-1");
+    }
+
+    @After
+    public void tearDown() {
+        timer.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void scheduleTimeout_WaiterCompletedExceptionallyTest() throws InterruptedException {
+        CompletableFuture<Object> responseFuture = new CompletableFuture<>();
+        InFlightRegistry.Entry<TicketCancel> entry = registry.register(ticketCancel, responseFuture, true);
+
+        handler.scheduleTimeout(registry, entry);
+
+        try {
+            responseFuture.get();
+            fail("response future should time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ResponseTimeoutException);
+        }
+        assertEquals(0, registry.size());
+        assertEquals(1, registry.getEvictions());
+    }
+
+    @Test
+    public void scheduleTimeout_ListenerNotifiedTest() throws InterruptedException {
+        CountDownLatch timedOut = new CountDownLatch(1);
+        handler.setResponseTimeoutListener(new TicketResponseTimeoutListener<TicketCancel>() {
+            @Override
+            public void onTicketResponseTimedOut(TicketCancel ticket) {
+                timedOut.countDown();
+            }
+        });
+
+        handler.scheduleTimeout(registry, registry.register(ticketCancel, null, true));
+
+        assertTrue(timedOut.await(5, TimeUnit.SECONDS));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void scheduleTimeout_CancelledOnRemoveTest() {
+        handler.setResponseTimeoutListener(new TicketResponseTimeoutListener<TicketCancel>() {
+            @Override
+            public void onTicketResponseTimedOut(TicketCancel ticket) {
+                fail("timeout listener should not be invoked");
+            }
+        });
+
+        handler.scheduleTimeout(registry, registry.register(ticketCancel, null, true));
+        assertEquals(1, timer.pendingTimeouts());
+
+        assertNotNull(registry.remove(ticketCancel.getCorrelationId()));
+
+        assertEquals(0, timer.pendingTimeouts());
+        assertEquals(0, registry.getEvictions());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.handlers;
+
+import com.sportradar.mts.sdk.api.exceptions.RateLimitExceededException;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SendRateLimiterTest extends TimeLimitedTestBase {
+
+    @Test
+    public void burstUpToRateTest() {
+        SendRateLimiter limiter = new SendRateLimiter(5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(SendPriority.NORMAL));
+        }
+        assertFalse(limiter.tryAcquire(SendPriority.NORMAL));
+        assertFalse(limiter.tryAcquire(SendPriority.HIGH));
+    }
+
+    @Test
+    public void waitsForNextPermitTest() {
+        SendRateLimiter limiter = new SendRateLimiter(20, 0);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire(SendPriority.NORMAL));
+        }
+
+        long start = System.nanoTime();
+        assertTrue(limiter.tryAcquire(SendPriority.NORMAL, 1, TimeUnit.SECONDS));
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue("waited " + waitedMillis + " ms", waitedMillis >= 40);
+    }
+
+    @Test
+    public void rejectedWhenPermitNotAvailableBeforeDeadlineTest() {
+        SendRateLimiter limiter = new SendRateLimiter(1, 0);
+        assertTrue(limiter.tryAcquire(SendPriority.NORMAL));
+
+        long start = System.nanoTime();
+        assertFalse(limiter.tryAcquire(SendPriority.NORMAL, 100, TimeUnit.MILLISECONDS));
+        // rejected right away instead of waiting till the deadline
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+    }
+
+    @Test
+    public void acquireThrowsAfterTimeoutTest() {
+        SendRateLimiter limiter = new SendRateLimiter(1, 10);
+        limiter.acquire(SendPriority.HIGH);
+
+        thrown.expect(RateLimitExceededException.class);
+        limiter.acquire(SendPriority.HIGH);
+    }
+
+    @Test
+    public void highPriorityAdmittedFirstTest() throws InterruptedException {
+        SendRateLimiter limiter = new SendRateLimiter(10, 0);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(SendPriority.NORMAL));
+        }
+        List<SendPriority> admitted = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            threads.add(new Thread(() -> {
+                if (limiter.tryAcquire(SendPriority.NORMAL, 5, TimeUnit.SECONDS)) {
+                    admitted.add(SendPriority.NORMAL);
+                }
+                done.countDown();
+            }));
+        }
+        for (int i = 0; i < 2; i++) {
+            threads.add(new Thread(() -> {
+                if (limiter.tryAcquire(SendPriority.HIGH, 5, TimeUnit.SECONDS)) {
+                    admitted.add(SendPriority.HIGH);
+                }
+                done.countDown();
+            }));
+        }
+        // the normal callers start waiting first
+        threads.get(0).start();
+        threads.get(1).start();
+        Thread.sleep(20);
+        threads.get(2).start();
+        threads.get(3).start();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(4, admitted.size());
+        assertEquals(SendPriority.HIGH, admitted.get(0));
+        assertEquals(SendPriority.HIGH, admitted.get(1));
+    }
+
+    @Test
+    public void invalidRateTest() {
+        thrown.expect(IllegalArgumentException.class);
+        new SendRateLimiter(0);
+    }
+
+    @Test
+    public void acquireUpToTakesAvailablePermitsTest() {
+        SendRateLimiter limiter = new SendRateLimiter(10, 0);
+
+        assertEquals(4, limiter.acquireUpTo(SendPriority.NORMAL, 4));
+        assertEquals(6, limiter.acquireUpTo(SendPriority.NORMAL, 100));
+        assertEquals(0, limiter.tryAcquireUpTo(SendPriority.NORMAL, 100, 0, TimeUnit.MILLISECONDS));
+
+        thrown.expect(RateLimitExceededException.class);
+        limiter.acquireUpTo(SendPriority.NORMAL, 1);
+    }
+}
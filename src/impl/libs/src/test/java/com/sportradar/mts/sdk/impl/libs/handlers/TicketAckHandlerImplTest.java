@@ -7,8 +7,9 @@ package com.sportradar.mts.sdk.impl.libs.handlers;
 import com.sportradar.mts.sdk.api.TicketAck;
 import com.sportradar.mts.sdk.api.builders.BuilderFactory;
 import com.sportradar.mts.sdk.api.enums.TicketAckStatus;
+import com.sportradar.mts.sdk.api.exceptions.MtsSdkProcessException;
 import com.sportradar.mts.sdk.api.impl.builders.TicketAckBuilderImpl;
-import com.sportradar.mts.sdk.api.interfaces.TicketAckSender;
+import com.sportradar.mts.sdk.api.interfaces.TicketAckResponseListener;
 import com.sportradar.mts.sdk.api.utils.JsonUtils;
 import com.sportradar.mts.sdk.api.utils.MtsDtoMapper;
 import com.sportradar.mts.sdk.api.utils.StaticRandom;
@@ -18,10 +19,13 @@ import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
 
 public class TicketAckHandlerImplTest {
@@ -31,7 +35,7 @@ public class TicketAckHandlerImplTest {
     private String ticketId;
     private String routingKey;
     private String correlationId;
-    private TicketAckSender ackSender;
+    private TicketAckHandlerImpl ackSender;
     private byte[] msg;
     private SdkLogger sdkLogger;
     private BuilderFactory builderFactory;
@@ -45,7 +49,7 @@ public class TicketAckHandlerImplTest {
         ticketId = "ticket-001";
         routingKey = "ack.ticket";
         publisher = mock(AmqpPublisher.class);
-        ackSender = new TicketAckHandlerImpl(publisher, routingKey, executorService, 40, sdkLogger);
+        ackSender = new TicketAckHandlerImpl(publisher, routingKey, executorService, 1000, 40, sdkLogger);
         ticketAcknowledgment = getTicketAcknowledgment();
         msg = JsonUtils.serialize(MtsDtoMapper.map(ticketAcknowledgment));
 
@@ -70,9 +74,25 @@ public class TicketAckHandlerImplTest {
         verify(publisher, times(1)).publishAsync(ticketAcknowledgment.getTicketId(), msg, correlationId, routingKey, routingKey);
 
         String ticketAckString = JsonUtils.serializeAsString(MtsDtoMapper.map(ticketAcknowledgment));
-        verify(sdkLogger, times(1)).logSendMessage(ticketAckString);
+        verify(sdkLogger, times(1)).logSendMessage(ticketAckString.getBytes(StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void sendAll_OnDuplicateCorrelationIdNothingLeftInFlightTest() {
+        ackSender.setListener(mock(TicketAckResponseListener.class));
+        ackSender.open();
+        TicketAck secondTicketAcknowledgment = getTicketAcknowledgment();
+
+        try {
+            ackSender.sendAll(Arrays.asList(ticketAcknowledgment, secondTicketAcknowledgment, ticketAcknowledgment, getTicketAcknowledgment()));
+            fail("duplicate correlationId was not rejected");
+        } catch (MtsSdkProcessException e) {
+            assertThat(e.getMessage(), containsString(correlationId));
+        }
+
+        assertThat(ackSender.getInFlightStatus().getSize(), is(0));
+        verify(publisher, never()).publishAllAsync(anyList(), anyString(), anyString());
+    }
 
     private TicketAck getTicketAcknowledgment() {
         return builderFactory.createTicketAckBuilder()
@@ -19,6 +19,7 @@ import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -50,6 +51,7 @@ public class TicketCancelAckHandlerImplTest extends TimeLimitedTestBase {
         cancelAckSender = new TicketCancelAckHandlerImpl(publisher,
                                                         routingKey,
                                                         executorService,
+                                                        1000,
                                                         40,
                                                         sdkLogger);
         ticketCancelAcknowledgment = getTicketCancelAcknowledgment();
@@ -77,7 +79,7 @@ public class TicketCancelAckHandlerImplTest extends TimeLimitedTestBase {
                                                  routingKey);
 
         String ticketCancelAckString = JsonUtils.serializeAsString(MtsDtoMapper.map(ticketCancelAcknowledgment));
-        verify(sdkLogger, times(1)).logSendMessage(ticketCancelAckString);
+        verify(sdkLogger, times(1)).logSendMessage(ticketCancelAckString.getBytes(StandardCharsets.UTF_8));
     }
 
     private TicketCancelAck getTicketCancelAcknowledgment() {
@@ -19,6 +19,7 @@ import com.sportradar.mts.sdk.impl.libs.receivers.TicketCancelResponseWrapper;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
 
@@ -55,7 +56,7 @@ public class TicketCancelHandlerImplTest extends TimeLimitedTestBase {
 
         routingKey = "cancel";
         replyRoutingKey = "nodeXY.cancel.confirm";
-        handler = new TicketCancelHandlerImpl(publisher, routingKey, replyRoutingKey, executor, responseTimeoutHandler, 40, 50, sdkLogger);
+        handler = new TicketCancelHandlerImpl(publisher, routingKey, replyRoutingKey, executor, responseTimeoutHandler, 1000, 50, sdkLogger);
         ticketCancel = getTicketCancel();
     }
 
@@ -115,7 +116,7 @@ public class TicketCancelHandlerImplTest extends TimeLimitedTestBase {
         assertThat(response, is(notNullValue()));
 
         String ticketCancelString = JsonUtils.serializeAsString(ticketCancel);
-        verify(sdkLogger, times(1)).logSendMessage(ticketCancelString);
+        verify(sdkLogger, times(1)).logSendMessage(ticketCancelString.getBytes(StandardCharsets.UTF_8));
     }
 
     @Test
@@ -163,8 +164,7 @@ public class TicketCancelHandlerImplTest extends TimeLimitedTestBase {
         semaphore.acquire();
         verify(listener, times(1)).responseReceived(response);
 
-        String responseString = JsonUtils.serializeAsString(response);
-        verify(sdkLogger, times(1)).logReceivedMessage(responseString);
+        verify(sdkLogger, times(1)).logReceivedMessage(response.getJsonBytes());
     }
 
 
@@ -46,7 +46,7 @@ public class TicketCashoutHandlerImplTest extends TimeLimitedTestBase {
         builderFactory = new SdkHelper().getBuilderFactory();
 
         routingKey = "ticket.cashout";
-        handler = new TicketCashoutHandlerImpl(publisher, routingKey, routingKey, executor, responseTimeoutHandler, 40, 50, sdkLogger);
+        handler = new TicketCashoutHandlerImpl(publisher, routingKey, routingKey, executor, responseTimeoutHandler, 1000, 50, sdkLogger);
         ticketCashout = getTicketCashout("ticket-" + StaticRandom.S1000, 1111, 60);
     }
 
@@ -4,11 +4,14 @@
 
 package com.sportradar.mts.sdk.impl.libs.handlers;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.sportradar.mts.sdk.api.Ticket;
+import com.sportradar.mts.sdk.api.TicketResponse;
 import com.sportradar.mts.sdk.api.builders.BuilderFactory;
 import com.sportradar.mts.sdk.api.enums.OddsChangeType;
 import com.sportradar.mts.sdk.api.enums.SenderChannel;
 import com.sportradar.mts.sdk.api.enums.StakeType;
+import com.sportradar.mts.sdk.api.exceptions.RateLimitExceededException;
 import com.sportradar.mts.sdk.api.exceptions.ResponseTimeoutException;
 import com.sportradar.mts.sdk.api.impl.builders.TicketBuilderImpl;
 import com.sportradar.mts.sdk.api.interfaces.TicketResponseListener;
@@ -18,21 +21,31 @@ import com.sportradar.mts.sdk.api.utils.SdkInfo;
 import com.sportradar.mts.sdk.impl.libs.LoggerTestAppender;
 import com.sportradar.mts.sdk.impl.libs.SdkHelper;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpMessage;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpPublisher;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.HashedWheelTimer;
 import com.sportradar.mts.sdk.impl.libs.receivers.TicketResponseWrapper;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -64,7 +77,7 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
         builderFactory = new SdkHelper().getBuilderFactory();
 
         routingKey = "ticket";
-        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 50, 150, 40, sdkLogger);
+        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 1000, 40, sdkLogger);
         handler.setListener(listener);
         ticket = getTicket();
         count = 0;
@@ -108,8 +121,16 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
         thrown.expect(ResponseTimeoutException.class);
         thrown.expectMessage("Timeout reached.");
 
+        HashedWheelTimer timer = new HashedWheelTimer("test-timer", 5, TimeUnit.MILLISECONDS, 64);
+        handler = new TicketHandlerImpl(publisher, routingKey, executor, new ResponseTimeoutHandlerImpl<>(timer, executor, 50, 150, false), 1000, 40, sdkLogger);
+        handler.setListener(listener);
+
         handler.open();
-        handler.sendBlocking(ticket);
+        try {
+            handler.sendBlocking(ticket);
+        } finally {
+            timer.stop();
+        }
     }
 
     //TODO: @Test
@@ -119,7 +140,7 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
         byte[] msg = JsonUtils.serialize(ticket);
         String correlationId = getFormattedCorrelationId(ticket);
 
-        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 50, 150, 5, sdkLogger);
+        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 1000, 5, sdkLogger);
         handler.setListener(listener);
 
         Map<Integer, Long> invocationTimestampsActual = new HashMap<>();
@@ -179,7 +200,7 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
         assertThat(response, is(notNullValue()));
 
         String ticketString = JsonUtils.serializeAsString(ticket);
-        verify(sdkLogger, times(1)).logSendMessage(ticketString);
+        verify(sdkLogger, times(1)).logSendMessage(ticketString.getBytes(StandardCharsets.UTF_8));
     }
 
     @Test
@@ -204,7 +225,7 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
     @Test
     public void send_OnListenerNullTest() {
 
-        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 50, 150, 40, sdkLogger);
+        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 1000, 40, sdkLogger);
         TicketResponseWrapper response = new TicketResponseWrapper();
         response.setTicketId(ticket.getTicketId());
 
@@ -235,7 +256,7 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
                                                  routingKey);
 
         String ticketString = JsonUtils.serializeAsString(ticket);
-        verify(sdkLogger, times(1)).logSendMessage(ticketString);
+        verify(sdkLogger, times(1)).logSendMessage(ticketString.getBytes(StandardCharsets.UTF_8));
     }
 
     //TODO: @Test
@@ -282,14 +303,149 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
         semaphore.acquire();
         verify(listener, times(1)).responseReceived(response);
 
-        String responseString = JsonUtils.serializeAsString(response);
-        verify(sdkLogger, times(1)).logReceivedMessage(responseString);
+        verify(sdkLogger, times(1)).logReceivedMessage(response.getJsonBytes());
+    }
+
+    @Test
+    public void ticketResponseReceived_DispatchedOnResponseExecutorTest() {
+        ExecutorService responseExecutor = mock(ExecutorService.class);
+        ExecutorService publishResultExecutor = mock(ExecutorService.class);
+        handler = new TicketHandlerImpl(publisher, routingKey, responseExecutor, publishResultExecutor, responseTimeoutHandler, 1000, new SendRateLimiter(40), sdkLogger);
+        handler.setListener(listener);
+        TicketResponseWrapper response = new TicketResponseWrapper();
+        response.setTicketId(ticket.getTicketId());
+        response.setCorrelationId(ticket.getCorrelationId());
+
+        handler.open();
+        handler.ticketResponseReceived(response);
+
+        verify(responseExecutor, times(1)).submit(any(Runnable.class));
+        verifyZeroInteractions(publishResultExecutor);
+    }
+
+    @Test
+    public void sendBlocking_RateLimitExceededTest() throws ResponseTimeoutException {
+        SendRateLimiter rateLimiter = new SendRateLimiter(1, 0);
+        assertTrue(rateLimiter.tryAcquire(SendPriority.NORMAL));
+        TicketHandlerImpl limitedHandler = new TicketHandlerImpl(publisher, routingKey, executor, executor, responseTimeoutHandler, 1000, rateLimiter, sdkLogger);
+        limitedHandler.open();
+
+        try {
+            limitedHandler.sendBlocking(ticket);
+            Assert.fail("RateLimitExceededException expected");
+        } catch (RateLimitExceededException e) {
+            assertThat(limitedHandler.getInFlightRegistry().size(), is(0));
+        }
+        verify(publisher, never()).publishAsync(anyString(), any(byte[].class), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void sendAsync_OnTicketNullTest() {
+        thrown.expect(NullPointerException.class);
+        thrown.expectMessage(SdkInfo.Literals.TICKET_HANDLER_TICKET_NULL);
+
+        handler.open();
+        handler.sendAsync(null);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void sendAll_PublishedInOneBatchTest() {
+        Ticket secondTicket = getTicket();
+        ArgumentCaptor<List> batch = ArgumentCaptor.forClass(List.class);
+
+        handler.open();
+        List<CompletableFuture<TicketResponse>> responseFutures = handler.sendAll(Arrays.asList(ticket, secondTicket));
+
+        assertThat(responseFutures.size(), is(2));
+        verify(responseTimeoutHandler, times(2)).scheduleTimeout(any(InFlightRegistry.class), any(InFlightRegistry.Entry.class));
+        verify(publisher, times(1)).publishAllAsync(batch.capture(), eq(routingKey), eq(routingKey));
+        verify(publisher, never()).publishAsync(anyString(), any(byte[].class), anyString(), anyString(), anyString());
+        List<AmqpMessage> messages = batch.getValue();
+        assertThat(messages.size(), is(2));
+        assertThat(messages.get(0).getCorrelationId(), is(ticket.getCorrelationId()));
+        assertThat(messages.get(1).getCorrelationId(), is(secondTicket.getCorrelationId()));
+        verify(sdkLogger, times(2)).logSendMessage(any(byte[].class));
+    }
+
+    @Test
+    public void sendAll_RateLimitExceededTest() throws Exception {
+        Ticket secondTicket = getTicket();
+        SendRateLimiter rateLimiter = new SendRateLimiter(1, 0);
+        ExecutorService directExecutor = MoreExecutors.newDirectExecutorService();
+        TicketHandlerImpl limitedHandler = new TicketHandlerImpl(publisher, routingKey, directExecutor, directExecutor, responseTimeoutHandler, 1000, rateLimiter, sdkLogger);
+        limitedHandler.open();
+
+        List<CompletableFuture<TicketResponse>> responseFutures = limitedHandler.sendAll(Arrays.asList(ticket, secondTicket));
+
+        assertFalse(responseFutures.get(0).isDone());
+        assertTrue(responseFutures.get(1).isCompletedExceptionally());
+        thrown.expectCause(instanceOf(RateLimitExceededException.class));
+        try {
+            responseFutures.get(1).get();
+        } finally {
+            assertThat(limitedHandler.getInFlightRegistry().size(), is(1));
+        }
+    }
+
+    @Test
+    public void sendAsync_RateLimitExceededWithoutWaitingTest() throws Exception {
+        SendRateLimiter rateLimiter = new SendRateLimiter(1, TimeUnit.MINUTES.toMillis(1));
+        assertTrue(rateLimiter.tryAcquire(SendPriority.NORMAL));
+        ExecutorService directExecutor = MoreExecutors.newDirectExecutorService();
+        TicketHandlerImpl limitedHandler = new TicketHandlerImpl(publisher, routingKey, directExecutor, directExecutor, responseTimeoutHandler, 1000, rateLimiter, sdkLogger);
+        limitedHandler.open();
+
+        CompletableFuture<TicketResponse> responseFuture = limitedHandler.sendAsync(ticket);
+
+        assertTrue(responseFuture.isCompletedExceptionally());
+        assertThat(limitedHandler.getInFlightRegistry().size(), is(0));
+        verify(publisher, never()).publishAsync(anyString(), any(byte[].class), anyString(), anyString(), anyString());
+        thrown.expectCause(instanceOf(RateLimitExceededException.class));
+        responseFuture.get();
+    }
+
+    @Test
+    public void sendAsync_RegistryFullCompletesFutureTest() {
+        ExecutorService directExecutor = MoreExecutors.newDirectExecutorService();
+        TicketHandlerImpl fullHandler = new TicketHandlerImpl(publisher, routingKey, directExecutor, directExecutor, responseTimeoutHandler, 1, new SendRateLimiter(40), sdkLogger);
+        fullHandler.open();
+
+        CompletableFuture<TicketResponse> firstFuture = fullHandler.sendAsync(ticket);
+        CompletableFuture<TicketResponse> secondFuture = fullHandler.sendAsync(getTicket());
+
+        assertFalse(firstFuture.isDone());
+        assertTrue(secondFuture.isCompletedExceptionally());
+        verify(publisher, times(1)).publishAsync(anyString(), any(byte[].class), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void sendAsync_CompletedOnResponseTest() throws Exception {
+        TicketResponseWrapper response = new TicketResponseWrapper();
+        response.setTicketId(ticket.getTicketId());
+        response.setCorrelationId(ticket.getCorrelationId());
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArguments()[0]).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+
+        handler.open();
+        CompletableFuture<TicketResponse> responseFuture = handler.sendAsync(ticket);
+
+        verify(responseTimeoutHandler, times(1)).scheduleTimeout(any(InFlightRegistry.class), any(InFlightRegistry.Entry.class));
+        assertFalse(responseFuture.isDone());
+
+        handler.ticketResponseReceived(response);
+
+        assertSame(response, responseFuture.get());
+        verify(listener, never()).responseReceived(any(TicketResponse.class));
     }
 
     @Test
     public void close_OnResponsesPendingTest() throws InterruptedException {
         TicketResponseWrapper response = new TicketResponseWrapper();
         response.setTicketId(ticket.getTicketId());
+        response.setCorrelationId(ticket.getCorrelationId());
 
         when(publisher.isOpen()).thenReturn(true);
 
@@ -300,7 +456,7 @@ public class TicketHandlerImplTest extends TimeLimitedTestBase {
             }
         });
 
-        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 300, 350, 40, sdkLogger);
+        handler = new TicketHandlerImpl(publisher, routingKey, executor, responseTimeoutHandler, 1000, 40, sdkLogger);
         handler.setListener(listener);
         handler.open();
         new Thread(() -> {
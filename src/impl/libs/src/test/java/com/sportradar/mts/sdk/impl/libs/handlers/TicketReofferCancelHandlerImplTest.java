@@ -17,6 +17,7 @@ import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.*;
@@ -42,7 +43,7 @@ public class TicketReofferCancelHandlerImplTest {
 
         routingKey = "cancel.reoffer";
         publisher = mock(AmqpPublisher.class);
-        reofferCancelSender = new TicketReofferCancelHandlerImpl(publisher, routingKey, executorService, 40, sdkLogger);
+        reofferCancelSender = new TicketReofferCancelHandlerImpl(publisher, routingKey, executorService, 1000, 40, sdkLogger);
         ticketReofferCancel = getTicketReofferCancel();
         msg = JsonUtils.serialize(MtsDtoMapper.map(ticketReofferCancel));
 
@@ -67,7 +68,7 @@ public class TicketReofferCancelHandlerImplTest {
         verify(publisher, times(1)).publishAsync(ticketReofferCancel.getTicketId(), msg, correlationId, routingKey, routingKey);
 
         String ticketString = JsonUtils.serializeAsString(MtsDtoMapper.map(ticketReofferCancel));
-        verify(sdkLogger, times(1)).logSendMessage(ticketString);
+        verify(sdkLogger, times(1)).logSendMessage(ticketString.getBytes(StandardCharsets.UTF_8));
     }
 
 
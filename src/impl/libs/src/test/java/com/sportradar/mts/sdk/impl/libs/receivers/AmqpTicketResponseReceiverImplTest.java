@@ -4,20 +4,28 @@
 
 package com.sportradar.mts.sdk.impl.libs.receivers;
 
+import com.sportradar.mts.sdk.api.TicketResponse;
 import com.sportradar.mts.sdk.api.impl.ConnectionStatusImpl;
+import com.sportradar.mts.sdk.api.impl.SerializedMessage;
 import com.sportradar.mts.sdk.api.utils.StringUtils;
 import com.sportradar.mts.sdk.impl.libs.LoggerTestAppender;
 import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpConsumer;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpMessageReceiver;
+import com.sportradar.mts.sdk.impl.libs.adapters.amqp.MessageStatus;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -125,6 +133,22 @@ public class AmqpTicketResponseReceiverImplTest extends TimeLimitedTestBase {
         assertTrue(contains);
     }
 
+    @Test
+    public void consume_KeepsDeliveryBytesTest() {
+        msg = ("{\"result\":{\"ticketId\":\"ticket-4144\",\"status\":\"accepted\",\"reason\":{\"code\":1024,\"message\":\"ticket accepted\"},\"betDetails\":[]}," +
+               "\"version\":\"2.4\",\"signature\":\"qWh5cEAJJlr4QLNBTY+rk13OI8jPkhJNA/wW2gbEI4I=\",\"exchangeRate\":10000}").getBytes(StandardCharsets.UTF_8);
+
+        msgReceiver.open();
+        MessageStatus messageStatus = msgReceiver.consume(msg, routingKey, correlationId, messageHeaders);
+
+        ArgumentCaptor<TicketResponse> captor = ArgumentCaptor.forClass(TicketResponse.class);
+        verify(responseReceiver, times(1)).ticketResponseReceived(captor.capture());
+        assertSame(msg, SerializedMessage.jsonBytesOf(captor.getValue()));
+        assertArrayEquals(msg, captor.getValue().getJsonBytes());
+        assertEquals(new String(msg, StandardCharsets.UTF_8), captor.getValue().getJsonValue());
+        assertEquals(MessageStatus.CONSUMED_SUCCESSFULLY, messageStatus);
+    }
+
 //    @Test
 //    public void consume_OKTest() throws IOException {
 //        TicketResponseWrapper ticketResponse = new TicketResponseWrapper();
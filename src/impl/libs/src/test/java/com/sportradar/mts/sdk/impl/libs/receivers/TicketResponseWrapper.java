@@ -25,6 +25,7 @@ public class TicketResponseWrapper extends TicketResponseImpl {
     private long exchangeRate;
     private String betAcceptanceId;
     private long alternativeStake;
+    private String correlationId;
 
     public TicketResponseWrapper() {
         super("ticket-" + System.currentTimeMillis(), new ResponseReasonImpl(101, "Response message"), TicketAcceptance.ACCEPTED, null, "123", 123, new Date(), SdkInfo.MTS_TICKET_VERSION, StaticRandom.S1000, null, null, "{response-payload}");
@@ -94,6 +95,15 @@ public class TicketResponseWrapper extends TicketResponseImpl {
         this.alternativeStake = alternativeStake;
     }
 
+    @Override
+    public String getCorrelationId() {
+        return correlationId == null ? super.getCorrelationId() : correlationId;
+    }
+
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
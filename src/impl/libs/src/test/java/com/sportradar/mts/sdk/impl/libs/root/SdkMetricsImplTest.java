@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.root;
+
+import com.sportradar.mts.sdk.api.Ticket;
+import com.sportradar.mts.sdk.api.interfaces.InFlightStatus;
+import com.sportradar.mts.sdk.api.interfaces.SdkMetrics;
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpConsumer;
+import com.sportradar.mts.sdk.impl.libs.handlers.InFlightRegistry;
+import com.sportradar.mts.sdk.impl.libs.handlers.TicketHandler;
+import com.sportradar.mts.sdk.impl.libs.threading.CallbackExecutors;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SdkMetricsImplTest extends TimeLimitedTestBase {
+
+    @Test
+    public void metricsReadFromSourcesTest() {
+        CallbackExecutors callbackExecutors = mock(CallbackExecutors.class);
+        when(callbackExecutors.getResponseQueueDepth()).thenReturn(3);
+        when(callbackExecutors.getPublishResultQueueDepth()).thenReturn(2);
+        when(callbackExecutors.getTimeoutQueueDepth()).thenReturn(1);
+        InFlightRegistry<Ticket> registry = new InFlightRegistry<>("TicketHandlerImpl", 10);
+        TicketHandler ticketHandler = mock(TicketHandler.class);
+        when(ticketHandler.getInFlightStatus()).thenReturn(registry);
+        AmqpConsumer consumer = mock(AmqpConsumer.class);
+        when(consumer.getPrefetchCount()).thenReturn(16, 32);
+
+        SdkMetrics metrics = new SdkMetricsImpl(callbackExecutors,
+                                                Collections.singletonList(ticketHandler),
+                                                Collections.singletonMap("ticket-response-consumer", consumer));
+
+        assertEquals(3, metrics.getResponseQueueDepth());
+        assertEquals(2, metrics.getPublishResultQueueDepth());
+        assertEquals(1, metrics.getTimeoutQueueDepth());
+        List<InFlightStatus> statuses = metrics.getInFlightStatuses();
+        assertEquals(1, statuses.size());
+        assertEquals("TicketHandlerImpl", statuses.get(0).getName());
+        assertEquals(10, statuses.get(0).getCapacity());
+        assertEquals(0, statuses.get(0).getSize());
+        Map<String, Integer> prefetchCounts = metrics.getPrefetchCounts();
+        assertEquals(Integer.valueOf(16), prefetchCounts.get("ticket-response-consumer"));
+        assertEquals(Integer.valueOf(32), metrics.getPrefetchCounts().get("ticket-response-consumer"));
+    }
+}
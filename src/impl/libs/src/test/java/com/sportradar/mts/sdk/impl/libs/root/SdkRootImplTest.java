@@ -11,11 +11,12 @@ import com.sportradar.mts.sdk.impl.libs.adapters.amqp.AmqpMessageReceiver;
 import com.sportradar.mts.sdk.impl.libs.adapters.amqp.ChannelFactoryProvider;
 import com.sportradar.mts.sdk.impl.libs.handlers.*;
 import com.sportradar.mts.sdk.impl.libs.logging.SdkLogger;
+import com.sportradar.mts.sdk.impl.libs.threading.CallbackExecutors;
+import com.sportradar.mts.sdk.impl.libs.threading.HashedWheelTimer;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InOrder;
 
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
@@ -28,7 +29,8 @@ import static org.mockito.Mockito.*;
 public class SdkRootImplTest extends TimeLimitedTestBase {
 
     private SdkLogger sdkLogger;
-    private ScheduledExecutorService executorService;
+    private CallbackExecutors executorService;
+    private HashedWheelTimer responseTimeoutTimer;
     private ChannelFactoryProvider channelFactoryProvider;
     private TicketHandler ticketHandler;
     private AmqpMessageReceiver ticketAmqpMessageReceiver;
@@ -47,7 +49,8 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
     @Before
     public void setUp() {
         sdkLogger = mock(SdkLogger.class);
-        executorService = mock(ScheduledExecutorService.class);
+        executorService = mock(CallbackExecutors.class);
+        responseTimeoutTimer = mock(HashedWheelTimer.class);
         channelFactoryProvider = mock(ChannelFactoryProvider.class);
         ticketHandler = mock(TicketHandler.class);
         ticketAmqpMessageReceiver = mock(AmqpMessageReceiver.class);
@@ -64,6 +67,7 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
         sdkRoot = new SdkRootImpl(
                 sdkLogger,
                 executorService,
+                responseTimeoutTimer,
                 channelFactoryProvider,
                 ticketHandler,
                 ticketAmqpMessageReceiver,
@@ -135,6 +139,7 @@ public class SdkRootImplTest extends TimeLimitedTestBase {
         inOrder.verify(executorService, times(1)).shutdown();
         inOrder.verify(executorService, times(1)).awaitTermination(anyInt(), any(TimeUnit.class));
         inOrder.verify(executorService, times(1)).shutdownNow();
+        verify(responseTimeoutTimer, times(1)).stop();
         inOrder.verify(sdkLogger, times(1)).close();
         verifyNoMoreInteractions(
                 ticketHandler,
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.threading;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class HashedWheelTimerTest extends TimeLimitedTestBase {
+
+    private HashedWheelTimer timer;
+
+    @Before
+    public void setUp() {
+        timer = new HashedWheelTimer("test-timer", 5, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @After
+    public void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    public void timeoutExpiresNotBeforeDeadlineTest() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(expired::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        assertTrue(timeout.isExpired());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    public void timeoutLongerThanWheelRoundTest() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.newTimeout(expired::countDown, 120, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 120);
+    }
+
+    @Test
+    public void cancelledTimeoutDoesNotExpireTest() throws InterruptedException {
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        CountDownLatch expired = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(cancelledRuns::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        timer.newTimeout(expired::countDown, 60, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, cancelledRuns.get());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    public void manyTimeoutsMostlyCancelledTest() throws InterruptedException {
+        final int count = 100000;
+        AtomicInteger expiredCount = new AtomicInteger();
+        CountDownLatch expired = new CountDownLatch(count / 10);
+
+        for (int i = 0; i < count; i++) {
+            HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> {
+                expiredCount.incrementAndGet();
+                expired.countDown();
+            }, 10 + i % 100, TimeUnit.MILLISECONDS);
+            if (i % 10 != 0) {
+                timeout.cancel();
+            }
+        }
+
+        assertTrue(expired.await(10, TimeUnit.SECONDS));
+        assertEquals(count / 10, expiredCount.get());
+        assertEquals(0, timer.pendingTimeouts());
+    }
+
+    @Test
+    public void taskExceptionDoesNotStopTimerTest() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+
+        timer.newTimeout(() -> {
+            throw new IllegalStateException("expected");
+        }, 5, TimeUnit.MILLISECONDS);
+        timer.newTimeout(expired::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void newTimeoutAfterStopTest() {
+        thrown.expect(IllegalStateException.class);
+
+        timer.newTimeout(() -> { }, 10, TimeUnit.MILLISECONDS);
+        timer.stop();
+        timer.newTimeout(() -> { }, 10, TimeUnit.MILLISECONDS);
+    }
+}
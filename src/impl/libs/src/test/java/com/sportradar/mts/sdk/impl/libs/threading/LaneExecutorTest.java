@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) Sportradar AG. See LICENSE for full license governing this code
+ */
+
+package com.sportradar.mts.sdk.impl.libs.threading;
+
+import com.sportradar.mts.sdk.impl.libs.TimeLimitedTestBase;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class LaneExecutorTest extends TimeLimitedTestBase {
+
+    @Test
+    public void sameKeySameLaneTest() {
+        LaneExecutor lanes = new LaneExecutor("test", 8);
+        try {
+            assertEquals(8, lanes.getLaneCount());
+            assertEquals(0, lanes.laneOf(null));
+            for (int i = 0; i < 1000; i++) {
+                int lane = lanes.laneOf("correlation-" + i);
+                assertTrue(lane >= 0 && lane < 8);
+                assertEquals(lane, lanes.laneOf("correlation-" + i));
+            }
+        } finally {
+            lanes.shutdownNow();
+        }
+    }
+
+    @Test
+    public void tasksWithSameKeyProcessedInOrderTest() throws InterruptedException {
+        LaneExecutor lanes = new LaneExecutor("test", 4);
+        List<Integer> processed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            final int index = i;
+            lanes.execute("ticket-1", () -> {
+                processed.add(index);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, processed.get(i).intValue());
+        }
+        lanes.shutdown();
+        assertTrue(lanes.awaitTermination(1, TimeUnit.SECONDS));
+        assertTrue(lanes.isTerminated());
+    }
+
+    @Test
+    public void queueDepthTest() throws InterruptedException {
+        LaneExecutor lanes = new LaneExecutor("test", 1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        lanes.execute(() -> {
+            started.countDown();
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        lanes.submit("ticket-1", () -> { });
+        lanes.submit("ticket-2", () -> { });
+
+        assertEquals(2, lanes.getQueueDepth());
+
+        blocked.countDown();
+        lanes.shutdown();
+        assertTrue(lanes.awaitTermination(1, TimeUnit.SECONDS));
+        assertEquals(0, lanes.getQueueDepth());
+    }
+
+    @Test
+    public void submitToOtherExecutorTest() {
+        ExecutorService executor = mock(ExecutorService.class);
+        Runnable task = () -> { };
+
+        LaneExecutor.submit(executor, "ticket-1", task);
+
+        verify(executor).submit(task);
+    }
+
+    @Test
+    public void executeAfterShutdownRejectedTest() {
+        LaneExecutor lanes = new LaneExecutor("test", 2);
+        lanes.shutdown();
+
+        thrown.expect(RejectedExecutionException.class);
+        lanes.execute("ticket-1", () -> { });
+    }
+}